@@ -61,7 +61,11 @@ public enum Capability {
      */
     SMALLRYE_OPENTRACING,
     SPRING_WEB,
-    SMALLRYE_OPENAPI;
+    SMALLRYE_OPENAPI,
+    /**
+     * The application data caching extension
+     */
+    CACHE;
 
     /**
      *
@@ -0,0 +1,220 @@
+package io.quarkus.deployment.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Records the paths that changed in a set of directory trees, so that a scan does not have to walk the whole trees.
+ * <p>
+ * The trees are watched by a {@link WatchService}. A tree has to be walked the first time it is scanned, if it cannot be
+ * watched, or if some events may have been lost. The journal is disabled if the watch service of the file system polls the
+ * file system itself, as it would report the changes with a delay, in which case all the trees are walked on each scan.
+ * <p>
+ * The events are delivered asynchronously: a scan calls {@link #awaitPendingEvents()} first, so that the scan does not
+ * start in the middle of a series of changes, e.g. while several files are being saved. A scan that finds no event does
+ * not wait.
+ */
+class FileChangeJournal implements Closeable {
+
+    private static final Logger log = Logger.getLogger(FileChangeJournal.class);
+
+    // how long a scan waits for the remaining events of the changes being made
+    static final long EVENT_DELAY_MILLIS = 50;
+
+    // null if the journal is disabled
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final Map<Path, Root> roots = new HashMap<>();
+
+    FileChangeJournal() {
+        this.watchService = createWatchService();
+    }
+
+    /**
+     * Returns the paths of the files and directories that were created, modified or deleted under the given root since the
+     * previous call for the same root.
+     *
+     * @param root the root of a directory tree
+     * @return the changed paths, or {@code null} if the tree must be walked
+     */
+    synchronized Set<Path> drainChanges(Path root) {
+        if (watchService == null) {
+            return null;
+        }
+        processEvents();
+        Root watched = roots.get(root);
+        if (watched == null) {
+            watched = new Root(root);
+            roots.put(root, watched);
+            // the tree is registered before it is walked by the caller, so that no change is missed
+            register(watched, root);
+            return null;
+        }
+        if (watched.walkNeeded) {
+            watched.walkNeeded = false;
+            watched.changes.clear();
+            if (!watched.registered) {
+                // e.g. the root did not exist
+                register(watched, root);
+            }
+            return null;
+        }
+        Set<Path> changes = watched.changes;
+        watched.changes = new HashSet<>();
+        return changes;
+    }
+
+    /**
+     * Waits briefly for more events if files are being changed when a scan starts, as the watch service may not have
+     * delivered all of them yet. Returns immediately if no event is available, so that a scan without changes is not
+     * delayed.
+     */
+    synchronized void awaitPendingEvents() {
+        if (watchService == null || roots.isEmpty()) {
+            return;
+        }
+        WatchKey key = watchService.poll();
+        if (key == null) {
+            // no change is expected
+            return;
+        }
+        processEvents(key);
+        try {
+            key = watchService.poll(EVENT_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            if (key != null) {
+                processEvents(key);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        directories.clear();
+        roots.clear();
+    }
+
+    private void processEvents() {
+        processEvents(watchService.poll());
+    }
+
+    private void processEvents(WatchKey first) {
+        WatchKey key = first;
+        while (key != null) {
+            Path directory = directories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW || directory == null) {
+                    // the events may have been lost
+                    for (Root root : roots.values()) {
+                        root.walkNeeded = true;
+                    }
+                    continue;
+                }
+                Path path = directory.resolve((Path) event.context());
+                for (Root root : roots.values()) {
+                    if (path.startsWith(root.path)) {
+                        root.changes.add(path);
+                        if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                            // the files may have been created before the new directory was registered
+                            register(root, path);
+                        }
+                    }
+                }
+            }
+            if (!key.reset()) {
+                Path removed = directories.remove(key);
+                if (removed != null) {
+                    for (Root root : roots.values()) {
+                        if (removed.equals(root.path)) {
+                            root.registered = false;
+                            root.walkNeeded = true;
+                        }
+                    }
+                }
+            }
+            key = watchService.poll();
+        }
+    }
+
+    private void register(Root root, Path start) {
+        boolean isRoot = start.equals(root.path);
+        if (!Files.isDirectory(start)) {
+            if (isRoot) {
+                root.walkNeeded = true;
+            }
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(start)) {
+            paths.forEach(path -> {
+                if (Files.isDirectory(path)) {
+                    try {
+                        directories.put(path.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), path);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                if (!isRoot) {
+                    root.changes.add(path);
+                }
+            });
+            if (isRoot) {
+                root.registered = true;
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.debugf(e, "Unable to watch %s, it will be walked on the next scan", start);
+            root.walkNeeded = true;
+        }
+    }
+
+    private static WatchService createWatchService() {
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            if (watchService.getClass().getName().endsWith("PollingWatchService")) {
+                // the changes would be reported with a delay of several seconds
+                log.debug("The file system does not support native file watching, source directories will be walked");
+                watchService.close();
+                return null;
+            }
+            return watchService;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Unable to create a watch service, source directories will be walked", e);
+            return null;
+        }
+    }
+
+    private static final class Root {
+
+        final Path path;
+        Set<Path> changes = new HashSet<>();
+        boolean registered;
+        boolean walkNeeded;
+
+        Root(Path path) {
+            this.path = path;
+        }
+    }
+}
@@ -79,6 +79,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     private final List<HotReplacementSetup> hotReplacementSetup = new ArrayList<>();
     private final Consumer<Set<String>> restartCallback;
     private final BiConsumer<DevModeContext.ModuleInfo, String> copyResourceNotification;
+    private final FileChangeJournal fileChangeJournal = new FileChangeJournal();
 
     public RuntimeUpdatesProcessor(Path applicationRoot, DevModeContext context, ClassLoaderCompiler compiler,
             DevModeType devModeType, Consumer<Set<String>> restartCallback,
@@ -167,9 +168,18 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                 log.error("Pre Scan step failed", t);
             }
         }
+        final long classScanStartNanoseconds = System.nanoTime();
 
+        // a file saved just before the scan may not have been reported yet
+        fileChangeJournal.awaitPendingEvents();
         boolean classChanged = checkForChangedClasses();
+        final long fileScanStartNanoseconds = System.nanoTime();
         Set<String> filesChanged = checkForFileChange();
+        final long scanEndNanoseconds = System.nanoTime();
+        log.debugf("Scan phases - pre scan steps: %ss, classes: %ss, files: %ss",
+                Timing.convertToBigDecimalSeconds(classScanStartNanoseconds - startNanoseconds),
+                Timing.convertToBigDecimalSeconds(fileScanStartNanoseconds - classScanStartNanoseconds),
+                Timing.convertToBigDecimalSeconds(scanEndNanoseconds - fileScanStartNanoseconds));
 
         //if there is a deployment problem we always restart on scan
         //this is because we can't setup the config file watches
@@ -182,7 +192,11 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
         }
         if (restartNeeded) {
             restartCallback.accept(filesChanged);
-            log.infof("Hot replace total time: %ss ", Timing.convertToBigDecimalSeconds(System.nanoTime() - startNanoseconds));
+            long endNanoseconds = System.nanoTime();
+            log.infof("Hot replace total time: %ss (scan and compilation: %ss, restart: %ss)",
+                    Timing.convertToBigDecimalSeconds(endNanoseconds - startNanoseconds),
+                    Timing.convertToBigDecimalSeconds(scanEndNanoseconds - startNanoseconds),
+                    Timing.convertToBigDecimalSeconds(endNanoseconds - scanEndNanoseconds));
             return true;
         } else if (!filesChanged.isEmpty()) {
             for (Consumer<Set<String>> consumer : noRestartChangesConsumers) {
@@ -244,6 +258,8 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
 
         for (DevModeContext.ModuleInfo module : context.getAllModules()) {
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
+            // the class files are only looked up in the changed paths if no source file was deleted
+            boolean sourceFilesDeleted = false;
 
             for (String sourcePath : module.getSourcePaths()) {
                 final Set<File> changedSourceFiles;
@@ -251,14 +267,27 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                 if (!Files.exists(start)) {
                     continue;
                 }
-                try (final Stream<Path> sourcesStream = Files.walk(start)) {
-                    changedSourceFiles = sourcesStream
-                            .parallel()
-                            .filter(p -> matchingHandledExtension(p).isPresent()
-                                    && sourceFileWasRecentModified(p, ignoreFirstScanChanges))
-                            .map(Path::toFile)
-                            //Needing a concurrent Set, not many standard options:
-                            .collect(Collectors.toCollection(ConcurrentSkipListSet::new));
+                Set<Path> journalPaths = fileChangeJournal.drainChanges(start);
+                if (journalPaths != null) {
+                    changedSourceFiles = new ConcurrentSkipListSet<>();
+                    for (Path p : journalPaths) {
+                        if (!Files.exists(p)) {
+                            sourceFilesDeleted = true;
+                        } else if (matchingHandledExtension(p).isPresent()
+                                && sourceFileWasRecentModified(p, ignoreFirstScanChanges)) {
+                            changedSourceFiles.add(p.toFile());
+                        }
+                    }
+                } else {
+                    try (final Stream<Path> sourcesStream = Files.walk(start)) {
+                        changedSourceFiles = sourcesStream
+                                .parallel()
+                                .filter(p -> matchingHandledExtension(p).isPresent()
+                                        && sourceFileWasRecentModified(p, ignoreFirstScanChanges))
+                                .map(Path::toFile)
+                                //Needing a concurrent Set, not many standard options:
+                                .collect(Collectors.toCollection(ConcurrentSkipListSet::new));
+                    }
                 }
                 if (!changedSourceFiles.isEmpty()) {
                     log.info("Changed source files detected, recompiling " + changedSourceFiles);
@@ -278,7 +307,8 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
 
             }
 
-            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, ignoreFirstScanChanges)) {
+            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, sourceFilesDeleted,
+                    ignoreFirstScanChanges)) {
                 hasChanges = true;
             }
         }
@@ -292,7 +322,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     }
 
     private boolean checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
-            boolean isInitialRun) {
+            boolean sourceFilesDeleted, boolean isInitialRun) {
         boolean hasChanges = !moduleChangedSourceFiles.isEmpty();
 
         if (module.getClassesPath() == null) {
@@ -305,6 +335,22 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                 if (!Files.exists(moduleClassesPath)) {
                     continue;
                 }
+                // the class files must be walked to find the ones of the changed and deleted source files
+                Set<Path> changedPaths = fileChangeJournal.drainChanges(moduleClassesPath);
+                if (changedPaths != null && moduleChangedSourceFiles.isEmpty() && !sourceFilesDeleted) {
+                    for (Path classFilePath : changedPaths) {
+                        if (!classFilePath.toString().endsWith(CLASS_EXTENSION)) {
+                            continue;
+                        }
+                        if (!Files.exists(classFilePath)) {
+                            classFileChangeTimeStamps.remove(classFilePath);
+                            classFilePathToSourceFilePath.remove(classFilePath);
+                        } else if (classFileWasRecentModified(classFilePath, isInitialRun)) {
+                            hasChanges = true;
+                        }
+                    }
+                    continue;
+                }
                 try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
                     final Set<Path> classFilePaths = classesStream
                             .parallel()
@@ -398,42 +444,38 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
             //copy all modified non hot deployment files over
             if (doCopy) {
                 try {
-                    final Set<Path> seen = new HashSet<>(moduleResources);
-                    //since the stream is Closeable, use a try with resources so the underlying iterator is closed
-                    try (final Stream<Path> walk = Files.walk(root)) {
-                        walk.forEach(path -> {
-                            try {
-                                Path relative = root.relativize(path);
-                                Path target = outputDir.resolve(relative);
-                                seen.remove(target);
-                                if (!watchedFileTimestamps.containsKey(path)) {
-                                    moduleResources.add(target);
-                                    if (!Files.exists(target) || Files.getLastModifiedTime(target).toMillis() < Files
-                                            .getLastModifiedTime(path).toMillis()) {
-                                        if (Files.isDirectory(path)) {
-                                            Files.createDirectories(target);
-                                        } else {
-                                            Files.createDirectories(target.getParent());
-                                            ret.add(relative.toString());
-                                            byte[] data = Files.readAllBytes(path);
-                                            try (FileOutputStream out = new FileOutputStream(target.toFile())) {
-                                                out.write(data);
-                                            }
-                                            if (copyResourceNotification != null) {
-                                                copyResourceNotification.accept(module, relative.toString());
-                                            }
+                    Set<Path> changedPaths = fileChangeJournal.drainChanges(root);
+                    if (changedPaths != null) {
+                        for (Path path : changedPaths) {
+                            if (Files.exists(path)) {
+                                copyResourceIfModified(module, root, outputDir, path, moduleResources, ret);
+                            } else {
+                                // the deleted path may be a directory
+                                Path target = outputDir.resolve(root.relativize(path));
+                                for (Path i : new ArrayList<>(moduleResources)) {
+                                    if (i.startsWith(target)) {
+                                        moduleResources.remove(i);
+                                        if (!Files.isDirectory(i)) {
+                                            Files.deleteIfExists(i);
                                         }
                                     }
                                 }
-                            } catch (Exception e) {
-                                log.error("Failed to copy resources", e);
                             }
-                        });
-                    }
-                    for (Path i : seen) {
-                        moduleResources.remove(i);
-                        if (!Files.isDirectory(i)) {
-                            Files.delete(i);
+                        }
+                    } else {
+                        final Set<Path> seen = new HashSet<>(moduleResources);
+                        //since the stream is Closeable, use a try with resources so the underlying iterator is closed
+                        try (final Stream<Path> walk = Files.walk(root)) {
+                            walk.forEach(path -> {
+                                seen.remove(outputDir.resolve(root.relativize(path)));
+                                copyResourceIfModified(module, root, outputDir, path, moduleResources, ret);
+                            });
+                        }
+                        for (Path i : seen) {
+                            moduleResources.remove(i);
+                            if (!Files.isDirectory(i)) {
+                                Files.delete(i);
+                            }
                         }
                     }
                 } catch (IOException e) {
@@ -477,6 +519,35 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
         return ret;
     }
 
+    private void copyResourceIfModified(DevModeContext.ModuleInfo module, Path root, Path outputDir, Path path,
+            Set<Path> moduleResources, Set<String> ret) {
+        try {
+            Path relative = root.relativize(path);
+            Path target = outputDir.resolve(relative);
+            if (!watchedFileTimestamps.containsKey(path)) {
+                moduleResources.add(target);
+                if (!Files.exists(target) || Files.getLastModifiedTime(target).toMillis() < Files
+                        .getLastModifiedTime(path).toMillis()) {
+                    if (Files.isDirectory(path)) {
+                        Files.createDirectories(target);
+                    } else {
+                        Files.createDirectories(target.getParent());
+                        ret.add(relative.toString());
+                        byte[] data = Files.readAllBytes(path);
+                        try (FileOutputStream out = new FileOutputStream(target.toFile())) {
+                            out.write(data);
+                        }
+                        if (copyResourceNotification != null) {
+                            copyResourceNotification.accept(module, relative.toString());
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to copy resources", e);
+        }
+    }
+
     private boolean sourceFileWasRecentModified(final Path sourcePath, boolean ignoreFirstScanChanges) {
         return checkIfFileModified(sourcePath, sourceFileTimestamps, ignoreFirstScanChanges);
     }
@@ -550,6 +621,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     @Override
     public void close() throws IOException {
         compiler.close();
+        fileChangeJournal.close();
         FSWatchUtil.shutdown();
     }
 }
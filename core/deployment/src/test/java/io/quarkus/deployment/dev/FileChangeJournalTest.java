@@ -0,0 +1,108 @@
+package io.quarkus.deployment.dev;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.deployment.util.FileUtil;
+
+public class FileChangeJournalTest {
+
+    private Path root;
+    private FileChangeJournal journal;
+
+    @BeforeEach
+    public void before() throws Exception {
+        root = Files.createTempDirectory("quarkus-test");
+        Files.createDirectories(root.resolve("foo"));
+        Files.write(root.resolve("foo/a.txt"), "A file".getBytes(StandardCharsets.UTF_8));
+        journal = new FileChangeJournal();
+    }
+
+    @AfterEach
+    public void after() throws Exception {
+        journal.close();
+        FileUtil.deleteDirectory(root);
+    }
+
+    @Test
+    public void testChanges() throws Exception {
+        // the tree must be walked the first time
+        assertNull(journal.drainChanges(root));
+        Set<Path> changes = journal.drainChanges(root);
+        assumeTrue(changes != null, "Native file watching is not supported");
+        assertTrue(changes.isEmpty(), changes.toString());
+
+        Files.write(root.resolve("foo/a.txt"), "Modified".getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(root.resolve("bar/baz"));
+        Files.write(root.resolve("bar/baz/b.txt"), "New file".getBytes(StandardCharsets.UTF_8));
+        changes = awaitChanges(root.resolve("foo/a.txt"), root.resolve("bar/baz/b.txt"));
+        assertTrue(changes.contains(root.resolve("foo/a.txt")), changes.toString());
+        assertTrue(changes.contains(root.resolve("bar/baz/b.txt")), changes.toString());
+
+        // a file created in a new directory is watched
+        Files.write(root.resolve("bar/baz/c.txt"), "Another file".getBytes(StandardCharsets.UTF_8));
+        Files.delete(root.resolve("foo/a.txt"));
+        changes = awaitChanges(root.resolve("bar/baz/c.txt"), root.resolve("foo/a.txt"));
+        assertEquals(2, changes.size(), changes.toString());
+    }
+
+    @Test
+    public void testScanWithoutChangesDoesNotWait() throws Exception {
+        assertNull(journal.drainChanges(root));
+        assumeTrue(journal.drainChanges(root) != null, "Native file watching is not supported");
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            journal.awaitPendingEvents();
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsed < FileChangeJournal.EVENT_DELAY_MILLIS, elapsed + " ms");
+    }
+
+    @Test
+    public void testScanWaitsForChangesInProgress() throws Exception {
+        assertNull(journal.drainChanges(root));
+        Set<Path> changes = journal.drainChanges(root);
+        assumeTrue(changes != null, "Native file watching is not supported");
+
+        Files.write(root.resolve("foo/a.txt"), "Modified".getBytes(StandardCharsets.UTF_8));
+        // let the watch service deliver the first event
+        Thread.sleep(200);
+        // the event of the second change may not be delivered yet, the scan waits for it
+        Files.write(root.resolve("foo/b.txt"), "New file".getBytes(StandardCharsets.UTF_8));
+        journal.awaitPendingEvents();
+        changes = journal.drainChanges(root);
+        assertTrue(changes.contains(root.resolve("foo/a.txt")), changes.toString());
+        assertTrue(changes.contains(root.resolve("foo/b.txt")), changes.toString());
+    }
+
+    private Set<Path> awaitChanges(Path... expected) throws InterruptedException {
+        Set<Path> changes = new HashSet<>();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            changes.addAll(journal.drainChanges(root));
+            boolean all = true;
+            for (Path path : expected) {
+                all &= changes.contains(path);
+            }
+            if (all) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+        return changes;
+    }
+}
@@ -161,6 +161,16 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "true")
     public boolean detectUnusedFalsePositives;
 
+    /**
+     * If set to true then the client proxies of {@code @RequestScoped} beans cache the contextual instance for the current
+     * request context state. The cached instance is reused as long as the same state is active and is invalidated once the
+     * request context is terminated or a different state is activated. This speeds up repeated invocations of a
+     * {@code @RequestScoped} bean within a request. However, a client proxy injected into a bean with a wider scope is
+     * shared by concurrent requests which replace the cached instance of each other.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean cacheRequestScopedDelegates;
+
     public final boolean isRemoveUnusedBeansFieldValid() {
         return ALLOWED_REMOVE_UNUSED_BEANS_VALUES.contains(removeUnusedBeans.toLowerCase());
     }
@@ -311,6 +311,7 @@ public class ArcProcessor {
         builder.setJtaCapabilities(capabilities.isPresent(Capability.TRANSACTIONS));
         builder.setGenerateSources(BootstrapDebug.DEBUG_SOURCES_DIR != null);
         builder.setAllowMocking(launchModeBuildItem.getLaunchMode() == LaunchMode.TEST);
+        builder.setCacheRequestScopedDelegates(arcConfig.cacheRequestScopedDelegates);
 
         if (arcConfig.selectedAlternatives.isPresent()) {
             final List<Predicate<ClassInfo>> selectedAlternatives = initClassPredicates(
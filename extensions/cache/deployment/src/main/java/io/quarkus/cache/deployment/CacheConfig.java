@@ -74,6 +74,38 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The reload is triggered by the first read of
+             * the entry after that duration and the current value is returned to the callers until the reload completes.
+             * If the reload fails, the current value is kept and the next read triggers a new reload.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Specifies that each entry may still be returned during a fixed duration after it expired because of
+             * {@code expire-after-write}. Reading such a stale entry triggers a reload in the background, exactly like
+             * {@code refresh-after-write}. This property requires {@code expire-after-write} to be set.
+             */
+            @ConfigItem
+            Optional<Duration> staleWhileRevalidate;
+
+            /**
+             * Maximum number of entries of this cache reloaded at the same time on the managed executor of the application.
+             * This property only has an effect if {@code refresh-after-write} or {@code stale-while-revalidate} is set.
+             */
+            @ConfigItem(defaultValue = "1")
+            int refreshMaxThreads;
+
+            /**
+             * Whether or not statistics are recorded for this cache: hits, misses, loads and their duration, evictions and
+             * lock timeouts. If a metrics extension is present, the statistics are exposed as metrics tagged with the cache
+             * name. Recording the statistics has a small performance cost on each cache access.
+             */
+            @ConfigItem
+            boolean metricsEnabled;
         }
     }
 }
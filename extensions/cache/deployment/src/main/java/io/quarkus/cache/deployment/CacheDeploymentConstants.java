@@ -8,6 +8,7 @@ import org.jboss.jandex.DotName;
 import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
 
 public class CacheDeploymentConstants {
@@ -19,6 +20,7 @@ public class CacheDeploymentConstants {
     public static final DotName CACHE_INVALIDATE_LIST = dotName(CacheInvalidate.List.class);
     public static final DotName CACHE_RESULT = dotName(CacheResult.class);
     public static final DotName CACHE_KEY = dotName(CacheKey.class);
+    public static final DotName CACHE_NAME = dotName(CacheName.class);
     public static final List<DotName> API_METHODS_ANNOTATIONS = Arrays.asList(
             CACHE_RESULT, CACHE_INVALIDATE, CACHE_INVALIDATE_ALL);
     public static final List<DotName> API_METHODS_ANNOTATIONS_LISTS = Arrays.asList(
@@ -2,9 +2,13 @@ package io.quarkus.cache.deployment;
 
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.API_METHODS_ANNOTATIONS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.API_METHODS_ANNOTATIONS_LISTS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
+import static org.jboss.jandex.AnnotationTarget.Kind.FIELD;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
+import static org.jboss.jandex.AnnotationTarget.Kind.METHOD_PARAMETER;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,16 +32,23 @@ import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildIt
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension.Key;
+import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheMetricsRecorder;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 
 class CacheProcessor {
 
@@ -46,6 +57,11 @@ class CacheProcessor {
         return new FeatureBuildItem(Feature.CACHE);
     }
 
+    @BuildStep
+    CapabilityBuildItem capability() {
+        return new CapabilityBuildItem(Capability.CACHE);
+    }
+
     @BuildStep(onlyIf = CacheEnabled.class)
     AnnotationsTransformerBuildItem annotationsTransformer() {
         return new AnnotationsTransformerBuildItem(new CacheAnnotationsTransformer());
@@ -94,6 +110,31 @@ class CacheProcessor {
         }
     }
 
+    @BuildStep(onlyIf = CacheEnabled.class)
+    @Record(RUNTIME_INIT)
+    void setRefreshExecutor(CacheConfig config, BeanContainerBuildItem beanContainer, ExecutorBuildItem executor,
+            CaffeineCacheBuildRecorder caffeineRecorder) {
+        if (CacheDeploymentConstants.CAFFEINE_CACHE_TYPE.equals(config.type)) {
+            // The background reloads run on the managed executor
+            caffeineRecorder.setRefreshExecutor(beanContainer.getValue(), executor.getExecutorProxy());
+        }
+    }
+
+    @BuildStep(onlyIf = CacheEnabled.class)
+    @Record(RUNTIME_INIT)
+    void registerMetrics(CacheConfig config, CaffeineCacheMetricsRecorder metricsRecorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (CacheDeploymentConstants.CAFFEINE_CACHE_TYPE.equals(config.type)) {
+            for (CaffeineNamespaceConfig namespaceConfig : config.caffeine.namespace.values()) {
+                if (namespaceConfig.metricsEnabled) {
+                    // The metrics of all the caches with enabled statistics are registered by a single consumer
+                    metrics.produce(new MetricsFactoryConsumerBuildItem(metricsRecorder.registerCacheMetrics()));
+                    break;
+                }
+            }
+        }
+    }
+
     private Set<String> getCacheNames(IndexView index) {
         Set<String> cacheNames = new HashSet<>();
         for (DotName cacheAnnotation : API_METHODS_ANNOTATIONS) {
@@ -112,6 +153,12 @@ class CacheProcessor {
                 }
             }
         }
+        // Caches injected with the programmatic API
+        for (AnnotationInstance annotation : index.getAnnotations(CACHE_NAME)) {
+            if (annotation.target().kind() == FIELD || annotation.target().kind() == METHOD_PARAMETER) {
+                cacheNames.add(annotation.value().asString());
+            }
+        }
         return cacheNames;
     }
 
@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 
 import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.runtime.configuration.ConfigurationException;
 
 public class CaffeineCacheInfoBuilder {
 
@@ -19,6 +20,18 @@ public class CaffeineCacheInfoBuilder {
                 namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
                 namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                 namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+                namespaceConfig.staleWhileRevalidate.ifPresent(delay -> cacheInfo.staleWhileRevalidate = delay);
+                if (cacheInfo.staleWhileRevalidate != null && cacheInfo.expireAfterWrite == null) {
+                    throw new ConfigurationException("The stale-while-revalidate property of the cache [" + cacheName
+                            + "] requires the expire-after-write property to be set");
+                }
+                if (namespaceConfig.refreshMaxThreads < 1) {
+                    throw new ConfigurationException("The refresh-max-threads property of the cache [" + cacheName
+                            + "] must be greater than zero");
+                }
+                cacheInfo.refreshMaxThreads = namespaceConfig.refreshMaxThreads;
+                cacheInfo.statsEnabled = namespaceConfig.metricsEnabled;
             }
 
             return cacheInfo;
@@ -38,6 +38,8 @@ public class CacheConfigTest {
         assertEquals(100L, cache.getMaximumSize());
         assertEquals(Duration.ofSeconds(30L), cache.getExpireAfterWrite());
         assertEquals(Duration.ofDays(2L), cache.getExpireAfterAccess());
+        assertEquals(Duration.ofSeconds(20L), cache.getRefreshAfterWrite());
+        assertEquals(Duration.ofSeconds(10L), cache.getStaleWhileRevalidate());
     }
 
     @Path("/test")
@@ -0,0 +1,106 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class CacheResultUniReturnTypeTest {
+
+    private static final Object KEY_1 = new Object();
+    private static final Object KEY_2 = new Object();
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testUniItemCached() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked but nothing computed until the Uni is subscribed.
+        // Verified by: invocations counter.
+        Uni<Object> uni1 = cachedService.cachedMethod(KEY_1);
+        assertEquals(0, cachedService.invocations.get());
+
+        // STEP 2
+        // Action: subscription to the Uni from STEP 1.
+        // Expected effect: method invoked and the emitted item cached.
+        // Verified by: STEP 3.
+        Object value1 = uni1.await().atMost(TIMEOUT);
+        assertEquals(1, cachedService.invocations.get());
+
+        // STEP 3
+        // Action: same call as STEP 1.
+        // Expected effect: method not invoked and the item coming from the cache.
+        // Verified by: invocations counter and same object reference between STEPS 2 and 3 results.
+        Object value2 = cachedService.cachedMethod(KEY_1).await().atMost(TIMEOUT);
+        assertTrue(value1 == value2);
+        assertEquals(1, cachedService.invocations.get());
+
+        // STEP 4
+        // Action: same call as STEP 3 with a new key.
+        // Expected effect: method invoked and the emitted item cached.
+        // Verified by: different objects references between STEPS 3 and 4 results.
+        Object value3 = cachedService.cachedMethod(KEY_2).await().atMost(TIMEOUT);
+        assertTrue(value2 != value3);
+        assertEquals(2, cachedService.invocations.get());
+    }
+
+    @Test
+    public void testFailureNotCached() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call emitting a failure.
+        // Expected effect: the failure is propagated and nothing cached.
+        // Verified by: STEP 2.
+        assertThrows(IllegalStateException.class, () -> cachedService.failingMethod().await().atMost(TIMEOUT));
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: method invoked again.
+        // Verified by: failures counter.
+        assertThrows(IllegalStateException.class, () -> cachedService.failingMethod().await().atMost(TIMEOUT));
+        assertEquals(2, cachedService.failures.get());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+
+        @CacheResult(cacheName = "test-cache")
+        public Uni<Object> cachedMethod(Object key) {
+            return Uni.createFrom().item(() -> {
+                invocations.incrementAndGet();
+                return new Object();
+            });
+        }
+
+        @CacheResult(cacheName = "failing-cache")
+        public Uni<Object> failingMethod() {
+            return Uni.createFrom().item(() -> {
+                failures.incrementAndGet();
+                throw new IllegalStateException();
+            });
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheStatsTest {
+
+    private static final String STATS_CACHE_NAME = "stats-cache";
+    private static final String NO_STATS_CACHE_NAME = "no-stats-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + STATS_CACHE_NAME + "\".metrics-enabled", "true");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testStats() {
+        CaffeineCache cache = cacheRepository.getCache(STATS_CACHE_NAME);
+        assertTrue(cache.isStatsEnabled());
+
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("bar");
+        assertThrows(IllegalArgumentException.class, () -> cachedService.cachedMethod("fail"));
+
+        CacheStats stats = cache.getStats();
+        assertEquals(1L, stats.hitCount());
+        assertEquals(3L, stats.missCount());
+        assertEquals(2L, stats.loadSuccessCount());
+        assertEquals(1L, stats.loadFailureCount());
+        assertEquals(2L, cache.getEstimatedSize());
+        assertEquals(0L, cache.getLockTimeoutCount());
+    }
+
+    @Test
+    public void testStatsDisabledByDefault() {
+        CaffeineCache cache = cacheRepository.getCache(NO_STATS_CACHE_NAME);
+        cachedService.notRecordedMethod("foo");
+        cachedService.notRecordedMethod("foo");
+
+        assertFalse(cache.isStatsEnabled());
+        assertEquals(CacheStats.empty(), cache.getStats());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = STATS_CACHE_NAME)
+        public String cachedMethod(String key) {
+            if ("fail".equals(key)) {
+                throw new IllegalArgumentException();
+            }
+            return key;
+        }
+
+        @CacheResult(cacheName = NO_STATS_CACHE_NAME)
+        public String notRecordedMethod(String key) {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ProgrammaticApiTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String PROGRAMMATIC_CACHE_NAME = "programmatic-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    // This cache is not used by any caching annotation.
+    @Inject
+    @CacheName(PROGRAMMATIC_CACHE_NAME)
+    Cache programmaticCache;
+
+    @Test
+    public void testSharedWithAnnotations() throws InterruptedException, ExecutionException {
+        assertEquals(CACHE_NAME, cache.getName());
+
+        // A value cached with @CacheResult is visible through the programmatic API.
+        String value = cachedService.cachedMethod("foo");
+        assertEquals(value, cache.get("foo", k -> "unexpected").get());
+
+        // A value put with the programmatic API is returned by @CacheResult.
+        cache.put("bar", "programmatic");
+        assertEquals("programmatic", cachedService.cachedMethod("bar"));
+        assertEquals(1, cachedService.invocations.get());
+    }
+
+    @Test
+    public void testGetAll() throws InterruptedException, ExecutionException {
+        programmaticCache.invalidateAll();
+        programmaticCache.put("a", "A");
+
+        AtomicInteger bulkLoads = new AtomicInteger();
+        Set<String> keys = new HashSet<>(Arrays.asList("a", "b", "c"));
+        CompletableFuture<Map<String, String>> future = programmaticCache.getAll(keys, missingKeys -> {
+            bulkLoads.incrementAndGet();
+            assertEquals(new HashSet<>(Arrays.asList("b", "c")), missingKeys);
+            Map<String, String> values = new HashMap<>();
+            values.put("b", "B");
+            return values;
+        });
+        Map<String, String> values = future.get();
+
+        assertEquals(1, bulkLoads.get());
+        assertEquals(3, values.size());
+        assertEquals("A", values.get("a"));
+        assertEquals("B", values.get("b"));
+        assertNull(values.get("c"));
+        assertTrue(programmaticCache.asMap().containsKey("c"));
+    }
+
+    @Test
+    public void testInvalidateIf() {
+        programmaticCache.invalidateAll();
+        programmaticCache.put("keep", 1);
+        programmaticCache.put("drop-1", 2);
+        programmaticCache.put("drop-2", 3);
+
+        programmaticCache.invalidateIf(key -> ((String) key).startsWith("drop"));
+
+        Map<Object, Object> map = programmaticCache.asMap();
+        assertEquals(1, map.size());
+        assertEquals(1, map.get("keep"));
+        assertFalse(map.containsKey("drop-1"));
+        assertThrows(UnsupportedOperationException.class, () -> map.put("other", 4));
+
+        // Conditional removal
+        assertFalse(map.remove("keep", 2));
+        assertEquals(1, map.get("keep"));
+        assertTrue(map.remove("keep", 1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testFailureNotCached() throws InterruptedException, ExecutionException {
+        programmaticCache.invalidateAll();
+
+        assertThrows(IllegalStateException.class, () -> programmaticCache.get("key", k -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(programmaticCache.asMap().isEmpty());
+
+        CompletableFuture<Object> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> programmaticCache.getAsync("key", k -> failed).get());
+        assertTrue(e.getCause() instanceof IllegalStateException);
+
+        assertEquals("value", programmaticCache.getAsync("key", k -> CompletableFuture.completedFuture("value")).get());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            invocations.incrementAndGet();
+            return key + "-" + invocations.get();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String FAILING_CACHE_NAME = "failing-cache";
+    private static final Object KEY = new Object();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClasses(CachedService.class, RequestData.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write", "PT0.1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + FAILING_CACHE_NAME + "\".refresh-after-write", "PT0.1S")
+            .setLogRecordPredicate(record -> record.getLevel() == Level.WARNING
+                    && record.getMessage().startsWith("Reloading entry"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testStaleValueReturnedWhileReloading() throws InterruptedException {
+        // The reload runs on another thread, without this request context
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            // STEP 1
+            // Action: @CacheResult-annotated method call.
+            // Expected effect: method invoked and result cached.
+            // Verified by: STEP 2.
+            int value1 = cachedService.cachedMethod(KEY);
+            assertEquals(1, value1);
+
+            // STEP 2
+            // Action: same call as STEP 1 before the refresh delay elapsed.
+            // Expected effect: method not invoked and result coming from the cache.
+            // Verified by: same value between STEPS 1 and 2 results.
+            assertEquals(1, cachedService.cachedMethod(KEY));
+
+            // STEP 3
+            // Action: same call as STEP 2 after the refresh delay elapsed.
+            // Expected effect: the stale result is returned and the method is invoked in the background.
+            // Verified by: same value between STEPS 1 and 3 results, then STEP 4.
+            Thread.sleep(200L);
+            assertEquals(1, cachedService.cachedMethod(KEY));
+
+            // STEP 4
+            // Action: same call as STEP 3 once the reload completed.
+            // Expected effect: the reloaded result is returned.
+            // Verified by: different values between STEPS 3 and 4 results and invocations counter.
+            long deadline = System.currentTimeMillis() + 5000L;
+            int value4 = cachedService.cachedMethod(KEY);
+            while (value4 == 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+                value4 = cachedService.cachedMethod(KEY);
+            }
+            assertEquals(2, value4);
+            assertEquals(2, cachedService.invocations.get());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Test
+    public void testStaleValueKeptWhenReloadFails() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        // Verified by: STEP 2.
+        assertEquals(1, cachedService.failingMethod(KEY));
+
+        // STEP 2
+        // Action: same call as STEP 1 after the refresh delay elapsed.
+        // Expected effect: the stale result is returned and the method is invoked in the background, the reload fails.
+        // Verified by: same value between STEPS 1 and 2 results and a warning logged.
+        Thread.sleep(200L);
+        assertEquals(1, cachedService.failingMethod(KEY));
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (TEST.getLogRecords().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        List<LogRecord> failures = TEST.getLogRecords();
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).getThrown() instanceof IllegalStateException, failures.get(0).getThrown().toString());
+
+        // STEP 3
+        // Action: same call as STEP 2 once the reload failed.
+        // Expected effect: the stale result is still returned and a new reload is triggered.
+        // Verified by: the reloaded result is eventually returned.
+        assertEquals(1, cachedService.failingMethod(KEY));
+        deadline = System.currentTimeMillis() + 5000L;
+        int value3 = cachedService.failingMethod(KEY);
+        while (value3 == 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+            value3 = cachedService.failingMethod(KEY);
+        }
+        assertEquals(3, value3);
+        assertEquals(3, cachedService.failingInvocations.get());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final AtomicInteger failingInvocations = new AtomicInteger();
+
+        @Inject
+        RequestData requestData;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public int cachedMethod(Object key) {
+            // The background reload fails if no request context is active
+            requestData.touch();
+            return invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = FAILING_CACHE_NAME)
+        public int failingMethod(Object key) {
+            int invocation = failingInvocations.incrementAndGet();
+            if (invocation == 2) {
+                throw new IllegalStateException("Reload failed");
+            }
+            return invocation;
+        }
+    }
+
+    @RequestScoped
+    static class RequestData {
+
+        void touch() {
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.quarkus.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Programmatic access to a cache of the application data caching extension. A cache can be injected with the
+ * {@link CacheName} qualifier:
+ * 
+ * <pre>
+ * &#64;Inject
+ * &#64;CacheName("my-cache")
+ * Cache cache;
+ * </pre>
+ * <p>
+ * The caches used programmatically are the same caches as the ones used by the caching annotations, so a value cached with
+ * {@link CacheResult} can be retrieved or invalidated with this API and vice versa. Null keys are not supported, null values
+ * are.
+ */
+public interface Cache {
+
+    /**
+     * Returns the cache name.
+     * 
+     * @return cache name
+     */
+    String getName();
+
+    /**
+     * Returns the unique and immutable default key of this cache. This key is used by the caching annotations when a no-args
+     * method is invoked.
+     * 
+     * @return default cache key
+     */
+    Object getDefaultKey();
+
+    /**
+     * Returns a {@link CompletableFuture} holding the value identified by {@code key}, obtaining that value from
+     * {@code valueLoader} if necessary. The value computation is done synchronously on the calling thread. If another thread
+     * is already computing the value, the returned {@link CompletableFuture} is completed once that computation is done. If
+     * the computation fails, nothing is cached.
+     * 
+     * @param key cache key
+     * @param valueLoader function used to compute the value if {@code key} is not already associated with a value
+     * @return a {@link CompletableFuture} holding the value
+     */
+    <K, V> CompletableFuture<V> get(K key, Function<K, V> valueLoader);
+
+    /**
+     * Returns a {@link CompletableFuture} holding the value identified by {@code key}, obtaining that value from the
+     * {@link CompletionStage} returned by {@code valueLoader} if necessary. The calling thread is never blocked. If the
+     * computation fails, nothing is cached.
+     * 
+     * @param key cache key
+     * @param valueLoader function used to compute the value if {@code key} is not already associated with a value
+     * @return a {@link CompletableFuture} holding the value
+     */
+    <K, V> CompletableFuture<V> getAsync(K key, Function<K, ? extends CompletionStage<V>> valueLoader);
+
+    /**
+     * Returns a {@link CompletableFuture} holding the values identified by {@code keys}. The keys which are not already
+     * associated with a value are passed to a single invocation of {@code bulkLoader} on the calling thread, so that the
+     * missing values can be obtained with one round trip to the data source. A key absent from the map returned by
+     * {@code bulkLoader} is associated with a {@code null} value. If the computation fails, nothing is cached.
+     * 
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the values of the keys which are not already associated with a value
+     * @return a {@link CompletableFuture} holding a map of the keys to their values
+     */
+    <K, V> CompletableFuture<Map<K, V>> getAll(Set<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader);
+
+    /**
+     * Associates {@code value} with {@code key}, replacing any existing value.
+     * 
+     * @param key cache key
+     * @param value cache value
+     */
+    void put(Object key, Object value);
+
+    /**
+     * Removes the entry identified by {@code key} from the cache.
+     * 
+     * @param key cache key
+     */
+    void invalidate(Object key);
+
+    /**
+     * Removes all the entries whose keys match {@code keyPredicate} from the cache.
+     * 
+     * @param keyPredicate predicate evaluated against each cache key
+     */
+    void invalidateIf(Predicate<Object> keyPredicate);
+
+    /**
+     * Removes all the entries from the cache.
+     */
+    void invalidateAll();
+
+    /**
+     * Returns a live view of the entries whose values have been successfully computed. The entries with a computation in
+     * progress are not visible. The view is unmodifiable, except for {@link Map#remove(Object, Object)} which invalidates
+     * an entry only if it is still associated with the given value.
+     * 
+     * @return a map view of the cache
+     */
+    Map<Object, Object> asMap();
+}
@@ -0,0 +1,28 @@
+package io.quarkus.cache;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.Nonbinding;
+import javax.inject.Qualifier;
+
+/**
+ * Qualifier used to inject the {@link Cache} identified by its name. The cache is created at build time even if it is not
+ * used by any caching annotation.
+ */
+@Qualifier
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ FIELD, METHOD, PARAMETER })
+public @interface CacheName {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String value();
+}
@@ -23,6 +23,11 @@ import javax.enterprise.util.Nonbinding;
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * If the method returns a {@link io.smallrye.mutiny.Uni Uni}, a {@link java.util.concurrent.CompletionStage CompletionStage}
+ * or a {@link java.util.concurrent.CompletableFuture CompletableFuture}, the item it eventually emits is stored in the cache
+ * instead of the returned object itself. Concurrent invocations waiting for the same missing key never block a thread and a
+ * failed computation is never cached.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
@@ -0,0 +1,35 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.annotation.Annotation;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Produces;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.inject.Inject;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+
+@ApplicationScoped
+public class CacheProducer {
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Produces
+    @CacheName("") // The value is @Nonbinding, the cache name is read from the injection point.
+    Cache produce(InjectionPoint injectionPoint) {
+        String cacheName = null;
+        for (Annotation qualifier : injectionPoint.getQualifiers()) {
+            if (qualifier instanceof CacheName) {
+                cacheName = ((CacheName) qualifier).value();
+                break;
+            }
+        }
+        Cache cache = cacheName == null ? null : cacheRepository.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Unknown cache [" + cacheName + "] injected into " + injectionPoint.getMember());
+        }
+        return cache;
+    }
+}
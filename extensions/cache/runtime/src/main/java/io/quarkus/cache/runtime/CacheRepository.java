@@ -1,9 +1,16 @@
 package io.quarkus.cache.runtime;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.context.ThreadContext;
 
 import io.quarkus.cache.runtime.caffeine.CaffeineCache;
 
@@ -13,6 +20,10 @@ public class CacheRepository {
     // There's no need for concurrency here since the map is created at build time and never modified after that.
     private Map<String, CaffeineCache> caches;
 
+    // Only resolvable if the context propagation is available
+    @Inject
+    Instance<ThreadContext> threadContext;
+
     public void setCaches(Map<String, CaffeineCache> caches) {
         if (this.caches != null) {
             throw new IllegalStateException("The caches map must only be set at build time");
@@ -21,6 +32,42 @@ public class CacheRepository {
     }
 
     public CaffeineCache getCache(String cacheName) {
+        if (caches == null) {
+            throw new IllegalStateException("The caches are not available since the cache extension is disabled");
+        }
         return caches.get(cacheName);
     }
+
+    public Collection<CaffeineCache> getCaches() {
+        return caches.values();
+    }
+
+    /**
+     * Sets the executor of the background reloads of the cache entries, once the managed executor is available.
+     * 
+     * @param executor the managed executor of the application
+     */
+    public void setRefreshExecutor(Executor executor) {
+        ThreadContext reloadContext = null;
+        if (threadContext.isResolvable()) {
+            /*
+             * A reload may outlive the request of the caller, so it is run with a request context of its own and never
+             * joins the transaction of the caller. The other contexts are propagated.
+             */
+            reloadContext = ThreadContext.builder().propagated(ThreadContext.ALL_REMAINING)
+                    .cleared(ThreadContext.TRANSACTION).unchanged(ThreadContext.CDI).build();
+        }
+        for (CaffeineCache cache : caches.values()) {
+            cache.setRefreshExecutor(executor, reloadContext);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (caches != null) {
+            for (CaffeineCache cache : caches.values()) {
+                cache.shutdown();
+            }
+        }
+    }
 }
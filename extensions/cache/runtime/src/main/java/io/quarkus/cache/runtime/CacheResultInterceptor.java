@@ -1,9 +1,13 @@
 package io.quarkus.cache.runtime;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
@@ -13,6 +17,7 @@ import javax.interceptor.InvocationContext;
 import org.jboss.logging.Logger;
 
 import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.smallrye.mutiny.Uni;
 
 @CacheResultInterceptorBinding
 @Interceptor
@@ -31,6 +36,13 @@ public class CacheResultInterceptor extends CacheInterceptor {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, cache.getName());
         }
 
+        Class<?> returnType = context.getMethod().getReturnType();
+        if (returnType == Uni.class) {
+            return getAsync(context, binding, cache, key);
+        } else if (returnType == CompletionStage.class || returnType == CompletableFuture.class) {
+            return getAsync(context, binding, cache, key).subscribeAsCompletionStage();
+        }
+
         try {
 
             CompletableFuture<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
@@ -54,7 +66,7 @@ public class CacheResultInterceptor extends CacheInterceptor {
                      */
                     return cacheValue.get(binding.lockTimeout(), TimeUnit.MILLISECONDS);
                 } catch (TimeoutException e) {
-                    // TODO: Add statistics here to monitor the timeout.
+                    cache.recordLockTimeout();
                     return context.proceed();
                 }
             }
@@ -65,6 +77,68 @@ public class CacheResultInterceptor extends CacheInterceptor {
             } else {
                 throw e;
             }
+        } catch (ExecutionException e) {
+            // The computation started by another thread failed
+            Throwable cause = e.getCause() instanceof CacheException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /*
+     * The cache stores the item emitted by the Uni or CompletionStage returned by the intercepted method, not the Uni or
+     * CompletionStage itself. No thread is ever blocked while the value is being computed.
+     */
+    private Uni<Object> getAsync(InvocationContext context, CacheResultInterceptorBinding binding, CaffeineCache cache,
+            Object key) {
+        return Uni.createFrom().deferred(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                // Set to true if the value computation is started by the current subscription
+                boolean[] computing = new boolean[1];
+                CompletableFuture<Object> cacheValue = cache.getAsync(key,
+                        new Function<Object, CompletionStage<Object>>() {
+                            @Override
+                            public CompletionStage<Object> apply(Object k) {
+                                computing[0] = true;
+                                return proceedAsync(context).subscribeAsCompletionStage();
+                            }
+                        });
+                Uni<Object> uni = Uni.createFrom().completionStage(cacheValue);
+                if (binding.lockTimeout() <= 0 || computing[0] || cacheValue.isDone()) {
+                    return uni;
+                }
+                return uni.ifNoItem().after(Duration.ofMillis(binding.lockTimeout()))
+                        .recoverWithUni(new Supplier<Uni<?>>() {
+                            @Override
+                            public Uni<?> get() {
+                                cache.recordLockTimeout();
+                                return proceedAsync(context);
+                            }
+                        });
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Uni<Object> proceedAsync(InvocationContext context) {
+        Object result;
+        try {
+            result = context.proceed();
+        } catch (Exception e) {
+            return Uni.createFrom().failure(e);
+        }
+        if (result == null) {
+            return Uni.createFrom().nullItem();
+        } else if (result instanceof Uni) {
+            return (Uni<Object>) result;
+        } else {
+            return Uni.createFrom().completionStage((CompletionStage<Object>) result);
         }
     }
 }
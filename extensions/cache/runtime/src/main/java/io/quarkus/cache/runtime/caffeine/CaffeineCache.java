@@ -1,17 +1,45 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.context.ThreadContext;
+import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.Cache;
 import io.quarkus.cache.runtime.CacheException;
 import io.quarkus.cache.runtime.DefaultCacheKey;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+public class CaffeineCache implements Cache {
 
-public class CaffeineCache {
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCache.class);
 
     public static final String NULL_KEYS_NOT_SUPPORTED_MSG = "Null keys are not supported by the Quarkus application data cache";
 
@@ -27,6 +55,35 @@ public class CaffeineCache {
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    private Duration staleWhileRevalidate;
+
+    // Age after which an entry is reloaded in the background, zero if the entries are never reloaded
+    private long refreshNanos;
+
+    private int refreshMaxThreads;
+
+    // The managed executor of the application, set at runtime init
+    private volatile Executor refreshExecutor;
+
+    // Null if the context propagation is not available
+    private volatile ThreadContext refreshThreadContext;
+
+    private volatile boolean shutdown;
+
+    // The reloads waiting for one of the refreshMaxThreads permits
+    private final Queue<RefreshTask> pendingRefreshes = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger runningRefreshes = new AtomicInteger();
+
+    // Null if the statistics are not recorded
+    private CaffeineCacheStatsCounter statsCounter;
+
+    private LongAdder lockTimeoutCount;
+
+    private volatile TimeRecorder loadTimeRecorder;
+
     private Object defaultKey;
 
     public CaffeineCache(CaffeineCacheInfo cacheInfo) {
@@ -42,49 +99,456 @@ public class CaffeineCache {
         }
         if (cacheInfo.expireAfterWrite != null) {
             this.expireAfterWrite = cacheInfo.expireAfterWrite;
-            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+            if (cacheInfo.staleWhileRevalidate != null) {
+                // Expired entries are kept in the cache so that they can be returned while they are being reloaded
+                this.staleWhileRevalidate = cacheInfo.staleWhileRevalidate;
+                builder.expireAfterWrite(cacheInfo.expireAfterWrite.plus(cacheInfo.staleWhileRevalidate));
+                this.refreshNanos = cacheInfo.expireAfterWrite.toNanos();
+            } else {
+                builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+            }
         }
         if (cacheInfo.expireAfterAccess != null) {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+            long nanos = cacheInfo.refreshAfterWrite.toNanos();
+            this.refreshNanos = refreshNanos == 0 ? nanos : Math.min(refreshNanos, nanos);
+        }
+        this.refreshMaxThreads = cacheInfo.refreshMaxThreads;
+        if (cacheInfo.statsEnabled) {
+            CaffeineCacheStatsCounter counter = new CaffeineCacheStatsCounter();
+            this.statsCounter = counter;
+            this.lockTimeoutCount = new LongAdder();
+            builder.recordStats(new Supplier<StatsCounter>() {
+                @Override
+                public StatsCounter get() {
+                    return counter;
+                }
+            });
+        }
         cache = builder.buildAsync();
     }
 
     /**
      * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from
      * {@code valueLoader} if necessary. The value computation is done synchronously on the calling thread and the
-     * {@link CompletableFuture} is immediately completed before being returned.
+     * {@link CompletableFuture} is immediately completed before being returned. If the computation fails, the entry is
+     * removed from the cache and the exception thrown by {@code valueLoader} is rethrown.
      * 
      * @param key cache key
      * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
      * @return a {@link CompletableFuture} holding the cache value
-     * @throws CacheException if an exception is thrown during the cache value computation
      */
-    public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader) {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> CompletableFuture<V> get(K key, Function<K, V> valueLoader) {
         if (key == null) {
             throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
         }
-        CompletableFuture<Object> newCacheValue = new CompletableFuture<Object>();
+        CompletableFuture<Object> newCacheValue = newCacheValue();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
-            Object value = valueLoader.apply(key);
+            long startTime = startLoad(1);
+            Object value;
+            try {
+                value = valueLoader.apply(key);
+            } catch (Throwable t) {
+                recordLoadFailure(startTime);
+                evict(key, newCacheValue, t);
+                throw t;
+            }
+            recordLoadSuccess(startTime);
             newCacheValue.complete(NullValueConverter.toCacheValue(value));
-            return unwrapCacheValue(newCacheValue);
+            return (CompletableFuture<V>) unwrapCacheValue(newCacheValue);
         } else {
-            return unwrapCacheValue(existingCacheValue);
+            recordHit();
+            if (refreshNanos > 0) {
+                refreshIfStale(key, existingCacheValue, new Function<Object, CompletionStage<Object>>() {
+                    @Override
+                    public CompletionStage<Object> apply(Object k) {
+                        return CompletableFuture.<Object> completedFuture(valueLoader.apply((K) k));
+                    }
+                });
+            }
+            return (CompletableFuture<V>) unwrapCacheValue(existingCacheValue);
+        }
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from
+     * {@code valueLoader} if necessary. Unlike {@link #get(Object, Function)}, the cache stores the eventual item of the
+     * {@link CompletionStage} returned by {@code valueLoader}, not the stage itself. The calling thread is never blocked:
+     * concurrent callers share the same pending {@link CompletableFuture} so the value is only computed once. If the
+     * computation fails, the entry is removed from the cache and the next call triggers a new computation.
+     * 
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @return a {@link CompletableFuture} holding the cache value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> CompletableFuture<V> getAsync(K key, Function<K, ? extends CompletionStage<V>> valueLoader) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        CompletableFuture<Object> newCacheValue = newCacheValue();
+        CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+        if (existingCacheValue == null) {
+            long startTime = startLoad(1);
+            CompletionStage<V> valueStage;
+            try {
+                valueStage = valueLoader.apply(key);
+            } catch (Throwable t) {
+                recordLoadFailure(startTime);
+                evict(key, newCacheValue, t);
+                throw t;
+            }
+            if (valueStage == null) {
+                recordLoadSuccess(startTime);
+                newCacheValue.complete(NullValueConverter.toCacheValue(null));
+            } else {
+                valueStage.whenComplete(new BiConsumer<Object, Throwable>() {
+                    @Override
+                    public void accept(Object value, Throwable failure) {
+                        if (failure != null) {
+                            recordLoadFailure(startTime);
+                            evict(key, newCacheValue, failure);
+                        } else {
+                            recordLoadSuccess(startTime);
+                            newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                        }
+                    }
+                });
+            }
+            return (CompletableFuture<V>) unwrapCacheValue(newCacheValue);
+        } else {
+            recordHit();
+            if (refreshNanos > 0) {
+                // The loader is only ever applied to the key it was provided with
+                refreshIfStale(key, existingCacheValue,
+                        (Function<Object, CompletionStage<Object>>) (Function<?, ?>) valueLoader);
+            }
+            return (CompletableFuture<V>) unwrapCacheValue(existingCacheValue);
+        }
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} holding the cache values identified by {@code keys}. The keys which are not already
+     * associated with a value are passed to a single invocation of {@code bulkLoader} on the calling thread. If the
+     * computation fails, the new entries are removed from the cache and the exception thrown by {@code bulkLoader} is
+     * rethrown.
+     * 
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys which are not already associated with a value
+     * @return a {@link CompletableFuture} holding a map of the keys to their values
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> CompletableFuture<Map<K, V>> getAll(Set<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<K, CompletableFuture<Object>> cacheValues = new HashMap<>();
+        Map<K, CompletableFuture<Object>> newCacheValues = null;
+        for (K key : keys) {
+            if (key == null) {
+                throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+            }
+            CompletableFuture<Object> newCacheValue = newCacheValue();
+            CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+            if (existingCacheValue == null) {
+                if (newCacheValues == null) {
+                    newCacheValues = new LinkedHashMap<>();
+                }
+                newCacheValues.put(key, newCacheValue);
+                cacheValues.put(key, newCacheValue);
+            } else {
+                recordHit();
+                cacheValues.put(key, existingCacheValue);
+            }
+        }
+        if (newCacheValues != null) {
+            long startTime = startLoad(newCacheValues.size());
+            Map<K, V> values;
+            try {
+                values = bulkLoader.apply(Collections.unmodifiableSet(newCacheValues.keySet()));
+            } catch (Throwable t) {
+                recordLoadFailure(startTime);
+                for (Map.Entry<K, CompletableFuture<Object>> newEntry : newCacheValues.entrySet()) {
+                    evict(newEntry.getKey(), newEntry.getValue(), t);
+                }
+                throw t;
+            }
+            recordLoadSuccess(startTime);
+            for (Map.Entry<K, CompletableFuture<Object>> newEntry : newCacheValues.entrySet()) {
+                Object value = values == null ? null : values.get(newEntry.getKey());
+                newEntry.getValue().complete(NullValueConverter.toCacheValue(value));
+            }
+        }
+        return CompletableFuture.allOf(cacheValues.values().toArray(new CompletableFuture[0]))
+                .thenApply(new Function<Void, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Void ignored) {
+                        Map<K, V> result = new HashMap<>();
+                        for (Map.Entry<K, CompletableFuture<Object>> entry : cacheValues.entrySet()) {
+                            result.put(entry.getKey(), (V) fromCacheValue(entry.getValue().join()));
+                        }
+                        return result;
+                    }
+                });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        CompletableFuture<Object> cacheValue = newCacheValue();
+        cacheValue.complete(NullValueConverter.toCacheValue(value));
+        cache.asMap().put(key, cacheValue);
+    }
+
+    private CompletableFuture<Object> newCacheValue() {
+        return refreshNanos > 0 ? new RefreshableCacheValue() : new CompletableFuture<Object>();
+    }
+
+    /*
+     * Reloads the cache value on the refresh executor if it is stale. The caller is never blocked: it gets the current value
+     * and the entry is replaced once the reload completes, unless it was invalidated or replaced in the meantime.
+     */
+    private void refreshIfStale(Object key, CompletableFuture<Object> cacheValue,
+            Function<Object, CompletionStage<Object>> valueLoader) {
+        if (!(cacheValue instanceof RefreshableCacheValue)) {
+            return;
+        }
+        RefreshableCacheValue staleValue = (RefreshableCacheValue) cacheValue;
+        if (!staleValue.startRefreshIfStale(refreshNanos)) {
+            return;
+        }
+        RefreshTask task = new RefreshTask(key, staleValue, valueLoader);
+        ThreadContext threadContext = refreshThreadContext;
+        if (threadContext != null) {
+            // The contexts are captured on the thread of the caller
+            task.reload = threadContext.contextualRunnable(task.reload);
+        }
+        pendingRefreshes.add(task);
+        startPendingRefreshes();
+    }
+
+    /*
+     * At most refreshMaxThreads reloads of the cache run at the same time, the other ones wait in the queue so that the
+     * threads of the managed executor are not all taken by the reloads of a single cache.
+     */
+    private void startPendingRefreshes() {
+        while (!pendingRefreshes.isEmpty()) {
+            int running = runningRefreshes.get();
+            if (running >= refreshMaxThreads) {
+                // One of the running reloads starts the next one once it completes
+                return;
+            }
+            if (!runningRefreshes.compareAndSet(running, running + 1)) {
+                continue;
+            }
+            RefreshTask task = pendingRefreshes.poll();
+            if (task == null) {
+                runningRefreshes.decrementAndGet();
+                continue;
+            }
+            Executor executor = refreshExecutor;
+            if (executor == null || shutdown) {
+                runningRefreshes.decrementAndGet();
+                task.abort();
+                continue;
+            }
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // The application is shutting down, the stale value will be reloaded on a later read if possible
+                runningRefreshes.decrementAndGet();
+                task.abort();
+            }
+        }
+    }
+
+    private void reload(Object key, RefreshableCacheValue staleValue, Function<Object, CompletionStage<Object>> valueLoader) {
+        // A background reload is not a miss
+        long startTime = startLoad(0);
+        CompletionStage<Object> valueStage;
+        try {
+            valueStage = valueLoader.apply(key);
+        } catch (Throwable t) {
+            recordLoadFailure(startTime);
+            refreshFailed(key, staleValue, t);
+            return;
+        }
+        if (valueStage == null) {
+            recordLoadSuccess(startTime);
+            refreshed(key, staleValue, null);
+        } else {
+            valueStage.whenComplete(new BiConsumer<Object, Throwable>() {
+                @Override
+                public void accept(Object value, Throwable failure) {
+                    if (failure != null) {
+                        recordLoadFailure(startTime);
+                        refreshFailed(key, staleValue, failure);
+                    } else {
+                        recordLoadSuccess(startTime);
+                        refreshed(key, staleValue, value);
+                    }
+                }
+            });
+        }
+    }
+
+    private void refreshed(Object key, RefreshableCacheValue staleValue, Object value) {
+        RefreshableCacheValue freshValue = new RefreshableCacheValue();
+        freshValue.complete(NullValueConverter.toCacheValue(value));
+        cache.asMap().replace(key, staleValue, freshValue);
+    }
+
+    private void refreshFailed(Object key, RefreshableCacheValue staleValue, Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof CacheException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        LOGGER.warnf(failure, "Reloading entry with key [%s] from cache [%s] failed, the stale value is kept", key, name);
+        // The next read triggers a new reload
+        staleValue.refreshAborted();
+    }
+
+    /**
+     * Sets the executor of the background reloads of the cache entries. The reloads are run with the contexts of the caller
+     * captured by {@code threadContext}, if any, and with a request context of their own.
+     * 
+     * @param executor the managed executor of the application
+     * @param threadContext captures the contexts of the caller, {@code null} if the context propagation is not available
+     */
+    public void setRefreshExecutor(Executor executor, ThreadContext threadContext) {
+        this.refreshThreadContext = threadContext;
+        this.refreshExecutor = executor;
+    }
+
+    /**
+     * Stops the background reloads of the cache entries, if any. The reloads in progress are not interrupted.
+     */
+    public void shutdown() {
+        shutdown = true;
+        RefreshTask task;
+        while ((task = pendingRefreshes.poll()) != null) {
+            task.abort();
         }
     }
 
+    private long startLoad(int missCount) {
+        if (statsCounter == null) {
+            return 0L;
+        }
+        if (missCount > 0) {
+            statsCounter.recordMisses(missCount);
+        }
+        return System.nanoTime();
+    }
+
+    private void recordHit() {
+        if (statsCounter != null) {
+            statsCounter.recordHits(1);
+        }
+    }
+
+    private void recordLoadSuccess(long startTime) {
+        if (statsCounter != null) {
+            long loadTime = System.nanoTime() - startTime;
+            statsCounter.loadSucceeded(loadTime);
+            recordLoadTime(loadTime);
+        }
+    }
+
+    private void recordLoadFailure(long startTime) {
+        if (statsCounter != null) {
+            long loadTime = System.nanoTime() - startTime;
+            statsCounter.loadFailed(loadTime);
+            recordLoadTime(loadTime);
+        }
+    }
+
+    private void recordLoadTime(long loadTime) {
+        TimeRecorder recorder = loadTimeRecorder;
+        if (recorder != null) {
+            recorder.update(loadTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Records that a caller stopped waiting for a value computed by another caller because the lock timeout elapsed. This
+     * method has no effect if the statistics are not recorded for the current cache.
+     */
+    public void recordLockTimeout() {
+        if (lockTimeoutCount != null) {
+            lockTimeoutCount.increment();
+        }
+    }
+
+    public boolean isStatsEnabled() {
+        return statsCounter != null;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the current cache, or {@link CacheStats#empty()} if the statistics are not
+     * recorded.
+     * 
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return statsCounter != null ? statsCounter.snapshot() : CacheStats.empty();
+    }
+
+    public long getLockTimeoutCount() {
+        return lockTimeoutCount != null ? lockTimeoutCount.sum() : 0L;
+    }
+
+    public long getEstimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    /**
+     * Sets the recorder notified of the duration of every value computation, including the failed ones and the background
+     * reloads. This method has no effect if the statistics are not recorded for the current cache.
+     * 
+     * @param loadTimeRecorder recorder of the value computations durations
+     */
+    public void setLoadTimeRecorder(TimeRecorder loadTimeRecorder) {
+        this.loadTimeRecorder = loadTimeRecorder;
+    }
+
+    private void evict(Object key, CompletableFuture<Object> cacheValue, Throwable failure) {
+        // Only remove the entry if it was not replaced in the meantime
+        cache.asMap().remove(key, cacheValue);
+        /*
+         * The cache value is not completed exceptionally because Caffeine would log a warning. The callers waiting for the
+         * value get the failure from unwrapCacheValue.
+         */
+        cacheValue.complete(new CaffeineComputationThrowable(failure));
+    }
+
     private CompletableFuture<Object> unwrapCacheValue(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<Object, Object>() {
             @Override
             public Object apply(Object value) {
-                return NullValueConverter.fromCacheValue(value);
+                return fromCacheValue(value);
             }
         });
     }
 
+    static Object fromCacheValue(Object value) {
+        if (value instanceof CaffeineComputationThrowable) {
+            throw new CompletionException(((CaffeineComputationThrowable) value).getCause());
+        }
+        return NullValueConverter.fromCacheValue(value);
+    }
+
+    @Override
     public void invalidate(Object key) {
         if (key == null) {
             throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -92,10 +556,22 @@ public class CaffeineCache {
         cache.synchronous().invalidate(key);
     }
 
+    @Override
+    public void invalidateIf(Predicate<Object> keyPredicate) {
+        cache.asMap().keySet().removeIf(keyPredicate);
+    }
+
+    @Override
     public void invalidateAll() {
         cache.synchronous().invalidateAll();
     }
 
+    @Override
+    public Map<Object, Object> asMap() {
+        return new CompletedValuesMap(cache.asMap());
+    }
+
+    @Override
     public String getName() {
         return name;
     }
@@ -120,6 +596,16 @@ public class CaffeineCache {
         return expireAfterAccess;
     }
 
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    // For testing purposes only.
+    public Duration getStaleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
     /**
      * Returns the unique and immutable default key for the current cache. This key is used by the annotations caching API when
      * a no-args method annotated with {@link io.quarkus.cache.CacheResult CacheResult} or
@@ -127,10 +613,58 @@ public class CaffeineCache {
      * 
      * @return default cache key
      */
+    @Override
     public Object getDefaultKey() {
         if (defaultKey == null) {
             defaultKey = new DefaultCacheKey(getName());
         }
         return defaultKey;
     }
+
+    private final class RefreshTask implements Runnable {
+
+        private final Object key;
+        private final RefreshableCacheValue staleValue;
+        // Wrapped by the thread context if the context propagation is available
+        Runnable reload;
+
+        RefreshTask(Object key, RefreshableCacheValue staleValue, Function<Object, CompletionStage<Object>> valueLoader) {
+            this.key = key;
+            this.staleValue = staleValue;
+            this.reload = new Runnable() {
+                @Override
+                public void run() {
+                    // The request context of the caller may be over, the reload gets its own
+                    ManagedContext requestContext = Arc.container().requestContext();
+                    if (requestContext.isActive()) {
+                        reload(key, staleValue, valueLoader);
+                        return;
+                    }
+                    requestContext.activate();
+                    try {
+                        reload(key, staleValue, valueLoader);
+                    } finally {
+                        requestContext.terminate();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void run() {
+            try {
+                reload.run();
+            } catch (Throwable t) {
+                // e.g. the contexts could not be restored
+                refreshFailed(key, staleValue, t);
+            } finally {
+                runningRefreshes.decrementAndGet();
+                startPendingRefreshes();
+            }
+        }
+
+        void abort() {
+            staleValue.refreshAborted();
+        }
+    }
 }
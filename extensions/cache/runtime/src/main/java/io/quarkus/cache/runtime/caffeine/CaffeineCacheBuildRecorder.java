@@ -3,6 +3,7 @@ package io.quarkus.cache.runtime.caffeine;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.jboss.logging.Logger;
 
@@ -22,9 +23,9 @@ public class CaffeineCacheBuildRecorder {
         for (CaffeineCacheInfo cacheInfo : cacheInfos) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf(
-                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
+                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], [refreshAfterWrite=%s] and [staleWhileRevalidate=%s]",
                         cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.expireAfterWrite,
-                        cacheInfo.expireAfterAccess);
+                        cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite, cacheInfo.staleWhileRevalidate);
             }
             CaffeineCache cache = new CaffeineCache(cacheInfo);
             caches.put(cacheInfo.name, cache);
@@ -32,4 +33,8 @@ public class CaffeineCacheBuildRecorder {
 
         beanContainer.instance(CacheRepository.class).setCaches(caches);
     }
+
+    public void setRefreshExecutor(BeanContainer beanContainer, Executor executor) {
+        beanContainer.instance(CacheRepository.class).setRefreshExecutor(executor);
+    }
 }
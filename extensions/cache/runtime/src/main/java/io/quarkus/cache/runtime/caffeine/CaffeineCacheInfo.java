@@ -15,6 +15,14 @@ public class CaffeineCacheInfo {
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public Duration staleWhileRevalidate;
+
+    public int refreshMaxThreads = 1;
+
+    public boolean statsEnabled;
+
     @Override
     public int hashCode() {
         return Objects.hash(name);
@@ -0,0 +1,78 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class CaffeineCacheMetricsRecorder {
+
+    // A metric name must always be registered with the same description, the tags carry the distinction
+    private static final String GETS_DESCRIPTION = "Number of cache lookups. The result tag is 'hit' if the lookup "
+            + "returned a cached value or a value being computed, and 'miss' if it triggered a value computation.";
+    private static final String LOADS_DESCRIPTION = "Number of value computations, including the background reloads. "
+            + "The result tag is either 'success' or 'failure'.";
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CacheRepository cacheRepository = Arc.container().instance(CacheRepository.class).get();
+                for (CaffeineCache cache : cacheRepository.getCaches()) {
+                    if (cache.isStatsEnabled()) {
+                        registerCacheMetrics(metricsFactory, cache);
+                    }
+                }
+            }
+        };
+    }
+
+    private void registerCacheMetrics(MetricsFactory metricsFactory, CaffeineCache cache) {
+        String cacheName = cache.getName();
+
+        metricsFactory.builder("cache.size")
+                .description("Approximate number of entries in the cache.")
+                .tag("cache", cacheName)
+                .buildGauge(cache, CaffeineCache::getEstimatedSize);
+
+        metricsFactory.builder("cache.gets")
+                .description(GETS_DESCRIPTION)
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .buildCounter(cache, c -> c.getStats().hitCount());
+        metricsFactory.builder("cache.gets")
+                .description(GETS_DESCRIPTION)
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .buildCounter(cache, c -> c.getStats().missCount());
+        metricsFactory.builder("cache.loads")
+                .description(LOADS_DESCRIPTION)
+                .tag("cache", cacheName)
+                .tag("result", "success")
+                .buildCounter(cache, c -> c.getStats().loadSuccessCount());
+        metricsFactory.builder("cache.loads")
+                .description(LOADS_DESCRIPTION)
+                .tag("cache", cacheName)
+                .tag("result", "failure")
+                .buildCounter(cache, c -> c.getStats().loadFailureCount());
+        metricsFactory.builder("cache.evictions")
+                .description("Number of entries evicted from the cache because of its size or expiration policies.")
+                .tag("cache", cacheName)
+                .buildCounter(cache, c -> c.getStats().evictionCount());
+        metricsFactory.builder("cache.lock.timeouts")
+                .description("Number of times a caller stopped waiting for a value computed by another caller because the "
+                        + "lock timeout elapsed.")
+                .tag("cache", cacheName)
+                .buildCounter(cache, CaffeineCache::getLockTimeoutCount);
+
+        cache.setLoadTimeRecorder(metricsFactory.builder("cache.load.duration")
+                .description("Duration of the value computations, including the failed ones and the background reloads.")
+                .tag("cache", cacheName)
+                .unit("nanoseconds")
+                .buildTimer());
+    }
+}
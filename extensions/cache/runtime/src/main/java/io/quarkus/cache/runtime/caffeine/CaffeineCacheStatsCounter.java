@@ -0,0 +1,66 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+/**
+ * Statistics of a {@link CaffeineCache}. Caffeine records the evictions, but it cannot tell the successful loads from the
+ * failed ones since a failed computation completes its cache value with a {@link CaffeineComputationThrowable}. The hits,
+ * misses and loads are therefore recorded by {@link CaffeineCache} itself.
+ */
+class CaffeineCacheStatsCounter implements StatsCounter {
+
+    private final ConcurrentStatsCounter delegate = new ConcurrentStatsCounter();
+
+    @Override
+    public void recordHits(int count) {
+        delegate.recordHits(count);
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        delegate.recordMisses(count);
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        // Ignored, see loadSucceeded(long)
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        // Ignored, see loadFailed(long)
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void recordEviction() {
+        delegate.recordEviction();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void recordEviction(int weight) {
+        delegate.recordEviction(weight);
+    }
+
+    @Override
+    public void recordEviction(int weight, RemovalCause cause) {
+        delegate.recordEviction(weight, cause);
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return delegate.snapshot();
+    }
+
+    void loadSucceeded(long loadTime) {
+        delegate.recordLoadSuccess(loadTime);
+    }
+
+    void loadFailed(long loadTime) {
+        delegate.recordLoadFailure(loadTime);
+    }
+}
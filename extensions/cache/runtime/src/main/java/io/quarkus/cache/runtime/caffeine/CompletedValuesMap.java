@@ -0,0 +1,96 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+
+import io.quarkus.cache.runtime.NullValueConverter;
+
+/**
+ * Live view of the cache entries whose values have been successfully computed. The view is unmodifiable, except for the
+ * conditional {@link #remove(Object, Object)}.
+ */
+class CompletedValuesMap extends AbstractMap<Object, Object> {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> cacheMap;
+
+    CompletedValuesMap(ConcurrentMap<Object, CompletableFuture<Object>> cacheMap) {
+        this.cacheMap = cacheMap;
+    }
+
+    @Override
+    public Object get(Object key) {
+        CompletableFuture<Object> cacheValue = cacheMap.get(key);
+        return isCompleted(cacheValue) ? NullValueConverter.fromCacheValue(cacheValue.join()) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return isCompleted(cacheMap.get(key));
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        CompletableFuture<Object> cacheValue = cacheMap.get(key);
+        // The entry is only removed if its value was not replaced in the meantime
+        return isCompleted(cacheValue) && Objects.equals(NullValueConverter.fromCacheValue(cacheValue.join()), value)
+                && cacheMap.remove(key, cacheValue);
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        return new AbstractSet<Entry<Object, Object>>() {
+
+            @Override
+            public Iterator<Entry<Object, Object>> iterator() {
+                Iterator<Entry<Object, CompletableFuture<Object>>> it = cacheMap.entrySet().iterator();
+                return new Iterator<Entry<Object, Object>>() {
+
+                    private Entry<Object, Object> next;
+
+                    @Override
+                    public boolean hasNext() {
+                        while (next == null && it.hasNext()) {
+                            Entry<Object, CompletableFuture<Object>> entry = it.next();
+                            if (isCompleted(entry.getValue())) {
+                                next = new SimpleImmutableEntry<>(entry.getKey(),
+                                        NullValueConverter.fromCacheValue(entry.getValue().join()));
+                            }
+                        }
+                        return next != null;
+                    }
+
+                    @Override
+                    public Entry<Object, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<Object, Object> result = next;
+                        next = null;
+                        return result;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+                for (CompletableFuture<Object> cacheValue : cacheMap.values()) {
+                    if (isCompleted(cacheValue)) {
+                        size++;
+                    }
+                }
+                return size;
+            }
+        };
+    }
+
+    private static boolean isCompleted(CompletableFuture<Object> cacheValue) {
+        return cacheValue != null && cacheValue.isDone() && !(cacheValue.getNow(null) instanceof CaffeineComputationThrowable);
+    }
+}
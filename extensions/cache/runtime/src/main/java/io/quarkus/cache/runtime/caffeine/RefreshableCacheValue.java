@@ -0,0 +1,35 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cache value used when the cache is configured to reload its entries in the background. It remembers when it was
+ * completed and whether a reload is already in progress.
+ */
+class RefreshableCacheValue extends CompletableFuture<Object> {
+
+    private volatile long writeTime;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    @Override
+    public boolean complete(Object value) {
+        writeTime = System.nanoTime();
+        return super.complete(value);
+    }
+
+    /**
+     * Returns {@code true} if the value is older than {@code refreshNanos} and no other reload is in progress. In that case,
+     * the caller is responsible for reloading the value or calling {@link #refreshAborted()}.
+     */
+    boolean startRefreshIfStale(long refreshNanos) {
+        return isDone() && !(getNow(null) instanceof CaffeineComputationThrowable)
+                && System.nanoTime() - writeTime >= refreshNanos
+                && refreshing.compareAndSet(false, true);
+    }
+
+    void refreshAborted() {
+        refreshing.set(false);
+    }
+}
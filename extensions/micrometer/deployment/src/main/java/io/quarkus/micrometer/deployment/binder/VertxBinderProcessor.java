@@ -1,9 +1,23 @@
 package io.quarkus.micrometer.deployment.binder;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
 
 import javax.interceptor.Interceptor;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
@@ -11,6 +25,7 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.micrometer.runtime.MicrometerRecorder;
 import io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderAdapter;
 import io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderContainerFilter;
@@ -18,6 +33,7 @@ import io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderRecorder;
 import io.quarkus.micrometer.runtime.binder.vertx.VertxMeterFilter;
 import io.quarkus.micrometer.runtime.config.MicrometerConfig;
 import io.quarkus.micrometer.runtime.config.runtime.VertxConfig;
+import io.quarkus.resteasy.common.spi.ResteasyDotNames;
 import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
 import io.quarkus.vertx.core.deployment.VertxOptionsConsumerBuildItem;
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
@@ -41,6 +57,9 @@ public class VertxBinderProcessor {
         }
     }
 
+    private static final Pattern PATH_PARAMETER_REGEX = Pattern.compile("\\{\\s*(\\w[\\w.-]*)\\s*:[^}]*}");
+    private static final Pattern MULTIPLE_SLASH_PATTERN = Pattern.compile("//+");
+
     // avoid imports due to related deps not being there
     static final String VERTX_CONTAINER_FILTER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderContainerFilter";
 
@@ -58,6 +77,68 @@ public class VertxBinderProcessor {
         return new ResteasyJaxrsProviderBuildItem(VERTX_CONTAINER_FILTER_CLASS_NAME);
     }
 
+    @BuildStep(onlyIf = VertxBinderEnabled.class)
+    @Record(value = ExecutionTime.STATIC_INIT)
+    void collectJaxRsPathTemplates(Capabilities capabilities, CombinedIndexBuildItem index,
+            VertxMeterBinderRecorder recorder) {
+        if (!capabilities.isPresent(Capability.RESTEASY)) {
+            return;
+        }
+
+        // use the @Path templates as uri tags: /item/{id}, no matter the value of id
+        Map<String, String> pathTemplates = new HashMap<>();
+        Set<String> ambiguousKeys = new HashSet<>();
+        for (AnnotationInstance classPath : index.getIndex().getAnnotations(ResteasyDotNames.PATH)) {
+            if (classPath.target().kind() != AnnotationTarget.Kind.CLASS) {
+                continue;
+            }
+            ClassInfo resourceClass = classPath.target().asClass();
+            for (MethodInfo method : resourceClass.methods()) {
+                if (!isResourceMethod(method)) {
+                    continue;
+                }
+                AnnotationInstance methodPath = method.annotation(ResteasyDotNames.PATH);
+                String template = toPathTemplate(classPath.value().asString(),
+                        methodPath == null || methodPath.target().kind() != AnnotationTarget.Kind.METHOD ? null
+                                : methodPath.value().asString());
+                List<String> parameterTypes = new ArrayList<>();
+                for (Type parameterType : method.parameters()) {
+                    parameterTypes.add(parameterType.name().toString());
+                }
+                String key = VertxMeterBinderContainerFilter.getResourceMethodKey(resourceClass.name().toString(),
+                        method.name(), parameterTypes);
+                String previous = pathTemplates.put(key, template);
+                if (previous != null && !previous.equals(template)) {
+                    ambiguousKeys.add(key);
+                }
+            }
+        }
+        pathTemplates.keySet().removeAll(ambiguousKeys);
+        recorder.setJaxRsPathTemplates(pathTemplates);
+    }
+
+    private static boolean isResourceMethod(MethodInfo method) {
+        for (DotName methodAnnotation : ResteasyDotNames.JAXRS_METHOD_ANNOTATIONS) {
+            if (method.hasAnnotation(methodAnnotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Joins the class and method paths, removes the regular expressions of the parameters: {id: \\d+} becomes {id}
+     */
+    static String toPathTemplate(String classPath, String methodPath) {
+        String path = "/" + classPath + (methodPath == null ? "" : "/" + methodPath);
+        path = PATH_PARAMETER_REGEX.matcher(path).replaceAll("{$1}");
+        path = MULTIPLE_SLASH_PATTERN.matcher(path).replaceAll("/");
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
     @BuildStep(onlyIf = VertxBinderEnabled.class)
     AdditionalBeanBuildItem createVertxAdapters() {
         // Add Vertx meter adapters
@@ -3,9 +3,8 @@ package io.quarkus.micrometer.runtime.binder.vertx;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
-import io.micrometer.core.instrument.Tags;
-import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Context;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.RoutingContext;
 
 public class RequestMetric {
@@ -28,14 +27,11 @@ public class RequestMetric {
     /** True IFF the path was revised by a matcher expression */
     boolean pathMatched = false;
 
-    /** Store the sample used to measure the request */
-    Timer.Sample sample;
+    /** Store the start of the request, in the registry clock monotonic time; -1 if not measured */
+    long requestStartTime = -1;
 
-    /**
-     * Store the tags associated with the request (change 1.6.0).
-     * Default is empty, value assigned @ requestBegin
-     */
-    Tags tags = Tags.empty();
+    /** Store the method of the request, value assigned @ requestBegin */
+    HttpMethod method;
 
     /**
      * Stash the RequestMetric in the Vertx Context
@@ -0,0 +1,114 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Cache of the http server request timers, by uri path, then by method and status.
+ * Once a timer has been registered, looking it up again allocates nothing.
+ */
+class RequestTimers {
+    /** Status used for requests reset before the response was sent */
+    static final int STATUS_RESET = -1;
+
+    /** Paths that are not templates, e.g. /item/123, would grow the cache without limit */
+    static final int MAX_CACHED_PATHS = 1024;
+
+    private final MeterRegistry registry;
+    private final String name;
+    private final Map<String, PathTimers> timers = new ConcurrentHashMap<>();
+
+    RequestTimers(MeterRegistry registry, String name) {
+        this.registry = registry;
+        this.name = name;
+    }
+
+    /**
+     * @param path the uri path, see {@link RequestMetric#getHttpRequestPath()}
+     * @param method the request method
+     * @param status the response status code, or {@link #STATUS_RESET}
+     * @return the timer
+     */
+    Timer get(String path, HttpMethod method, int status) {
+        String key = path == null ? "" : path;
+        PathTimers pathTimers = timers.get(key);
+        if (pathTimers == null) {
+            if (timers.size() >= MAX_CACHED_PATHS) {
+                return register(path, method, status);
+            }
+            pathTimers = timers.computeIfAbsent(key, k -> new PathTimers());
+        }
+        Timer timer = pathTimers.get(method, status);
+        if (timer == null) {
+            timer = pathTimers.add(method, status, register(path, method, status));
+        }
+        return timer;
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    private Timer register(String path, HttpMethod method, int status) {
+        Tags tags;
+        if (status == STATUS_RESET) {
+            tags = Tags.of(VertxMetricsTags.method(method),
+                    VertxMetricsTags.uri(path, 0),
+                    Outcome.CLIENT_ERROR.asTag(),
+                    VertxMetricsTags.STATUS_RESET);
+        } else {
+            tags = Tags.of(VertxMetricsTags.method(method),
+                    VertxMetricsTags.uri(path, status),
+                    Outcome.forStatus(status).asTag(),
+                    VertxMetricsTags.status(status));
+        }
+        return Timer.builder(name).tags(tags).register(registry);
+    }
+
+    /**
+     * The few (method, status) pairs seen for a path, copied on write so that the lookup needs no lock.
+     */
+    private static final class PathTimers {
+        private volatile Entry[] entries = new Entry[0];
+
+        Timer get(HttpMethod method, int status) {
+            for (Entry entry : entries) {
+                if (entry.method == method && entry.status == status) {
+                    return entry.timer;
+                }
+            }
+            return null;
+        }
+
+        synchronized Timer add(HttpMethod method, int status, Timer timer) {
+            Timer existing = get(method, status);
+            if (existing != null) {
+                return existing;
+            }
+            Entry[] current = entries;
+            Entry[] updated = new Entry[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = new Entry(method, status, timer);
+            entries = updated;
+            return timer;
+        }
+    }
+
+    private static final class Entry {
+        final HttpMethod method;
+        final int status;
+        final Timer timer;
+
+        Entry(HttpMethod method, int status, Timer timer) {
+            this.method = method;
+            this.status = status;
+            this.timer = timer;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -13,8 +14,6 @@ import org.jboss.logging.Logger;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
-import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.binder.http.Outcome;
 import io.quarkus.micrometer.runtime.config.runtime.VertxConfig;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
@@ -42,11 +41,14 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     final String nameHttpServerPush;
     final String nameHttpServerRequests;
 
+    final RequestTimers requestTimers;
+
     VertxHttpServerMetrics(MeterRegistry registry, VertxConfig config) {
         super(registry, "http.server");
         nameWebsocketConnections = "http.server.websocket.connections";
         nameHttpServerPush = "http.server.push";
         nameHttpServerRequests = "http.server.requests";
+        requestTimers = new RequestTimers(registry, nameHttpServerRequests);
 
         if (config.ignorePatterns.isPresent()) {
             List<String> stringPatterns = config.ignorePatterns.get();
@@ -123,9 +125,9 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         // evaluate and remember the path to monitor for use later (maybe a 404 or redirect..)
         VertxMetricsTags.parseUriPath(requestMetric, matchPatterns, ignorePatterns, request.path());
         if (requestMetric.measure) {
-            // If we're measuring this request, create/remember the sample
-            requestMetric.sample = Timer.start(registry);
-            requestMetric.tags = Tags.of(VertxMetricsTags.method(request.method()));
+            // If we're measuring this request, remember when it started
+            requestMetric.requestStartTime = registry.config().clock().monotonicTime();
+            requestMetric.method = request.method();
 
             log.debugf("requestBegin %s: %s, %s", requestMetric.path, socketMetric, requestMetric);
         }
@@ -142,17 +144,7 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     @Override
     public void requestReset(RequestMetric requestMetric) {
         log.debugf("requestReset: %s", requestMetric);
-        Timer.Sample sample = getRequestSample(requestMetric);
-        if (sample != null) {
-            String requestPath = getServerRequestPath(requestMetric);
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(requestMetric.tags)
-                    .tags(Tags.of(
-                            VertxMetricsTags.uri(requestPath, 0),
-                            Outcome.CLIENT_ERROR.asTag(),
-                            VertxMetricsTags.STATUS_RESET));
-            sample.stop(builder.register(registry));
-        }
+        stopRequestTimer(requestMetric, RequestTimers.STATUS_RESET);
     }
 
     /**
@@ -165,18 +157,7 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     public void responseEnd(RequestMetric requestMetric, HttpServerResponse response) {
         log.debugf("responseEnd: %s, %s", requestMetric, response);
 
-        Timer.Sample sample = getRequestSample(requestMetric);
-        if (sample != null) {
-            String requestPath = getServerRequestPath(requestMetric);
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(requestMetric.tags)
-                    .tags(Tags.of(
-                            VertxMetricsTags.uri(requestPath, response.getStatusCode()),
-                            VertxMetricsTags.outcome(response),
-                            VertxMetricsTags.status(response.getStatusCode())));
-
-            sample.stop(builder.register(registry));
-        }
+        stopRequestTimer(requestMetric, response.getStatusCode());
     }
 
     /**
@@ -214,11 +195,15 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         }
     }
 
-    private Timer.Sample getRequestSample(RequestMetric metricsContext) {
-        if (metricsContext == null) {
-            return null;
+    private void stopRequestTimer(RequestMetric requestMetric, int status) {
+        if (requestMetric == null || requestMetric.requestStartTime < 0) {
+            return;
         }
-        return metricsContext.sample;
+        long duration = registry.config().clock().monotonicTime() - requestMetric.requestStartTime;
+        // a request is either reset or ended, never both
+        requestMetric.requestStartTime = -1;
+        requestTimers.get(getServerRequestPath(requestMetric), requestMetric.method, status)
+                .record(duration, TimeUnit.NANOSECONDS);
     }
 
     private String getServerRequestPath(RequestMetric metricsContext) {
@@ -1,11 +1,17 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.inject.spi.CDI;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.UriInfo;
 
@@ -17,6 +23,33 @@ import io.vertx.ext.web.RoutingContext;
 public class VertxMeterBinderContainerFilter implements ContainerRequestFilter {
     private static final Logger log = Logger.getLogger(VertxMeterBinderContainerFilter.class);
 
+    private static final String NO_PATH_TEMPLATE = "";
+
+    // will be replaced at augmentation phase
+    private static volatile Map<String, String> pathTemplates = Collections.emptyMap();
+
+    /** Path templates resolved for the resource methods, or NO_PATH_TEMPLATE */
+    private static final Map<Method, String> resolvedPathTemplates = new ConcurrentHashMap<>();
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    /**
+     * @param templates the {@code @Path} templates of the resource methods, see
+     *        {@link #getResourceMethodKey(String, String, List)}
+     */
+    public static void setPathTemplates(Map<String, String> templates) {
+        pathTemplates = templates;
+        resolvedPathTemplates.clear();
+    }
+
+    /**
+     * @return the key of the resource method in the path templates, e.g. {@code org.acme.ItemResource#get(long)}
+     */
+    public static String getResourceMethodKey(String resourceClass, String methodName, List<String> parameterTypes) {
+        return resourceClass + "#" + methodName + "(" + String.join(",", parameterTypes) + ")";
+    }
+
     @Override
     public void filter(final ContainerRequestContext requestContext) {
         RoutingContext routingContext = CDI.current().select(CurrentVertxRequest.class).get().getCurrent();
@@ -27,7 +60,12 @@ public class VertxMeterBinderContainerFilter implements ContainerRequestFilter {
         }
 
         UriInfo info = requestContext.getUriInfo();
-        String path = info.getPath();
+        String path = getPathTemplate(info);
+        if (path != null) {
+            routingContext.put(RequestMetric.HTTP_REQUEST_PATH, path);
+            return;
+        }
+        path = info.getPath();
 
         MultivaluedMap<String, String> pathParameters = info.getPathParameters();
         if (!pathParameters.isEmpty()) {
@@ -42,4 +80,28 @@ public class VertxMeterBinderContainerFilter implements ContainerRequestFilter {
 
         routingContext.put(RequestMetric.HTTP_REQUEST_PATH, path);
     }
+
+    /**
+     * @return the {@code @Path} template of the matched resource method, known at build time, or null
+     */
+    private String getPathTemplate(UriInfo info) {
+        Method method = resourceInfo.getResourceMethod();
+        // sub-resource locators prefix the path of the sub-resource
+        if (method == null || method.getDeclaringClass() != resourceInfo.getResourceClass()
+                || info.getMatchedResources().size() != 1) {
+            return null;
+        }
+        String template = resolvedPathTemplates.get(method);
+        if (template == null) {
+            List<String> parameterTypes = new ArrayList<>();
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                parameterTypes.add(parameterType.getName());
+            }
+            template = pathTemplates.getOrDefault(
+                    getResourceMethodKey(method.getDeclaringClass().getName(), method.getName(), parameterTypes),
+                    NO_PATH_TEMPLATE);
+            resolvedPathTemplates.put(method, template);
+        }
+        return template == NO_PATH_TEMPLATE ? null : template;
+    }
 }
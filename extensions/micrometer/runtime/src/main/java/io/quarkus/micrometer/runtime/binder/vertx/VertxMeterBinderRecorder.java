@@ -1,5 +1,6 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.Map;
 import java.util.function.Consumer;
 
 import org.jboss.logging.Logger;
@@ -30,4 +31,9 @@ public class VertxMeterBinderRecorder {
         VertxMeterBinderAdapter binder = Arc.container().instance(VertxMeterBinderAdapter.class).get();
         binder.setVertxConfig(config);
     }
+
+    /* STATIC_INIT */
+    public void setJaxRsPathTemplates(Map<String, String> pathTemplates) {
+        VertxMeterBinderContainerFilter.setPathTemplates(pathTemplates);
+    }
 }
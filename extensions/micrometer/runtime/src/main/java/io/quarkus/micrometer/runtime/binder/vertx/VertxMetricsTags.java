@@ -117,9 +117,7 @@ public class VertxMetricsTags {
             return;
         }
 
-        String path = "/" + extractPath(uri);
-        path = MULTIPLE_SLASH_PATTERN.matcher(path).replaceAll("/");
-        path = TRAILING_SLASH_PATTERN.matcher(path).replaceAll("");
+        String path = normalizePath(extractPath(uri));
 
         if (path.isEmpty()) {
             path = "/";
@@ -140,6 +138,16 @@ public class VertxMetricsTags {
         requestMetric.measure = true;
     }
 
+    private static String normalizePath(String path) {
+        // most paths are already normalized, avoid the regular expressions for them
+        int length = path.length();
+        if (length > 1 && path.charAt(0) == '/' && path.charAt(length - 1) != '/' && path.indexOf("//") == -1) {
+            return path;
+        }
+        String normalized = MULTIPLE_SLASH_PATTERN.matcher("/" + path).replaceAll("/");
+        return TRAILING_SLASH_PATTERN.matcher(normalized).replaceAll("");
+    }
+
     private static String extractPath(String uri) {
         if (uri.isEmpty()) {
             return uri;
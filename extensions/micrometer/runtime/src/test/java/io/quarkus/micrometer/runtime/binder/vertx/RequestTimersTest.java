@@ -0,0 +1,56 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Test the caching of the request timers
+ */
+public class RequestTimersTest {
+
+    @Test
+    public void testTimersAreCached() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestTimers timers = new RequestTimers(registry, "http.server.requests");
+
+        Timer timer = timers.get("/item/{id}", HttpMethod.GET, 200);
+        Assertions.assertSame(timer, timers.get("/item/{id}", HttpMethod.GET, 200));
+        Assertions.assertNotSame(timer, timers.get("/item/{id}", HttpMethod.GET, 404));
+        Assertions.assertNotSame(timer, timers.get("/item/{id}", HttpMethod.POST, 200));
+        Assertions.assertEquals(1, timers.size());
+
+        Assertions.assertEquals("/item/{id}", timer.getId().getTag("uri"));
+        Assertions.assertEquals("GET", timer.getId().getTag("method"));
+        Assertions.assertEquals("SUCCESS", timer.getId().getTag("outcome"));
+        Assertions.assertEquals("200", timer.getId().getTag("status"));
+        Assertions.assertEquals(3, registry.find("http.server.requests").timers().size());
+    }
+
+    @Test
+    public void testResetRequestTimer() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestTimers timers = new RequestTimers(registry, "http.server.requests");
+
+        Timer timer = timers.get("/item", HttpMethod.GET, RequestTimers.STATUS_RESET);
+        Assertions.assertEquals("CLIENT_ERROR", timer.getId().getTag("outcome"));
+        Assertions.assertEquals("RESET", timer.getId().getTag("status"));
+    }
+
+    @Test
+    public void testCachedPathsAreBounded() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestTimers timers = new RequestTimers(registry, "http.server.requests");
+
+        for (int i = 0; i < RequestTimers.MAX_CACHED_PATHS + 10; i++) {
+            timers.get("/item/" + i, HttpMethod.GET, 200);
+        }
+        Assertions.assertEquals(RequestTimers.MAX_CACHED_PATHS, timers.size());
+        // the timers of the paths that are not cached are still registered
+        Assertions.assertSame(timers.get("/item/" + (RequestTimers.MAX_CACHED_PATHS + 1), HttpMethod.GET, 200),
+                timers.get("/item/" + (RequestTimers.MAX_CACHED_PATHS + 1), HttpMethod.GET, 200));
+    }
+}
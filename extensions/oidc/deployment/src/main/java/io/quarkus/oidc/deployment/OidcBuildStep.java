@@ -24,6 +24,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.EnableAllSecurityServicesBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.oidc.SecurityEvent;
 import io.quarkus.oidc.runtime.DefaultTenantConfigResolver;
 import io.quarkus.oidc.runtime.DefaultTokenStateManager;
@@ -94,12 +95,17 @@ public class OidcBuildStep {
             OidcConfig config,
             OidcRecorder recorder,
             CoreVertxBuildItem vertxBuildItem,
-            TlsConfig tlsConfig) {
-        return SyntheticBeanBuildItem.configure(TenantConfigBean.class).unremovable().types(TenantConfigBean.class)
+            TlsConfig tlsConfig,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        SyntheticBeanBuildItem tenantConfigBean = SyntheticBeanBuildItem.configure(TenantConfigBean.class).unremovable()
+                .types(TenantConfigBean.class)
                 .supplier(recorder.setup(config, vertxBuildItem.getVertx(), tlsConfig))
                 .scope(Singleton.class)
                 .setRuntimeInit()
                 .done();
+        // recorded after the setup, which creates the token cache
+        metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerTokenCacheMetrics()));
+        return tenantConfigBean;
     }
 
     @BuildStep(onlyIf = IsEnabled.class)
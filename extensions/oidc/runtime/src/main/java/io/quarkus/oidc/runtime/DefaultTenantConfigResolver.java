@@ -17,6 +17,7 @@ import io.quarkus.oidc.SecurityEvent;
 import io.quarkus.oidc.TenantConfigResolver;
 import io.quarkus.oidc.TenantResolver;
 import io.quarkus.oidc.TokenStateManager;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.smallrye.mutiny.Uni;
 import io.vertx.ext.web.RoutingContext;
 
@@ -166,4 +167,8 @@ public class DefaultTenantConfigResolver {
     public Executor getBlockingExecutor() {
         return tenantConfigBean.getBlockingExecutor();
     }
+
+    public SecurityIdentityCache getTokenCache() {
+        return tenantConfigBean.getTokenCache();
+    }
 }
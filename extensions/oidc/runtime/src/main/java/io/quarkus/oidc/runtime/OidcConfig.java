@@ -8,6 +8,7 @@ import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.security.runtime.TokenCacheConfig;
 
 @ConfigRoot(name = "oidc", phase = ConfigPhase.RUN_TIME)
 public class OidcConfig {
@@ -25,4 +26,12 @@ public class OidcConfig {
     @ConfigDocMapKey("tenant")
     @ConfigItem(name = ConfigItem.PARENT)
     public Map<String, OidcTenantConfig> namedTenants;
+
+    /**
+     * Cache of the verified bearer tokens, shared by all the tenants.
+     * Opaque tokens are only cached if their introspection returns an {@code exp} claim.
+     */
+    @ConfigDocSection
+    @ConfigItem
+    public TokenCacheConfig tokenCache;
 }
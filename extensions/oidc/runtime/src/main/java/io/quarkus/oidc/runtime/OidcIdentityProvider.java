@@ -10,6 +10,8 @@ import java.util.function.Supplier;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
 import io.quarkus.oidc.AccessTokenCredential;
 import io.quarkus.oidc.IdTokenCredential;
 import io.quarkus.oidc.OidcTenantConfig;
@@ -23,6 +25,7 @@ import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.vertx.core.AsyncResult;
@@ -41,6 +44,7 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     private static final Uni<AccessToken> NULL_CODE_ACCESS_TOKEN_UNI = Uni.createFrom().nullItem();
     private static final Uni<JsonObject> NULL_USER_INFO_UNI = Uni.createFrom().nullItem();
     private static final String CODE_ACCESS_TOKEN_RESULT = "code_flow_access_token_result";
+    private static final String INTROSPECTION_EXPIRES_AT = "introspection_expires_at";
 
     @Inject
     DefaultTenantConfigResolver tenantResolver;
@@ -85,6 +89,49 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     private Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
             RoutingContext vertxContext,
             TenantConfigContext resolvedContext) {
+        SecurityIdentityCache tokenCache = tenantResolver.getTokenCache();
+        if (tokenCache == null || !(request.getToken() instanceof AccessTokenCredential)
+                || isTenantBlocking(resolvedContext)) {
+            return verifyToken(request, vertxContext, resolvedContext);
+        }
+        // bearer access tokens only, the identities of the code flow depend on the session
+        String key = resolvedContext.oidcConfig.tenantId.orElse("Default") + ":" + request.getToken().getToken();
+        SecurityIdentity cachedIdentity = tokenCache.get(key);
+        if (cachedIdentity != null) {
+            return Uni.createFrom().item(copyIdentity(cachedIdentity, request, vertxContext));
+        }
+        return verifyToken(request, vertxContext, resolvedContext).onItem()
+                .invoke(new Consumer<SecurityIdentity>() {
+                    @Override
+                    public void accept(SecurityIdentity identity) {
+                        if (identity.getPrincipal() instanceof JsonWebToken) {
+                            tokenCache.put(key, identity, ((JsonWebToken) identity.getPrincipal()).getExpirationTime());
+                            return;
+                        }
+                        // opaque token, only its introspection tells when it expires
+                        Long expiresAt = vertxContext.get(INTROSPECTION_EXPIRES_AT);
+                        if (expiresAt != null) {
+                            tokenCache.put(key, identity, expiresAt);
+                        }
+                    }
+                });
+    }
+
+    private static SecurityIdentity copyIdentity(SecurityIdentity identity, TokenAuthenticationRequest request,
+            RoutingContext vertxContext) {
+        // the credential and the blocking API attribute belong to the current request
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder()
+                .setPrincipal(identity.getPrincipal())
+                .addRoles(identity.getRoles())
+                .addCredential(request.getToken())
+                .addAttributes(identity.getAttributes());
+        OidcUtils.setBlockinApiAttribute(builder, vertxContext);
+        return builder.build();
+    }
+
+    private Uni<SecurityIdentity> verifyToken(TokenAuthenticationRequest request,
+            RoutingContext vertxContext,
+            TenantConfigContext resolvedContext) {
         if (resolvedContext.oidcConfig.publicKey.isPresent()) {
             return validateTokenWithoutOidcServer(request, resolvedContext);
         } else {
@@ -221,6 +268,9 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
                                     }
                                 });
                             }
+                            if (event.result().principal().getValue("exp") instanceof Number) {
+                                vertxContext.put(INTROSPECTION_EXPIRES_AT, event.result().principal().getLong("exp"));
+                            }
                             if (event.result().principal().containsKey("scope")) {
                                 for (String role : event.result().principal().getString("scope").split(" ")) {
                                     builder.addRole(role.trim());
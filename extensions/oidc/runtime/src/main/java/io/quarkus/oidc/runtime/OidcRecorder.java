@@ -24,6 +24,8 @@ import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.runtime.TlsConfig;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.vertx.core.AsyncResult;
@@ -45,6 +47,9 @@ public class OidcRecorder {
 
     private static final Map<String, TenantConfigContext> dynamicTenantsConfig = new ConcurrentHashMap<>();
 
+    // will be replaced at runtime init, if the token cache is enabled
+    private static volatile SecurityIdentityCache tokenCache;
+
     public Supplier<TenantConfigBean> setup(OidcConfig config, Supplier<Vertx> vertx, TlsConfig tlsConfig) {
         final Vertx vertxValue = vertx.get();
         Map<String, TenantConfigContext> staticTenantsConfig = new HashMap<>();
@@ -64,6 +69,9 @@ public class OidcRecorder {
 
         TenantConfigContext tenantContext = createTenantContext(vertxValue, config.defaultTenant, tlsConfig, "Default");
 
+        SecurityIdentityCache identityCache = SecurityIdentityCache.create(config.tokenCache);
+        tokenCache = identityCache;
+
         return new Supplier<TenantConfigBean>() {
             @Override
             public TenantConfigBean get() {
@@ -92,7 +100,20 @@ public class OidcRecorder {
 
                             }
                         },
-                        ExecutorRecorder.getCurrent());
+                        ExecutorRecorder.getCurrent(),
+                        identityCache);
+            }
+        };
+    }
+
+    public Consumer<MetricsFactory> registerTokenCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                SecurityIdentityCache cache = tokenCache;
+                if (cache != null) {
+                    cache.registerMetrics(metricsFactory, "oidc");
+                }
             }
         };
     }
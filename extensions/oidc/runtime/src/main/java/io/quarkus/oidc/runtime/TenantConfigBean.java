@@ -5,6 +5,7 @@ import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import io.quarkus.oidc.OidcTenantConfig;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.smallrye.mutiny.Uni;
 
 public class TenantConfigBean {
@@ -14,6 +15,7 @@ public class TenantConfigBean {
     private final TenantConfigContext defaultTenant;
     private final Function<OidcTenantConfig, Uni<TenantConfigContext>> tenantConfigContextFactory;
     private final Executor blockingExecutor;
+    private final SecurityIdentityCache tokenCache;
 
     public TenantConfigBean(
             Map<String, TenantConfigContext> staticTenantsConfig,
@@ -21,11 +23,22 @@ public class TenantConfigBean {
             TenantConfigContext defaultTenant,
             Function<OidcTenantConfig, Uni<TenantConfigContext>> tenantConfigContextFactory,
             Executor blockingExecutor) {
+        this(staticTenantsConfig, dynamicTenantsConfig, defaultTenant, tenantConfigContextFactory, blockingExecutor, null);
+    }
+
+    public TenantConfigBean(
+            Map<String, TenantConfigContext> staticTenantsConfig,
+            Map<String, TenantConfigContext> dynamicTenantsConfig,
+            TenantConfigContext defaultTenant,
+            Function<OidcTenantConfig, Uni<TenantConfigContext>> tenantConfigContextFactory,
+            Executor blockingExecutor,
+            SecurityIdentityCache tokenCache) {
         this.staticTenantsConfig = staticTenantsConfig;
         this.dynamicTenantsConfig = dynamicTenantsConfig;
         this.defaultTenant = defaultTenant;
         this.tenantConfigContextFactory = tenantConfigContextFactory;
         this.blockingExecutor = blockingExecutor;
+        this.tokenCache = tokenCache;
     }
 
     public Map<String, TenantConfigContext> getStaticTenantsConfig() {
@@ -47,4 +60,11 @@ public class TenantConfigBean {
     public Executor getBlockingExecutor() {
         return blockingExecutor;
     }
+
+    /**
+     * @return the cache of the verified bearer tokens, or {@code null} if it is not enabled
+     */
+    public SecurityIdentityCache getTokenCache() {
+        return tokenCache;
+    }
 }
@@ -20,6 +20,7 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.hibernate.orm.deployment.JpaEntitiesBuildItem;
 import io.quarkus.hibernate.orm.panache.common.runtime.PanacheHibernateRecorder;
@@ -53,6 +54,14 @@ public final class PanacheJpaCommonResourceProcessor {
         panacheHibernateRecorder.setNamedQueryMap(namedQueryMap);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void clearCountCacheOnShutdown(ShutdownContextBuildItem shutdownContext,
+            PanacheHibernateRecorder panacheHibernateRecorder) {
+        // the shared counts must not outlive the application, e.g. across dev mode restarts
+        panacheHibernateRecorder.clearCountCacheOnShutdown(shutdownContext);
+    }
+
     private void lookupNamedQueries(CombinedIndexBuildItem index, DotName name, Set<String> namedQueries) {
         ClassInfo classInfo = index.getIndex().getClassByName(name);
         if (classInfo == null) {
@@ -303,7 +303,7 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
 
     public long count(Class<?> entityClass) {
         return (long) getEntityManager(entityClass)
-                .createQuery("SELECT COUNT(*) FROM " + PanacheJpaUtil.getEntityName(entityClass))
+                .createQuery(PanacheJpaUtil.createCountQuery(entityClass, null, 0))
                 .getSingleResult();
     }
 
@@ -342,7 +342,7 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     }
 
     public long deleteAll(Class<?> entityClass) {
-        return getEntityManager(entityClass).createQuery("DELETE FROM " + PanacheJpaUtil.getEntityName(entityClass))
+        return getEntityManager(entityClass).createQuery(PanacheJpaUtil.createDeleteQuery(entityClass, null, 0))
                 .executeUpdate();
     }
 
@@ -2,6 +2,7 @@ package io.quarkus.hibernate.orm.panache.common.runtime;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,10 +18,13 @@ import javax.persistence.Query;
 import org.hibernate.Filter;
 import org.hibernate.Session;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.jpa.AvailableSettings;
 
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.impl.CountCache;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public class CommonPanacheQueryImpl<Entity> {
@@ -36,6 +40,8 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     };
 
+    private static final String KEYSET_PARAMETER_PREFIX = "panacheKeyset";
+
     private Object paramsArrayOrMap;
     private String query;
     protected String countQuery;
@@ -47,6 +53,10 @@ public class CommonPanacheQueryImpl<Entity> {
 
     private Range range;
 
+    private Keyset keyset;
+
+    private Duration countTimeToLive;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
@@ -68,6 +78,8 @@ public class CommonPanacheQueryImpl<Entity> {
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keyset = previousQuery.keyset;
+        this.countTimeToLive = previousQuery.countTimeToLive;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
@@ -115,6 +127,7 @@ public class CommonPanacheQueryImpl<Entity> {
     public void page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        this.keyset = null;
     }
 
     public void page(int pageIndex, int pageSize) {
@@ -179,6 +192,29 @@ public class CommonPanacheQueryImpl<Entity> {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        this.keyset = null;
+    }
+
+    public void keyset(Keyset keyset) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Unable to use keyset pagination on a named query");
+        }
+        this.keyset = keyset;
+        // reset the page and the range to be able to switch from them to keyset
+        this.page = null;
+        this.range = null;
+    }
+
+    public Keyset keyset() {
+        if (keyset == null) {
+            throw new UnsupportedOperationException("Cannot call a keyset related method, " +
+                    "call keyset(Keyset) to initiate keyset pagination first");
+        }
+        return keyset;
+    }
+
+    public void cacheCount(Duration timeToLive) {
+        this.countTimeToLive = timeToLive;
     }
 
     public void withLock(LockModeType lockModeType) {
@@ -203,7 +239,17 @@ public class CommonPanacheQueryImpl<Entity> {
                 selectQuery = q.getQueryString();
             }
 
-            Query countQuery = em.createQuery(countQuery(selectQuery));
+            String countQueryString = countQuery(selectQuery);
+            Object cacheKey = null;
+            if (countTimeToLive != null) {
+                cacheKey = countCacheKey(countQueryString);
+                count = CountCache.get(cacheKey);
+                if (count != null) {
+                    return count;
+                }
+            }
+
+            Query countQuery = em.createQuery(countQueryString);
             if (paramsArrayOrMap instanceof Map)
                 AbstractJpaOperations.bindParameters(countQuery, (Map<String, Object>) paramsArrayOrMap);
             else
@@ -211,10 +257,19 @@ public class CommonPanacheQueryImpl<Entity> {
             try (NonThrowingCloseable c = applyFilters()) {
                 count = (Long) countQuery.getSingleResult();
             }
+            if (cacheKey != null) {
+                CountCache.put(cacheKey, count, countTimeToLive);
+            }
         }
         return count;
     }
 
+    private Object countCacheKey(String countQueryString) {
+        // the persistence unit name is used rather than the factory so that the cache does not keep the factory alive
+        Object persistenceUnitName = em.getEntityManagerFactory().getProperties().get(AvailableSettings.PERSISTENCE_UNIT_NAME);
+        return CountCache.key(persistenceUnitName, countQueryString, paramsArrayOrMap, filters);
+    }
+
     private String countQuery(String selectQuery) {
         if (countQuery != null) {
             return countQuery;
@@ -280,6 +335,9 @@ public class CommonPanacheQueryImpl<Entity> {
             jpaQuery.setFirstResult(range.getStartIndex());
             // range is 0 based, so we add 1
             jpaQuery.setMaxResults(range.getLastIndex() - range.getStartIndex() + 1);
+        } else if (keyset != null) {
+            jpaQuery.setFirstResult(0);
+            jpaQuery.setMaxResults(keyset.size);
         } else if (page != null) {
             jpaQuery.setFirstResult(page.index * page.size);
             jpaQuery.setMaxResults(page.size);
@@ -299,6 +357,9 @@ public class CommonPanacheQueryImpl<Entity> {
 
         if (range != null) {
             jpaQuery.setFirstResult(range.getStartIndex());
+        } else if (keyset != null) {
+            jpaQuery.setFirstResult(0);
+            maxResults = Math.min(maxResults, keyset.size);
         } else if (page != null) {
             jpaQuery.setFirstResult(page.index * page.size);
         } else {
@@ -318,6 +379,8 @@ public class CommonPanacheQueryImpl<Entity> {
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             jpaQuery = em.createNamedQuery(namedQuery);
+        } else if (keyset != null) {
+            jpaQuery = em.createQuery(keysetQuery());
         } else {
             jpaQuery = em.createQuery(orderBy != null ? query + orderBy : query);
         }
@@ -327,6 +390,9 @@ public class CommonPanacheQueryImpl<Entity> {
         } else {
             AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
         }
+        if (keyset != null) {
+            bindKeysetParameters(jpaQuery);
+        }
 
         if (this.lockModeType != null) {
             jpaQuery.setLockMode(lockModeType);
@@ -340,6 +406,37 @@ public class CommonPanacheQueryImpl<Entity> {
         return jpaQuery;
     }
 
+    private String keysetQuery() {
+        return PanacheJpaUtil.createKeysetQuery(query, keyset.sort, keyset.isFirst() ? null : keysetParameterNames());
+    }
+
+    private String[] keysetParameterNames() {
+        String[] names = new String[keyset.sort.getColumns().size()];
+        for (int i = 0; i < names.length; i++) {
+            if (paramsArrayOrMap instanceof Map) {
+                names[i] = ":" + KEYSET_PARAMETER_PREFIX + i;
+            } else {
+                names[i] = "?" + (keysetParameterOffset() + i + 1);
+            }
+        }
+        return names;
+    }
+
+    private int keysetParameterOffset() {
+        return paramsArrayOrMap == null ? 0 : ((Object[]) paramsArrayOrMap).length;
+    }
+
+    private void bindKeysetParameters(Query jpaQuery) {
+        Object[] lastValues = keyset.getLastValues();
+        for (int i = 0; i < lastValues.length; i++) {
+            if (paramsArrayOrMap instanceof Map) {
+                jpaQuery.setParameter(KEYSET_PARAMETER_PREFIX + i, lastValues[i]);
+            } else {
+                jpaQuery.setParameter(keysetParameterOffset() + i + 1, lastValues[i]);
+            }
+        }
+    }
+
     private NonThrowingCloseable applyFilters() {
         if (filters == null)
             return NO_FILTERS;
@@ -3,6 +3,8 @@ package io.quarkus.hibernate.orm.panache.common.runtime;
 import java.util.Map;
 import java.util.Set;
 
+import io.quarkus.panache.common.impl.CountCache;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -10,4 +12,7 @@ public class PanacheHibernateRecorder {
     public void setNamedQueryMap(Map<String, Set<String>> namedQueryMap) {
         NamedQueryUtil.setNamedQueryMap(namedQueryMap);
     }
+    public void clearCountCacheOnShutdown(ShutdownContext shutdownContext) {
+        shutdownContext.addShutdownTask(CountCache::clear);
+    }
 }
@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.panache.kotlin.runtime;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +13,7 @@ import org.jetbrains.annotations.NotNull;
 
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
 import io.quarkus.hibernate.orm.panache.kotlin.PanacheQuery;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 
@@ -105,6 +107,26 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return this;
     }
 
+    @NotNull
+    @Override
+    public PanacheQuery<Entity> keyset(@NotNull Keyset keyset) {
+        delegate.keyset(keyset);
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public Keyset keyset() {
+        return delegate.keyset();
+    }
+
+    @NotNull
+    @Override
+    public PanacheQuery<Entity> cacheCount(@NotNull Duration timeToLive) {
+        delegate.cacheCount(timeToLive);
+        return this;
+    }
+
     @NotNull
     @Override
     public PanacheQuery<Entity> withLock(@NotNull LockModeType lockModeType) {
@@ -1,10 +1,12 @@
 package io.quarkus.hibernate.orm.panache.kotlin
 
+import io.quarkus.panache.common.Keyset
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
 import org.hibernate.Session
 import org.hibernate.annotations.Filter
 import org.hibernate.annotations.FilterDef
+import java.time.Duration
 import java.util.stream.Stream
 import javax.persistence.LockModeType
 import javax.persistence.NonUniqueResultException
@@ -131,6 +133,36 @@ interface PanacheQuery<Entity: Any> {
      */
     fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity>
 
+    /**
+     * Switch the query to use keyset (seek) pagination instead of a page or a range: the query is ordered by the
+     * keyset sort, and only the results following the last seen values of the keyset are read. Unlike
+     * [PanacheQuery.page], the cost of reading a page does not depend on its position. This is not supported for named
+     * queries, and the query must not define its own ordering.
+     *
+     * @param keyset the keyset
+     * @return this query, modified
+     * @see [Keyset.after]
+     */
+    fun keyset(keyset: Keyset): PanacheQuery<Entity>
+
+    /**
+     * Returns the current keyset.
+     *
+     * @return the current keyset
+     * @throws UnsupportedOperationException if a keyset hasn't been set
+     * @see [PanacheQuery.keyset]
+     */
+    fun keyset(): Keyset
+
+    /**
+     * Shares the result of [PanacheQuery.count] with the other queries that have the same count query, parameters and
+     * filters, for the given time. This avoids a count query per page at the cost of a possibly outdated count.
+     *
+     * @param timeToLive how long the count is shared
+     * @return this query, modified
+     */
+    fun cacheCount(timeToLive: Duration): PanacheQuery<Entity>
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -130,6 +130,7 @@ public final class PanacheHibernateResourceProcessor {
                 JavaJpaTypeBundle.BUNDLE);
         Set<String> panacheEntities = new HashSet<>();
         Set<String> daoClasses = new HashSet<>();
+        Map<String, String> queryOwners = new HashMap<>();
         for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE)) {
             // Skip PanacheRepository
             if (classInfo.name().equals(DOTNAME_PANACHE_REPOSITORY))
@@ -140,6 +141,7 @@ public final class PanacheHibernateResourceProcessor {
                     .resolveTypeParameters(classInfo.name(), DOTNAME_PANACHE_REPOSITORY_BASE, index.getIndex());
             panacheEntities.add(typeParameters.get(0).name().toString());
             daoClasses.add(classInfo.name().toString());
+            queryOwners.put(classInfo.name().toString().replace('.', '/'), typeParameters.get(0).name().toString());
         }
         for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY)) {
             if (daoEnhancer.skipRepository(classInfo))
@@ -148,6 +150,7 @@ public final class PanacheHibernateResourceProcessor {
                     .resolveTypeParameters(classInfo.name(), DOTNAME_PANACHE_REPOSITORY, index.getIndex());
             panacheEntities.add(typeParameters.get(0).name().toString());
             daoClasses.add(classInfo.name().toString());
+            queryOwners.put(classInfo.name().toString().replace('.', '/'), typeParameters.get(0).name().toString());
         }
         for (String daoClass : daoClasses) {
             transformers.produce(new BytecodeTransformerBuildItem(daoClass, daoEnhancer));
@@ -162,6 +165,7 @@ public final class PanacheHibernateResourceProcessor {
             modelClasses.add(entityClassName);
             modelEnhancer.collectFields(entityClass.get());
             modelClassNamesInternal.add(entityClassName.replace(".", "/"));
+            queryOwners.put(entityClassName.replace('.', '/'), entityClassName);
             transformers.produce(new BytecodeTransformerBuildItem(true, entityClassName, modelEnhancer));
         }
 
@@ -205,6 +209,28 @@ public final class PanacheHibernateResourceProcessor {
         panacheEntities.addAll(modelClasses);
 
         recordPanacheEntityPersistenceUnits(recorder, jpaModelPersistenceUnitMapping, panacheEntities);
+        recordPrecompiledQueries(recorder, applicationArchivesBuildItem, queryOwners);
+    }
+
+    void recordPrecompiledQueries(PanacheHibernateOrmRecorder recorder,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem, Map<String, String> queryOwners) {
+        if (queryOwners.isEmpty()) {
+            return;
+        }
+        // expand the query literals at build time so that we fail early on invalid queries and the runtime
+        // does not need to build the same strings over and over again
+        PanacheQueryCallSiteScanner scanner = new PanacheQueryCallSiteScanner(queryOwners);
+        for (ClassInfo classInfo : applicationArchivesBuildItem.getRootArchive().getIndex().getKnownClasses()) {
+            scanner.scan(classInfo.name().toString());
+        }
+        if (!scanner.getErrors().isEmpty()) {
+            StringBuilder message = new StringBuilder("Invalid Panache queries:\n");
+            for (String error : scanner.getErrors()) {
+                message.append("\t- ").append(error).append("\n");
+            }
+            throw new IllegalStateException(message.toString());
+        }
+        recorder.setPrecompiledQueries(scanner.getQueries());
     }
 
     @BuildStep
@@ -0,0 +1,236 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.QueryException;
+import org.hibernate.hql.internal.ast.HqlParser;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import io.quarkus.gizmo.Gizmo;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+
+import antlr.RecognitionException;
+import antlr.TokenStreamException;
+
+/**
+ * Finds the string literals passed as queries to the Panache entities and repositories, expands them and checks their
+ * syntax.
+ */
+final class PanacheQueryCallSiteScanner {
+
+    private static final String OBJECT_ARRAY_DESCRIPTOR = "[Ljava/lang/Object;";
+
+    // name + descriptor of the query methods of the entities and repositories -> query kind
+    private static final Map<String, Integer> QUERY_METHODS = new HashMap<>();
+
+    static {
+        Map<String, Integer> queryKinds = new HashMap<>();
+        queryKinds.put("find", PanacheJpaUtil.FIND_QUERY);
+        queryKinds.put("list", PanacheJpaUtil.FIND_QUERY);
+        queryKinds.put("stream", PanacheJpaUtil.FIND_QUERY);
+        queryKinds.put("count", PanacheJpaUtil.COUNT_QUERY);
+        queryKinds.put("delete", PanacheJpaUtil.DELETE_QUERY);
+        queryKinds.put("update", PanacheJpaUtil.UPDATE_QUERY);
+        // only the methods declared by Panache take a query, e.g. find(String, Object...), other methods with the same
+        // name may have been added by the application
+        for (Class<?> declaringClass : new Class<?>[] { PanacheEntityBase.class, PanacheRepositoryBase.class }) {
+            for (Method method : declaringClass.getDeclaredMethods()) {
+                Integer queryKind = queryKinds.get(method.getName());
+                if (queryKind != null && method.getParameterCount() > 0 && method.getParameterTypes()[0] == String.class) {
+                    QUERY_METHODS.put(method.getName() + Type.getMethodDescriptor(method), queryKind);
+                }
+            }
+        }
+    }
+
+    // internal name of the entity or repository -> entity class name
+    private final Map<String, String> queryOwners;
+    // entity class name -> query -> expansions
+    private final Map<String, Map<String, String[]>> queries = new HashMap<>();
+    private final List<String> errors = new ArrayList<>();
+
+    PanacheQueryCallSiteScanner(Map<String, String> queryOwners) {
+        this.queryOwners = queryOwners;
+        for (String entityClassName : queryOwners.values()) {
+            // count() and deleteAll()
+            addQuery(entityClassName, "", PanacheJpaUtil.COUNT_QUERY, 0, null);
+            addQuery(entityClassName, "", PanacheJpaUtil.DELETE_QUERY, 0, null);
+        }
+    }
+
+    void scan(String className) {
+        ClassNode classNode = new ClassNode(Gizmo.ASM_API_VERSION);
+        try (InputStream in = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (in == null) {
+                return;
+            }
+            new ClassReader(in).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read class " + className, e);
+        }
+        for (MethodNode method : classNode.methods) {
+            if (hasQueryCall(method)) {
+                scan(classNode, method);
+            }
+        }
+    }
+
+    Map<String, Map<String, String[]>> getQueries() {
+        return queries;
+    }
+
+    List<String> getErrors() {
+        return errors;
+    }
+
+    private boolean hasQueryCall(MethodNode method) {
+        for (AbstractInsnNode insn = method.instructions.getFirst(); insn != null; insn = insn.getNext()) {
+            if (getQueryKind(insn) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Integer getQueryKind(AbstractInsnNode insn) {
+        if (!(insn instanceof MethodInsnNode)) {
+            return null;
+        }
+        MethodInsnNode call = (MethodInsnNode) insn;
+        if (!queryOwners.containsKey(call.owner)) {
+            return null;
+        }
+        return QUERY_METHODS.get(call.name + call.desc);
+    }
+
+    private void scan(ClassNode classNode, MethodNode method) {
+        Frame<SourceValue>[] frames;
+        try {
+            frames = new Analyzer<>(new SourceInterpreter()).analyze(classNode.name, method);
+        } catch (AnalyzerException e) {
+            // not our business, the method will fail verification anyway
+            return;
+        }
+        for (int i = 0; i < method.instructions.size(); i++) {
+            AbstractInsnNode insn = method.instructions.get(i);
+            Integer queryKind = getQueryKind(insn);
+            Frame<SourceValue> frame = frames[i];
+            if (queryKind == null || frame == null) {
+                continue;
+            }
+            MethodInsnNode call = (MethodInsnNode) insn;
+            Type[] argumentTypes = Type.getArgumentTypes(call.desc);
+            int firstArgument = frame.getStackSize() - argumentTypes.length;
+            String query = getStringConstant(frame.getStack(firstArgument));
+            if (query == null) {
+                continue;
+            }
+            // the parameters are either an array, a Map or Parameters
+            Integer paramCount = null;
+            if (argumentTypes[argumentTypes.length - 1].getDescriptor().equals(OBJECT_ARRAY_DESCRIPTOR)) {
+                paramCount = getArrayLength(frame.getStack(frame.getStackSize() - 1));
+            }
+            addQuery(queryOwners.get(call.owner), query, queryKind, paramCount,
+                    classNode.name.replace('/', '.') + "#" + method.name);
+        }
+    }
+
+    private void addQuery(String entityClassName, String query, int queryKind, Integer paramCount, String callSite) {
+        String[] expanded = queries.computeIfAbsent(entityClassName, k -> new HashMap<>())
+                .computeIfAbsent(query, k -> new String[8]);
+        // the expansion only depends on whether there is a single parameter
+        for (int count = 0; count < 2; count++) {
+            String expandedQuery;
+            try {
+                expandedQuery = expand(entityClassName, query, queryKind, count);
+            } catch (PanacheQueryException e) {
+                errors.add(e.getMessage() + " in " + callSite);
+                return;
+            }
+            expanded[PanacheJpaUtil.getPrecompiledQueryIndex(queryKind, count)] = expandedQuery;
+            if (paramCount != null && (paramCount == 1) == (count == 1) && !PanacheJpaUtil.isNamedQuery(query)) {
+                validate(expandedQuery, callSite);
+            }
+        }
+    }
+
+    private static String expand(String entityClassName, String query, int queryKind, int paramCount) {
+        switch (queryKind) {
+            case PanacheJpaUtil.FIND_QUERY:
+                return PanacheJpaUtil.createFindQuery(entityClassName, query, paramCount);
+            case PanacheJpaUtil.COUNT_QUERY:
+                return PanacheJpaUtil.createCountQuery(entityClassName, query, paramCount);
+            case PanacheJpaUtil.DELETE_QUERY:
+                return PanacheJpaUtil.createDeleteQuery(entityClassName, query, paramCount);
+            case PanacheJpaUtil.UPDATE_QUERY:
+                return PanacheJpaUtil.createUpdateQuery(entityClassName, query, paramCount);
+            default:
+                throw new IllegalArgumentException("Unknown query kind: " + queryKind);
+        }
+    }
+
+    private void validate(String query, String callSite) {
+        try {
+            HqlParser parser = HqlParser.getInstance(query);
+            parser.statement();
+            parser.getParseErrorHandler().throwQueryException();
+        } catch (RecognitionException | TokenStreamException | QueryException e) {
+            errors.add("Invalid query '" + query + "' in " + callSite + ": " + e.getMessage());
+        }
+    }
+
+    private static String getStringConstant(SourceValue value) {
+        if (value.insns.size() != 1) {
+            return null;
+        }
+        AbstractInsnNode insn = value.insns.iterator().next();
+        if (insn instanceof LdcInsnNode && ((LdcInsnNode) insn).cst instanceof String) {
+            return (String) ((LdcInsnNode) insn).cst;
+        }
+        return null;
+    }
+
+    private static Integer getArrayLength(SourceValue value) {
+        if (value.insns.size() != 1) {
+            return null;
+        }
+        AbstractInsnNode insn = value.insns.iterator().next();
+        if (insn.getOpcode() != Opcodes.ANEWARRAY) {
+            return null;
+        }
+        AbstractInsnNode length = insn.getPrevious();
+        if (length instanceof InsnNode && length.getOpcode() >= Opcodes.ICONST_0
+                && length.getOpcode() <= Opcodes.ICONST_5) {
+            return length.getOpcode() - Opcodes.ICONST_0;
+        }
+        if (length instanceof IntInsnNode
+                && (length.getOpcode() == Opcodes.BIPUSH || length.getOpcode() == Opcodes.SIPUSH)) {
+            return ((IntInsnNode) length).operand;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,143 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+
+public class PanacheQueryCallSiteScannerTest {
+
+    private static final String ENTITY = ScannedEntity.class.getName();
+
+    @Test
+    public void testScan() {
+        PanacheQueryCallSiteScanner scanner = createScanner();
+        scanner.scan(QueryCalls.class.getName());
+        assertEquals(Collections.emptyList(), scanner.getErrors());
+
+        Map<String, String[]> queries = scanner.getQueries().get(ENTITY);
+        assertEquals("FROM " + ENTITY + " WHERE name = ?1",
+                queries.get("name")[PanacheJpaUtil.getPrecompiledQueryIndex(PanacheJpaUtil.FIND_QUERY, 1)]);
+        assertEquals("DELETE FROM " + ENTITY + " WHERE name = ?1",
+                queries.get("name")[PanacheJpaUtil.getPrecompiledQueryIndex(PanacheJpaUtil.DELETE_QUERY, 1)]);
+        assertEquals("SELECT COUNT(*) FROM " + ENTITY + " WHERE name = ?1 and id = ?2",
+                queries.get("name = ?1 and id = ?2")[PanacheJpaUtil.getPrecompiledQueryIndex(PanacheJpaUtil.COUNT_QUERY,
+                        2)]);
+        assertEquals("UPDATE FROM " + ENTITY + " SET name = 'stef'",
+                queries.get("name = 'stef'")[PanacheJpaUtil.getPrecompiledQueryIndex(PanacheJpaUtil.UPDATE_QUERY, 0)]);
+        // repository calls
+        assertEquals("FROM " + ENTITY + " WHERE name like ?1",
+                queries.get("name like ?1")[PanacheJpaUtil.getPrecompiledQueryIndex(PanacheJpaUtil.FIND_QUERY, 1)]);
+        assertEquals("FROM " + ENTITY + " WHERE name = :name",
+                queries.get("name = :name")[PanacheJpaUtil.getPrecompiledQueryIndex(PanacheJpaUtil.FIND_QUERY, 0)]);
+        // count() and deleteAll()
+        assertEquals("SELECT COUNT(*) FROM " + ENTITY,
+                queries.get("")[PanacheJpaUtil.getPrecompiledQueryIndex(PanacheJpaUtil.COUNT_QUERY, 0)]);
+    }
+
+    @Test
+    public void testApplicationMethodsIgnored() {
+        PanacheQueryCallSiteScanner scanner = createScanner();
+        scanner.scan(ApplicationCalls.class.getName());
+        // the arguments of the methods declared by the application are not queries
+        assertEquals(Collections.emptyList(), scanner.getErrors());
+        Map<String, String[]> queries = scanner.getQueries().get(ENTITY);
+        assertFalse(queries.containsKey("Stef Epardaud"));
+        assertFalse(queries.containsKey("Stef"));
+        assertFalse(queries.containsKey("Epardaud"));
+        // only the defaults
+        assertEquals(1, queries.size());
+    }
+
+    @Test
+    public void testInvalidQuery() {
+        PanacheQueryCallSiteScanner scanner = createScanner();
+        scanner.scan(InvalidQueryCalls.class.getName());
+        List<String> errors = scanner.getErrors();
+        assertEquals(2, errors.size(), errors.toString());
+        assertTrue(errors.get(0).startsWith("Invalid query 'FROM " + ENTITY + " WHERE name = = ?1' in "
+                + InvalidQueryCalls.class.getName() + "#find"), errors.get(0));
+        assertTrue(errors.get(1).startsWith("Query string cannot be empty in " + InvalidQueryCalls.class.getName()
+                + "#update"), errors.get(1));
+    }
+
+    private static PanacheQueryCallSiteScanner createScanner() {
+        Map<String, String> queryOwners = new HashMap<>();
+        queryOwners.put(ScannedEntity.class.getName().replace('.', '/'), ENTITY);
+        queryOwners.put(ScannedRepository.class.getName().replace('.', '/'), ENTITY);
+        return new PanacheQueryCallSiteScanner(queryOwners);
+    }
+
+    public static class ScannedEntity extends PanacheEntity {
+
+        public String name;
+
+        // not a Panache query method
+        public static List<ScannedEntity> find(String name) {
+            return list("name", name);
+        }
+
+        // not a Panache query method
+        public static long count(String firstName, String lastName) {
+            return count("name = :name", Parameters.with("name", firstName + " " + lastName));
+        }
+    }
+
+    public static class ScannedRepository implements PanacheRepository<ScannedEntity> {
+
+        // not a Panache query method
+        public List<ScannedEntity> list(String name) {
+            return list("name", name);
+        }
+    }
+
+    // the methods are only scanned, never invoked
+    static class QueryCalls {
+
+        void entityCalls() {
+            ScannedEntity.find("name", "stef");
+            ScannedEntity.delete("name", "stef");
+            ScannedEntity.count("name = ?1 and id = ?2", "stef", 1L);
+            ScannedEntity.update("name = 'stef'");
+        }
+
+        void repositoryCalls(ScannedRepository repository, String query) {
+            repository.list("name like ?1", Sort.by("name"), "stef%");
+            repository.stream("name = :name", Parameters.with("name", "stef"));
+            // not a constant
+            repository.find(query, "stef");
+        }
+    }
+
+    static class ApplicationCalls {
+
+        void calls(ScannedRepository repository) {
+            ScannedEntity.find("Stef Epardaud");
+            ScannedEntity.count("Stef", "Epardaud");
+            repository.list("Stef Epardaud");
+        }
+    }
+
+    static class InvalidQueryCalls {
+
+        void find() {
+            ScannedEntity.find("name = = ?1", "stef");
+        }
+
+        void update() {
+            ScannedEntity.update(" ");
+        }
+    }
+}
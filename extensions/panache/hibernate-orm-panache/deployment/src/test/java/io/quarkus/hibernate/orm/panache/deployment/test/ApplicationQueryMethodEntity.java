@@ -0,0 +1,22 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import java.util.List;
+
+import javax.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class ApplicationQueryMethodEntity extends PanacheEntity {
+
+    public String name;
+
+    // not a Panache query method, the argument is not a query
+    public static List<ApplicationQueryMethodEntity> find(String name) {
+        return list("name", name);
+    }
+
+    public static List<ApplicationQueryMethodEntity> findStef() {
+        return find("Stef Epardaud");
+    }
+}
@@ -0,0 +1,47 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ApplicationQueryMethodTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("application.properties")
+                    .addClasses(ApplicationQueryMethodEntity.class, EntityService.class));
+
+    @Inject
+    EntityService service;
+
+    @Test
+    public void testApplicationMethodNotValidated() {
+        // the build succeeds even though "Stef Epardaud" is not a valid query
+        assertEquals(1, service.findStef().size());
+    }
+
+    @ApplicationScoped
+    public static class EntityService {
+
+        @Transactional
+        public List<ApplicationQueryMethodEntity> findStef() {
+            ApplicationQueryMethodEntity entity = new ApplicationQueryMethodEntity();
+            entity.name = "Stef Epardaud";
+            entity.persist();
+            return ApplicationQueryMethodEntity.findStef();
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import java.util.List;
+
+import javax.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class InvalidQueryEntity extends PanacheEntity {
+
+    public String name;
+
+    public static List<InvalidQueryEntity> findByName(String name) {
+        return list("name = = ?1", name);
+    }
+}
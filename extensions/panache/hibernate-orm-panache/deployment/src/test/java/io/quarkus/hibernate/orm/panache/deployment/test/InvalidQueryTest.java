@@ -0,0 +1,38 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InvalidQueryTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .assertException(t -> {
+                Throwable i = t;
+                while (i != null) {
+                    if (i.getMessage() != null && i.getMessage().contains("Invalid query 'FROM "
+                            + InvalidQueryEntity.class.getName() + " WHERE name = = ?1' in "
+                            + InvalidQueryEntity.class.getName() + "#findByName")) {
+                        return;
+                    }
+                    i = i.getCause();
+                }
+                fail("The build should have failed with an invalid query error, but got " + t);
+            })
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("application.properties")
+                    .addClasses(InvalidQueryEntity.class));
+
+    @Test
+    void shouldThrow() {
+        fail("The build should have failed due to an invalid query");
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.panache;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,6 +13,7 @@ import javax.persistence.NonUniqueResultException;
 import org.hibernate.Session;
 import org.hibernate.annotations.FilterDef;
 
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 
@@ -147,6 +149,36 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to use keyset (seek) pagination instead of a page or a range: the query is ordered by the
+     * keyset sort, and only the results following the last seen values of the keyset are read. Unlike
+     * {@link #page(Page)}, the cost of reading a page does not depend on its position. This is not supported for named
+     * queries, and the query must not define its own ordering.
+     *
+     * @param keyset the keyset
+     * @return this query, modified
+     * @see Keyset#after(Object...)
+     */
+    public <T extends Entity> PanacheQuery<T> keyset(Keyset keyset);
+
+    /**
+     * Returns the current keyset.
+     *
+     * @return the current keyset
+     * @throws UnsupportedOperationException if a keyset hasn't been set
+     * @see #keyset(Keyset)
+     */
+    public Keyset keyset();
+
+    /**
+     * Shares the result of {@link #count()} with the other queries that have the same count query, parameters and
+     * filters, for the given time. This avoids a count query per page at the cost of a possibly outdated count.
+     *
+     * @param timeToLive how long the count is shared
+     * @return this query, modified
+     */
+    public <T extends Entity> PanacheQuery<T> cacheCount(Duration timeToLive);
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -3,6 +3,7 @@ package io.quarkus.hibernate.orm.panache.runtime;
 import java.util.Map;
 
 import io.quarkus.hibernate.orm.panache.common.runtime.AbstractJpaOperations;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -10,4 +11,8 @@ public class PanacheHibernateOrmRecorder {
     public void setEntityToPersistenceUnit(Map<String, String> entityToPersistenceUnit) {
         AbstractJpaOperations.setEntityToPersistenceUnit(entityToPersistenceUnit);
     }
+
+    public void setPrecompiledQueries(Map<String, Map<String, String[]>> precompiledQueries) {
+        PanacheJpaUtil.setPrecompiledQueries(precompiledQueries);
+    }
 }
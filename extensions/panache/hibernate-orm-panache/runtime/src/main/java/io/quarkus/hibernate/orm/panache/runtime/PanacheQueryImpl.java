@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.panache.runtime;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +12,7 @@ import javax.persistence.LockModeType;
 
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 
@@ -102,6 +104,25 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> keyset(Keyset keyset) {
+        delegate.keyset(keyset);
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public Keyset keyset() {
+        return delegate.keyset();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> cacheCount(Duration timeToLive) {
+        delegate.cacheCount(timeToLive);
+        return (PanacheQuery<T>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> withLock(LockModeType lockModeType) {
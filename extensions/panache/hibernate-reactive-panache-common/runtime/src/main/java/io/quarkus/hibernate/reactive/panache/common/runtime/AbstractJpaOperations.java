@@ -246,7 +246,7 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public Uni<Long> count(Class<?> entityClass) {
-        return (Uni) getSession().createQuery("SELECT COUNT(*) FROM " + PanacheJpaUtil.getEntityName(entityClass))
+        return (Uni) getSession().createQuery(PanacheJpaUtil.createCountQuery(entityClass, null, 0))
                 .getSingleResult();
     }
 
@@ -285,7 +285,7 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     }
 
     public Uni<Long> deleteAll(Class<?> entityClass) {
-        return getSession().createQuery("DELETE FROM " + PanacheJpaUtil.getEntityName(entityClass)).executeUpdate()
+        return getSession().createQuery(PanacheJpaUtil.createDeleteQuery(entityClass, null, 0)).executeUpdate()
                 .map(i -> i.longValue());
     }
 
@@ -2,6 +2,7 @@ package io.quarkus.hibernate.reactive.panache.common.runtime;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,15 +16,20 @@ import org.hibernate.Filter;
 import org.hibernate.internal.util.LockModeConverter;
 import org.hibernate.reactive.mutiny.Mutiny;
 
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.impl.CountCache;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 public class CommonPanacheQueryImpl<Entity> {
 
+    private static final String KEYSET_PARAMETER_PREFIX = "panacheKeyset";
+
     private Object paramsArrayOrMap;
     private String query;
     protected String countQuery;
@@ -35,6 +41,10 @@ public class CommonPanacheQueryImpl<Entity> {
 
     private Range range;
 
+    private Keyset keyset;
+
+    private Duration countTimeToLive;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
@@ -56,6 +66,8 @@ public class CommonPanacheQueryImpl<Entity> {
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keyset = previousQuery.keyset;
+        this.countTimeToLive = previousQuery.countTimeToLive;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
@@ -103,6 +115,7 @@ public class CommonPanacheQueryImpl<Entity> {
     public void page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        this.keyset = null;
     }
 
     public void page(int pageIndex, int pageSize) {
@@ -172,6 +185,29 @@ public class CommonPanacheQueryImpl<Entity> {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        this.keyset = null;
+    }
+
+    public void keyset(Keyset keyset) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Unable to use keyset pagination on a named query");
+        }
+        this.keyset = keyset;
+        // reset the page and the range to be able to switch from them to keyset
+        this.page = null;
+        this.range = null;
+    }
+
+    public Keyset keyset() {
+        if (keyset == null) {
+            throw new UnsupportedOperationException("Cannot call a keyset related method, " +
+                    "call keyset(Keyset) to initiate keyset pagination first");
+        }
+        return keyset;
+    }
+
+    public void cacheCount(Duration timeToLive) {
+        this.countTimeToLive = timeToLive;
     }
 
     public void withLock(LockModeType lockModeType) {
@@ -195,17 +231,36 @@ public class CommonPanacheQueryImpl<Entity> {
         }
 
         if (count == null) {
-            Mutiny.Query<Long> countQuery = em.createQuery(countQuery());
+            String countQueryString = countQuery();
+            Object cacheKey = null;
+            if (countTimeToLive != null) {
+                cacheKey = countCacheKey(countQueryString);
+                Long cachedCount = CountCache.get(cacheKey);
+                if (cachedCount != null) {
+                    count = Uni.createFrom().item(cachedCount);
+                    return count;
+                }
+            }
+            Mutiny.Query<Long> countQuery = em.createQuery(countQueryString);
             if (paramsArrayOrMap instanceof Map)
                 AbstractJpaOperations.bindParameters(countQuery, (Map<String, Object>) paramsArrayOrMap);
             else
                 AbstractJpaOperations.bindParameters(countQuery, (Object[]) paramsArrayOrMap);
             // FIXME: question about caching the result here
             count = applyFilters(em, () -> countQuery.getSingleResult());
+            if (cacheKey != null) {
+                Object key = cacheKey;
+                count = count.onItem().invoke(result -> CountCache.put(key, result, countTimeToLive));
+            }
         }
         return count;
     }
 
+    private Object countCacheKey(String countQueryString) {
+        // Hibernate Reactive only supports the default persistence unit
+        return CountCache.key(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME, countQueryString, paramsArrayOrMap, filters);
+    }
+
     private String countQuery() {
         if (countQuery != null) {
             return countQuery;
@@ -250,6 +305,9 @@ public class CommonPanacheQueryImpl<Entity> {
             jpaQuery.setFirstResult(range.getStartIndex());
             // range is 0 based, so we add 1
             jpaQuery.setMaxResults(range.getLastIndex() - range.getStartIndex() + 1);
+        } else if (keyset != null) {
+            jpaQuery.setFirstResult(0);
+            jpaQuery.setMaxResults(keyset.size);
         } else if (page != null) {
             jpaQuery.setFirstResult(page.index * page.size);
             jpaQuery.setMaxResults(page.size);
@@ -274,6 +332,9 @@ public class CommonPanacheQueryImpl<Entity> {
 
         if (range != null) {
             jpaQuery.setFirstResult(range.getStartIndex());
+        } else if (keyset != null) {
+            jpaQuery.setFirstResult(0);
+            maxResults = Math.min(maxResults, keyset.size);
         } else if (page != null) {
             jpaQuery.setFirstResult(page.index * page.size);
         } else {
@@ -295,6 +356,8 @@ public class CommonPanacheQueryImpl<Entity> {
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             jpaQuery = em.createNamedQuery(namedQuery);
+        } else if (keyset != null) {
+            jpaQuery = em.createQuery(keysetQuery());
         } else {
             jpaQuery = em.createQuery(orderBy != null ? query + orderBy : query);
         }
@@ -304,6 +367,9 @@ public class CommonPanacheQueryImpl<Entity> {
         } else {
             AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
         }
+        if (keyset != null) {
+            bindKeysetParameters(jpaQuery);
+        }
 
         if (this.lockModeType != null) {
             jpaQuery.setLockMode(LockModeConverter.convertToLockMode(lockModeType));
@@ -318,6 +384,37 @@ public class CommonPanacheQueryImpl<Entity> {
         return jpaQuery;
     }
 
+    private String keysetQuery() {
+        return PanacheJpaUtil.createKeysetQuery(query, keyset.sort, keyset.isFirst() ? null : keysetParameterNames());
+    }
+
+    private String[] keysetParameterNames() {
+        String[] names = new String[keyset.sort.getColumns().size()];
+        for (int i = 0; i < names.length; i++) {
+            if (paramsArrayOrMap instanceof Map) {
+                names[i] = ":" + KEYSET_PARAMETER_PREFIX + i;
+            } else {
+                names[i] = "?" + (keysetParameterOffset() + i + 1);
+            }
+        }
+        return names;
+    }
+
+    private int keysetParameterOffset() {
+        return paramsArrayOrMap == null ? 0 : ((Object[]) paramsArrayOrMap).length;
+    }
+
+    private void bindKeysetParameters(Mutiny.Query<?> jpaQuery) {
+        Object[] lastValues = keyset.getLastValues();
+        for (int i = 0; i < lastValues.length; i++) {
+            if (paramsArrayOrMap instanceof Map) {
+                jpaQuery.setParameter(KEYSET_PARAMETER_PREFIX + i, lastValues[i]);
+            } else {
+                jpaQuery.setParameter(keysetParameterOffset() + i + 1, lastValues[i]);
+            }
+        }
+    }
+
     private <T> Uni<T> applyFilters(Mutiny.Session em, Supplier<Uni<T>> uni) {
         if (filters == null)
             return uni.get();
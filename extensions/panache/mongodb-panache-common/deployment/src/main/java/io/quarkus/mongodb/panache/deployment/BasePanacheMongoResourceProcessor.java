@@ -37,6 +37,7 @@ import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.jackson.spi.JacksonModuleBuildItem;
@@ -114,6 +115,13 @@ public abstract class BasePanacheMongoResourceProcessor {
         recorder.setReplacementCache(replacementMap);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    protected void clearCountCacheOnShutdown(ShutdownContextBuildItem shutdownContext, PanacheMongoRecorder recorder) {
+        // the shared counts must not outlive the application, e.g. across dev mode restarts
+        recorder.clearCountCacheOnShutdown(shutdownContext);
+    }
+
     private Map<String, String> computeReplacement(ClassInfo classInfo) {
         Map<String, String> replacementMap = new HashMap<>();
         for (FieldInfo field : classInfo.fields()) {
@@ -3,6 +3,8 @@ package io.quarkus.mongodb.panache;
 import java.util.Map;
 
 import io.quarkus.mongodb.panache.runtime.MongoPropertyUtil;
+import io.quarkus.panache.common.impl.CountCache;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -10,4 +12,7 @@ public class PanacheMongoRecorder {
     public void setReplacementCache(Map<String, Map<String, String>> replacementMap) {
         MongoPropertyUtil.setReplacementCache(replacementMap);
     }
+    public void clearCountCacheOnShutdown(ShutdownContext shutdownContext) {
+        shutdownContext.addShutdownTask(CountCache::clear);
+    }
 }
@@ -2,9 +2,11 @@ package io.quarkus.mongodb.panache.binder;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.bson.Document;
 
 import io.quarkus.mongodb.panache.runtime.MongoPropertyUtil;
 import io.quarkus.panacheql.internal.HqlLexer;
@@ -13,6 +15,11 @@ import io.quarkus.panacheql.internal.HqlParserBaseVisitor;
 
 public class PanacheQlQueryBinder {
 
+    // queries built by concatenating their values would grow the cache forever, we stop caching at some point
+    private static final int MAX_TEMPLATES_PER_CLASS = 512;
+
+    private static final Map<String, Map<String, PanacheQlQueryTemplate>> TEMPLATES = new ConcurrentHashMap<>();
+
     public static String bindQuery(Class<?> clazz, String query, Object[] params) {
         Map<String, String> replacementMap = MongoPropertyUtil.getReplacementMap(clazz);
 
@@ -43,6 +50,51 @@ public class PanacheQlQueryBinder {
         return prepareQuery(query, replacementMap, parameterMaps);
     }
 
+    /**
+     * Binds the query directly into a document, the query is compiled once per entity class.
+     */
+    public static Document bindDocument(Class<?> clazz, String query, Object[] params) {
+        //shorthand query
+        if (params.length == 1 && query.indexOf('?') == -1) {
+            Map<String, String> replacementMap = MongoPropertyUtil.getReplacementMap(clazz);
+            return new Document(replaceField(query, replacementMap), PanacheQlQueryTemplate.toValue(params[0]));
+        }
+
+        //classic query
+        PanacheQlQueryTemplate template = getTemplate(clazz, query);
+        if (!template.isCompiled()) {
+            return Document.parse(bindQuery(clazz, query, params));
+        }
+        return template.bind(params);
+    }
+
+    /**
+     * Binds the query directly into a document, the query is compiled once per entity class.
+     */
+    public static Document bindDocument(Class<?> clazz, String query, Map<String, Object> params) {
+        PanacheQlQueryTemplate template = getTemplate(clazz, query);
+        if (!template.isCompiled()) {
+            return Document.parse(bindQuery(clazz, query, params));
+        }
+        return template.bind(params);
+    }
+
+    private static PanacheQlQueryTemplate getTemplate(Class<?> clazz, String query) {
+        Map<String, String> replacementMap = MongoPropertyUtil.getReplacementMap(clazz);
+        Map<String, PanacheQlQueryTemplate> templates = TEMPLATES.computeIfAbsent(clazz.getName(),
+                c -> new ConcurrentHashMap<>());
+        PanacheQlQueryTemplate template = templates.get(query);
+        // the replacement maps are replaced at augmentation phase, the templates built before are stale
+        if (template != null && template.getReplacementMap() == replacementMap) {
+            return template;
+        }
+        PanacheQlQueryTemplate compiled = PanacheQlQueryTemplate.compile(query, replacementMap);
+        if (template != null || templates.size() < MAX_TEMPLATES_PER_CLASS) {
+            templates.put(query, compiled);
+        }
+        return compiled;
+    }
+
     private static String replaceField(String field, Map<String, String> replacementMap) {
         return replacementMap.getOrDefault(field, field);
     }
@@ -0,0 +1,411 @@
+package io.quarkus.mongodb.panache.binder;
+
+import java.lang.reflect.Array;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.bson.BsonBinary;
+import org.bson.BsonRegularExpression;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panacheql.internal.HqlLexer;
+import io.quarkus.panacheql.internal.HqlParser;
+
+/**
+ * A PanacheQL query compiled into a tree that binds its parameters directly into a {@link Document}.
+ * <p>
+ * It produces the same document as {@link MongoParserVisitor} followed by {@link Document#parse(String)} for the
+ * predicates it supports, see {@link #compile(String, Map)}.
+ */
+final class PanacheQlQueryTemplate {
+
+    private final String query;
+    private final Map<String, String> replacementMap;
+    private final Predicate predicate;
+
+    private PanacheQlQueryTemplate(String query, Map<String, String> replacementMap, Predicate predicate) {
+        this.query = query;
+        this.replacementMap = replacementMap;
+        this.predicate = predicate;
+    }
+
+    /**
+     * @return the compiled query, if the query uses a predicate not supported by the template its {@link #isCompiled()}
+     *         method returns {@code false} and it must be bound with {@link MongoParserVisitor}
+     */
+    static PanacheQlQueryTemplate compile(String query, Map<String, String> replacementMap) {
+        HqlLexer lexer = new HqlLexer(CharStreams.fromString(query));
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        HqlParser parser = new HqlParser(tokens);
+        HqlParser.PredicateContext predicate = parser.predicate();
+        if (parser.getNumberOfSyntaxErrors() > 0) {
+            return new PanacheQlQueryTemplate(query, replacementMap, null);
+        }
+        try {
+            return new PanacheQlQueryTemplate(query, replacementMap,
+                    new Compiler(query, replacementMap).predicate(predicate));
+        } catch (UnsupportedPredicateException e) {
+            return new PanacheQlQueryTemplate(query, replacementMap, null);
+        }
+    }
+
+    boolean isCompiled() {
+        return predicate != null;
+    }
+
+    Map<String, String> getReplacementMap() {
+        return replacementMap;
+    }
+
+    Document bind(Object[] params) {
+        Document document = new Document();
+        predicate.bind(document, params, null);
+        return document;
+    }
+
+    Document bind(Map<String, Object> params) {
+        Document document = new Document();
+        predicate.bind(document, null, params);
+        return document;
+    }
+
+    /**
+     * Converts a parameter value the way {@link CommonQueryBinder#escape(Object)} followed by
+     * {@link Document#parse(String)} does, without the JSON round-trip for the common types.
+     */
+    static Object toValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Integer
+                || value instanceof Long || value instanceof Double || value instanceof ObjectId) {
+            return value;
+        }
+        if (value.getClass().isArray() || value instanceof Collection) {
+            return toList(value);
+        }
+        if (value.getClass().isEnum()) {
+            return ((Enum<?>) value).name();
+        }
+        if (value instanceof Date) {
+            return new Date(((Date) value).getTime());
+        }
+        if (value instanceof LocalDate) {
+            return Date.from(((LocalDate) value).atStartOfDay(ZoneOffset.UTC).toInstant());
+        }
+        if (value instanceof LocalDateTime) {
+            return Date.from(((LocalDateTime) value).atZone(ZoneOffset.UTC).toInstant());
+        }
+        if (value instanceof Instant) {
+            return Date.from((Instant) value);
+        }
+        if (value instanceof UUID) {
+            return new BsonBinary((UUID) value);
+        }
+        if (value instanceof Number) {
+            return parseValue(value.toString());
+        }
+        return value.toString();
+    }
+
+    private static List<Object> toList(Object value) {
+        List<Object> list = new ArrayList<>();
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                list.add(toValue(Array.get(value, i)));
+            }
+        } else {
+            for (Object element : (Collection<?>) value) {
+                list.add(toValue(element));
+            }
+        }
+        return list;
+    }
+
+    private static Object parseValue(String json) {
+        return Document.parse("{'v':" + json + "}").get("v");
+    }
+
+    private static final class Compiler {
+
+        private final String query;
+        private final Map<String, String> replacementMap;
+
+        Compiler(String query, Map<String, String> replacementMap) {
+            this.query = query;
+            this.replacementMap = replacementMap;
+        }
+
+        Predicate predicate(HqlParser.PredicateContext ctx) {
+            if (ctx instanceof HqlParser.AndPredicateContext) {
+                List<Predicate> predicates = new ArrayList<>();
+                for (HqlParser.PredicateContext predicate : ((HqlParser.AndPredicateContext) ctx).predicate()) {
+                    predicates.add(predicate(predicate));
+                }
+                return new AndPredicate(predicates);
+            }
+            if (ctx instanceof HqlParser.OrPredicateContext) {
+                List<Predicate> predicates = new ArrayList<>();
+                for (HqlParser.PredicateContext predicate : ((HqlParser.OrPredicateContext) ctx).predicate()) {
+                    predicates.add(predicate(predicate));
+                }
+                return new OrPredicate(predicates);
+            }
+            if (ctx instanceof HqlParser.EqualityPredicateContext) {
+                HqlParser.EqualityPredicateContext equality = (HqlParser.EqualityPredicateContext) ctx;
+                return new FieldPredicate(field(equality.expression(0)), null, value(equality.expression(1)));
+            }
+            if (ctx instanceof HqlParser.InequalityPredicateContext) {
+                HqlParser.InequalityPredicateContext inequality = (HqlParser.InequalityPredicateContext) ctx;
+                return new FieldPredicate(field(inequality.expression(0)), "$ne", value(inequality.expression(1)));
+            }
+            if (ctx instanceof HqlParser.LessThanOrEqualPredicateContext) {
+                HqlParser.LessThanOrEqualPredicateContext lte = (HqlParser.LessThanOrEqualPredicateContext) ctx;
+                return new FieldPredicate(field(lte.expression(0)), "$lte", value(lte.expression(1)));
+            }
+            if (ctx instanceof HqlParser.LessThanPredicateContext) {
+                HqlParser.LessThanPredicateContext lt = (HqlParser.LessThanPredicateContext) ctx;
+                return new FieldPredicate(field(lt.expression(0)), "$lt", value(lt.expression(1)));
+            }
+            if (ctx instanceof HqlParser.GreaterThanOrEqualPredicateContext) {
+                HqlParser.GreaterThanOrEqualPredicateContext gte = (HqlParser.GreaterThanOrEqualPredicateContext) ctx;
+                return new FieldPredicate(field(gte.expression(0)), "$gte", value(gte.expression(1)));
+            }
+            if (ctx instanceof HqlParser.GreaterThanPredicateContext) {
+                HqlParser.GreaterThanPredicateContext gt = (HqlParser.GreaterThanPredicateContext) ctx;
+                return new FieldPredicate(field(gt.expression(0)), "$gt", value(gt.expression(1)));
+            }
+            if (ctx instanceof HqlParser.IsNullPredicateContext) {
+                HqlParser.IsNullPredicateContext isNull = (HqlParser.IsNullPredicateContext) ctx;
+                return new FieldPredicate(field(isNull.expression()), "$exists", new ConstantValue(isNull.NOT() != null));
+            }
+            if (ctx instanceof HqlParser.LikePredicateContext) {
+                HqlParser.LikePredicateContext like = (HqlParser.LikePredicateContext) ctx;
+                if (like.NOT() != null || like.likeEscape() != null) {
+                    throw new UnsupportedPredicateException();
+                }
+                return new FieldPredicate(field(like.expression(0)), "$regex", likeValue(like.expression(1)));
+            }
+            if (ctx instanceof HqlParser.InPredicateContext) {
+                HqlParser.InPredicateContext in = (HqlParser.InPredicateContext) ctx;
+                if (in.NOT() != null || !(in.inList() instanceof HqlParser.SubQueryInListContext)) {
+                    throw new UnsupportedPredicateException();
+                }
+                return new FieldPredicate(field(in.expression()), "$in",
+                        inValue(((HqlParser.SubQueryInListContext) in.inList()).expression()));
+            }
+            throw new UnsupportedPredicateException();
+        }
+
+        private String field(HqlParser.ExpressionContext ctx) {
+            if (!(ctx instanceof HqlParser.PathExpressionContext)) {
+                throw new UnsupportedPredicateException();
+            }
+            return replacementMap.getOrDefault(ctx.getText(), ctx.getText());
+        }
+
+        private Value value(HqlParser.ExpressionContext ctx) {
+            if (ctx instanceof HqlParser.ParameterExpressionContext) {
+                return new ParameterValue(query, ctx.getText(), ParameterValue.VALUE);
+            }
+            return new ConstantValue(parseValue(constant(ctx)));
+        }
+
+        private Value likeValue(HqlParser.ExpressionContext ctx) {
+            if (ctx instanceof HqlParser.ParameterExpressionContext) {
+                return new ParameterValue(query, ctx.getText(), ParameterValue.LIKE);
+            }
+            String constant = constant(ctx);
+            if (constant.indexOf('/') == 1 && constant.lastIndexOf('/') > 1) {
+                // a JavaScript regex, see MongoParserVisitor.visitLikePredicate()
+                constant = constant.substring(1, constant.length() - 1);
+            }
+            return new ConstantValue(parseValue(constant));
+        }
+
+        private Value inValue(HqlParser.ExpressionContext ctx) {
+            if (ctx instanceof HqlParser.ParameterExpressionContext) {
+                return new ParameterValue(query, ctx.getText(), ParameterValue.IN);
+            }
+            return new ConstantValue(parseValue("[" + constant(ctx) + "]"));
+        }
+
+        private String constant(HqlParser.ExpressionContext ctx) {
+            if (ctx instanceof HqlParser.LiteralExpressionContext) {
+                return CommonQueryBinder.escape(ctx.getText());
+            }
+            if (ctx instanceof HqlParser.PathExpressionContext) {
+                return "'" + replacementMap.getOrDefault(ctx.getText(), ctx.getText()) + "'";
+            }
+            throw new UnsupportedPredicateException();
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class UnsupportedPredicateException extends RuntimeException {
+
+        UnsupportedPredicateException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private abstract static class Predicate {
+
+        abstract void bind(Document target, Object[] indexedParams, Map<String, Object> namedParams);
+    }
+
+    private static final class AndPredicate extends Predicate {
+
+        private final List<Predicate> predicates;
+
+        AndPredicate(List<Predicate> predicates) {
+            this.predicates = predicates;
+        }
+
+        @Override
+        void bind(Document target, Object[] indexedParams, Map<String, Object> namedParams) {
+            for (Predicate predicate : predicates) {
+                predicate.bind(target, indexedParams, namedParams);
+            }
+        }
+    }
+
+    private static final class OrPredicate extends Predicate {
+
+        private final List<Predicate> predicates;
+
+        OrPredicate(List<Predicate> predicates) {
+            this.predicates = predicates;
+        }
+
+        @Override
+        void bind(Document target, Object[] indexedParams, Map<String, Object> namedParams) {
+            List<Document> documents = new ArrayList<>(predicates.size());
+            for (Predicate predicate : predicates) {
+                Document document = new Document();
+                predicate.bind(document, indexedParams, namedParams);
+                documents.add(document);
+            }
+            target.put("$or", documents);
+        }
+    }
+
+    private static final class FieldPredicate extends Predicate {
+
+        private final String field;
+        private final String operator;
+        private final Value value;
+
+        FieldPredicate(String field, String operator, Value value) {
+            this.field = field;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        @Override
+        void bind(Document target, Object[] indexedParams, Map<String, Object> namedParams) {
+            Object bound = value.bind(indexedParams, namedParams);
+            target.put(field, operator == null ? bound : new Document(operator, bound));
+        }
+    }
+
+    private abstract static class Value {
+
+        abstract Object bind(Object[] indexedParams, Map<String, Object> namedParams);
+    }
+
+    private static final class ConstantValue extends Value {
+
+        private final Object value;
+
+        ConstantValue(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        Object bind(Object[] indexedParams, Map<String, Object> namedParams) {
+            // the bound document is handed over to the caller so we don't share the mutable values
+            if (value instanceof List) {
+                return new ArrayList<>((List<?>) value);
+            }
+            if (value instanceof Date) {
+                return new Date(((Date) value).getTime());
+            }
+            return value;
+        }
+    }
+
+    private static final class ParameterValue extends Value {
+
+        static final int VALUE = 0;
+        static final int LIKE = 1;
+        static final int IN = 2;
+
+        private final String query;
+        private final String parameter;
+        private final int index;
+        private final String name;
+        private final int kind;
+
+        ParameterValue(String query, String parameter, int kind) {
+            this.query = query;
+            this.parameter = parameter;
+            this.kind = kind;
+            int index = -1;
+            String name = null;
+            if (parameter.startsWith("?")) {
+                try {
+                    index = Integer.parseInt(parameter.substring(1));
+                } catch (NumberFormatException e) {
+                    // will fail at binding time
+                }
+            } else {
+                name = parameter.substring(1);
+            }
+            this.index = index;
+            this.name = name;
+        }
+
+        @Override
+        Object bind(Object[] indexedParams, Map<String, Object> namedParams) {
+            Object value;
+            if (indexedParams != null && index > 0 && index <= indexedParams.length) {
+                value = indexedParams[index - 1];
+            } else if (namedParams != null && name != null && namedParams.containsKey(name)) {
+                value = namedParams.get(name);
+            } else {
+                throw new PanacheQueryException("No value bound for parameter " + parameter + " of query: " + query);
+            }
+            switch (kind) {
+                case LIKE:
+                    if (value instanceof String) {
+                        String regex = (String) value;
+                        int end = regex.lastIndexOf('/');
+                        if (regex.startsWith("/") && end > 0) {
+                            // a JavaScript regex, see MongoParserVisitor.visitLikePredicate()
+                            return new BsonRegularExpression(regex.substring(1, end), regex.substring(end + 1));
+                        }
+                    }
+                    return toValue(value);
+                case IN:
+                    if (value != null && (value.getClass().isArray() || value instanceof Collection)) {
+                        return toList(value);
+                    }
+                    return new ArrayList<>(Collections.singletonList(toValue(value)));
+                default:
+                    return toValue(value);
+            }
+        }
+    }
+}
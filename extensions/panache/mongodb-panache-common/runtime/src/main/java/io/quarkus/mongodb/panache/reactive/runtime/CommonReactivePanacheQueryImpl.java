@@ -1,20 +1,25 @@
 package io.quarkus.mongodb.panache.reactive.runtime;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 
 import com.mongodb.client.model.Collation;
 
 import io.quarkus.mongodb.FindOptions;
+import io.quarkus.mongodb.panache.runtime.MongoKeysetUtil;
 import io.quarkus.mongodb.panache.runtime.MongoPropertyUtil;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.impl.CountCache;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -29,6 +34,10 @@ public class CommonReactivePanacheQueryImpl<Entity> {
 
     private Range range;
 
+    private Keyset keyset;
+
+    private Duration countTimeToLive;
+
     private Collation collation;
 
     public CommonReactivePanacheQueryImpl(ReactiveMongoCollection<? extends Entity> collection, Bson mongoQuery, Bson sort) {
@@ -45,6 +54,8 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keyset = previousQuery.keyset;
+        this.countTimeToLive = previousQuery.countTimeToLive;
         this.collation = previousQuery.collation;
     }
 
@@ -67,6 +78,7 @@ public class CommonReactivePanacheQueryImpl<Entity> {
     public <T extends Entity> CommonReactivePanacheQueryImpl<T> page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        this.keyset = null;
         return (CommonReactivePanacheQueryImpl<T>) this;
     }
 
@@ -135,6 +147,30 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        this.keyset = null;
+        return (CommonReactivePanacheQueryImpl<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CommonReactivePanacheQueryImpl<T> keyset(Keyset keyset) {
+        this.keyset = keyset;
+        // reset the page and the range to be able to switch from them to keyset
+        this.page = null;
+        this.range = null;
+        return (CommonReactivePanacheQueryImpl<T>) this;
+    }
+
+    public Keyset keyset() {
+        if (keyset == null) {
+            throw new UnsupportedOperationException("Cannot call a keyset related method, " +
+                    "call keyset(Keyset) to initiate keyset pagination first");
+        }
+        return keyset;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CommonReactivePanacheQueryImpl<T> cacheCount(Duration timeToLive) {
+        this.countTimeToLive = timeToLive;
         return (CommonReactivePanacheQueryImpl<T>) this;
     }
 
@@ -148,11 +184,29 @@ public class CommonReactivePanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     public Uni<Long> count() {
         if (count == null) {
-            count = collection.countDocuments(mongoQuery);
+            if (countTimeToLive != null) {
+                Object cacheKey = countCacheKey();
+                Long cachedCount = CountCache.get(cacheKey);
+                if (cachedCount != null) {
+                    count = Uni.createFrom().item(cachedCount);
+                } else {
+                    Uni<Long> countDocuments = collection.countDocuments(mongoQuery);
+                    count = countDocuments.onItem().invoke(result -> CountCache.put(cacheKey, result, countTimeToLive));
+                }
+            } else {
+                count = collection.countDocuments(mongoQuery);
+            }
         }
         return count;
     }
 
+    private Object countCacheKey() {
+        // the query is rendered as JSON so that the key is not affected by later changes of the query document
+        String query = mongoQuery == null ? null
+                : mongoQuery.toBsonDocument(BsonDocument.class, collection.getCodecRegistry()).toJson();
+        return CountCache.key(collection.getNamespace(), query);
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Entity> Uni<List<T>> list() {
         Multi<T> results = stream();
@@ -162,7 +216,7 @@ public class CommonReactivePanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     public <T extends Entity> Multi<T> stream() {
         FindOptions options = buildOptions();
-        return mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        return find(options);
     }
 
     public <T extends Entity> Uni<T> firstResult() {
@@ -172,14 +226,14 @@ public class CommonReactivePanacheQueryImpl<Entity> {
 
     public <T extends Entity> Uni<Optional<T>> firstResultOptional() {
         FindOptions options = buildOptions(1);
-        Multi<T> results = mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        Multi<T> results = find(options);
         return results.collectItems().first().map(o -> Optional.ofNullable(o));
     }
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> Uni<T> singleResult() {
         FindOptions options = buildOptions(2);
-        Multi<T> results = mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        Multi<T> results = find(options);
         return results.collectItems().asList().map(list -> {
             if (list.size() != 1) {
                 throw new PanacheQueryException("There should be only one result");
@@ -191,7 +245,7 @@ public class CommonReactivePanacheQueryImpl<Entity> {
 
     public <T extends Entity> Uni<Optional<T>> singleResultOptional() {
         FindOptions options = buildOptions(2);
-        Multi<T> results = mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        Multi<T> results = find(options);
         return results.collectItems().asList().map(list -> {
             if (list.size() == 2) {
                 throw new PanacheQueryException("There should be no more than one result");
@@ -200,12 +254,20 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         });
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> Multi<T> find(FindOptions options) {
+        Bson query = keyset != null ? MongoKeysetUtil.keysetQuery(mongoQuery, keyset) : mongoQuery;
+        return query == null ? collection.find(options) : collection.find(query, options);
+    }
+
     private FindOptions buildOptions() {
         FindOptions options = new FindOptions();
-        options.sort(sort);
+        options.sort(keyset != null ? MongoKeysetUtil.keysetSort(keyset) : sort);
         if (range != null) {
             // range is 0 based, so we add 1 to the limit
             options.skip(range.getStartIndex()).limit(range.getLastIndex() - range.getStartIndex() + 1);
+        } else if (keyset != null) {
+            options.limit(keyset.size);
         } else if (page != null) {
             options.skip(page.index * page.size).limit(page.size);
         }
@@ -220,10 +282,12 @@ public class CommonReactivePanacheQueryImpl<Entity> {
 
     private FindOptions buildOptions(int maxResults) {
         FindOptions options = new FindOptions();
-        options.sort(sort);
+        options.sort(keyset != null ? MongoKeysetUtil.keysetSort(keyset) : sort);
         if (range != null) {
             // range is 0 based, so we add 1 to the limit
             options.skip(range.getStartIndex());
+        } else if (keyset != null) {
+            maxResults = Math.min(maxResults, keyset.size);
         } else if (page != null) {
             options.skip(page.index * page.size);
         }
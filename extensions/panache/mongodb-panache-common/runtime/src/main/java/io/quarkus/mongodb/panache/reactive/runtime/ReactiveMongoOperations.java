@@ -339,8 +339,7 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
 
     @SuppressWarnings("rawtypes")
     public QueryType find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return createQuery(collection, docQuery, docSort);
@@ -394,6 +393,68 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
         return bindUpdate;
     }
 
+    /**
+     * Same as {@link #bindFilter(Class, String, Object[])} but binds PanacheQL queries directly into a document.
+     */
+    public Document bindFilterDocument(Class<?> clazz, String query, Object[] params) {
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            return Document.parse(bindFilter(clazz, query, params));
+        }
+        //this is a PanacheQL query
+        Document bindQuery = PanacheQlQueryBinder.bindDocument(clazz, query, params);
+        LOGGER.debug(bindQuery);
+        return bindQuery;
+    }
+
+    /**
+     * Same as {@link #bindFilter(Class, String, Map)} but binds PanacheQL queries directly into a document.
+     */
+    public Document bindFilterDocument(Class<?> clazz, String query, Map<String, Object> params) {
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            return Document.parse(bindFilter(clazz, query, params));
+        }
+        //this is a PanacheQL query
+        Document bindQuery = PanacheQlQueryBinder.bindDocument(clazz, query, params);
+        LOGGER.debug(bindQuery);
+        return bindQuery;
+    }
+
+    /**
+     * Same as {@link #bindUpdate(Class, String, Object[])} but binds PanacheQL queries directly into a document.
+     */
+    Document bindUpdateDocument(Class<?> clazz, String query, Object[] params) {
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            return Document.parse(bindUpdate(clazz, query, params));
+        }
+        //this is a PanacheQL query
+        Document bindUpdate = PanacheQlQueryBinder.bindDocument(clazz, query, params);
+        if (!bindUpdate.containsKey("$set")) {
+            bindUpdate = new Document("$set", bindUpdate);
+        }
+        LOGGER.debug(bindUpdate);
+        return bindUpdate;
+    }
+
+    /**
+     * Same as {@link #bindUpdate(Class, String, Map)} but binds PanacheQL queries directly into a document.
+     */
+    Document bindUpdateDocument(Class<?> clazz, String query, Map<String, Object> params) {
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            return Document.parse(bindUpdate(clazz, query, params));
+        }
+        //this is a PanacheQL query
+        Document bindUpdate = PanacheQlQueryBinder.bindDocument(clazz, query, params);
+        if (!bindUpdate.containsKey("$set")) {
+            bindUpdate = new Document("$set", bindUpdate);
+        }
+        LOGGER.debug(bindUpdate);
+        return bindUpdate;
+    }
+
     String bindQuery(Class<?> clazz, String query, Object[] params) {
         String bindQuery = null;
 
@@ -430,8 +491,7 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
 
     @SuppressWarnings("rawtypes")
     public QueryType find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return createQuery(collection, docQuery, docSort);
@@ -576,15 +636,13 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     }
 
     public Uni<Long> count(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
 
     public Uni<Long> count(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
@@ -611,15 +669,13 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     }
 
     public Uni<Long> delete(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         ReactiveMongoCollection<?> collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).map(deleteResult -> deleteResult.getDeletedCount());
     }
 
     public Uni<Long> delete(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         ReactiveMongoCollection<?> collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).map(deleteResult -> deleteResult.getDeletedCount());
     }
@@ -647,15 +703,13 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     }
 
     private UpdateType executeUpdate(Class<?> entityClass, String update, Object... params) {
-        String bindUpdate = bindUpdate(entityClass, update, params);
-        Document docUpdate = Document.parse(bindUpdate);
+        Document docUpdate = bindUpdateDocument(entityClass, update, params);
         ReactiveMongoCollection<?> collection = mongoCollection(entityClass);
         return createUpdate(collection, entityClass, docUpdate);
     }
 
     private UpdateType executeUpdate(Class<?> entityClass, String update, Map<String, Object> params) {
-        String bindUpdate = bindUpdate(entityClass, update, params);
-        Document docUpdate = Document.parse(bindUpdate);
+        Document docUpdate = bindUpdateDocument(entityClass, update, params);
         ReactiveMongoCollection<?> collection = mongoCollection(entityClass);
         return createUpdate(collection, entityClass, docUpdate);
     }
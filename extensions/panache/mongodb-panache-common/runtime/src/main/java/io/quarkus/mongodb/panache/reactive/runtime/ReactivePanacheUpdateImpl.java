@@ -3,6 +3,7 @@ package io.quarkus.mongodb.panache.reactive.runtime;
 import java.util.Map;
 
 import org.bson.BsonDocument;
+import org.bson.Document;
 import org.bson.conversions.Bson;
 
 import io.quarkus.mongodb.panache.reactive.ReactivePanacheUpdate;
@@ -27,15 +28,13 @@ public class ReactivePanacheUpdateImpl implements ReactivePanacheUpdate {
 
     @Override
     public Uni<Long> where(String query, Object... params) {
-        String bindQuery = operations.bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = operations.bindFilterDocument(entityClass, query, params);
         return collection.updateMany(docQuery, update).map(result -> result.getModifiedCount());
     }
 
     @Override
     public Uni<Long> where(String query, Map<String, Object> params) {
-        String bindQuery = operations.bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = operations.bindFilterDocument(entityClass, query, params);
         return collection.updateMany(docQuery, update).map(result -> result.getModifiedCount());
     }
 
@@ -1,11 +1,13 @@
 package io.quarkus.mongodb.panache.runtime;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 
@@ -14,9 +16,11 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Collation;
 
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.impl.CountCache;
 
 public class CommonPanacheQueryImpl<Entity> {
     private MongoCollection collection;
@@ -29,6 +33,10 @@ public class CommonPanacheQueryImpl<Entity> {
 
     private Range range;
 
+    private Keyset keyset;
+
+    private Duration countTimeToLive;
+
     private Collation collation;
 
     public CommonPanacheQueryImpl(MongoCollection<? extends Entity> collection, Bson mongoQuery, Bson sort) {
@@ -45,6 +53,8 @@ public class CommonPanacheQueryImpl<Entity> {
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keyset = previousQuery.keyset;
+        this.countTimeToLive = previousQuery.countTimeToLive;
         this.collation = previousQuery.collation;
     }
 
@@ -65,6 +75,7 @@ public class CommonPanacheQueryImpl<Entity> {
     public <T extends Entity> CommonPanacheQueryImpl<T> page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        this.keyset = null;
         return (CommonPanacheQueryImpl<T>) this;
     }
 
@@ -131,6 +142,30 @@ public class CommonPanacheQueryImpl<Entity> {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        this.keyset = null;
+        return (CommonPanacheQueryImpl<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CommonPanacheQueryImpl<T> keyset(Keyset keyset) {
+        this.keyset = keyset;
+        // reset the page and the range to be able to switch from them to keyset
+        this.page = null;
+        this.range = null;
+        return (CommonPanacheQueryImpl<T>) this;
+    }
+
+    public Keyset keyset() {
+        if (keyset == null) {
+            throw new UnsupportedOperationException("Cannot call a keyset related method, " +
+                    "call keyset(Keyset) to initiate keyset pagination first");
+        }
+        return keyset;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CommonPanacheQueryImpl<T> cacheCount(Duration timeToLive) {
+        this.countTimeToLive = timeToLive;
         return (CommonPanacheQueryImpl<T>) this;
     }
 
@@ -144,11 +179,27 @@ public class CommonPanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     public long count() {
         if (count == null) {
-            count = collection.countDocuments(mongoQuery);
+            if (countTimeToLive != null) {
+                Object cacheKey = countCacheKey();
+                count = CountCache.get(cacheKey);
+                if (count == null) {
+                    count = collection.countDocuments(mongoQuery);
+                    CountCache.put(cacheKey, count, countTimeToLive);
+                }
+            } else {
+                count = collection.countDocuments(mongoQuery);
+            }
         }
         return count;
     }
 
+    private Object countCacheKey() {
+        // the query is rendered as JSON so that the key is not affected by later changes of the query document
+        String query = mongoQuery == null ? null
+                : mongoQuery.toBsonDocument(BsonDocument.class, collection.getCodecRegistry()).toJson();
+        return CountCache.key(collection.getNamespace(), query);
+    }
+
     public <T extends Entity> List<T> list() {
         return list(null);
     }
@@ -156,7 +207,8 @@ public class CommonPanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     private <T extends Entity> List<T> list(Integer limit) {
         List<T> list = new ArrayList<>();
-        FindIterable find = mongoQuery == null ? collection.find() : collection.find(mongoQuery);
+        Bson query = keyset != null ? MongoKeysetUtil.keysetQuery(mongoQuery, keyset) : mongoQuery;
+        FindIterable find = query == null ? collection.find() : collection.find(query);
         if (this.projections != null) {
             find.projection(projections);
         }
@@ -164,7 +216,7 @@ public class CommonPanacheQueryImpl<Entity> {
             find.collation(collation);
         }
         manageOffsets(find, limit);
-        MongoCursor<T> cursor = find.sort(sort).iterator();
+        MongoCursor<T> cursor = find.sort(keyset != null ? MongoKeysetUtil.keysetSort(keyset) : sort).iterator();
 
         try {
             while (cursor.hasNext()) {
@@ -216,6 +268,12 @@ public class CommonPanacheQueryImpl<Entity> {
                 // range is 0 based, so we add 1 to the limit
                 find.limit(range.getLastIndex() - range.getStartIndex() + 1);
             }
+        } else if (keyset != null) {
+            if (limit == null) {
+                find.limit(keyset.size);
+            } else {
+                limit = Math.min(limit, keyset.size);
+            }
         } else if (page != null) {
             find.skip(page.index * page.size);
             if (limit == null) {
@@ -0,0 +1,58 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.Sort;
+
+public final class MongoKeysetUtil {
+
+    private MongoKeysetUtil() {
+        //prevent initialization
+    }
+
+    /**
+     * Adds the keyset filter to the given query, e.g. <code>{$or: [{a: {$gt: 1}}, {a: 1, b: {$gt: 2}}]}</code> for
+     * {@code Sort.by("a").and("b")} and the last values {@code 1, 2}.
+     *
+     * @param mongoQuery the query, may be {@code null}
+     * @param keyset the keyset
+     * @return the query with the keyset filter, or the given query for the first page
+     */
+    public static Bson keysetQuery(Bson mongoQuery, Keyset keyset) {
+        if (keyset.isFirst()) {
+            return mongoQuery;
+        }
+        List<Sort.Column> columns = keyset.sort.getColumns();
+        Object[] lastValues = keyset.getLastValues();
+        List<Document> alternatives = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            Document alternative = new Document();
+            for (int j = 0; j < i; j++) {
+                alternative.append(columns.get(j).getName(), lastValues[j]);
+            }
+            Sort.Column column = columns.get(i);
+            alternative.append(column.getName(),
+                    new Document(column.getDirection() == Sort.Direction.Ascending ? "$gt" : "$lt", lastValues[i]));
+            alternatives.add(alternative);
+        }
+        Document keysetFilter = alternatives.size() == 1 ? alternatives.get(0) : new Document("$or", alternatives);
+        if (mongoQuery == null) {
+            return keysetFilter;
+        }
+        return new Document("$and", Arrays.asList(mongoQuery, keysetFilter));
+    }
+
+    public static Document keysetSort(Keyset keyset) {
+        Document sortDoc = new Document();
+        for (Sort.Column col : keyset.sort.getColumns()) {
+            sortDoc.append(col.getName(), col.getDirection() == Sort.Direction.Ascending ? 1 : -1);
+        }
+        return sortDoc;
+    }
+}
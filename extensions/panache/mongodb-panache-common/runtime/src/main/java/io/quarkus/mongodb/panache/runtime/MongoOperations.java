@@ -313,8 +313,7 @@ public abstract class MongoOperations<QueryType, UpdateType> {
 
     @SuppressWarnings("rawtypes")
     public QueryType find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         MongoCollection collection = mongoCollection(entityClass);
         return createQuery(collection, docQuery, docSort);
@@ -368,6 +367,68 @@ public abstract class MongoOperations<QueryType, UpdateType> {
         return bindUpdate;
     }
 
+    /**
+     * Same as {@link #bindFilter(Class, String, Object[])} but binds PanacheQL queries directly into a document.
+     */
+    public Document bindFilterDocument(Class<?> clazz, String query, Object[] params) {
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            return Document.parse(bindFilter(clazz, query, params));
+        }
+        //this is a PanacheQL query
+        Document bindQuery = PanacheQlQueryBinder.bindDocument(clazz, query, params);
+        LOGGER.debug(bindQuery);
+        return bindQuery;
+    }
+
+    /**
+     * Same as {@link #bindFilter(Class, String, Map)} but binds PanacheQL queries directly into a document.
+     */
+    public Document bindFilterDocument(Class<?> clazz, String query, Map<String, Object> params) {
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            return Document.parse(bindFilter(clazz, query, params));
+        }
+        //this is a PanacheQL query
+        Document bindQuery = PanacheQlQueryBinder.bindDocument(clazz, query, params);
+        LOGGER.debug(bindQuery);
+        return bindQuery;
+    }
+
+    /**
+     * Same as {@link #bindUpdate(Class, String, Object[])} but binds PanacheQL queries directly into a document.
+     */
+    Document bindUpdateDocument(Class<?> clazz, String query, Object[] params) {
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            return Document.parse(bindUpdate(clazz, query, params));
+        }
+        //this is a PanacheQL query
+        Document bindUpdate = PanacheQlQueryBinder.bindDocument(clazz, query, params);
+        if (!bindUpdate.containsKey("$set")) {
+            bindUpdate = new Document("$set", bindUpdate);
+        }
+        LOGGER.debug(bindUpdate);
+        return bindUpdate;
+    }
+
+    /**
+     * Same as {@link #bindUpdate(Class, String, Map)} but binds PanacheQL queries directly into a document.
+     */
+    Document bindUpdateDocument(Class<?> clazz, String query, Map<String, Object> params) {
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            return Document.parse(bindUpdate(clazz, query, params));
+        }
+        //this is a PanacheQL query
+        Document bindUpdate = PanacheQlQueryBinder.bindDocument(clazz, query, params);
+        if (!bindUpdate.containsKey("$set")) {
+            bindUpdate = new Document("$set", bindUpdate);
+        }
+        LOGGER.debug(bindUpdate);
+        return bindUpdate;
+    }
+
     private String bindQuery(Class<?> clazz, String query, Object[] params) {
         String bindQuery = null;
         //determine the type of the query
@@ -400,8 +461,7 @@ public abstract class MongoOperations<QueryType, UpdateType> {
 
     @SuppressWarnings("rawtypes")
     public QueryType find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         MongoCollection collection = mongoCollection(entityClass);
         return createQuery(collection, docQuery, docSort);
@@ -546,15 +606,13 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     }
 
     public long count(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
 
     public long count(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
@@ -582,15 +640,13 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     }
 
     public long delete(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).getDeletedCount();
     }
 
     public long delete(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).getDeletedCount();
     }
@@ -618,14 +674,12 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     }
 
     private UpdateType executeUpdate(Class<?> entityClass, String update, Object... params) {
-        String bindUpdate = bindUpdate(entityClass, update, params);
-        Document docUpdate = Document.parse(bindUpdate);
+        Document docUpdate = bindUpdateDocument(entityClass, update, params);
         return createUpdate(mongoCollection(entityClass), entityClass, docUpdate);
     }
 
     private UpdateType executeUpdate(Class<?> entityClass, String update, Map<String, Object> params) {
-        String bindUpdate = bindUpdate(entityClass, update, params);
-        Document docUpdate = Document.parse(bindUpdate);
+        Document docUpdate = bindUpdateDocument(entityClass, update, params);
         return createUpdate(mongoCollection(entityClass), entityClass, docUpdate);
     }
 
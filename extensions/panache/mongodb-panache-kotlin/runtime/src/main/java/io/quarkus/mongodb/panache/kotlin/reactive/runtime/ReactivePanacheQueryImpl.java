@@ -1,5 +1,6 @@
 package io.quarkus.mongodb.panache.kotlin.reactive.runtime;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.bson.conversions.Bson;
@@ -9,6 +10,7 @@ import com.mongodb.client.model.Collation;
 import io.quarkus.mongodb.panache.kotlin.reactive.ReactivePanacheQuery;
 import io.quarkus.mongodb.panache.reactive.runtime.CommonReactivePanacheQueryImpl;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -92,6 +94,23 @@ public class ReactivePanacheQueryImpl<Entity> implements ReactivePanacheQuery<En
         return this;
     }
 
+    @Override
+    public ReactivePanacheQuery<Entity> keyset(Keyset keyset) {
+        delegate.keyset(keyset);
+        return this;
+    }
+
+    @Override
+    public Keyset keyset() {
+        return delegate.keyset();
+    }
+
+    @Override
+    public ReactivePanacheQuery<Entity> cacheCount(Duration timeToLive) {
+        delegate.cacheCount(timeToLive);
+        return this;
+    }
+
     @Override
     public ReactivePanacheQuery<Entity> withCollation(Collation collation) {
         delegate.withCollation(collation);
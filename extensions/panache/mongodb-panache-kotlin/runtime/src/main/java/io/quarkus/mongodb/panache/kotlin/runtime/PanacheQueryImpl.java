@@ -1,5 +1,6 @@
 package io.quarkus.mongodb.panache.kotlin.runtime;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -10,6 +11,7 @@ import com.mongodb.client.model.Collation;
 
 import io.quarkus.mongodb.panache.kotlin.PanacheQuery;
 import io.quarkus.mongodb.panache.runtime.CommonPanacheQueryImpl;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
@@ -89,6 +91,23 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return this;
     }
 
+    @Override
+    public PanacheQuery<Entity> keyset(Keyset keyset) {
+        delegate.keyset(keyset);
+        return this;
+    }
+
+    @Override
+    public Keyset keyset() {
+        return delegate.keyset();
+    }
+
+    @Override
+    public PanacheQuery<Entity> cacheCount(Duration timeToLive) {
+        delegate.cacheCount(timeToLive);
+        return this;
+    }
+
     @Override
     public PanacheQuery<Entity> withCollation(Collation collation) {
         delegate.withCollation(collation);
@@ -1,9 +1,11 @@
 package io.quarkus.mongodb.panache.kotlin.reactive
 
 import com.mongodb.client.model.Collation
+import io.quarkus.panache.common.Keyset
 import io.quarkus.panache.common.Page
 import io.smallrye.mutiny.Multi
 import io.smallrye.mutiny.Uni
+import java.time.Duration
 
 /**
  * Interface representing an entity query, which abstracts the use of paging, getting the number of results, and
@@ -130,6 +132,36 @@ interface ReactivePanacheQuery<Entity> {
      */
     fun range(startIndex: Int, lastIndex: Int): ReactivePanacheQuery<Entity>
 
+    /**
+     * Switch the query to use keyset (seek) pagination instead of a page or a range: the query is ordered by the
+     * keyset sort, and only the results following the last seen values of the keyset are read. Unlike
+     * [ReactivePanacheQuery.page], the cost of reading a page does not depend on its position. The keyset sort replaces the sort
+     * of the query.
+     *
+     * @param keyset the keyset
+     * @return this query, modified
+     * @see [Keyset.after]
+     */
+    fun keyset(keyset: Keyset): ReactivePanacheQuery<Entity>
+
+    /**
+     * Returns the current keyset.
+     *
+     * @return the current keyset
+     * @throws UnsupportedOperationException if a keyset hasn't been set
+     * @see [ReactivePanacheQuery.keyset]
+     */
+    fun keyset(): Keyset
+
+    /**
+     * Shares the result of [ReactivePanacheQuery.count] with the other queries that have the same count query, parameters and
+     * filters, for the given time. This avoids a count query per page at the cost of a possibly outdated count.
+     *
+     * @param timeToLive how long the count is shared
+     * @return this query, modified
+     */
+    fun cacheCount(timeToLive: Duration): ReactivePanacheQuery<Entity>
+
     /**
      * Define the collation used for this query.
      *
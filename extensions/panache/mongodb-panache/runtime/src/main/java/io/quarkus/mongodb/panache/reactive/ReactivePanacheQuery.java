@@ -1,11 +1,13 @@
 package io.quarkus.mongodb.panache.reactive;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import com.mongodb.client.model.Collation;
 
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -138,6 +140,36 @@ public interface ReactivePanacheQuery<Entity> {
      */
     public <T extends Entity> ReactivePanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to use keyset (seek) pagination instead of a page or a range: the query is ordered by the
+     * keyset sort, and only the results following the last seen values of the keyset are read. Unlike
+     * {@link #page(Page)}, the cost of reading a page does not depend on its position. The keyset sort replaces the sort
+     * of the query.
+     *
+     * @param keyset the keyset
+     * @return this query, modified
+     * @see Keyset#after(Object...)
+     */
+    public <T extends Entity> ReactivePanacheQuery<T> keyset(Keyset keyset);
+
+    /**
+     * Returns the current keyset.
+     *
+     * @return the current keyset
+     * @throws UnsupportedOperationException if a keyset hasn't been set
+     * @see #keyset(Keyset)
+     */
+    public Keyset keyset();
+
+    /**
+     * Shares the result of {@link #count()} with the other queries that have the same count query, parameters and
+     * filters, for the given time. This avoids a count query per page at the cost of a possibly outdated count.
+     *
+     * @param timeToLive how long the count is shared
+     * @return this query, modified
+     */
+    public <T extends Entity> ReactivePanacheQuery<T> cacheCount(Duration timeToLive);
+
     /**
      * Define the collation used for this query.
      *
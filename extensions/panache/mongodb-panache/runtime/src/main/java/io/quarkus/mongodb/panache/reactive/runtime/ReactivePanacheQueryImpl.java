@@ -1,5 +1,6 @@
 package io.quarkus.mongodb.panache.reactive.runtime;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,7 @@ import com.mongodb.client.model.Collation;
 
 import io.quarkus.mongodb.panache.reactive.ReactivePanacheQuery;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -92,6 +94,25 @@ public class ReactivePanacheQueryImpl<Entity> implements ReactivePanacheQuery<En
         return (ReactivePanacheQuery<T>) this;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> ReactivePanacheQuery<T> keyset(Keyset keyset) {
+        delegate.keyset(keyset);
+        return (ReactivePanacheQuery<T>) this;
+    }
+
+    @Override
+    public Keyset keyset() {
+        return delegate.keyset();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> ReactivePanacheQuery<T> cacheCount(Duration timeToLive) {
+        delegate.cacheCount(timeToLive);
+        return (ReactivePanacheQuery<T>) this;
+    }
+
     @Override
     public <T extends Entity> ReactivePanacheQuery<T> withCollation(Collation collation) {
         delegate.withCollation(collation);
@@ -1,5 +1,6 @@
 package io.quarkus.mongodb.panache.runtime;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -10,6 +11,7 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Collation;
 
 import io.quarkus.mongodb.panache.PanacheQuery;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
@@ -91,6 +93,25 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> keyset(Keyset keyset) {
+        delegate.keyset(keyset);
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public Keyset keyset() {
+        return delegate.keyset();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> cacheCount(Duration timeToLive) {
+        delegate.cacheCount(timeToLive);
+        return (PanacheQuery<T>) this;
+    }
+
     @Override
     public <T extends Entity> PanacheQuery<T> withCollation(Collation collation) {
         delegate.withCollation(collation);
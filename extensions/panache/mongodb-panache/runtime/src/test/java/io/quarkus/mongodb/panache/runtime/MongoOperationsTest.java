@@ -14,6 +14,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.bson.BsonRegularExpression;
+import org.bson.Document;
 import org.bson.codecs.pojo.annotations.BsonProperty;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -349,6 +351,61 @@ class MongoOperationsTest {
         assertEquals("{'field':{'$in':['f1', 'f2']},'isOk':true,'$or':[{'value':'jpg'},{'value':'gif'}]}", query);
     }
 
+    @Test
+    public void testBindEnhancedFilterDocument() {
+        List<Object> list = Arrays.asList("f1", "f2");
+        assertSameDocument(DemoObj.class, "property", new Object[] { "a value" });
+        assertSameDocument(Object.class, "field", new Object[] { LocalDate.of(2019, 3, 4) });
+        assertSameDocument(Object.class, "field = ?1 and isOk = ?2", new Object[] { "a value", true });
+        assertSameDocument(Object.class, "field = ?1 or isOk = ?2", new Object[] { "a value", true });
+        assertSameDocument(Object.class, "count >= ?1 and count < ?2", new Object[] { 5, 10 });
+        assertSameDocument(Object.class, "field != ?1", new Object[] { "it's a value" });
+        assertSameDocument(Object.class, "field like ?1", new Object[] { "a value" });
+        assertSameDocument(Object.class, "field is not null", new Object[] {});
+        assertSameDocument(Object.class, "field = 'some hardcoded value'", new Object[] {});
+        assertSameDocument(Object.class, "field = ?1",
+                new Object[] { LocalDateTime.of(2019, 3, 4, 1, 1, 1).toInstant(ZoneOffset.UTC) });
+        assertSameDocument(DemoObj.class, "field in ?1 and isOk = ?2 and property = ?3 or property = ?4",
+                new Object[] { list, true, "jpg", "gif" });
+        assertSameDocument(DemoObj.class, "field in :fields and property = :p1 or property = :p2",
+                Parameters.with("fields", list).and("p1", "jpg").and("p2", "gif").map());
+        assertSameDocument(Object.class, "field = :field", Parameters.with("field", MyEnum.FIRST).map());
+
+        // the query is compiled once, the values must not leak from one binding to the other
+        assertEquals(new Document("field", "a"),
+                operations.bindFilterDocument(Object.class, "field = ?1", new Object[] { "a" }));
+        assertEquals(new Document("field", "b"),
+                operations.bindFilterDocument(Object.class, "field = ?1", new Object[] { "b" }));
+
+        Document regex = operations.bindFilterDocument(Object.class, "field like ?1", new Object[] { "/uppercase.*/i" });
+        assertEquals(new Document("field", new Document("$regex", new BsonRegularExpression("uppercase.*", "i"))), regex);
+    }
+
+    @Test
+    public void testBindUpdateDocument() {
+        assertEquals(Document.parse(operations.bindUpdate(Object.class, "field", new Object[] { "a value" })),
+                operations.bindUpdateDocument(Object.class, "field", new Object[] { "a value" }));
+        assertEquals(Document.parse(operations.bindUpdate(Object.class, "field = :field",
+                Parameters.with("field", "a value").map())),
+                operations.bindUpdateDocument(Object.class, "field = :field", Parameters.with("field", "a value").map()));
+        assertEquals(Document.parse(operations.bindUpdate(DemoObj.class, "{'field': ?1}", new Object[] { "a value" })),
+                operations.bindUpdateDocument(DemoObj.class, "{'field': ?1}", new Object[] { "a value" }));
+    }
+
+    private void assertSameDocument(Class<?> clazz, String query, Object[] params) {
+        assertEquals(Document.parse(operations.bindFilter(clazz, query, params)),
+                operations.bindFilterDocument(clazz, query, params));
+    }
+
+    private void assertSameDocument(Class<?> clazz, String query, Map<String, Object> params) {
+        assertEquals(Document.parse(operations.bindFilter(clazz, query, params)),
+                operations.bindFilterDocument(clazz, query, params));
+    }
+
+    private enum MyEnum {
+        FIRST
+    }
+
     @Test
     public void testBindUpdate() {
         // native update by index without $set
@@ -0,0 +1,128 @@
+package io.quarkus.panache.common;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Utility class to represent keyset (seek) paging information. Keyset instances are immutable.
+ * </p>
+ *
+ * <p>
+ * Unlike a {@link Page}, a keyset does not skip the previous results: it selects the results that follow the last seen
+ * values of the sort columns, so reading a deep page costs as much as reading the first one, provided the sort columns
+ * are indexed. The sort must be unique, e.g. end with the identifier, and the sort columns must not be {@code null}.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <code><pre>
+ * Keyset keyset = Keyset.of(Sort.by("lastName").and("id"), 25);
+ * List&lt;Person&gt; persons = Person.findAll().keyset(keyset).list();
+ * Person last = persons.get(persons.size() - 1);
+ * Keyset nextKeyset = keyset.after(last.lastName, last.id);
+ * </pre></code>
+ */
+public class Keyset {
+
+    /**
+     * The sort that defines the keys.
+     */
+    public final Sort sort;
+
+    /**
+     * The page size.
+     */
+    public final int size;
+
+    private final Object[] lastValues;
+
+    /**
+     * Builds the first page of the given sort and size.
+     *
+     * @param sort the sort that defines the keys
+     * @param size the page size
+     * @throws IllegalArgumentException if the sort has no columns
+     * @throws IllegalArgumentException if the page size is less than or equal to 0
+     * @see #of(Sort, int)
+     */
+    public Keyset(Sort sort, int size) {
+        this(sort, size, null);
+    }
+
+    private Keyset(Sort sort, int size, Object[] lastValues) {
+        Objects.requireNonNull(sort, "sort");
+        if (sort.getColumns().isEmpty())
+            throw new IllegalArgumentException("Keyset sort must have at least one column");
+        if (size <= 0)
+            throw new IllegalArgumentException("Page size must be > 0 : " + size);
+        this.sort = sort;
+        this.size = size;
+        this.lastValues = lastValues;
+    }
+
+    /**
+     * Builds the first page of the given sort and size.
+     *
+     * @param sort the sort that defines the keys
+     * @param size the page size
+     * @throws IllegalArgumentException if the sort has no columns
+     * @throws IllegalArgumentException if the page size is less than or equal to 0
+     */
+    public static Keyset of(Sort sort, int size) {
+        return new Keyset(sort, size);
+    }
+
+    /**
+     * Returns a new keyset representing the page that follows the given values.
+     *
+     * @param lastValues the values of the sort columns of the last seen result, in the order of the sort columns
+     * @return a new keyset with the same sort and size
+     * @throws IllegalArgumentException if the number of values differs from the number of sort columns, or if a value is
+     *         {@code null}
+     */
+    public Keyset after(Object... lastValues) {
+        if (lastValues.length != sort.getColumns().size())
+            throw new IllegalArgumentException("Expected " + sort.getColumns().size() + " keyset values but got "
+                    + lastValues.length);
+        for (Object value : lastValues) {
+            if (value == null)
+                throw new IllegalArgumentException("Keyset values must not be null");
+        }
+        return new Keyset(sort, size, lastValues.clone());
+    }
+
+    /**
+     * Returns a new keyset representing the first page.
+     *
+     * @return a new keyset with the same sort and size
+     */
+    public Keyset first() {
+        return new Keyset(sort, size);
+    }
+
+    /**
+     * Returns true if this keyset represents the first page, i.e. no last values are set.
+     *
+     * @return true if this keyset represents the first page
+     */
+    public boolean isFirst() {
+        return lastValues == null;
+    }
+
+    /**
+     * Returns the values of the sort columns of the last seen result.
+     *
+     * @return the values, or an empty array for the first page
+     */
+    public Object[] getLastValues() {
+        return lastValues == null ? new Object[0] : lastValues.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "Keyset [size=" + size + ", lastValues=" + Arrays.toString(lastValues) + "]";
+    }
+}
@@ -0,0 +1,129 @@
+package io.quarkus.panache.common.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shares the results of count queries between query instances for a limited time. Once the maximum size is reached, the
+ * expired entries are evicted first and then the entries that expire soonest.
+ * <p>
+ * The cache is cleared when the application is shut down, so that a restarted application does not see the counts of
+ * the previous one.
+ */
+public final class CountCache {
+
+    private static final int MAX_SIZE = 1000;
+
+    private static final ConcurrentMap<Object, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private CountCache() {
+    }
+
+    /**
+     * Creates a key from the given parts. Arrays, collections and maps are copied into unmodifiable lists and maps so
+     * that the key is not affected by subsequent changes of the query parameters or filters.
+     *
+     * @param parts the parts that identify the count query, e.g. the persistence unit, the query, its parameters and filters
+     * @return the key
+     */
+    public static Object key(Object... parts) {
+        return copy(parts);
+    }
+
+    /**
+     * @param key the key that identifies the count query, its parameters and filters
+     * @return the cached count, or {@code null} if there is no such count or it expired
+     */
+    public static Long get(Object key) {
+        Entry entry = ENTRIES.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            ENTRIES.remove(key, entry);
+            return null;
+        }
+        return entry.count;
+    }
+
+    public static void put(Object key, long count, Duration timeToLive) {
+        long now = System.nanoTime();
+        ENTRIES.put(key, new Entry(count, now + timeToLive.toNanos()));
+        if (ENTRIES.size() > MAX_SIZE) {
+            evict(now);
+        }
+    }
+
+    public static void clear() {
+        ENTRIES.clear();
+    }
+
+    private static void evict(long now) {
+        Object soonestKey = null;
+        Entry soonest = null;
+        for (Iterator<Map.Entry<Object, Entry>> it = ENTRIES.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<Object, Entry> mapEntry = it.next();
+            Entry entry = mapEntry.getValue();
+            if (entry.isExpired(now)) {
+                it.remove();
+            } else if (soonest == null || entry.expiresAt - soonest.expiresAt < 0) {
+                soonestKey = mapEntry.getKey();
+                soonest = entry;
+            }
+        }
+        if (soonest != null && ENTRIES.size() > MAX_SIZE) {
+            ENTRIES.remove(soonestKey, soonest);
+        }
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            List<Object> copy = new ArrayList<>(array.length);
+            for (Object element : array) {
+                copy.add(copy(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            List<Object> copy = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                copy.add(copy(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> copy = new HashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                copy.put(entry.getKey(), copy(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+        return value;
+    }
+
+    private static final class Entry {
+
+        final long count;
+        final long expiresAt;
+
+        Entry(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.quarkus.panache.hibernate.common.runtime;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -8,6 +11,14 @@ import io.quarkus.panache.common.exception.PanacheQueryException;
 
 public class PanacheJpaUtil {
 
+    public static final int FIND_QUERY = 0;
+    public static final int COUNT_QUERY = 1;
+    public static final int DELETE_QUERY = 2;
+    public static final int UPDATE_QUERY = 3;
+
+    // will be replaced at augmentation phase
+    private static volatile Map<String, Map<String, String[]>> precompiledQueries = Collections.emptyMap();
+
     // match SELECT DISTINCT? id (AS id)? (, id (AS id)?)*
     static final Pattern SELECT_PATTERN = Pattern.compile(
             "^\\s*SELECT\\s+((?:DISTINCT\\s+)?\\w+(?:\\.\\w+)*)(?:\\s+AS\\s+\\w+)?(\\s*,\\s*\\w+(?:\\.\\w+)*(?:\\s+AS\\s+\\w+)?)*\\s+(.*)",
@@ -56,14 +67,52 @@ public class PanacheJpaUtil {
         return entityClass.getName();
     }
 
+    /**
+     * Sets the queries expanded at build time.
+     *
+     * @param queries the expanded queries, indexed by entity class name, then by query; the array holds the expansion
+     *        for each query kind, see {@link #getPrecompiledQueryIndex(int, int)}
+     */
+    public static void setPrecompiledQueries(Map<String, Map<String, String[]>> queries) {
+        precompiledQueries = queries;
+    }
+
+    /**
+     * The expansion of a shorthand query only depends on whether it has a single parameter.
+     *
+     * @param queryKind the query kind, e.g. {@link #FIND_QUERY}
+     * @param paramCount the number of parameters
+     * @return the index of the expansion in the precompiled queries array
+     */
+    public static int getPrecompiledQueryIndex(int queryKind, int paramCount) {
+        return queryKind * 2 + (paramCount == 1 ? 1 : 0);
+    }
+
+    private static String getPrecompiledQuery(int queryKind, Class<?> entityClass, String query, int paramCount) {
+        Map<String, String[]> entityQueries = precompiledQueries.get(entityClass.getName());
+        if (entityQueries == null) {
+            return null;
+        }
+        String[] expanded = entityQueries.get(query == null ? "" : query);
+        return expanded == null ? null : expanded[getPrecompiledQueryIndex(queryKind, paramCount)];
+    }
+
     public static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
+        String precompiled = getPrecompiledQuery(FIND_QUERY, entityClass, query, paramCount);
+        if (precompiled != null) {
+            return precompiled;
+        }
+        return createFindQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createFindQuery(String entityName, String query, int paramCount) {
         if (query == null) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
         }
 
         String trimmed = query.trim();
         if (trimmed.isEmpty()) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
         }
 
         if (isNamedQuery(query)) {
@@ -76,12 +125,12 @@ public class PanacheJpaUtil {
             return query;
         }
         if (trimmedLc.startsWith("order by ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
+            return "FROM " + entityName + " " + query;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "FROM " + entityName + " WHERE " + query;
     }
 
     public static boolean isNamedQuery(String query) {
@@ -92,12 +141,20 @@ public class PanacheJpaUtil {
     }
 
     public static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
+        String precompiled = getPrecompiledQuery(COUNT_QUERY, entityClass, query, paramCount);
+        if (precompiled != null) {
+            return precompiled;
+        }
+        return createCountQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createCountQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("from ")) {
@@ -105,15 +162,23 @@ public class PanacheJpaUtil {
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "SELECT COUNT(*) FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "SELECT COUNT(*) FROM " + entityName + " WHERE " + query;
     }
 
     public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
+        String precompiled = getPrecompiledQuery(UPDATE_QUERY, entityClass, query, paramCount);
+        if (precompiled != null) {
+            return precompiled;
+        }
+        return createUpdateQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createUpdateQuery(String entityName, String query, int paramCount) {
         if (query == null) {
             throw new PanacheQueryException("Query string cannot be null");
         }
@@ -134,18 +199,26 @@ public class PanacheJpaUtil {
             query += " = ?1";
         }
         if (trimmedLc.startsWith("set ")) {
-            return "UPDATE FROM " + getEntityName(entityClass) + " " + query;
+            return "UPDATE FROM " + entityName + " " + query;
         }
-        return "UPDATE FROM " + getEntityName(entityClass) + " SET " + query;
+        return "UPDATE FROM " + entityName + " SET " + query;
     }
 
     public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
+        String precompiled = getPrecompiledQuery(DELETE_QUERY, entityClass, query, paramCount);
+        if (precompiled != null) {
+            return precompiled;
+        }
+        return createDeleteQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createDeleteQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("from ")) {
@@ -153,12 +226,12 @@ public class PanacheJpaUtil {
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "DELETE FROM " + entityName + " WHERE " + query;
     }
 
     public static String toOrderBy(Sort sort) {
@@ -179,4 +252,137 @@ public class PanacheJpaUtil {
         }
         return sb.toString();
     }
+
+    /**
+     * Builds the predicate that selects the rows following the given keys, e.g. {@code (a > ?1) OR (a = ?1 AND b > ?2)}
+     * for {@code Sort.by("a").and("b")}. This form is equivalent to the row value comparison {@code (a, b) > (?1, ?2)}
+     * but it also supports mixed sort directions and databases without row value comparisons.
+     *
+     * @param sort the keyset sort
+     * @param parameters the parameter placeholders of the last seen values, in the order of the sort columns
+     * @return the predicate
+     */
+    public static String toKeysetPredicate(Sort sort, String[] parameters) {
+        List<Sort.Column> columns = sort.getColumns();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0)
+                sb.append(" OR ");
+            sb.append("(");
+            for (int j = 0; j < i; j++) {
+                sb.append(columns.get(j).getName()).append(" = ").append(parameters[j]).append(" AND ");
+            }
+            Sort.Column column = columns.get(i);
+            sb.append(column.getName());
+            sb.append(column.getDirection() == Sort.Direction.Ascending ? " > " : " < ");
+            sb.append(parameters[i]).append(")");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Adds the keyset predicate to the WHERE clause of a find query and orders it by the keyset sort. Only the top-level
+     * clauses of the query are considered, i.e. the clauses of subqueries and the content of string literals are skipped.
+     *
+     * @param query the find query
+     * @param sort the keyset sort
+     * @param parameters the parameter placeholders of the last seen values, or {@code null} for the first page
+     * @return the keyset query
+     * @throws PanacheQueryException if the query is ordered or grouped
+     */
+    public static String createKeysetQuery(String query, Sort sort, String[] parameters) {
+        if (indexOfClause(query, "order", "by") != -1) {
+            throw new PanacheQueryException("Keyset pagination requires the query to be ordered by the keyset sort only: "
+                    + query);
+        }
+        if (indexOfClause(query, "group", "by") != -1 || indexOfClause(query, "having") != -1) {
+            throw new PanacheQueryException("Keyset pagination not supported for grouped query: " + query);
+        }
+        String keysetQuery = query;
+        if (parameters != null) {
+            String predicate = toKeysetPredicate(sort, parameters);
+            int whereIndex = indexOfClause(query, "where");
+            if (whereIndex == -1) {
+                keysetQuery = query + " WHERE " + predicate;
+            } else {
+                keysetQuery = query.substring(0, whereIndex) + "WHERE ("
+                        + query.substring(whereIndex + "where".length()).trim() + ") AND (" + predicate + ")";
+            }
+        }
+        return keysetQuery + toOrderBy(sort);
+    }
+
+    /**
+     * Finds a top-level clause of a query, i.e. a clause that is not nested in parentheses, as in a subquery, and not part
+     * of a string literal or a quoted identifier. The keywords are matched case-insensitively and may be separated by any
+     * whitespace.
+     *
+     * @param query the query
+     * @param keywords the keywords of the clause, e.g. {@code "order", "by"}
+     * @return the index of the first keyword of the clause, or -1 if the query has no such top-level clause
+     */
+    static int indexOfClause(String query, String... keywords) {
+        int depth = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '\'' || c == '"' || c == '`') {
+                i = skipQuoted(query, i);
+                if (i == -1) {
+                    // unterminated literal, the query is invalid anyway
+                    return -1;
+                }
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && (i == 0 || !isIdentifierPart(query.charAt(i - 1)))
+                    && matchesClause(query, i, keywords)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipQuoted(String query, int start) {
+        char quote = query.charAt(start);
+        int i = start + 1;
+        while (true) {
+            i = query.indexOf(quote, i);
+            if (i == -1) {
+                return -1;
+            }
+            if (i + 1 < query.length() && query.charAt(i + 1) == quote) {
+                // escaped quote
+                i += 2;
+            } else {
+                return i;
+            }
+        }
+    }
+
+    private static boolean matchesClause(String query, int start, String[] keywords) {
+        int i = start;
+        for (int k = 0; k < keywords.length; k++) {
+            if (k > 0) {
+                int whitespaceStart = i;
+                while (i < query.length() && Character.isWhitespace(query.charAt(i))) {
+                    i++;
+                }
+                if (i == whitespaceStart) {
+                    return false;
+                }
+            }
+            String keyword = keywords[k];
+            if (!query.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return false;
+            }
+            i += keyword.length();
+        }
+        return i == query.length() || !isIdentifierPart(query.charAt(i));
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        // a path such as p.where or a named parameter such as :where is not a keyword
+        return Character.isJavaIdentifierPart(c) || c == '.' || c == ':';
+    }
 }
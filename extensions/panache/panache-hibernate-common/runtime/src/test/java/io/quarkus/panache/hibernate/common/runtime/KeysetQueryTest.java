@@ -0,0 +1,78 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public class KeysetQueryTest {
+
+    @Test
+    public void testFirstPage() {
+        Assertions.assertEquals("FROM Person ORDER BY name , id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", Sort.by("name").and("id"), null));
+    }
+
+    @Test
+    public void testNextPage() {
+        Assertions.assertEquals("FROM Person WHERE (name > ?1) OR (name = ?1 AND id > ?2) ORDER BY name , id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", Sort.by("name").and("id"),
+                        new String[] { "?1", "?2" }));
+        Assertions.assertEquals(
+                "FROM Person WHERE (status = ?1 or status = ?2) AND ((name < ?3) OR (name = ?3 AND id > ?4)) ORDER BY name DESC , id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person WHERE status = ?1 or status = ?2",
+                        Sort.by("name", Sort.Direction.Descending).and("id"), new String[] { "?3", "?4" }));
+        Assertions.assertEquals("FROM Person WHERE (status = :status) AND ((id > :k0)) ORDER BY id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person WHERE status = :status", Sort.by("id"),
+                        new String[] { ":k0" }));
+    }
+
+    @Test
+    public void testNestedClauses() {
+        // the WHERE of the subquery is not the WHERE of the query
+        Assertions.assertEquals(
+                "FROM Person p JOIN p.orders o WITH o.id IN (SELECT max(x.id) FROM Order x WHERE x.person = p) "
+                        + "WHERE (p.id > ?1) ORDER BY p.id",
+                PanacheJpaUtil.createKeysetQuery(
+                        "FROM Person p JOIN p.orders o WITH o.id IN (SELECT max(x.id) FROM Order x WHERE x.person = p)",
+                        Sort.by("p.id"), new String[] { "?1" }));
+        Assertions.assertEquals(
+                "FROM Person p JOIN p.orders o WITH o.id IN (SELECT x.id FROM Order x where x.total > 10)\n"
+                        + "WHERE (p.status = ?1) AND ((p.id > ?2)) ORDER BY p.id",
+                PanacheJpaUtil.createKeysetQuery(
+                        "FROM Person p JOIN p.orders o WITH o.id IN (SELECT x.id FROM Order x where x.total > 10)\n"
+                                + "WHERE p.status = ?1",
+                        Sort.by("p.id"), new String[] { "?2" }));
+        // nor are the keywords in literals, paths and parameters
+        Assertions.assertEquals(
+                "FROM Person p JOIN p.tags t WITH t.name = ' where it''s ordered by name ' WHERE (p.id > ?1) ORDER BY p.id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person p JOIN p.tags t WITH t.name = ' where it''s ordered by name '",
+                        Sort.by("p.id"), new String[] { "?1" }));
+        Assertions.assertEquals("FROM Person p WHERE (p.where = :where) AND ((p.id > ?1)) ORDER BY p.id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person p WHERE p.where = :where", Sort.by("p.id"),
+                        new String[] { "?1" }));
+        // a grouped and ordered subquery is fine
+        Assertions.assertEquals(
+                "FROM Person p WHERE (p.id IN (SELECT o.person.id FROM Order o GROUP BY o.person.id ORDER BY 1)) "
+                        + "AND ((p.id > ?1)) ORDER BY p.id",
+                PanacheJpaUtil.createKeysetQuery(
+                        "FROM Person p WHERE p.id IN (SELECT o.person.id FROM Order o GROUP BY o.person.id ORDER BY 1)",
+                        Sort.by("p.id"), new String[] { "?1" }));
+    }
+
+    @Test
+    public void testUnsupportedQueries() {
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Person ORDER BY name", Sort.by("id"), null));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("SELECT name, count(*) FROM Person GROUP BY name", Sort.by("name"),
+                        null));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Person WHERE status = 'new'\nORDER\tBY name", Sort.by("id"),
+                        null));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("SELECT name FROM Person GROUP BY name HAVING count(*) > 1",
+                        Sort.by("name"), null));
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PrecompiledQueryTest {
+
+    @AfterEach
+    public void reset() {
+        PanacheJpaUtil.setPrecompiledQueries(Collections.emptyMap());
+    }
+
+    @Test
+    public void testPrecompiledQueryIsReused() {
+        String[] expanded = new String[8];
+        expanded[PanacheJpaUtil.getPrecompiledQueryIndex(PanacheJpaUtil.FIND_QUERY, 1)] = PanacheJpaUtil
+                .createFindQuery(String.class.getName(), "name", 1);
+        PanacheJpaUtil.setPrecompiledQueries(
+                Collections.singletonMap(String.class.getName(), Collections.singletonMap("name", expanded)));
+
+        String query = PanacheJpaUtil.createFindQuery(String.class, "name", 1);
+        Assertions.assertEquals("FROM java.lang.String WHERE name = ?1", query);
+        Assertions.assertSame(query, PanacheJpaUtil.createFindQuery(String.class, "name", 1));
+    }
+
+    @Test
+    public void testMissingPrecompiledQueryIsExpanded() {
+        PanacheJpaUtil.setPrecompiledQueries(Collections.singletonMap(String.class.getName(),
+                Collections.singletonMap("name", new String[8])));
+
+        Assertions.assertEquals("FROM java.lang.String WHERE name", PanacheJpaUtil.createFindQuery(String.class, "name", 0));
+        Assertions.assertEquals("SELECT COUNT(*) FROM java.lang.String WHERE name = ?1",
+                PanacheJpaUtil.createCountQuery(String.class, "name", 1));
+        Assertions.assertEquals("DELETE FROM java.lang.String", PanacheJpaUtil.createDeleteQuery(String.class, null, 0));
+    }
+}
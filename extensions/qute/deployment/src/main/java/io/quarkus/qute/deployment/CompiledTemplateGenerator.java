@@ -0,0 +1,590 @@
+package io.quarkus.qute.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassInfo.NestingType;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.WhileLoop;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.CompiledTemplate.Output;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expressions;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateTree;
+import io.quarkus.qute.TemplateTree.Block;
+import io.quarkus.qute.TemplateTree.Node;
+import io.quarkus.qute.TemplateTree.Section;
+import io.quarkus.qute.TemplateTree.Text;
+import io.quarkus.qute.deployment.QuteProcessor.Match;
+import io.quarkus.qute.deployment.TypeInfos.Info;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+
+/**
+ * Generates a {@link CompiledTemplate} for a template that consists of supported nodes only:
+ * <ul>
+ * <li>text nodes,</li>
+ * <li>expressions that consist of properties only and where the first part is a parameter declaration or a loop
+ * alias,</li>
+ * <li>{@code #for} and {@code #each} sections that iterate over an {@link Iterable},</li>
+ * <li>{@code #if} sections where each condition consists of a single operand.</li>
+ * </ul>
+ * Properties are resolved via direct field access or method invocation. The generated class falls back to the engine, i.e.
+ * it returns {@code false}, if the data does not match the parameter declarations or if an intermediate value is
+ * {@code null}.
+ */
+final class CompiledTemplateGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    static final String SUFFIX = "_CompiledTemplate";
+
+    // Iteration metadata that take precedence over the values from outer scopes
+    private static final Set<String> ITERATION_METADATA = new HashSet<>(
+            Arrays.asList("count", "index", "indexParity", "hasNext", "isOdd", "odd", "isEven", "even"));
+    // See LoopSectionHelper.Factory
+    private static final String LOOP_ALIAS = "alias";
+    private static final String LOOP_ITERABLE = "iterable";
+    private static final String LOOP_DEFAULT_ALIAS = "it";
+
+    private static final MethodDescriptor RENDER = MethodDescriptor.ofMethod(CompiledTemplate.class, "render",
+            boolean.class, Object.class, Output.class);
+    private static final MethodDescriptor OUTPUT_APPEND_TEXT = MethodDescriptor.ofMethod(Output.class, "append",
+            void.class, String.class);
+    private static final MethodDescriptor OUTPUT_APPEND_VALUE = MethodDescriptor.ofMethod(Output.class, "append",
+            boolean.class, int.class, Object.class);
+    private static final MethodDescriptor MAP_GET = MethodDescriptor.ofMethod(Map.class, "get", Object.class,
+            Object.class);
+    private static final MethodDescriptor ITERABLE_ITERATOR = MethodDescriptor.ofMethod(Iterable.class, "iterator",
+            Iterator.class);
+    private static final MethodDescriptor ITERATOR_HAS_NEXT = MethodDescriptor.ofMethod(Iterator.class, "hasNext",
+            boolean.class);
+    private static final MethodDescriptor ITERATOR_NEXT = MethodDescriptor.ofMethod(Iterator.class, "next",
+            Object.class);
+    private static final MethodDescriptor IS_FALSY = MethodDescriptor.ofMethod(Booleans.class, "isFalsy",
+            boolean.class, Object.class);
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final List<TemplateExtensionMethodBuildItem> templateExtensionMethods;
+    private final Function<String, String> templateIdToPathFun;
+
+    CompiledTemplateGenerator(IndexView index, ClassOutput classOutput,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods, Function<String, String> templateIdToPathFun) {
+        this.index = index;
+        this.classOutput = classOutput;
+        this.templateExtensionMethods = templateExtensionMethods;
+        this.templateIdToPathFun = templateIdToPathFun;
+    }
+
+    /**
+     *
+     * @param template
+     * @param className
+     * @return {@code true} if the class was generated, {@code false} if the template cannot be compiled
+     */
+    boolean generate(Template template, String className) {
+        Analysis analysis = new Analysis();
+        List<Step> steps;
+        try {
+            steps = analysis.analyze(TemplateTree.of(template).getNodes());
+        } catch (UnsupportedTemplateException e) {
+            LOGGER.debugf("Template [%s] cannot be compiled: %s", templateIdToPathFun.apply(template.getGeneratedId()),
+                    e.getMessage());
+            return false;
+        }
+
+        try (ClassCreator compiledTemplate = ClassCreator.builder().classOutput(classOutput).className(className)
+                .interfaces(CompiledTemplate.class).build()) {
+            MethodCreator render = compiledTemplate.getMethodCreator(RENDER);
+            ResultHandle data = render.getMethodParam(0);
+            ResultHandle output = render.getMethodParam(1);
+            Scope scope = new Scope(output);
+
+            // First make sure that all parameters are available
+            returnFalseIfNotInstanceOf(render, data, Map.class.getName());
+            for (Entry<String, Match> param : analysis.params.entrySet()) {
+                ResultHandle value = render.invokeInterfaceMethod(MAP_GET, data, render.load(param.getKey()));
+                returnFalseIfNotInstanceOf(render, value, param.getValue().clazz.name().toString());
+                scope.values.put(param.getKey(), value);
+            }
+            for (Step step : steps) {
+                step.generate(render, scope);
+            }
+            render.returnValue(render.load(true));
+        }
+        return true;
+    }
+
+    private static void returnFalseIfNotInstanceOf(BytecodeCreator bytecode, ResultHandle value, String className) {
+        // instanceof is false for null
+        bytecode.ifTrue(bytecode.instanceOf(value, className)).falseBranch().returnValue(bytecode.load(false));
+    }
+
+    private boolean isAccessible(ClassInfo clazz) {
+        while (clazz != null) {
+            if (!Modifier.isPublic(clazz.flags())) {
+                return false;
+            }
+            if (clazz.nestingType() == NestingType.TOP_LEVEL) {
+                return true;
+            }
+            if (clazz.nestingType() != NestingType.INNER || clazz.enclosingClass() == null) {
+                // Local or anonymous class
+                return false;
+            }
+            clazz = index.getClassByName(clazz.enclosingClass());
+        }
+        return false;
+    }
+
+    /**
+     * Collects the steps of the render method and the parameters of the template.
+     */
+    class Analysis {
+
+        final Map<String, Match> params = new LinkedHashMap<>();
+        // Loop aliases; the innermost first
+        final Deque<Entry<String, Match>> aliases = new ArrayDeque<>();
+
+        List<Step> analyze(List<Node> nodes) {
+            List<Step> steps = new ArrayList<>();
+            StringBuilder text = null;
+            for (Node node : nodes) {
+                if (node instanceof Text) {
+                    // Merge adjacent text nodes
+                    if (text == null) {
+                        text = new StringBuilder();
+                    }
+                    text.append(((Text) node).getValue());
+                    continue;
+                }
+                if (text != null) {
+                    steps.add(new TextStep(text.toString()));
+                    text = null;
+                }
+                if (node instanceof TemplateTree.Value) {
+                    // The index is shared with the runtime, i.e. all blocks are counted, including the skipped ones
+                    TemplateTree.Value value = (TemplateTree.Value) node;
+                    steps.add(new OutputStep(value.getIndex(), analyze(value.getExpression())));
+                } else if (node instanceof Section) {
+                    Section section = (Section) node;
+                    if (section.getHelper() instanceof LoopSectionHelper) {
+                        steps.add(analyzeLoop(section));
+                    } else if (section.getHelper() instanceof IfSectionHelper) {
+                        steps.add(analyzeIf(section));
+                    } else {
+                        throw new UnsupportedTemplateException("section [" + section.getName() + "] is not supported");
+                    }
+                } else {
+                    throw new UnsupportedTemplateException("node on line " + node.getOrigin().getLine() + " is not supported");
+                }
+            }
+            if (text != null) {
+                steps.add(new TextStep(text.toString()));
+            }
+            return steps;
+        }
+
+        Step analyzeLoop(Section section) {
+            if (section.getBlocks().size() != 1) {
+                throw new UnsupportedTemplateException("loop section blocks are not supported");
+            }
+            Block main = section.getBlocks().get(0);
+            String alias = main.getSectionBlock().parameters.get(LOOP_ALIAS);
+            if (alias == null || Parameter.EMPTY.equals(alias)) {
+                alias = LOOP_DEFAULT_ALIAS;
+            }
+            Expression iterableExpr = main.getSectionBlock().expressions.get(LOOP_ITERABLE);
+            if (iterableExpr == null) {
+                throw new UnsupportedTemplateException("loop iterable not found");
+            }
+            Value iterable = analyze(iterableExpr);
+            Match match = iterable.match;
+            if (match.clazz == null) {
+                throw new UnsupportedTemplateException("type of [" + iterableExpr.toOriginalString() + "] is unknown");
+            }
+            Set<Type> closure = Types.getTypeClosure(match.clazz, Types.buildResolvedMap(
+                    match.getParameterizedTypeArguments(), match.getTypeParameters(), new HashMap<>(), index), index);
+            // Iterable<Item> => Item
+            Type elementType = QuteProcessor.extractMatchType(closure, Names.ITERABLE,
+                    t -> t.kind() == Type.Kind.PARAMETERIZED_TYPE ? t.asParameterizedType().arguments().get(0) : null);
+            if (elementType == null || (elementType.kind() != Type.Kind.CLASS
+                    && elementType.kind() != Type.Kind.PARAMETERIZED_TYPE)) {
+                throw new UnsupportedTemplateException(
+                        "[" + iterableExpr.toOriginalString() + "] is not an iterable of a known type");
+            }
+            Match element = new Match();
+            element.type = elementType;
+            element.clazz = index.getClassByName(elementType.name());
+            if (element.clazz == null || !isAccessible(element.clazz)) {
+                throw new UnsupportedTemplateException("element class [" + elementType.name() + "] is not accessible");
+            }
+            aliases.push(new SimpleEntry<>(alias, element));
+            try {
+                return new LoopStep(iterable, alias, element.clazz, analyze(main.getNodes()));
+            } finally {
+                aliases.pop();
+            }
+        }
+
+        Step analyzeIf(Section section) {
+            List<Entry<Value, List<Step>>> branches = new ArrayList<>();
+            for (Block sectionBlock : section.getBlocks()) {
+                SectionBlock block = sectionBlock.getSectionBlock();
+                Value condition;
+                if (SectionHelperFactory.MAIN_BLOCK_NAME.equals(block.label)) {
+                    // {#if item.active}
+                    condition = analyzeCondition(block, 0);
+                } else if ("else".equals(block.label)) {
+                    if (block.parameters.isEmpty()) {
+                        // {#else}
+                        condition = null;
+                    } else if (block.parameters.size() == 2 && "if".equals(block.parameters.values().iterator().next())) {
+                        // {#else if item.active}
+                        condition = analyzeCondition(block, 1);
+                    } else {
+                        throw new UnsupportedTemplateException("unsupported else block: " + block.parameters.values());
+                    }
+                } else {
+                    throw new UnsupportedTemplateException("unsupported if block: " + block.label);
+                }
+                branches.add(new SimpleEntry<>(condition, analyze(sectionBlock.getNodes())));
+                if (condition == null) {
+                    // The remaining blocks are never rendered
+                    break;
+                }
+            }
+            return new IfStep(branches);
+        }
+
+        private Value analyzeCondition(SectionBlock block, int paramIndex) {
+            // Only conditions with a single operand are supported, i.e. no operators
+            if (block.parameters.size() != paramIndex + 1 || block.expressions.size() != 1) {
+                throw new UnsupportedTemplateException("unsupported condition: " + block.parameters.values());
+            }
+            Iterator<String> params = block.parameters.values().iterator();
+            for (int i = 0; i < paramIndex; i++) {
+                params.next();
+            }
+            Expression condition = block.expressions.get(params.next());
+            if (condition == null) {
+                throw new UnsupportedTemplateException("unsupported condition: " + block.parameters.values());
+            }
+            return analyze(condition);
+        }
+
+        Value analyze(Expression expression) {
+            if (expression.hasNamespace() || expression.isLiteral()) {
+                throw new UnsupportedTemplateException(
+                        "namespace expressions and literals are not supported: " + expression.toOriginalString());
+            }
+            List<Expression.Part> parts = expression.getParts();
+            for (Expression.Part part : parts) {
+                if (part.isVirtualMethod()) {
+                    throw new UnsupportedTemplateException(
+                            "virtual methods are not supported: " + expression.toOriginalString());
+                }
+            }
+
+            Expression.Part first = parts.get(0);
+            Match match = null;
+            boolean isAlias = false;
+            for (Entry<String, Match> alias : aliases) {
+                if (alias.getKey().equals(first.getName())) {
+                    match = alias.getValue();
+                    isAlias = true;
+                    break;
+                } else if (ITERATION_METADATA.contains(first.getName())) {
+                    throw new UnsupportedTemplateException(
+                            "iteration metadata are not supported: " + expression.toOriginalString());
+                }
+            }
+            if (match == null) {
+                // The first part must be a parameter declaration, e.g. {@org.acme.Item item}
+                if (first.getTypeInfo() == null || Expressions.splitTypeInfoParts(first.getTypeInfo()).size() != 1) {
+                    throw new UnsupportedTemplateException("type info not available: " + expression.toOriginalString());
+                }
+                Info info = TypeInfos.create(first.getTypeInfo(), first, index, templateIdToPathFun,
+                        expression.getOrigin());
+                if (!info.isTypeInfo() || info.asTypeInfo().hint != null || !isAccessible(info.asTypeInfo().rawClass)) {
+                    throw new UnsupportedTemplateException(
+                            "type info not supported: " + expression.toOriginalString());
+                }
+                match = params.get(first.getName());
+                if (match == null) {
+                    match = new Match();
+                    match.clazz = info.asTypeInfo().rawClass;
+                    match.type = info.asTypeInfo().resolvedType;
+                    params.put(first.getName(), match);
+                } else if (!match.clazz.equals(info.asTypeInfo().rawClass)) {
+                    throw new UnsupportedTemplateException("parameter declared with different types: " + first.getName());
+                }
+            }
+
+            Value value = new Value(first.getName(), isAlias);
+            Match current = new Match();
+            current.clazz = match.clazz;
+            current.type = match.type;
+            for (Expression.Part part : parts.subList(1, parts.size())) {
+                if (current.clazz == null || current.type.kind() == Type.Kind.PRIMITIVE) {
+                    throw new UnsupportedTemplateException("type of [" + part.getName() + "] in ["
+                            + expression.toOriginalString() + "] is unknown");
+                }
+                AnnotationTarget member = QuteProcessor.findProperty(part.getName(), current.clazz, index);
+                if (member == null || !isSupported(member) || hasPriorExtensionMethod(part.getName(), current.clazz)) {
+                    throw new UnsupportedTemplateException("property [" + part.getName() + "] in ["
+                            + expression.toOriginalString() + "] is not supported");
+                }
+                value.members.add(member);
+                current.type = QuteProcessor.resolveType(member, current, index);
+                current.clazz = current.type.kind() == Type.Kind.CLASS || current.type.kind() == Type.Kind.PARAMETERIZED_TYPE
+                        ? index.getClassByName(current.type.name())
+                        : null;
+            }
+            value.match = current;
+            return value;
+        }
+
+        private boolean isSupported(AnnotationTarget member) {
+            if (member.kind() == Kind.FIELD) {
+                return isAccessible(member.asField().declaringClass());
+            }
+            MethodInfo method = member.asMethod();
+            return method.parameters().isEmpty() && method.returnType().kind() != Type.Kind.VOID
+                    && isAccessible(method.declaringClass());
+        }
+
+        private boolean hasPriorExtensionMethod(String name, ClassInfo clazz) {
+            // Extension methods with higher priority take precedence over the members of a class
+            for (TemplateExtensionMethodBuildItem extensionMethod : templateExtensionMethods) {
+                if (!extensionMethod.hasNamespace()
+                        && extensionMethod.getPriority() >= ValueResolverGenerator.DEFAULT_PRIORITY
+                        && extensionMethod.matchesName(name)
+                        && Types.isAssignableFrom(extensionMethod.getMatchClass().name(), clazz.name(), index)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    static class Scope {
+
+        final ResultHandle output;
+        final Map<String, ResultHandle> values;
+
+        Scope(ResultHandle output) {
+            this.output = output;
+            this.values = new HashMap<>();
+        }
+
+        Scope(Scope parent) {
+            this.output = parent.output;
+            this.values = new HashMap<>(parent.values);
+        }
+
+    }
+
+    /**
+     * A value of an expression, i.e. a parameter or a loop alias followed by a list of properties.
+     */
+    static class Value {
+
+        final String root;
+        final boolean isAlias;
+        final List<AnnotationTarget> members;
+        Match match;
+
+        Value(String root, boolean isAlias) {
+            this.root = root;
+            this.isAlias = isAlias;
+            this.members = new ArrayList<>();
+        }
+
+        ResultHandle generate(BytecodeCreator bytecode, Scope scope) {
+            ResultHandle value = scope.values.get(root);
+            for (Iterator<AnnotationTarget> it = members.iterator(); it.hasNext();) {
+                AnnotationTarget member = it.next();
+                if (member.kind() == Kind.FIELD) {
+                    FieldInfo field = member.asField();
+                    value = bytecode.readInstanceField(FieldDescriptor.of(field),
+                            bytecode.checkCast(value, field.declaringClass().name().toString()));
+                } else {
+                    MethodInfo method = member.asMethod();
+                    ResultHandle base = bytecode.checkCast(value, method.declaringClass().name().toString());
+                    if (Modifier.isInterface(method.declaringClass().flags())) {
+                        value = bytecode.invokeInterfaceMethod(MethodDescriptor.of(method), base);
+                    } else {
+                        value = bytecode.invokeVirtualMethod(MethodDescriptor.of(method), base);
+                    }
+                }
+                if (it.hasNext()) {
+                    // Intermediate null value - let the engine handle this case
+                    bytecode.ifNull(value).trueBranch().returnValue(bytecode.load(false));
+                }
+            }
+            return value;
+        }
+
+    }
+
+    interface Step {
+
+        void generate(BytecodeCreator bytecode, Scope scope);
+
+    }
+
+    static class TextStep implements Step {
+
+        final String text;
+
+        TextStep(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void generate(BytecodeCreator bytecode, Scope scope) {
+            bytecode.invokeInterfaceMethod(OUTPUT_APPEND_TEXT, scope.output, bytecode.load(text));
+        }
+
+    }
+
+    static class OutputStep implements Step {
+
+        final int expressionIndex;
+        final Value value;
+
+        OutputStep(int expressionIndex, Value value) {
+            this.expressionIndex = expressionIndex;
+            this.value = value;
+        }
+
+        @Override
+        public void generate(BytecodeCreator bytecode, Scope scope) {
+            ResultHandle appended = bytecode.invokeInterfaceMethod(OUTPUT_APPEND_VALUE, scope.output,
+                    bytecode.load(expressionIndex), value.generate(bytecode, scope));
+            bytecode.ifTrue(appended).falseBranch().returnValue(bytecode.load(false));
+        }
+
+    }
+
+    static class LoopStep implements Step {
+
+        final Value iterable;
+        final String alias;
+        final ClassInfo elementClass;
+        final List<Step> steps;
+
+        LoopStep(Value iterable, String alias, ClassInfo elementClass, List<Step> steps) {
+            this.iterable = iterable;
+            this.alias = alias;
+            this.elementClass = elementClass;
+            this.steps = steps;
+        }
+
+        @Override
+        public void generate(BytecodeCreator bytecode, Scope scope) {
+            ResultHandle value = iterable.generate(bytecode, scope);
+            // The engine throws an exception if the value is null
+            returnFalseIfNotInstanceOf(bytecode, value, Iterable.class.getName());
+            ResultHandle iterator = bytecode.invokeInterfaceMethod(ITERABLE_ITERATOR, bytecode.checkCast(value,
+                    Iterable.class));
+            WhileLoop loop = bytecode.whileLoop(c -> c.ifTrue(c.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator)));
+            BytecodeCreator block = loop.block();
+            ResultHandle element = block.invokeInterfaceMethod(ITERATOR_NEXT, iterator);
+            returnFalseIfNotInstanceOf(block, element, elementClass.name().toString());
+            Scope loopScope = new Scope(scope);
+            loopScope.values.put(alias, element);
+            for (Step step : steps) {
+                step.generate(block, loopScope);
+            }
+        }
+
+    }
+
+    static class IfStep implements Step {
+
+        final List<Entry<Value, List<Step>>> branches;
+
+        IfStep(List<Entry<Value, List<Step>>> branches) {
+            this.branches = branches;
+        }
+
+        @Override
+        public void generate(BytecodeCreator bytecode, Scope scope) {
+            BytecodeCreator current = bytecode;
+            for (Entry<Value, List<Step>> branch : branches) {
+                if (branch.getKey() == null) {
+                    // {#else}
+                    generateSteps(current, scope, branch.getValue());
+                    break;
+                }
+                ResultHandle condition = branch.getKey().generate(current, scope);
+                if (branch.getKey().match.type.kind() != Type.Kind.PRIMITIVE) {
+                    // The engine waits for the result of a completion stage
+                    current.ifTrue(current.instanceOf(condition, CompletionStage.class)).trueBranch()
+                            .returnValue(current.load(false));
+                }
+                BranchResult falsy = current.ifTrue(current.invokeStaticMethod(IS_FALSY, condition));
+                generateSteps(falsy.falseBranch(), scope, branch.getValue());
+                current = falsy.trueBranch();
+            }
+        }
+
+        private void generateSteps(BytecodeCreator bytecode, Scope scope, List<Step> steps) {
+            for (Step step : steps) {
+                step.generate(bytecode, scope);
+            }
+        }
+
+    }
+
+    static class UnsupportedTemplateException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedTemplateException(String message) {
+            super(message);
+        }
+
+    }
+
+}
@@ -60,11 +60,14 @@ import io.quarkus.arc.processor.DotNames;
 import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.deployment.ApplicationArchive;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.AdditionalIndexedClassesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
@@ -76,6 +79,7 @@ import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.qute.CacheSectionHelper;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.Expression;
@@ -102,6 +106,7 @@ import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator.ResolveCreator;
 import io.quarkus.qute.generator.ValueResolverGenerator;
+import io.quarkus.qute.runtime.CachedSectionCache;
 import io.quarkus.qute.runtime.ContentTypes;
 import io.quarkus.qute.runtime.EngineProducer;
 import io.quarkus.qute.runtime.QuteConfig;
@@ -113,6 +118,7 @@ import io.quarkus.qute.runtime.extensions.ConfigTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.MapTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.NumberTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.TimeTemplateExtensions;
+import io.quarkus.runtime.util.HashUtil;
 
 public class QuteProcessor {
 
@@ -120,11 +126,23 @@ public class QuteProcessor {
 
     private static final Logger LOGGER = Logger.getLogger(QuteProcessor.class);
 
+    private static final String COMPILED_TEMPLATES_PACKAGE = "io.quarkus.qute.generated";
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(Feature.QUTE);
     }
 
+    @BuildStep
+    void cachedSectionCache(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<AdditionalIndexedClassesBuildItem> additionalIndexedClasses) {
+        if (capabilities.isPresent(Capability.CACHE)) {
+            // The class must be indexed so that the cache extension creates the cache injected in the bean
+            additionalIndexedClasses.produce(new AdditionalIndexedClassesBuildItem(CachedSectionCache.class.getName()));
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(CachedSectionCache.class));
+        }
+    }
+
     @BuildStep
     void processTemplateErrors(TemplatesAnalysisBuildItem analysis, List<IncorrectExpressionBuildItem> incorrectExpressions,
             BuildProducer<ServiceStartBuildItem> serviceStart) {
@@ -301,14 +319,16 @@ public class QuteProcessor {
     }
 
     @BuildStep
-    TemplatesAnalysisBuildItem analyzeTemplates(List<TemplatePathBuildItem> templatePaths,
+    TemplatesAnalysisBuildItem analyzeTemplates(QuteConfig config, List<TemplatePathBuildItem> templatePaths,
             List<CheckedTemplateBuildItem> checkedTemplates, List<MessageBundleMethodBuildItem> messageBundleMethods) {
         long start = System.currentTimeMillis();
         List<TemplateAnalysis> analysis = new ArrayList<>();
 
         // A dummy engine instance is used to parse and validate all templates during the build
         // The real engine instance is created at startup
-        EngineBuilder builder = Engine.builder().addDefaultSectionHelpers();
+        EngineBuilder builder = Engine.builder().addDefaultSectionHelpers()
+                .removeStandaloneLines(config.removeStandaloneLines);
+        builder.addSectionHelper(new CacheSectionHelper.Factory());
 
         // Register user tags
         for (TemplatePathBuildItem path : templatePaths) {
@@ -397,7 +417,8 @@ public class QuteProcessor {
         for (TemplatePathBuildItem path : templatePaths) {
             Template template = dummyEngine.getTemplate(path.getPath());
             if (template != null) {
-                analysis.add(new TemplateAnalysis(null, template.getGeneratedId(), template.getExpressions(), path.getPath()));
+                analysis.add(new TemplateAnalysis(null, template.getGeneratedId(), template.getExpressions(), path.getPath(),
+                        template));
             }
         }
 
@@ -407,7 +428,8 @@ public class QuteProcessor {
             analysis.add(new TemplateAnalysis(messageBundleMethod.getTemplateId(), template.getGeneratedId(),
                     template.getExpressions(),
                     messageBundleMethod.getMethod().declaringClass().name() + "#" + messageBundleMethod.getMethod().name()
-                            + "()"));
+                            + "()",
+                    template));
         }
 
         LOGGER.debugf("Finished analysis of %s templates in %s ms", analysis.size(), System.currentTimeMillis() - start);
@@ -857,6 +879,74 @@ public class QuteProcessor {
         }
     }
 
+    @BuildStep
+    void compileTemplates(QuteConfig config, BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BeanArchiveIndexBuildItem beanArchiveIndex, TemplatesAnalysisBuildItem templatesAnalysis,
+            List<TemplatePathBuildItem> templatePaths, List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            BuildProducer<GeneratedCompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (!config.compileTemplates) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Set<String> paths = templatePaths.stream().filter(p -> !p.isTag()).map(TemplatePathBuildItem::getPath)
+                .collect(Collectors.toSet());
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(beanArchiveIndex.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true), templateExtensionMethods,
+                id -> findTemplatePath(templatesAnalysis, id));
+        int count = 0;
+
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            if (analysis.id != null || !paths.contains(analysis.path)) {
+                // Message bundle templates and tags are not compiled
+                continue;
+            }
+            String className = COMPILED_TEMPLATES_PACKAGE + "." + sanitizeTemplatePath(analysis.path) + "_"
+                    + HashUtil.sha1(analysis.path) + CompiledTemplateGenerator.SUFFIX;
+            if (!generator.generate(analysis.template, className)) {
+                continue;
+            }
+            count++;
+            reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, className));
+            // The template can be obtained via the full path, e.g. items.html,
+            compiledTemplates.produce(new GeneratedCompiledTemplateBuildItem(analysis.path, className));
+            // or via the path without the suffix, e.g. items, if it's resolved to the same file at runtime
+            for (String suffix : config.suffixes) {
+                String dotSuffix = "." + suffix;
+                if (analysis.path.endsWith(dotSuffix)) {
+                    String base = analysis.path.substring(0, analysis.path.length() - dotSuffix.length());
+                    if (resolvesTo(base, analysis.path, paths, config.suffixes)) {
+                        compiledTemplates.produce(new GeneratedCompiledTemplateBuildItem(base, className));
+                    }
+                    break;
+                }
+            }
+        }
+        LOGGER.debugf("Compiled %s templates in %s ms", count, System.currentTimeMillis() - start);
+    }
+
+    private static boolean resolvesTo(String id, String path, Set<String> paths, List<String> suffixes) {
+        // Mirrors the lookup performed by the EngineProducer at runtime
+        if (paths.contains(id)) {
+            return false;
+        }
+        for (String suffix : suffixes) {
+            String candidate = id + "." + suffix;
+            if (paths.contains(candidate)) {
+                return candidate.equals(path);
+            }
+        }
+        return false;
+    }
+
+    private static String sanitizeTemplatePath(String path) {
+        StringBuilder builder = new StringBuilder();
+        for (char c : path.toCharArray()) {
+            builder.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        return builder.toString();
+    }
+
     @BuildStep
     void collectTemplates(ApplicationArchivesBuildItem applicationArchivesBuildItem,
             BuildProducer<HotDeploymentWatchedFileBuildItem> watchedPaths,
@@ -967,7 +1057,8 @@ public class QuteProcessor {
     @Record(value = STATIC_INIT)
     void initialize(QuteConfig config, BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers, List<TemplatePathBuildItem> templatePaths,
-            Optional<TemplateVariantsBuildItem> templateVariants) {
+            Optional<TemplateVariantsBuildItem> templateVariants,
+            List<GeneratedCompiledTemplateBuildItem> generatedCompiledTemplates) {
 
         List<String> templates = new ArrayList<>();
         List<String> tags = new ArrayList<>();
@@ -987,15 +1078,20 @@ public class QuteProcessor {
             variants = Collections.emptyMap();
         }
 
+        Map<String, String> compiledTemplates = new HashMap<>();
+        for (GeneratedCompiledTemplateBuildItem compiledTemplate : generatedCompiledTemplates) {
+            compiledTemplates.put(compiledTemplate.getTemplateId(), compiledTemplate.getClassName());
+        }
+
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(QuteContext.class)
                 .supplier(recorder.createContext(config, generatedValueResolvers.stream()
                         .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
-                        tags, variants))
+                        tags, variants, compiledTemplates))
                 .done());
         ;
     }
 
-    private static Type resolveType(AnnotationTarget member, Match match, IndexView index) {
+    static Type resolveType(AnnotationTarget member, Match match, IndexView index) {
         Type matchType;
         if (member.kind() == Kind.FIELD) {
             matchType = member.asField().type();
@@ -1216,7 +1312,7 @@ public class QuteProcessor {
      * @param index
      * @return the property or null
      */
-    private static AnnotationTarget findProperty(String name, ClassInfo clazz, IndexView index) {
+    static AnnotationTarget findProperty(String name, ClassInfo clazz, IndexView index) {
         while (clazz != null) {
             // Fields
             for (FieldInfo field : clazz.fields()) {
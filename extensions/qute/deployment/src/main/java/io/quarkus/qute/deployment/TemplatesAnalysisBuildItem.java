@@ -5,6 +5,7 @@ import java.util.Set;
 
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.qute.Expression;
+import io.quarkus.qute.Template;
 
 /**
  * Represents the result of analysis of all templates.
@@ -28,12 +29,14 @@ public final class TemplatesAnalysisBuildItem extends SimpleBuildItem {
         public final String generatedId;
         public final Set<Expression> expressions;
         public final String path;
+        public final Template template;
 
-        public TemplateAnalysis(String id, String generatedId, Set<Expression> expressions, String path) {
+        public TemplateAnalysis(String id, String generatedId, Set<Expression> expressions, String path, Template template) {
             this.id = id;
             this.generatedId = generatedId;
             this.expressions = expressions;
             this.path = path;
+            this.template = template;
         }
 
     }
@@ -0,0 +1,84 @@
+package io.quarkus.qute.deployment.cached;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.runtime.CachedSectionCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CachedSectionCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Counter.class)
+                    .addAsResource(new StringAsset("{#cached 'key'}{inject:counter.next}{/cached}"), "templates/foo.html")
+                    .addAsResource(new StringAsset("{#cached 'key'}{inject:counter.next}{/cached}"), "templates/bar.html"));
+
+    @Inject
+    Template foo;
+
+    @Inject
+    Template bar;
+
+    @Inject
+    CachedSectionCache sectionCache;
+
+    @Inject
+    @CacheName(CachedSectionCache.CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testCachedSection() {
+        assertEquals("1", foo.render());
+        assertEquals("1", foo.render());
+        // The key is namespaced with the template id
+        assertEquals("2", bar.render());
+        assertEquals("2", bar.render());
+
+        // The content is stored in the cache of the cache extension
+        assertEquals(2, cache.asMap().size());
+        for (Object key : cache.asMap().keySet()) {
+            assertTrue(key instanceof CacheSectionHelper.Key);
+            assertEquals("key", ((CacheSectionHelper.Key) key).getValue());
+        }
+
+        // Invalidates the content of both sections
+        sectionCache.invalidate("key");
+        assertEquals(0, cache.asMap().size());
+        assertEquals("3", foo.render());
+        assertEquals("4", bar.render());
+
+        cache.invalidateAll();
+        assertEquals("5", foo.render());
+    }
+
+    @Named
+    @Singleton
+    public static class Counter {
+
+        private final AtomicInteger value = new AtomicInteger();
+
+        public int next() {
+            return value.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,151 @@
+package io.quarkus.qute.deployment.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.ResultMapper;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.TemplateNode.Origin;
+import io.quarkus.qute.runtime.QuteRecorder.QuteContext;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Item.class, ExpressionMapper.class)
+                    .addAsResource(new StringAsset("{@io.quarkus.qute.deployment.compiled.CompiledTemplateTest$Item item}\n"
+                            + "<h1>{item.name}</h1>\n"
+                            + "{#for tag in item.tags}\n"
+                            + "<span>{tag}</span>\n"
+                            + "{/for}\n"
+                            + "{#if item.active}\n"
+                            + "active\n"
+                            + "{#else}\n"
+                            + "inactive\n"
+                            + "{/if}"),
+                            "templates/items.html")
+                    .addAsResource(new StringAsset("{@io.quarkus.qute.deployment.compiled.CompiledTemplateTest$Item item}"
+                            + "{item.name.toUpperCase}:{item.tags.size}"),
+                            "templates/virtual.html")
+                    // The expressions in the blocks that are never rendered must be counted as well
+                    .addAsResource(new StringAsset("{@io.quarkus.qute.deployment.compiled.CompiledTemplateTest$Item item}"
+                            + "{#if item.active}A{item.name}{#else if item.code}B{item.name}{#else}C{item.name}"
+                            + "{#else}D{item.name}{/if}:{item.code}"),
+                            "templates/branches.txt")
+                    .addAsResource(new StringAsset("quarkus.qute.compile-templates=true"), "application.properties"));
+
+    @Inject
+    Template items;
+
+    @Inject
+    Template virtual;
+
+    @Inject
+    Template branches;
+
+    @Inject
+    QuteContext context;
+
+    @Test
+    public void testCompiledTemplates() {
+        assertTrue(context.getCompiledTemplates().containsKey("items.html"));
+        assertTrue(context.getCompiledTemplates().containsKey("items"));
+        // Virtual methods are not supported
+        assertFalse(context.getCompiledTemplates().containsKey("virtual.html"));
+
+        assertEquals("<h1>Foo &amp; Bar</h1>\n<span>a</span>\n<span>&lt;b&gt;</span>\nactive\n",
+                items.data("item", new Item("Foo & Bar", true, Arrays.asList("a", "<b>"))).render());
+        assertEquals("<h1>Baz</h1>\ninactive\n",
+                items.data("item", new Item("Baz", false, Collections.emptyList())).render());
+        // The iterable is null - falls back to the engine
+        assertThrows(TemplateException.class, () -> items.data("item", new Item("Qux", false, null)).render());
+        assertEquals("FOO:1", virtual.data("item", new Item("foo", true, Collections.singletonList("a"))).render());
+    }
+
+    @Test
+    public void testExpressionIndexes() {
+        assertTrue(context.getCompiledTemplates().containsKey("branches.txt"));
+        // The result mapper receives the expression that is rendered
+        assertEquals("A[item.name=Foo]:[item.code=X]", branches.data("item", new Item("Foo", true, null, "X")).render());
+        assertEquals("B[item.name=Bar]:[item.code=Y]", branches.data("item", new Item("Bar", false, null, "Y")).render());
+        assertEquals("C[item.name=Baz]:[item.code=]", branches.data("item", new Item("Baz", false, null, "")).render());
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final boolean active;
+        private final List<String> tags;
+        private final String code;
+
+        public Item(String name, boolean active, List<String> tags) {
+            this(name, active, tags, null);
+        }
+
+        public Item(String name, boolean active, List<String> tags, String code) {
+            this.name = name;
+            this.active = active;
+            this.tags = tags;
+            this.code = code;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    @Singleton
+    public static class ExpressionMapper {
+
+        void configureEngine(@Observes EngineBuilder builder) {
+            builder.addResultMapper(new ResultMapper() {
+
+                @Override
+                public boolean appliesTo(Origin origin, Object result) {
+                    return origin.getTemplateId().startsWith("branches");
+                }
+
+                @Override
+                public String map(Object result, Expression expression) {
+                    return "[" + expression.toOriginalString() + "=" + result + "]";
+                }
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.quarkus.qute.runtime;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.CacheSectionHelper.CachedResult;
+import io.quarkus.qute.CacheSectionHelper.Key;
+
+/**
+ * Stores the content of the {@code cached} sections in the {@value #CACHE_NAME} cache of the application data caching
+ * extension. This bean is only registered if the extension is present.
+ */
+@Singleton
+public class CachedSectionCache implements CacheSectionHelper.Cache {
+
+    public static final String CACHE_NAME = "qute-cached-section";
+
+    @Inject
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Override
+    public CompletionStage<CachedResult> getValue(Key key, Function<Key, CompletionStage<CachedResult>> loader) {
+        return cache.getAsync(key, loader);
+    }
+
+    @Override
+    public void invalidate(Key key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void invalidate(Key key, CachedResult result) {
+        cache.asMap().remove(key, result);
+    }
+
+    @Override
+    public void invalidate(String value) {
+        cache.invalidateIf(key -> key instanceof Key && ((Key) key).getValue().equals(value));
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+}
@@ -6,6 +6,7 @@ import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -18,6 +19,8 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.NamespaceResolver;
@@ -85,6 +88,11 @@ public class EngineProducer {
         // Remove standalone lines if desired
         builder.removeStandaloneLines(context.getConfig().removeStandaloneLines);
 
+        // Use the cache extension to store the content of {#cached} sections if present
+        InstanceHandle<CacheSectionHelper.Cache> cache = Arc.container().instance(CacheSectionHelper.Cache.class);
+        builder.addSectionHelper(
+                cache.isAvailable() ? new CacheSectionHelper.Factory(cache.get()) : new CacheSectionHelper.Factory());
+
         // Allow anyone to customize the builder
         builderReady.fire(builder);
 
@@ -112,6 +120,11 @@ public class EngineProducer {
             LOGGER.debugf("Registered UserTagSectionHelper for %s [%s]", tagName, tagTemplateId);
             builder.addSectionHelper(new UserTagSectionHelper.Factory(tagName, tagTemplateId));
         }
+        // Add compiled templates
+        for (Entry<String, String> entry : context.getCompiledTemplates().entrySet()) {
+            builder.addCompiledTemplate(entry.getKey(), createCompiledTemplate(entry.getValue()));
+            LOGGER.debugf("Added compiled template %s for %s", entry.getValue(), entry.getKey());
+        }
         // Add locator
         builder.addLocator(this::locate);
         engine = builder.build();
@@ -150,6 +163,19 @@ public class EngineProducer {
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClassName);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     /**
      * @param path
      * @return the optional reader
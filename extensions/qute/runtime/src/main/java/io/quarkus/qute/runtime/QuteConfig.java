@@ -34,4 +34,15 @@ public class QuteConfig {
     @ConfigItem
     public Map<String, String> contentTypes;
 
+    /**
+     * If set to {@code true} then the templates with type-safe expressions are compiled to bytecode during the build.
+     * <p>
+     * A compiled template is rendered without the value resolvers and section helpers. Currently, only text, expressions
+     * that reference properties and no-args methods, the {@code #for}/{@code #each} sections that iterate over an
+     * {@link Iterable} and the {@code #if} sections with single-operand conditions can be compiled. Other templates, and
+     * templates that cannot render the data synchronously, are rendered as usual.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compileTemplates;
+
 }
@@ -92,6 +92,29 @@ public class DataSourceReactiveRuntimeConfig {
     @ConfigItem
     public Optional<Boolean> threadLocal = Optional.empty();
 
+    /**
+     * The maximum number of connections opened by all the thread-local pools together.
+     * Once the limit is reached, new threads share the existing pools.
+     * Only used if {@code thread-local} is enabled.
+     */
+    @ConfigItem(defaultValueDocumentation = "no limit")
+    public OptionalInt threadLocalMaxTotalSize = OptionalInt.empty();
+
+    /**
+     * Whether only the event loop threads get their own pool; the other threads, e.g. worker threads, share a single pool.
+     * Only used if {@code thread-local} is enabled.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean threadLocalEventLoopOnly = false;
+
+    /**
+     * The time after which a thread-local pool that was not used is closed, e.g. the pool of a worker thread that is no
+     * longer active. It must be longer than the longest transaction.
+     * Only used if {@code thread-local} is enabled.
+     */
+    @ConfigItem(defaultValueDocumentation = "never closed")
+    public Optional<Duration> threadLocalIdleTimeout = Optional.empty();
+
     /**
      * The number of reconnection attempts when a pooled connection cannot be established on first try.
      */
@@ -1,13 +1,20 @@
 package io.quarkus.reactive.datasource.runtime;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.StampedLock;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.sqlclient.Pool;
@@ -23,14 +30,44 @@ public abstract class ThreadLocalPool<PoolType extends Pool> implements Pool {
 
     private static final Logger log = Logger.getLogger(ThreadLocalPool.class);
 
+    private static final long MIN_REAPER_INTERVAL_MILLIS = 1000;
+
     private final AtomicReference<ThreadLocalPoolSet> poolset = new AtomicReference<>(new ThreadLocalPoolSet());
 
     protected final PoolOptions poolOptions;
     protected final Vertx vertx;
 
-    public ThreadLocalPool(Vertx vertx, PoolOptions poolOptions) {
+    private final String dataSourceName;
+    // A value lower than 1 means no limit
+    private final int maxTotalSize;
+    private final boolean eventLoopOnly;
+    // A value lower than 1 means the unused pools are never closed
+    private final long idleTimeoutNanos;
+    private final long reaperTimerId;
+    private final AtomicLong reapedCount = new AtomicLong();
+    private volatile TimeRecorder acquireTimeRecorder;
+
+    public ThreadLocalPool(Vertx vertx, PoolOptions poolOptions, String dataSourceName,
+            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
         this.vertx = vertx;
         this.poolOptions = poolOptions;
+        this.dataSourceName = dataSourceName;
+        this.maxTotalSize = dataSourceReactiveRuntimeConfig.threadLocalMaxTotalSize.orElse(0);
+        this.eventLoopOnly = dataSourceReactiveRuntimeConfig.threadLocalEventLoopOnly;
+        if (dataSourceReactiveRuntimeConfig.threadLocalIdleTimeout.isPresent()) {
+            long idleTimeoutMillis = dataSourceReactiveRuntimeConfig.threadLocalIdleTimeout.get().toMillis();
+            this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+            this.reaperTimerId = vertx.setPeriodic(Math.max(MIN_REAPER_INTERVAL_MILLIS, idleTimeoutMillis / 2),
+                    new Handler<Long>() {
+                        @Override
+                        public void handle(Long timerId) {
+                            closeIdlePools(System.nanoTime());
+                        }
+                    });
+        } else {
+            this.idleTimeoutNanos = 0;
+            this.reaperTimerId = -1;
+        }
     }
 
     private PoolType pool() {
@@ -47,11 +84,16 @@ public abstract class ThreadLocalPool<PoolType extends Pool> implements Pool {
         throw new IllegalStateException("Multiple attempts to reopen a new pool on a closed instance: aborting");
     }
 
-    protected abstract PoolType createThreadLocalPool();
+    /**
+     * @param poolOptions the options of the pool; the maximum size may be lower than the configured one if the total size
+     *        of the thread-local pools is limited
+     * @return a new pool
+     */
+    protected abstract PoolType createThreadLocalPool(PoolOptions poolOptions);
 
     @Override
     public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
-        pool().getConnection(handler);
+        pool().getConnection(timed(handler));
     }
 
     @Override
@@ -66,7 +108,22 @@ public abstract class ThreadLocalPool<PoolType extends Pool> implements Pool {
 
     @Override
     public void begin(Handler<AsyncResult<Transaction>> handler) {
-        pool().begin(handler);
+        pool().begin(timed(handler));
+    }
+
+    private <T> Handler<AsyncResult<T>> timed(Handler<AsyncResult<T>> handler) {
+        TimeRecorder recorder = acquireTimeRecorder;
+        if (recorder == null) {
+            return handler;
+        }
+        long start = System.nanoTime();
+        return new Handler<AsyncResult<T>>() {
+            @Override
+            public void handle(AsyncResult<T> result) {
+                recorder.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                handler.handle(result);
+            }
+        };
     }
 
     /**
@@ -84,13 +141,49 @@ public abstract class ThreadLocalPool<PoolType extends Pool> implements Pool {
         // Atomically set a new pool to be used: useful for live-reloading.
         final ThreadLocalPoolSet previousPool = poolset.getAndSet(new ThreadLocalPoolSet());
         previousPool.close();
+        if (reaperTimerId != -1) {
+            vertx.cancelTimer(reaperTimerId);
+        }
+        ThreadLocalPoolMetrics.unregister(this);
+    }
+
+    void closeIdlePools(long now) {
+        poolset.get().closeIdlePools(now);
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory) {
+        String tagValue = DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName;
+        metricsFactory.builder("reactive.pool.thread.local.count")
+                .description("Number of open thread-local pools.")
+                .tag("datasource", tagValue)
+                .buildGauge(this, p -> p.poolset.get().getPoolCount());
+        metricsFactory.builder("reactive.pool.thread.local.max.size")
+                .description("Sum of the maximum sizes of the open thread-local pools, i.e. the maximum number of "
+                        + "connections that can be opened.")
+                .tag("datasource", tagValue)
+                .buildGauge(this, p -> p.poolset.get().getReservedSize());
+        metricsFactory.builder("reactive.pool.thread.local.closed.idle")
+                .description("Number of thread-local pools closed because they were not used.")
+                .tag("datasource", tagValue)
+                .buildCounter(reapedCount::get);
+        acquireTimeRecorder = metricsFactory.builder("reactive.pool.acquire.duration")
+                .description("Time spent waiting for a connection or a transaction.")
+                .tag("datasource", tagValue)
+                .unit("nanoseconds")
+                .buildTimer();
     }
 
     private class ThreadLocalPoolSet {
-        final List<Pool> threadLocalPools = new ArrayList<>();
-        final ThreadLocal<PoolType> threadLocal = new ThreadLocal<>();
+        // Guarded by itself
+        final List<PoolEntry> threadLocalPools = new ArrayList<>();
+        final ThreadLocal<PoolEntry> threadLocal = new ThreadLocal<>();
         final StampedLock stampedLock = new StampedLock();
         boolean isOpen = true;
+        // The pool shared by the threads other than event loops if eventLoopOnly is set
+        volatile PoolEntry sharedPool;
+        // Guarded by threadLocalPools
+        int reservedSize;
+        int nextPool;
 
         public PoolType getPool() {
             final long optimisticRead = stampedLock.tryOptimisticRead();
@@ -98,10 +191,11 @@ public abstract class ThreadLocalPool<PoolType extends Pool> implements Pool {
                 //Let the caller re-try on a different instance
                 return null;
             }
-            PoolType ret = threadLocal.get();
-            if (ret != null) {
+            final boolean shared = eventLoopOnly && !Context.isOnEventLoopThread();
+            PoolEntry ret = shared ? sharedPool : threadLocal.get();
+            if (ret != null && ret.markUsed()) {
                 if (stampedLock.validate(optimisticRead)) {
-                    return ret;
+                    return ret.pool;
                 } else {
                     //On invalid optimisticRead stamp, it means this pool instance was closed:
                     //let the caller re-try on a different instance
@@ -115,19 +209,81 @@ public abstract class ThreadLocalPool<PoolType extends Pool> implements Pool {
                     return null;
                 //else, we own the exclusive read lock and can now enter our slow path:
                 try {
-                    log.debugf("Making pool for thread: %s", Thread.currentThread());
-                    ret = createThreadLocalPool();
-                    synchronized (threadLocalPools) {
-                        threadLocalPools.add(ret);
+                    ret = acquirePool(shared);
+                    if (shared) {
+                        sharedPool = ret;
+                    } else {
+                        threadLocal.set(ret);
                     }
-                    threadLocal.set(ret);
-                    return ret;
+                    return ret.pool;
                 } finally {
                     stampedLock.unlockRead(readLock);
                 }
             }
         }
 
+        private PoolEntry acquirePool(boolean shared) {
+            synchronized (threadLocalPools) {
+                if (shared && sharedPool != null && sharedPool.markUsed()) {
+                    // Another thread created the shared pool in the meantime
+                    return sharedPool;
+                }
+                int maxSize = poolOptions.getMaxSize();
+                if (maxTotalSize > 0) {
+                    int available = maxTotalSize - reservedSize;
+                    if (available <= 0) {
+                        // The limit is reached - share one of the existing pools
+                        // The list is not empty and the entries are only closed while holding the lock, i.e. are open
+                        PoolEntry entry = threadLocalPools.get(Math.floorMod(nextPool++, threadLocalPools.size()));
+                        entry.markUsed();
+                        log.debugf("Sharing pool %s with thread: %s", entry.pool, Thread.currentThread());
+                        return entry;
+                    }
+                    maxSize = Math.min(maxSize, available);
+                }
+                log.debugf("Making pool for thread: %s", Thread.currentThread());
+                PoolEntry entry = new PoolEntry(createThreadLocalPool(new PoolOptions(poolOptions).setMaxSize(maxSize)),
+                        maxSize);
+                threadLocalPools.add(entry);
+                reservedSize += maxSize;
+                return entry;
+            }
+        }
+
+        void closeIdlePools(long now) {
+            List<PoolEntry> idle = new ArrayList<>();
+            synchronized (threadLocalPools) {
+                if (!isOpen) {
+                    return;
+                }
+                for (Iterator<PoolEntry> it = threadLocalPools.iterator(); it.hasNext();) {
+                    PoolEntry entry = it.next();
+                    if (entry.closeIfIdle(now, idleTimeoutNanos)) {
+                        it.remove();
+                        reservedSize -= entry.maxSize;
+                        idle.add(entry);
+                    }
+                }
+            }
+            for (PoolEntry entry : idle) {
+                log.debugf("Closing idle pool: %s", entry.pool);
+                reapedCount.incrementAndGet();
+                entry.pool.close();
+            }
+        }
+
+        int getPoolCount() {
+            synchronized (threadLocalPools) {
+                return threadLocalPools.size();
+            }
+        }
+
+        int getReservedSize() {
+            synchronized (threadLocalPools) {
+                return reservedSize;
+            }
+        }
+
         public void close() {
             final long lock = stampedLock.writeLock();
             try {
@@ -136,9 +292,9 @@ public abstract class ThreadLocalPool<PoolType extends Pool> implements Pool {
                 //pool instances, it shouldn't block the getPool method as contention is
                 //prevented by the exclusive stamped lock.
                 synchronized (threadLocalPools) {
-                    for (Pool pool : threadLocalPools) {
-                        log.debugf("Closing pool: %s", pool);
-                        pool.close();
+                    for (PoolEntry entry : threadLocalPools) {
+                        log.debugf("Closing pool: %s", entry.pool);
+                        entry.pool.close();
                     }
                 }
             } finally {
@@ -147,4 +303,42 @@ public abstract class ThreadLocalPool<PoolType extends Pool> implements Pool {
         }
     }
 
+    private class PoolEntry {
+
+        final PoolType pool;
+        final int maxSize;
+        volatile long lastUsed;
+        volatile boolean closed;
+
+        PoolEntry(PoolType pool, int maxSize) {
+            this.pool = pool;
+            this.maxSize = maxSize;
+            this.lastUsed = System.nanoTime();
+        }
+
+        /**
+         * The timestamp is written before the flag is read and {@link #closeIfIdle(long, long)} does the opposite, so
+         * either the caller sees the pool closed or the pool is not closed.
+         *
+         * @return {@code true} if the pool can be used
+         */
+        boolean markUsed() {
+            lastUsed = System.nanoTime();
+            return !closed;
+        }
+
+        boolean closeIfIdle(long now, long idleTimeoutNanos) {
+            if (idleTimeoutNanos < 1 || now - lastUsed < idleTimeoutNanos) {
+                return false;
+            }
+            closed = true;
+            if (now - lastUsed < idleTimeoutNanos) {
+                // Used in the meantime
+                closed = false;
+                return false;
+            }
+            return true;
+        }
+    }
+
 }
@@ -0,0 +1,46 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Keeps track of the open thread-local pools so that their metrics can be registered no matter if the pools are created
+ * before or after the metrics factory is available.
+ */
+public final class ThreadLocalPoolMetrics {
+
+    private static final List<ThreadLocalPool<?>> POOLS = new ArrayList<>();
+    private static MetricsFactory metricsFactory;
+
+    private ThreadLocalPoolMetrics() {
+    }
+
+    /**
+     * Registers the metrics of the given pool once the metrics factory is available. The pool unregisters itself when
+     * closed.
+     *
+     * @param pool a fully constructed pool
+     */
+    public static synchronized void register(ThreadLocalPool<?> pool) {
+        POOLS.add(pool);
+        if (metricsFactory != null) {
+            pool.registerMetrics(metricsFactory);
+        }
+    }
+
+    static synchronized void unregister(ThreadLocalPool<?> pool) {
+        POOLS.remove(pool);
+    }
+
+    static synchronized void setMetricsFactory(MetricsFactory factory) {
+        metricsFactory = factory;
+        if (factory != null) {
+            for (ThreadLocalPool<?> pool : POOLS) {
+                pool.registerMetrics(factory);
+            }
+        }
+    }
+
+}
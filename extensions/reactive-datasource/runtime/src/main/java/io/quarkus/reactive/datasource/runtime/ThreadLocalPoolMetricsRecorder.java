@@ -0,0 +1,20 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class ThreadLocalPoolMetricsRecorder {
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerThreadLocalPoolMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                ThreadLocalPoolMetrics.setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+}
@@ -0,0 +1,320 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+
+public class ThreadLocalPoolTest {
+
+    private Vertx vertx;
+    private TestPool pool;
+
+    @BeforeEach
+    public void init() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        if (pool != null) {
+            pool.close();
+        }
+        ThreadLocalPoolMetrics.setMetricsFactory(null);
+        vertx.close();
+    }
+
+    @Test
+    public void testMaxTotalSize() throws Exception {
+        DataSourceReactiveRuntimeConfig config = new DataSourceReactiveRuntimeConfig();
+        config.threadLocalMaxTotalSize = OptionalInt.of(6);
+        pool = new TestPool(vertx, new PoolOptions().setMaxSize(4), config);
+
+        TestDelegate first = runOnNewThread(pool::use);
+        TestDelegate second = runOnNewThread(pool::use);
+        assertNotSame(first, second);
+        assertEquals(4, first.maxSize);
+        // Only the remaining part of the budget is reserved
+        assertEquals(2, second.maxSize);
+
+        // The limit is reached - the existing pools are shared round-robin
+        TestDelegate third = runOnNewThread(pool::use);
+        TestDelegate fourth = runOnNewThread(pool::use);
+        assertEquals(2, pool.delegates.size());
+        assertTrue(third == first || third == second);
+        assertTrue(fourth == first || fourth == second);
+        assertNotSame(third, fourth);
+    }
+
+    @Test
+    public void testEventLoopOnly() throws Exception {
+        DataSourceReactiveRuntimeConfig config = new DataSourceReactiveRuntimeConfig();
+        config.threadLocalEventLoopOnly = true;
+        pool = new TestPool(vertx, new PoolOptions().setMaxSize(4), config);
+
+        // The worker threads share a single pool
+        TestDelegate first = runOnNewThread(pool::use);
+        TestDelegate second = runOnNewThread(pool::use);
+        assertSame(first, second);
+        assertSame(first, pool.use());
+
+        // The event loop gets a dedicated pool
+        CompletableFuture<TestDelegate> onEventLoop = new CompletableFuture<>();
+        vertx.runOnContext(v -> onEventLoop.complete(pool.use()));
+        TestDelegate eventLoop = onEventLoop.get(5, TimeUnit.SECONDS);
+        assertNotSame(first, eventLoop);
+        assertEquals(2, pool.delegates.size());
+    }
+
+    @Test
+    public void testIdlePoolsClosed() throws Exception {
+        DataSourceReactiveRuntimeConfig config = new DataSourceReactiveRuntimeConfig();
+        config.threadLocalIdleTimeout = Optional.of(Duration.ofMinutes(1));
+        pool = new TestPool(vertx, new PoolOptions().setMaxSize(4), config);
+        TestMetricsFactory metrics = new TestMetricsFactory();
+        pool.registerMetrics(metrics);
+
+        TestDelegate idle = runOnNewThread(pool::use);
+        TestDelegate used = pool.use();
+        assertEquals(2, metrics.value("reactive.pool.thread.local.count"));
+
+        // Not idle yet
+        pool.closeIdlePools(System.nanoTime());
+        assertFalse(idle.closed);
+        assertEquals(0, metrics.value("reactive.pool.thread.local.closed.idle"));
+
+        pool.closeIdlePools(System.nanoTime() + TimeUnit.MINUTES.toNanos(2));
+        assertTrue(idle.closed);
+        assertTrue(used.closed);
+        assertEquals(0, metrics.value("reactive.pool.thread.local.count"));
+        assertEquals(0, metrics.value("reactive.pool.thread.local.max.size"));
+        assertEquals(2, metrics.value("reactive.pool.thread.local.closed.idle"));
+
+        // A new pool is created for a thread whose pool was closed
+        TestDelegate next = pool.use();
+        assertNotSame(used, next);
+        assertFalse(next.closed);
+        assertEquals(1, metrics.value("reactive.pool.thread.local.count"));
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        TestMetricsFactory metrics = new TestMetricsFactory();
+        pool = new TestPool(vertx, new PoolOptions().setMaxSize(4), new DataSourceReactiveRuntimeConfig());
+        // The pool is registered before the metrics factory is available
+        ThreadLocalPoolMetrics.register(pool);
+        assertTrue(metrics.gauges.isEmpty());
+        ThreadLocalPoolMetrics.setMetricsFactory(metrics);
+        assertEquals(0, metrics.value("reactive.pool.thread.local.count"));
+
+        runOnNewThread(pool::use);
+        pool.use();
+        assertEquals(2, metrics.value("reactive.pool.thread.local.count"));
+        assertEquals(8, metrics.value("reactive.pool.thread.local.max.size"));
+        assertEquals("default", metrics.tags.get("reactive.pool.thread.local.count"));
+
+        AtomicReference<AsyncResult<?>> result = new AtomicReference<>();
+        pool.getConnection(result::set);
+        assertTrue(result.get().succeeded());
+        assertEquals(1, metrics.timerUpdates.get());
+
+        // A pool registered after the metrics factory is available
+        TestPool other = new TestPool(vertx, new PoolOptions().setMaxSize(4), new DataSourceReactiveRuntimeConfig());
+        try {
+            metrics.gauges.clear();
+            ThreadLocalPoolMetrics.register(other);
+            assertEquals(0, metrics.value("reactive.pool.thread.local.count"));
+        } finally {
+            other.close();
+        }
+    }
+
+    private static <T> T runOnNewThread(Callable<T> action) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(action.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        thread.start();
+        thread.join();
+        return result.get();
+    }
+
+    static class TestDelegate {
+
+        // The delegate that received the last call on the current thread
+        static final ThreadLocal<TestDelegate> CURRENT = new ThreadLocal<>();
+
+        final Pool pool;
+        final int maxSize;
+        volatile boolean closed;
+
+        TestDelegate(int maxSize) {
+            this.maxSize = maxSize;
+            this.pool = (Pool) Proxy.newProxyInstance(ThreadLocalPoolTest.class.getClassLoader(),
+                    new Class<?>[] { Pool.class }, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getConnection":
+                                CURRENT.set(this);
+                                @SuppressWarnings("unchecked")
+                                Handler<AsyncResult<Object>> handler = (Handler<AsyncResult<Object>>) args[0];
+                                handler.handle(Future.succeededFuture());
+                                return null;
+                            case "close":
+                                closed = true;
+                                return null;
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            case "toString":
+                                return "TestDelegate[maxSize=" + maxSize + "]";
+                            default:
+                                CURRENT.set(this);
+                                return null;
+                        }
+                    });
+        }
+
+    }
+
+    static class TestPool extends ThreadLocalPool<Pool> {
+
+        final List<TestDelegate> delegates = new CopyOnWriteArrayList<>();
+
+        TestPool(Vertx vertx, PoolOptions poolOptions, DataSourceReactiveRuntimeConfig config) {
+            super(vertx, poolOptions, DataSourceUtil.DEFAULT_DATASOURCE_NAME, config);
+        }
+
+        @Override
+        protected Pool createThreadLocalPool(PoolOptions poolOptions) {
+            TestDelegate delegate = new TestDelegate(poolOptions.getMaxSize());
+            delegates.add(delegate);
+            return delegate.pool;
+        }
+
+        /**
+         *
+         * @return the delegate used by the current thread
+         */
+        TestDelegate use() {
+            TestDelegate.CURRENT.remove();
+            query("SELECT 1");
+            return TestDelegate.CURRENT.get();
+        }
+
+    }
+
+    static class TestMetricsFactory implements MetricsFactory {
+
+        final Map<String, Supplier<Number>> gauges = new HashMap<>();
+        final Map<String, String> tags = new HashMap<>();
+        final AtomicInteger timerUpdates = new AtomicInteger();
+
+        long value(String name) {
+            return gauges.get(name).get().longValue();
+        }
+
+        @Override
+        public boolean metricsSystemSupported(String name) {
+            return true;
+        }
+
+        @Override
+        public MetricBuilder builder(String name, Type type) {
+            return new MetricBuilder() {
+
+                @Override
+                public MetricBuilder description(String description) {
+                    return this;
+                }
+
+                @Override
+                public MetricBuilder tag(String key, String value) {
+                    tags.put(name, value);
+                    return this;
+                }
+
+                @Override
+                public MetricBuilder unit(String unit) {
+                    return this;
+                }
+
+                @Override
+                public void buildCounter(Supplier<Number> countFunction) {
+                    gauges.put(name, countFunction);
+                }
+
+                @Override
+                public <T, R extends Number> void buildCounter(T obj, Function<T, R> countFunction) {
+                    gauges.put(name, () -> countFunction.apply(obj));
+                }
+
+                @Override
+                public void buildGauge(Supplier<Number> gaugeFunction) {
+                    gauges.put(name, gaugeFunction);
+                }
+
+                @Override
+                public <T, R extends Number> void buildGauge(T obj, Function<T, R> gaugeFunction) {
+                    gauges.put(name, () -> gaugeFunction.apply(obj));
+                }
+
+                @Override
+                public TimeRecorder buildTimer() {
+                    return (amount, unit) -> timerUpdates.incrementAndGet();
+                }
+
+                @Override
+                public Runnable buildTimer(Runnable f) {
+                    return f;
+                }
+
+                @Override
+                public <T> Callable<T> buildTimer(Callable<T> f) {
+                    return f;
+                }
+
+                @Override
+                public <T> Supplier<T> buildTimer(Supplier<T> f) {
+                    return f;
+                }
+            };
+        }
+
+    }
+
+}
@@ -20,6 +20,7 @@ import io.quarkus.datasource.runtime.DataSourceRuntimeConfig;
 import io.quarkus.datasource.runtime.DataSourcesRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourcesReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.ThreadLocalPoolMetrics;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -40,7 +41,7 @@ public class DB2PoolRecorder {
             DataSourcesReactiveDB2Config dataSourcesReactiveDB2Config,
             ShutdownContext shutdown) {
 
-        DB2Pool db2Pool = initialize(vertx.getValue(),
+        DB2Pool db2Pool = initialize(vertx.getValue(), dataSourceName,
                 dataSourcesRuntimeConfig.getDataSourceRuntimeConfig(dataSourceName),
                 dataSourcesReactiveRuntimeConfig.getDataSourceReactiveRuntimeConfig(dataSourceName),
                 dataSourcesReactiveDB2Config.getDataSourceReactiveRuntimeConfig(dataSourceName));
@@ -53,7 +54,8 @@ public class DB2PoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.db2client.DB2Pool.newInstance(db2Pool.getValue()));
     }
 
-    private DB2Pool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private DB2Pool initialize(Vertx vertx, String dataSourceName,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveDB2Config dataSourceReactiveDB2Config) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
@@ -62,7 +64,11 @@ public class DB2PoolRecorder {
                 dataSourceReactiveDB2Config);
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent() &&
                 dataSourceReactiveRuntimeConfig.threadLocal.get()) {
-            return new ThreadLocalDB2Pool(vertx, connectOptions, poolOptions);
+            ThreadLocalDB2Pool pool = new ThreadLocalDB2Pool(vertx, connectOptions, poolOptions, dataSourceName,
+                    dataSourceReactiveRuntimeConfig);
+            // Register the metrics once the pool is fully constructed
+            ThreadLocalPoolMetrics.register(pool);
+            return pool;
         }
         return DB2Pool.pool(vertx, connectOptions, poolOptions);
     }
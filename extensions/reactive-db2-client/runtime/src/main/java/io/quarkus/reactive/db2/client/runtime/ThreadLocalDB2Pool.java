@@ -1,5 +1,6 @@
 package io.quarkus.reactive.db2.client.runtime;
 
+import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.ThreadLocalPool;
 import io.vertx.core.Vertx;
 import io.vertx.db2client.DB2ConnectOptions;
@@ -10,13 +11,14 @@ public class ThreadLocalDB2Pool extends ThreadLocalPool<DB2Pool> implements DB2P
 
     private final DB2ConnectOptions db2ConnectOptions;
 
-    public ThreadLocalDB2Pool(Vertx vertx, DB2ConnectOptions db2ConnectOptions, PoolOptions poolOptions) {
-        super(vertx, poolOptions);
+    public ThreadLocalDB2Pool(Vertx vertx, DB2ConnectOptions db2ConnectOptions, PoolOptions poolOptions,
+            String dataSourceName, DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
+        super(vertx, poolOptions, dataSourceName, dataSourceReactiveRuntimeConfig);
         this.db2ConnectOptions = db2ConnectOptions;
     }
 
     @Override
-    protected DB2Pool createThreadLocalPool() {
+    protected DB2Pool createThreadLocalPool(PoolOptions poolOptions) {
         return DB2Pool.pool(vertx, db2ConnectOptions, poolOptions);
     }
 }
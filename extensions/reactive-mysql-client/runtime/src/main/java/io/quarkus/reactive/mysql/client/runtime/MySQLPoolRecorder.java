@@ -20,6 +20,7 @@ import io.quarkus.datasource.runtime.DataSourceRuntimeConfig;
 import io.quarkus.datasource.runtime.DataSourcesRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourcesReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.ThreadLocalPoolMetrics;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -41,7 +42,7 @@ public class MySQLPoolRecorder {
             DataSourcesReactiveMySQLConfig dataSourcesReactiveMySQLConfig,
             ShutdownContext shutdown) {
 
-        MySQLPool mysqlPool = initialize(vertx.getValue(),
+        MySQLPool mysqlPool = initialize(vertx.getValue(), dataSourceName,
                 dataSourcesRuntimeConfig.getDataSourceRuntimeConfig(dataSourceName),
                 dataSourcesReactiveRuntimeConfig.getDataSourceReactiveRuntimeConfig(dataSourceName),
                 dataSourcesReactiveMySQLConfig.getDataSourceReactiveRuntimeConfig(dataSourceName));
@@ -54,7 +55,8 @@ public class MySQLPoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.mysqlclient.MySQLPool.newInstance(mysqlPool.getValue()));
     }
 
-    private MySQLPool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private MySQLPool initialize(Vertx vertx, String dataSourceName,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveMySQLConfig dataSourceReactiveMySQLConfig) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
@@ -63,7 +65,11 @@ public class MySQLPoolRecorder {
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveMySQLConfig);
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent() &&
                 dataSourceReactiveRuntimeConfig.threadLocal.get()) {
-            return new ThreadLocalMySQLPool(vertx, mysqlConnectOptions, poolOptions);
+            ThreadLocalMySQLPool pool = new ThreadLocalMySQLPool(vertx, mysqlConnectOptions, poolOptions, dataSourceName,
+                    dataSourceReactiveRuntimeConfig);
+            // Register the metrics once the pool is fully constructed
+            ThreadLocalPoolMetrics.register(pool);
+            return pool;
         }
         return MySQLPool.pool(vertx, mysqlConnectOptions, poolOptions);
     }
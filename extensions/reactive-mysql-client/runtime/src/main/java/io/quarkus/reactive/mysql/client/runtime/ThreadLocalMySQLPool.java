@@ -1,5 +1,6 @@
 package io.quarkus.reactive.mysql.client.runtime;
 
+import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.ThreadLocalPool;
 import io.vertx.core.Vertx;
 import io.vertx.mysqlclient.MySQLConnectOptions;
@@ -10,13 +11,14 @@ public class ThreadLocalMySQLPool extends ThreadLocalPool<MySQLPool> implements
 
     private final MySQLConnectOptions mySQLConnectOptions;
 
-    public ThreadLocalMySQLPool(Vertx vertx, MySQLConnectOptions mySQLConnectOptions, PoolOptions poolOptions) {
-        super(vertx, poolOptions);
+    public ThreadLocalMySQLPool(Vertx vertx, MySQLConnectOptions mySQLConnectOptions, PoolOptions poolOptions,
+            String dataSourceName, DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
+        super(vertx, poolOptions, dataSourceName, dataSourceReactiveRuntimeConfig);
         this.mySQLConnectOptions = mySQLConnectOptions;
     }
 
     @Override
-    protected MySQLPool createThreadLocalPool() {
+    protected MySQLPool createThreadLocalPool(PoolOptions poolOptions) {
         return MySQLPool.pool(vertx, mySQLConnectOptions, poolOptions);
     }
 }
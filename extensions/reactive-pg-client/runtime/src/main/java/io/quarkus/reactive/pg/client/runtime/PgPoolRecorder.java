@@ -20,6 +20,7 @@ import io.quarkus.datasource.runtime.DataSourceRuntimeConfig;
 import io.quarkus.datasource.runtime.DataSourcesRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourcesReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.ThreadLocalPoolMetrics;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -41,7 +42,7 @@ public class PgPoolRecorder {
             DataSourcesReactivePostgreSQLConfig dataSourcesReactivePostgreSQLConfig,
             ShutdownContext shutdown) {
 
-        PgPool pgPool = initialize(vertx.getValue(),
+        PgPool pgPool = initialize(vertx.getValue(), dataSourceName,
                 dataSourcesRuntimeConfig.getDataSourceRuntimeConfig(dataSourceName),
                 dataSourcesReactiveRuntimeConfig.getDataSourceReactiveRuntimeConfig(dataSourceName),
                 dataSourcesReactivePostgreSQLConfig.getDataSourceReactiveRuntimeConfig(dataSourceName));
@@ -54,7 +55,8 @@ public class PgPoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.pgclient.PgPool.newInstance(pgPool.getValue()));
     }
 
-    private PgPool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private PgPool initialize(Vertx vertx, String dataSourceName,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
@@ -63,7 +65,11 @@ public class PgPoolRecorder {
                 dataSourceReactivePostgreSQLConfig);
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent() &&
                 dataSourceReactiveRuntimeConfig.threadLocal.get()) {
-            return new ThreadLocalPgPool(vertx, pgConnectOptions, poolOptions);
+            ThreadLocalPgPool pool = new ThreadLocalPgPool(vertx, pgConnectOptions, poolOptions, dataSourceName,
+                    dataSourceReactiveRuntimeConfig);
+            // Register the metrics once the pool is fully constructed
+            ThreadLocalPoolMetrics.register(pool);
+            return pool;
         }
         return PgPool.pool(vertx, pgConnectOptions, poolOptions);
     }
@@ -1,5 +1,6 @@
 package io.quarkus.reactive.pg.client.runtime;
 
+import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.ThreadLocalPool;
 import io.vertx.core.Vertx;
 import io.vertx.pgclient.PgConnectOptions;
@@ -10,13 +11,14 @@ public class ThreadLocalPgPool extends ThreadLocalPool<PgPool> implements PgPool
 
     private final PgConnectOptions pgConnectOptions;
 
-    public ThreadLocalPgPool(Vertx vertx, PgConnectOptions pgConnectOptions, PoolOptions poolOptions) {
-        super(vertx, poolOptions);
+    public ThreadLocalPgPool(Vertx vertx, PgConnectOptions pgConnectOptions, PoolOptions poolOptions,
+            String dataSourceName, DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
+        super(vertx, poolOptions, dataSourceName, dataSourceReactiveRuntimeConfig);
         this.pgConnectOptions = pgConnectOptions;
     }
 
     @Override
-    protected PgPool createThreadLocalPool() {
+    protected PgPool createThreadLocalPool(PoolOptions poolOptions) {
         return PgPool.pool(vertx, pgConnectOptions, poolOptions);
     }
 }
@@ -0,0 +1,53 @@
+package io.quarkus.qute.resteasy.deployment;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import org.jboss.resteasy.annotations.jaxrs.QueryParam;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+
+@Path("charset")
+public class CharsetResource {
+
+    @Inject
+    Template greeting;
+
+    @Inject
+    Template pair;
+
+    @Produces("text/plain")
+    @GET
+    public TemplateInstance get(@QueryParam String name) {
+        return greeting.data("name", name);
+    }
+
+    @Path("latin2")
+    @Produces("text/plain;charset=ISO-8859-2")
+    @GET
+    public TemplateInstance latin2(@QueryParam String name) {
+        return greeting.data("name", name);
+    }
+
+    @Path("large")
+    @Produces("text/plain")
+    @GET
+    public TemplateInstance large(@QueryParam int count) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            name.append("ž");
+        }
+        return greeting.data("name", name.toString());
+    }
+
+    @Path("pair")
+    @Produces("text/plain")
+    @GET
+    public TemplateInstance pair() {
+        return pair.data("high", "\uD83D").data("low", "\uDE00");
+    }
+
+}
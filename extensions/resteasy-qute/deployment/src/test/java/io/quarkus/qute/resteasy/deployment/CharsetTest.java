@@ -0,0 +1,40 @@
+package io.quarkus.qute.resteasy.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CharsetTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(CharsetResource.class)
+                    .addAsResource(new StringAsset("Dobrý den, {name}!"), "templates/greeting.txt")
+                    .addAsResource(new StringAsset("{high}{low}"), "templates/pair.txt"));
+
+    @Test
+    public void testCharset() {
+        when().get("/charset?name=Kůň").then().body(Matchers.is("Dobrý den, Kůň!"));
+        when().get("/charset/latin2?name=Kůň").then()
+                .header("Content-Type", Matchers.containsString("ISO-8859-2"))
+                .body(Matchers.is("Dobrý den, Kůň!"));
+        // The output spans multiple chunks
+        StringBuilder expected = new StringBuilder("Dobrý den, ");
+        for (int i = 0; i < 10000; i++) {
+            expected.append("ž");
+        }
+        expected.append("!");
+        when().get("/charset/large?count=10000").then().body(Matchers.is(expected.toString()));
+        // The surrogate pair is split across two fragments
+        when().get("/charset/pair").then().body(Matchers.is("\uD83D\uDE00"));
+    }
+
+}
@@ -0,0 +1,97 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Encodes the rendered template fragments directly into fixed-size byte chunks. Unlike rendering into a {@link String}
+ * that is encoded later, the output never holds the whole response as UTF-16 characters and each fragment is encoded
+ * exactly once. The chunks are then written to the response output stream as they are.
+ * <p>
+ * The fragments are encoded as a single input, i.e. a surrogate pair split across two fragments is encoded correctly.
+ * {@link #complete()} must be called once all fragments were accepted.
+ */
+class EncodedTemplateOutput implements Consumer<String>, StreamingOutput {
+
+    static final int CHUNK_SIZE = 8192;
+
+    private final CharsetEncoder encoder;
+    private final List<ByteBuffer> chunks;
+    private ByteBuffer current;
+    // The input that could not be encoded yet, e.g. a high surrogate at the end of a fragment
+    private String pending;
+    private boolean completed;
+
+    EncodedTemplateOutput(Charset charset) {
+        this.encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chunks = new ArrayList<>();
+        this.current = ByteBuffer.allocate(CHUNK_SIZE);
+    }
+
+    @Override
+    public void accept(String fragment) {
+        if (fragment.isEmpty()) {
+            return;
+        }
+        if (pending != null) {
+            fragment = pending + fragment;
+            pending = null;
+        }
+        CharBuffer in = CharBuffer.wrap(fragment);
+        encode(in, false);
+        if (in.hasRemaining()) {
+            pending = in.toString();
+        }
+    }
+
+    /**
+     * Encodes the pending input and flushes the encoder.
+     */
+    void complete() {
+        if (completed) {
+            return;
+        }
+        completed = true;
+        // A pending high surrogate without the low surrogate is malformed and replaced
+        encode(CharBuffer.wrap(pending != null ? pending : ""), true);
+        pending = null;
+        while (encoder.flush(current).isOverflow()) {
+            nextChunk();
+        }
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        for (ByteBuffer chunk : chunks) {
+            output.write(chunk.array(), 0, chunk.limit());
+        }
+        if (current.position() > 0) {
+            output.write(current.array(), 0, current.position());
+        }
+    }
+
+    private void encode(CharBuffer in, boolean endOfInput) {
+        // Malformed and unmappable input is replaced, i.e. an underflow means that all input that can be encoded was consumed
+        while (encoder.encode(in, current, endOfInput).isOverflow()) {
+            nextChunk();
+        }
+    }
+
+    private void nextChunk() {
+        current.flip();
+        chunks.add(current);
+        current = ByteBuffer.allocate(CHUNK_SIZE);
+    }
+
+}
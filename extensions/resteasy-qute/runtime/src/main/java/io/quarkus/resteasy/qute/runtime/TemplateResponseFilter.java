@@ -1,6 +1,8 @@
 package io.quarkus.resteasy.qute.runtime;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -51,24 +53,46 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
             }
 
             try {
-                instance.renderAsync()
-                        .whenComplete((r, t) -> {
-                            if (t == null) {
-                                // make sure we avoid setting a null media type because that causes
-                                // an NPE further down
-                                if (mediaType != null) {
-                                    ctx.setEntity(r, null, mediaType);
+                MediaType responseType = mediaType != null ? mediaType : responseContext.getMediaType();
+                if (responseType != null && !responseType.isWildcardType()) {
+                    // Encode the rendered fragments directly, i.e. skip the intermediate String
+                    EncodedTemplateOutput output = new EncodedTemplateOutput(getCharset(responseType));
+                    instance.consume(output)
+                            .whenComplete((r, t) -> {
+                                if (t == null) {
+                                    output.complete();
+                                    ctx.setEntity(output, null, responseType);
+                                    ctx.resume();
                                 } else {
+                                    ctx.resume(t);
+                                }
+                            });
+                } else {
+                    instance.renderAsync()
+                            .whenComplete((r, t) -> {
+                                if (t == null) {
                                     ctx.setEntity(r);
+                                    ctx.resume();
+                                } else {
+                                    ctx.resume(t);
                                 }
-                                ctx.resume();
-                            } else {
-                                ctx.resume(t);
-                            }
-                        });
+                            });
+                }
             } catch (Throwable t) {
                 ctx.resume(t);
             }
         }
     }
+
+    private static Charset getCharset(MediaType mediaType) {
+        String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        if (charset != null) {
+            try {
+                return Charset.forName(charset);
+            } catch (IllegalArgumentException e) {
+                // Unsupported charset - use the default
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
 }
@@ -0,0 +1,28 @@
+package io.quarkus.resteasy.server.common.deployment;
+
+import java.util.List;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The routes of the resource methods, e.g. {@code GET /items/{id}}, split between the methods that can be invoked on the
+ * IO thread and the others. A route of a sub-resource locator uses {@code *} as the HTTP method and is always blocking.
+ */
+public final class ResteasyNonBlockingRoutesBuildItem extends SimpleBuildItem {
+
+    private final List<String> nonBlockingRoutes;
+    private final List<String> blockingRoutes;
+
+    public ResteasyNonBlockingRoutesBuildItem(List<String> nonBlockingRoutes, List<String> blockingRoutes) {
+        this.nonBlockingRoutes = nonBlockingRoutes;
+        this.blockingRoutes = blockingRoutes;
+    }
+
+    public List<String> getNonBlockingRoutes() {
+        return nonBlockingRoutes;
+    }
+
+    public List<String> getBlockingRoutes() {
+        return blockingRoutes;
+    }
+}
@@ -96,6 +96,15 @@ public class ResteasyServerCommonProcessor {
             ResteasyDotNames.PUT,
     };
 
+    private static final DotName BLOCKING = DotName.createSimple("io.smallrye.common.annotation.Blocking");
+    private static final DotName NON_BLOCKING = DotName.createSimple("io.smallrye.common.annotation.NonBlocking");
+
+    private static final Set<DotName> REACTIVE_RETURN_TYPES = new HashSet<>(Arrays.asList(
+            DotName.createSimple("io.smallrye.mutiny.Uni"),
+            DotName.createSimple("io.smallrye.mutiny.Multi"),
+            DotName.createSimple("java.util.concurrent.CompletionStage"),
+            DotName.createSimple("java.util.concurrent.CompletableFuture")));
+
     private static final DotName[] RESTEASY_PARAM_ANNOTATIONS = {
             ResteasyDotNames.RESTEASY_QUERY_PARAM,
             ResteasyDotNames.RESTEASY_FORM_PARAM,
@@ -158,6 +167,17 @@ public class ResteasyServerCommonProcessor {
          */
         @ConfigItem(defaultValue = "false")
         boolean ignoreApplicationClasses;
+
+        /**
+         * If this is true then the resource methods returning {@code Uni}, {@code Multi}, {@code CompletionStage} or
+         * {@code CompletableFuture} are invoked on the IO thread, unless they are annotated with
+         * {@code io.smallrye.common.annotation.Blocking}, as if they were annotated with
+         * {@code io.smallrye.common.annotation.NonBlocking}.
+         * <p>
+         * Such methods must not block, e.g. they must not read the body of the request as a stream.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean nonBlockingReactiveMethods;
     }
 
     @BuildStep
@@ -474,6 +494,91 @@ public class ResteasyServerCommonProcessor {
         }
     }
 
+    @BuildStep
+    ResteasyNonBlockingRoutesBuildItem nonBlockingRoutes(CombinedIndexBuildItem combinedIndexBuildItem) {
+        IndexView index = combinedIndexBuildItem.getIndex();
+        List<String> nonBlockingRoutes = new ArrayList<>();
+        List<String> blockingRoutes = new ArrayList<>();
+
+        for (AnnotationInstance annotation : index.getAnnotations(ResteasyDotNames.PATH)) {
+            if (annotation.target().kind() != AnnotationTarget.Kind.CLASS) {
+                continue;
+            }
+            ClassInfo resourceClass = annotation.target().asClass();
+            String classPath = annotation.value().asString();
+            if (Modifier.isInterface(resourceClass.flags()) || Modifier.isAbstract(resourceClass.flags())) {
+                // the resource methods of the implementors may be declared anywhere in their hierarchy
+                blockingRoutes.add(route("*", classPath, null));
+                continue;
+            }
+            Set<String> seenMethods = new HashSet<>();
+            ClassInfo clazz = resourceClass;
+            while (clazz != null) {
+                for (MethodInfo method : clazz.methods()) {
+                    if (!seenMethods.add(method.name() + method.parameters())) {
+                        // overridden
+                        continue;
+                    }
+                    String httpMethod = null;
+                    for (DotName methodAnnotation : METHOD_ANNOTATIONS) {
+                        if (method.hasAnnotation(methodAnnotation)) {
+                            httpMethod = methodAnnotation.withoutPackagePrefix();
+                            break;
+                        }
+                    }
+                    AnnotationInstance methodPath = method.annotation(ResteasyDotNames.PATH);
+                    String path = methodPath != null ? methodPath.value().asString() : null;
+                    if (httpMethod == null) {
+                        if (path != null) {
+                            // sub-resource locator
+                            blockingRoutes.add(route("*", classPath, path));
+                        }
+                        continue;
+                    }
+                    if (isNonBlocking(method, resourceClass)) {
+                        nonBlockingRoutes.add(route(httpMethod, classPath, path));
+                    } else {
+                        blockingRoutes.add(route(httpMethod, classPath, path));
+                    }
+                }
+                DotName superName = clazz.superName();
+                if (superName == null || superName.equals(DotNames.OBJECT)) {
+                    break;
+                }
+                clazz = index.getClassByName(superName);
+                if (clazz == null) {
+                    blockingRoutes.add(route("*", classPath, null));
+                }
+            }
+        }
+        return new ResteasyNonBlockingRoutesBuildItem(nonBlockingRoutes, blockingRoutes);
+    }
+
+    private boolean isNonBlocking(MethodInfo method, ClassInfo resourceClass) {
+        if (method.hasAnnotation(BLOCKING)) {
+            return false;
+        }
+        if (method.hasAnnotation(NON_BLOCKING)) {
+            return true;
+        }
+        if (resourceClass.classAnnotation(BLOCKING) != null) {
+            return false;
+        }
+        if (resourceClass.classAnnotation(NON_BLOCKING) != null) {
+            return true;
+        }
+        return resteasyConfig.nonBlockingReactiveMethods && REACTIVE_RETURN_TYPES.contains(method.returnType().name());
+    }
+
+    private static String route(String httpMethod, String classPath, String methodPath) {
+        String path = "/" + classPath + (methodPath != null ? "/" + methodPath : "");
+        path = path.replaceAll("/+", "/");
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return httpMethod + " " + path;
+    }
+
     @BuildStep
     void beanDefiningAnnotations(BuildProducer<BeanDefiningAnnotationBuildItem> beanDefiningAnnotations) {
         beanDefiningAnnotations
@@ -0,0 +1,75 @@
+package io.quarkus.resteasy.test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.vertx.core.Context;
+
+public class NonBlockingReactiveMethodsTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ReactiveResource.class))
+            .overrideConfigKey("quarkus.resteasy.non-blocking-reactive-methods", "true");
+
+    @Test
+    public void testReactiveMethodsAreInvokedOnIoThread() {
+        RestAssured.when().get("/reactive").then().body(Matchers.is("io"));
+        RestAssured.when().get("/reactive/future").then().body(Matchers.is("io"));
+    }
+
+    @Test
+    public void testBlockingReactiveMethodsAreInvokedOnWorkerThread() {
+        RestAssured.when().get("/reactive/blocking").then().body(Matchers.is("worker"));
+    }
+
+    @Test
+    public void testOtherMethodsAreInvokedOnWorkerThread() {
+        RestAssured.when().get("/reactive/string").then().body(Matchers.is("worker"));
+    }
+
+    @Path("reactive")
+    public static class ReactiveResource {
+
+        @GET
+        public CompletionStage<String> get() {
+            return CompletableFuture.completedFuture(thread());
+        }
+
+        @GET
+        @Path("future")
+        public CompletableFuture<String> future() {
+            return CompletableFuture.completedFuture(thread());
+        }
+
+        @GET
+        @Blocking
+        @Path("blocking")
+        public CompletionStage<String> blocking() {
+            return CompletableFuture.completedFuture(thread());
+        }
+
+        @GET
+        @Path("string")
+        public String string() {
+            return thread();
+        }
+    }
+
+    static String thread() {
+        return Context.isOnEventLoopThread() ? "io" : "worker";
+    }
+}
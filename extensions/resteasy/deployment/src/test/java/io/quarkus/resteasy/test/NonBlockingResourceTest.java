@@ -0,0 +1,105 @@
+package io.quarkus.resteasy.test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+import io.vertx.core.Context;
+
+public class NonBlockingResourceTest {
+
+    static final int LARGE_RESPONSE_SIZE = 10 * 1024 * 1024;
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(NonBlockingResource.class, MixedResource.class));
+
+    @Test
+    public void testNonBlockingMethodsAreInvokedOnIoThread() {
+        RestAssured.when().get("/non-blocking").then().body(Matchers.is("io"));
+        RestAssured.when().get("/non-blocking/items/42").then().body(Matchers.is("io 42"));
+        RestAssured.when().get("/non-blocking/items/42/").then().body(Matchers.is("io 42"));
+        RestAssured.given().body("payload").when().post("/non-blocking").then().body(Matchers.is("worker payload"));
+    }
+
+    @Test
+    public void testLargeResponseOnIoThread() {
+        // far above the high-water mark of the write queue
+        String body = RestAssured.when().get("/non-blocking/large").then().statusCode(200).extract().asString();
+        Assertions.assertEquals(LARGE_RESPONSE_SIZE, body.length());
+        Assertions.assertTrue(body.startsWith("io"));
+    }
+
+    @Test
+    public void testBlockingMethodsAreInvokedOnWorkerThread() {
+        RestAssured.when().get("/mixed").then().body(Matchers.is("io"));
+        RestAssured.when().get("/mixed/blocking").then().body(Matchers.is("worker"));
+    }
+
+    @Path("non-blocking")
+    public static class NonBlockingResource {
+
+        @GET
+        @NonBlocking
+        public String get() {
+            return thread();
+        }
+
+        @GET
+        @NonBlocking
+        @Path("items/{id}")
+        public String item(@PathParam("id") String id) {
+            return thread() + " " + id;
+        }
+
+        @GET
+        @NonBlocking
+        @Path("large")
+        public String large() {
+            StringBuilder builder = new StringBuilder(LARGE_RESPONSE_SIZE).append(thread());
+            while (builder.length() < LARGE_RESPONSE_SIZE) {
+                builder.append('a');
+            }
+            return builder.toString();
+        }
+
+        @POST
+        public String post(String body) {
+            return thread() + " " + body;
+        }
+    }
+
+    @NonBlocking
+    @Path("mixed")
+    public static class MixedResource {
+
+        @GET
+        public String get() {
+            return thread();
+        }
+
+        @GET
+        @Blocking
+        @Path("blocking")
+        public String blocking() {
+            return thread();
+        }
+    }
+
+    static String thread() {
+        return Context.isOnEventLoopThread() ? "io" : "worker";
+    }
+}
@@ -0,0 +1,128 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The routes of the resource methods that can be invoked on the IO thread.
+ * <p>
+ * A route is the HTTP method and the path template of a resource method, e.g. {@code GET /items/{id}}, or {@code *} and
+ * the path template of a sub-resource locator, which matches all the paths starting with it. A request is dispatched on
+ * the IO thread only if it matches a non-blocking route and no blocking route, as JAX-RS could choose the blocking one.
+ */
+public class NonBlockingResourceMethods {
+
+    static final String ANY_METHOD = "*";
+
+    private final List<Route> nonBlockingRoutes;
+    private final List<Route> blockingRoutes;
+
+    /**
+     * @param nonBlockingRoutes the routes of the non-blocking resource methods
+     * @param blockingRoutes the routes of the other resource methods and of the sub-resource locators
+     */
+    public NonBlockingResourceMethods(List<String> nonBlockingRoutes, List<String> blockingRoutes) {
+        this.nonBlockingRoutes = parse(nonBlockingRoutes);
+        this.blockingRoutes = parse(blockingRoutes);
+    }
+
+    /**
+     * @param method the HTTP method of the request
+     * @param path the path of the request, relative to the JAX-RS root path
+     * @return {@code true} if the request can be dispatched on the IO thread
+     */
+    boolean isNonBlocking(String method, String path) {
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        boolean nonBlocking = false;
+        for (Route route : nonBlockingRoutes) {
+            if (route.matches(method, path)) {
+                nonBlocking = true;
+                break;
+            }
+        }
+        if (!nonBlocking) {
+            return false;
+        }
+        for (Route route : blockingRoutes) {
+            if (route.matches(method, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Route> parse(List<String> routes) {
+        List<Route> parsed = new ArrayList<>(routes.size());
+        for (String route : routes) {
+            int space = route.indexOf(' ');
+            String method = route.substring(0, space);
+            String template = route.substring(space + 1);
+            boolean prefix = ANY_METHOD.equals(method);
+            String regex = toRegex(template);
+            if (prefix) {
+                regex += template.endsWith("/") ? ".*" : "(/.*)?";
+            }
+            parsed.add(new Route(method, Pattern.compile(regex)));
+        }
+        return parsed;
+    }
+
+    /**
+     * Turns a path template into a regular expression: {@code {id}} matches a path segment, {@code {id: \\d+}} matches the
+     * given regular expression.
+     */
+    static String toRegex(String template) {
+        StringBuilder regex = new StringBuilder();
+        int start = 0;
+        int open;
+        while ((open = template.indexOf('{', start)) >= 0) {
+            int close = findClosingBrace(template, open);
+            if (open > start) {
+                regex.append(Pattern.quote(template.substring(start, open)));
+            }
+            String parameter = template.substring(open + 1, close);
+            int colon = parameter.indexOf(':');
+            if (colon >= 0) {
+                regex.append("(?:").append(parameter.substring(colon + 1).trim()).append(')');
+            } else {
+                regex.append("[^/]+");
+            }
+            start = close + 1;
+        }
+        if (start < template.length()) {
+            regex.append(Pattern.quote(template.substring(start)));
+        }
+        return regex.toString();
+    }
+
+    private static int findClosingBrace(String template, int open) {
+        // the regular expression of a parameter may contain braces, e.g. {id: \\d{3}}
+        int depth = 0;
+        for (int i = open; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Invalid path template: " + template);
+    }
+
+    private static final class Route {
+        final String method;
+        final Pattern path;
+
+        Route(String method, Pattern path) {
+            this.method = method;
+            this.path = path;
+        }
+
+        boolean matches(String method, String path) {
+            return (this.method.equals(ANY_METHOD) || this.method.equals(method)) && this.path.matcher(path).matches();
+        }
+    }
+}
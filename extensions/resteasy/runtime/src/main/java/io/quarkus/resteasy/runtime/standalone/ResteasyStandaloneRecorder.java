@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.runtime.standalone;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
@@ -87,10 +88,12 @@ public class ResteasyStandaloneRecorder {
     }
 
     public Handler<RoutingContext> vertxRequestHandler(Supplier<Vertx> vertx,
-            BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout) {
+            BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout,
+            List<String> nonBlockingRoutes, List<String> blockingRoutes) {
         if (deployment != null) {
             return new VertxRequestHandler(vertx.get(), beanContainer, deployment, contextPath, ALLOCATOR, executor,
-                    readTimeout.readTimeout.toMillis());
+                    readTimeout.readTimeout.toMillis(),
+                    nonBlockingRoutes.isEmpty() ? null : new NonBlockingResourceMethods(nonBlockingRoutes, blockingRoutes));
         }
         return null;
     }
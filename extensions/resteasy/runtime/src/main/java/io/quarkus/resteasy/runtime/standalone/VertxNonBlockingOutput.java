@@ -0,0 +1,51 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * The output of the requests dispatched on the IO thread, which must never wait for the write queue to drain.
+ * <p>
+ * On the IO thread the data is queued even if the write queue is full, and is flushed once the event loop is released.
+ * The queued data is bounded by the size of the response, that the resource method already holds in memory. A response
+ * completed later on a worker thread, e.g. by a {@code CompletionStage}, waits for the queue to drain as usual.
+ */
+public class VertxNonBlockingOutput extends VertxBlockingOutput {
+
+    public VertxNonBlockingOutput(HttpServerRequest request) {
+        super(request);
+    }
+
+    @Override
+    public void write(ByteBuf data, boolean last) throws IOException {
+        if (!Context.isOnEventLoopThread()) {
+            super.write(data, last);
+            return;
+        }
+        try {
+            if (throwable != null) {
+                throw new IOException(throwable);
+            }
+            if (last && data == null) {
+                request.response().end();
+            } else if (last) {
+                request.response().end(createBuffer(data));
+            } else {
+                request.response().write(createBuffer(data));
+            }
+        } catch (Exception e) {
+            if (data != null && data.refCnt() > 0) {
+                data.release();
+            }
+            throw e instanceof IOException ? (IOException) e : new IOException("Failed to write", e);
+        } finally {
+            if (last) {
+                terminateResponse();
+            }
+        }
+    }
+
+}
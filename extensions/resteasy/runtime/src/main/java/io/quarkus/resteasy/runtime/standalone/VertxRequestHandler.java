@@ -30,6 +30,7 @@ import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -49,12 +50,22 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     protected final CurrentVertxRequest currentVertxRequest;
     protected final Executor executor;
     protected final long readTimeout;
+    protected final NonBlockingResourceMethods nonBlockingResourceMethods;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
             BufferAllocator allocator, Executor executor, long readTimeout) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, executor, readTimeout, null);
+    }
+
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator, Executor executor, long readTimeout,
+            NonBlockingResourceMethods nonBlockingResourceMethods) {
         this.vertx = vertx;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
@@ -63,6 +74,7 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         this.allocator = allocator;
         this.executor = executor;
         this.readTimeout = readTimeout;
+        this.nonBlockingResourceMethods = nonBlockingResourceMethods;
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
         currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
@@ -89,6 +101,13 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             } catch (Throwable e) {
                 request.fail(e);
             }
+        } else if (isNonBlocking(request)) {
+            // the IO thread must not wait for the write queue to drain
+            try {
+                dispatch(request, is, new VertxNonBlockingOutput(request.request()));
+            } catch (Throwable e) {
+                request.fail(e);
+            }
         } else {
             executor.execute(new Runnable() {
                 @Override
@@ -104,6 +123,27 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
 
     }
 
+    /**
+     * @return {@code true} if the request can be dispatched on the IO thread: the resource method is non-blocking and the
+     *         body of the request, if any, has already been read
+     */
+    private boolean isNonBlocking(RoutingContext request) {
+        if (nonBlockingResourceMethods == null) {
+            return false;
+        }
+        HttpServerRequest httpRequest = request.request();
+        if (request.getBody() == null && (httpRequest.headers().contains(HttpHeaders.TRANSFER_ENCODING)
+                || !"0".equals(httpRequest.getHeader(HttpHeaders.CONTENT_LENGTH))
+                        && httpRequest.headers().contains(HttpHeaders.CONTENT_LENGTH))) {
+            return false;
+        }
+        String path = request.normalisedPath();
+        if (path.startsWith(rootPath)) {
+            path = path.substring(rootPath.endsWith("/") ? rootPath.length() - 1 : rootPath.length());
+        }
+        return nonBlockingResourceMethods.isNonBlocking(httpRequest.rawMethod(), path.isEmpty() ? "/" : path);
+    }
+
     private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output) {
         ManagedContext requestContext = beanContainer.requestContext();
         requestContext.activate();
@@ -0,0 +1,156 @@
+package io.quarkus.security.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.security.identity.SecurityIdentity;
+
+/**
+ * Bounded cache of the identities created from tokens, so that the signature of a token, or its remote introspection,
+ * is checked once per token rather than once per request.
+ * <p>
+ * The tokens are kept as SHA-256 hashes. An identity is cached until its token expires, but no longer than the time to
+ * live. When the cache is full, the entries that expire first are evicted.
+ */
+public class SecurityIdentityCache {
+
+    private static final ThreadLocal<MessageDigest> DIGEST = new ThreadLocal<MessageDigest>() {
+        @Override
+        protected MessageDigest initialValue() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SecurityIdentityCache(int maxSize, Duration timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+    }
+
+    /**
+     * @return a new cache, or {@code null} if the cache is not enabled
+     */
+    public static SecurityIdentityCache create(TokenCacheConfig config) {
+        return config.enabled ? new SecurityIdentityCache(config.maxSize, config.timeToLive) : null;
+    }
+
+    /**
+     * @param key the token, possibly with a prefix such as the tenant it belongs to
+     * @return the cached identity, or {@code null}
+     */
+    public SecurityIdentity get(String key) {
+        String hash = hash(key);
+        Entry entry = entries.get(hash);
+        if (entry != null) {
+            if (entry.expiresAt > System.currentTimeMillis()) {
+                hits.increment();
+                return entry.identity;
+            }
+            entries.remove(hash, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * @param key the token, possibly with a prefix such as the tenant it belongs to
+     * @param identity the identity created from the token
+     * @param expiresAt the expiration time of the token, in seconds since the epoch like the {@code exp} claim, or 0 if
+     *        it is unknown
+     */
+    public void put(String key, SecurityIdentity identity, long expiresAt) {
+        long now = System.currentTimeMillis();
+        long entryExpiresAt = now + timeToLiveMillis;
+        if (expiresAt > 0) {
+            entryExpiresAt = Math.min(entryExpiresAt, expiresAt * 1000);
+        }
+        if (entryExpiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(hash(key), new Entry(identity, entryExpiresAt));
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @param mechanism the authentication mechanism using this cache, e.g. {@code oidc}
+     */
+    public void registerMetrics(MetricsFactory metricsFactory, String mechanism) {
+        metricsFactory.builder("security.token.cache.hits")
+                .description("Number of requests authenticated with a cached token.")
+                .tag("mechanism", mechanism)
+                .buildCounter(this, SecurityIdentityCache::getHits);
+        metricsFactory.builder("security.token.cache.misses")
+                .description("Number of tokens that were not cached, and had to be verified.")
+                .tag("mechanism", mechanism)
+                .buildCounter(this, SecurityIdentityCache::getMisses);
+        metricsFactory.builder("security.token.cache.size")
+                .description("Number of cached tokens.")
+                .tag("mechanism", mechanism)
+                .buildGauge(this, SecurityIdentityCache::size);
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        if (entries.size() < maxSize) {
+            return;
+        }
+        // all the tokens are still valid, evict the ones that expire first
+        // a tenth of the cache is evicted at once so that the entries are not sorted on every put
+        List<Map.Entry<String, Entry>> sorted = new ArrayList<>(entries.entrySet());
+        sorted.sort(Comparator.comparingLong(e -> e.getValue().expiresAt));
+        int toEvict = Math.max(sorted.size() - maxSize + 1, maxSize / 10);
+        for (int i = 0; i < toEvict && i < sorted.size(); i++) {
+            Map.Entry<String, Entry> evicted = sorted.get(i);
+            entries.remove(evicted.getKey(), evicted.getValue());
+        }
+    }
+
+    private static String hash(String key) {
+        MessageDigest digest = DIGEST.get();
+        // digest() resets the instance, it can be reused by the next call on this thread
+        return Base64.getEncoder().encodeToString(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static final class Entry {
+        final SecurityIdentity identity;
+        final long expiresAt;
+
+        Entry(SecurityIdentity identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.security.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Cache of the identities created from bearer tokens, see {@link SecurityIdentityCache}.
+ */
+@ConfigGroup
+public class TokenCacheConfig {
+
+    /**
+     * If the identities created from the tokens should be cached, so that a token is verified once rather than on every
+     * request. A cached token is accepted until it expires or its time to live elapses, even if it has been revoked.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The maximum number of cached tokens.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxSize;
+
+    /**
+     * The maximum time a token is cached, even if it expires later.
+     */
+    @ConfigItem(defaultValue = "5M")
+    public Duration timeToLive;
+}
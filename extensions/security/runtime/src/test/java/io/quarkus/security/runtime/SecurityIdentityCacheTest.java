@@ -0,0 +1,67 @@
+package io.quarkus.security.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.identity.SecurityIdentity;
+
+public class SecurityIdentityCacheTest {
+
+    @Test
+    public void testCachedIdentity() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(10, Duration.ofMinutes(5));
+        SecurityIdentity identity = identity("alice");
+
+        assertNull(cache.get("token"));
+        cache.put("token", identity, 0);
+        assertSame(identity, cache.get("token"));
+        assertNull(cache.get("other-token"));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testExpiredTokenIsNotCached() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(10, Duration.ofMinutes(5));
+
+        cache.put("token", identity("alice"), System.currentTimeMillis() / 1000 - 1);
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testMaxSize() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(2, Duration.ofMinutes(5));
+
+        cache.put("token1", identity("alice"), 0);
+        cache.put("token2", identity("bob"), 0);
+        cache.put("token3", identity("carol"), 0);
+        assertEquals(2, cache.size());
+        assertEquals("carol", cache.get("token3").getPrincipal().getName());
+    }
+
+    @Test
+    public void testEarliestExpiringEvicted() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(2, Duration.ofMinutes(5));
+        long now = System.currentTimeMillis() / 1000;
+
+        cache.put("token1", identity("alice"), now + 120);
+        cache.put("token2", identity("bob"), now + 60);
+        cache.put("token3", identity("carol"), now + 180);
+        assertEquals(2, cache.size());
+        assertEquals("alice", cache.get("token1").getPrincipal().getName());
+        assertNull(cache.get("token2"));
+        assertEquals("carol", cache.get("token3").getPrincipal().getName());
+    }
+
+    private static SecurityIdentity identity(String name) {
+        return QuarkusSecurityIdentity.builder().setPrincipal(new QuarkusPrincipal(name)).build();
+    }
+}
@@ -47,6 +47,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.ShutdownListenerBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.configuration.ConfigurationError;
@@ -237,6 +238,14 @@ class SmallRyeHealthProcessor {
 
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureHealthCache(SmallRyeHealthRecorder recorder,
+            SmallRyeHealthRuntimeConfig runtimeConfig,
+            ShutdownContextBuildItem shutdownContext) {
+        recorder.configureCache(runtimeConfig, shutdownContext);
+    }
+
     @BuildStep(onlyIf = OpenAPIIncluded.class)
     public void includeInOpenAPIEndpoint(BuildProducer<AddToOpenAPIDefinitionBuildItem> openAPIProducer,
             Capabilities capabilities,
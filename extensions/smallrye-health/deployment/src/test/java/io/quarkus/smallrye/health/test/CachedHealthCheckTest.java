@@ -0,0 +1,65 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.parsing.Parser;
+
+public class CachedHealthCheckTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CountingHealthCheck.class)
+                    .addAsResource(new StringAsset("quarkus.smallrye-health.cache.enabled=true\n"
+                            + "quarkus.smallrye-health.cache.refresh-interval=1H\n"), "application.properties")
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"));
+
+    @Test
+    public void testCachedHealth() {
+        try {
+            RestAssured.defaultParser = Parser.JSON;
+            for (int i = 0; i < 3; i++) {
+                RestAssured.when().get("/health/live").then()
+                        .header("Age", notNullValue())
+                        .body("status", is("UP"),
+                                "checks.name", contains("counting"));
+            }
+            // the probes return the result of the first run
+            Assertions.assertEquals(1, CountingHealthCheck.COUNT.get());
+        } finally {
+            RestAssured.reset();
+        }
+    }
+
+    @Liveness
+    @ApplicationScoped
+    static class CountingHealthCheck implements HealthCheck {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public HealthCheckResponse call() {
+            COUNT.incrementAndGet();
+            return HealthCheckResponse.up("counting");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+import org.eclipse.microprofile.health.Readiness;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.parsing.Parser;
+
+public class HangingCachedHealthCheckTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HangingHealthCheck.class, CountingHealthCheck.class)
+                    .addAsResource(new StringAsset("quarkus.smallrye-health.cache.enabled=true\n"
+                            + "quarkus.smallrye-health.cache.refresh-interval=1S\n"
+                            + "quarkus.smallrye-health.cache.timeout=1S\n"), "application.properties")
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"));
+
+    @Test
+    public void testHangingReadinessDoesNotAffectLiveness() {
+        try {
+            RestAssured.defaultParser = Parser.JSON;
+            // the hanging check is interrupted once the timeout expires
+            RestAssured.when().get("/health/ready").then()
+                    .statusCode(503)
+                    .body("status", is("DOWN"));
+            Awaitility.await().atMost(Duration.ofSeconds(10))
+                    .untilAsserted(() -> Assertions.assertTrue(HangingHealthCheck.INTERRUPTED.getCount() == 0));
+
+            // the liveness checks are still refreshed while the readiness checks hang
+            int count = CountingHealthCheck.COUNT.get();
+            RestAssured.when().get("/health/live").then()
+                    .statusCode(200)
+                    .body("status", is("UP"),
+                            "checks.name", contains("counting"));
+            Awaitility.await().atMost(Duration.ofSeconds(10))
+                    .untilAsserted(() -> Assertions.assertTrue(CountingHealthCheck.COUNT.get() >= count + 3));
+            RestAssured.when().get("/health/live").then()
+                    .statusCode(200)
+                    .body("status", is("UP"));
+            RestAssured.when().get("/health/ready").then()
+                    .statusCode(503);
+        } finally {
+            RestAssured.reset();
+        }
+    }
+
+    @Readiness
+    @ApplicationScoped
+    static class HangingHealthCheck implements HealthCheck {
+
+        static final CountDownLatch INTERRUPTED = new CountDownLatch(1);
+
+        @Override
+        public HealthCheckResponse call() {
+            try {
+                // never released
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                INTERRUPTED.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return HealthCheckResponse.down("hanging");
+        }
+    }
+
+    @Liveness
+    @ApplicationScoped
+    static class CountingHealthCheck implements HealthCheck {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public HealthCheckResponse call() {
+            COUNT.incrementAndGet();
+            return HealthCheckResponse.up("counting");
+        }
+    }
+}
@@ -24,6 +24,8 @@ public class ShutdownReadinessListener implements ShutdownListener {
                 Readiness.Literal.INSTANCE);
         if (!instance.isUnsatisfied()) {
             instance.get().shutdown();
+            // do not wait for the next refresh to report the readiness as DOWN
+            SmallRyeHealthCache.invalidate();
         }
         notification.done();
     }
@@ -0,0 +1,255 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.smallrye.health.SmallRyeHealth;
+import io.smallrye.health.SmallRyeHealthReporter;
+
+/**
+ * Results of the health checks, run in the background so that the probes return the last serialized result without
+ * running the checks themselves.
+ * <p>
+ * The checks of an endpoint are run the first time it is called, then every refresh interval, on a thread of their own:
+ * a check that hangs does not delay the checks of the other endpoints, e.g. a hung readiness check does not make the
+ * liveness DOWN. A run that takes longer than the timeout is interrupted and reported as DOWN, and no other run of the
+ * same endpoint is started until it completes.
+ */
+public class SmallRyeHealthCache {
+
+    private static final Logger LOG = Logger.getLogger(SmallRyeHealthCache.class);
+
+    static final byte[] DOWN_RESULT = "{\"status\":\"DOWN\",\"checks\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    // will be replaced at runtime init, if the cache is enabled
+    private static volatile SmallRyeHealthCache instance;
+
+    private final long refreshIntervalNanos;
+    private final long timeoutNanos;
+    // only triggers the runs and their timeouts, the checks are run by the executor of each endpoint
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    SmallRyeHealthCache(Duration refreshInterval, Duration timeout) {
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "quarkus-health-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static SmallRyeHealthCache getInstance() {
+        return instance;
+    }
+
+    static void setInstance(SmallRyeHealthCache cache) {
+        instance = cache;
+    }
+
+    /**
+     * Forgets the results, the next probes run the checks themselves, e.g. once the application is shutting down.
+     */
+    public static void invalidate() {
+        SmallRyeHealthCache cache = instance;
+        if (cache != null) {
+            for (Endpoint endpoint : cache.endpoints.values()) {
+                endpoint.result = null;
+            }
+        }
+    }
+
+    /**
+     * @param path the path of the endpoint, identifies its checks
+     * @param checks the checks of the endpoint, for a given path
+     * @return the last result of the checks of the endpoint
+     */
+    Result get(String path, BiFunction<SmallRyeHealthReporter, String, SmallRyeHealth> checks) {
+        Endpoint endpoint = endpoints.get(path);
+        if (endpoint == null) {
+            Endpoint created = new Endpoint(path, checks);
+            endpoint = endpoints.putIfAbsent(path, created);
+            if (endpoint == null) {
+                endpoint = created;
+                scheduler.scheduleWithFixedDelay(created::refreshInBackground, refreshIntervalNanos,
+                        refreshIntervalNanos, TimeUnit.NANOSECONDS);
+            } else {
+                created.executor.shutdown();
+            }
+        }
+        Result result = endpoint.result;
+        if (result == null) {
+            result = endpoint.refresh();
+        }
+        return result;
+    }
+
+    void shutdown() {
+        scheduler.shutdownNow();
+        for (Endpoint endpoint : endpoints.values()) {
+            endpoint.executor.shutdownNow();
+        }
+    }
+
+    final class Result {
+        final byte[] payload;
+        final boolean down;
+        final long timestamp;
+
+        Result(byte[] payload, boolean down, long timestamp) {
+            this.payload = payload;
+            this.down = down;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * @return true if the result was not refreshed in time, e.g. because the previous run of the checks still hangs
+         */
+        boolean isStale() {
+            return System.nanoTime() - timestamp > refreshIntervalNanos + timeoutNanos;
+        }
+
+        /**
+         * @return the age of the result, in seconds
+         */
+        long getAge() {
+            return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - timestamp);
+        }
+    }
+
+    private final class Endpoint {
+        final String path;
+        final BiFunction<SmallRyeHealthReporter, String, SmallRyeHealth> checks;
+        final ExecutorService executor;
+        volatile Result result;
+        // a cancelled run is done as soon as it is interrupted, this flag is only reset once the checks return
+        final AtomicBoolean running = new AtomicBoolean();
+
+        Endpoint(String path, BiFunction<SmallRyeHealthReporter, String, SmallRyeHealth> checks) {
+            this.path = path;
+            this.checks = checks;
+            this.executor = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "quarkus-health-check" + path.replace('/', '-'));
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        void refreshInBackground() {
+            Future<Result> started = start();
+            if (started != null) {
+                scheduler.schedule(() -> cancelIfRunning(started), timeoutNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        /**
+         * Runs the checks and waits for them at most the timeout.
+         */
+        Result refresh() {
+            Future<Result> started = start();
+            if (started == null) {
+                // the previous run still hangs, or another probe is running the checks
+                Result current = result;
+                return current != null ? current : timedOut();
+            }
+            try {
+                return started.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return cancelIfRunning(started);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return timedOut();
+            } catch (ExecutionException e) {
+                LOG.errorf(e.getCause(), "Unable to run the health checks of %s", path);
+                return timedOut();
+            }
+        }
+
+        private Future<Result> start() {
+            if (!running.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return executor.submit(this::runChecks);
+            } catch (RuntimeException e) {
+                // shutting down
+                running.set(false);
+                return null;
+            }
+        }
+
+        private Result cancelIfRunning(Future<Result> started) {
+            if (started.isDone()) {
+                return result;
+            }
+            // the check may still ignore the interruption, the next runs are then skipped until it completes
+            started.cancel(true);
+            LOG.warnf("The health checks of %s did not complete in %d ms, they are reported as DOWN", path,
+                    TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+            return timedOut();
+        }
+
+        private Result timedOut() {
+            Result down = new Result(DOWN_RESULT, true, System.nanoTime());
+            result = down;
+            return down;
+        }
+
+        private Result runChecks() {
+            try {
+                ManagedContext requestContext = Arc.container().requestContext();
+                if (requestContext.isActive()) {
+                    return doRefresh();
+                }
+                requestContext.activate();
+                try {
+                    return doRefresh();
+                } finally {
+                    requestContext.terminate();
+                }
+            } catch (Throwable t) {
+                // keep the previous result, it is reported as DOWN once it is stale
+                LOG.errorf(t, "Unable to run the health checks of %s", path);
+                throw t;
+            } finally {
+                running.set(false);
+            }
+        }
+
+        private Result doRefresh() {
+            SmallRyeHealthReporter reporter = Arc.container().instance(SmallRyeHealthReporter.class).get();
+            SmallRyeHealth health = checks.apply(reporter, path);
+            if (Thread.currentThread().isInterrupted()) {
+                // timed out, the result was already reported as DOWN
+                return result;
+            }
+            try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+                reporter.reportHealth(outputStream, health);
+                Result refreshed = new Result(outputStream.toByteArray(), health.isDown(), System.nanoTime());
+                result = refreshed;
+                return refreshed;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
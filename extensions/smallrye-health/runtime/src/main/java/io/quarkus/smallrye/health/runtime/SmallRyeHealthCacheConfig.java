@@ -0,0 +1,30 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class SmallRyeHealthCacheConfig {
+
+    /**
+     * If the health checks should be run in the background, the endpoints then return the last result.
+     * The age of the result, in seconds, is returned in the {@code Age} header.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean enabled;
+
+    /**
+     * The interval between two runs of the health checks of an endpoint.
+     */
+    @ConfigItem(defaultValue = "10S")
+    Duration refreshInterval;
+
+    /**
+     * How long the health checks of an endpoint may run. A run that takes longer is interrupted and the endpoint reports
+     * DOWN. The checks of the other endpoints are run on their own threads and are not delayed.
+     */
+    @ConfigItem(defaultValue = "30S")
+    Duration timeout;
+}
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.ManagedContext;
 import io.smallrye.health.SmallRyeHealth;
 import io.smallrye.health.SmallRyeHealthReporter;
@@ -16,10 +17,22 @@ import io.vertx.ext.web.RoutingContext;
 
 abstract class SmallRyeHealthHandlerBase implements Handler<RoutingContext> {
 
-    protected abstract SmallRyeHealth getHealth(SmallRyeHealthReporter reporter, RoutingContext routingContext);
+    // resolved on the first request, the handlers are created for each application start
+    private volatile InjectableBean<SmallRyeHealthReporter> reporterBean;
+
+    /**
+     * @param path the normalised path of the request; the checks may not depend on anything else, as they can be run in
+     *        the background, see {@link SmallRyeHealthCache}
+     */
+    protected abstract SmallRyeHealth getHealth(SmallRyeHealthReporter reporter, String path);
 
     @Override
     public void handle(RoutingContext ctx) {
+        SmallRyeHealthCache cache = SmallRyeHealthCache.getInstance();
+        if (cache != null) {
+            handleCached(ctx, cache);
+            return;
+        }
         ManagedContext requestContext = Arc.container().requestContext();
         if (requestContext.isActive()) {
             doHandle(ctx);
@@ -34,8 +47,13 @@ abstract class SmallRyeHealthHandlerBase implements Handler<RoutingContext> {
     }
 
     private void doHandle(RoutingContext ctx) {
-        SmallRyeHealthReporter reporter = Arc.container().instance(SmallRyeHealthReporter.class).get();
-        SmallRyeHealth health = getHealth(reporter, ctx);
+        InjectableBean<SmallRyeHealthReporter> bean = reporterBean;
+        if (bean == null) {
+            bean = Arc.container().resolveBean(SmallRyeHealthReporter.class);
+            reporterBean = bean;
+        }
+        SmallRyeHealthReporter reporter = Arc.container().instance(bean).get();
+        SmallRyeHealth health = getHealth(reporter, ctx.normalisedPath());
         HttpServerResponse resp = ctx.response();
         if (health.isDown()) {
             resp.setStatusCode(503);
@@ -48,4 +66,20 @@ abstract class SmallRyeHealthHandlerBase implements Handler<RoutingContext> {
             throw new UncheckedIOException(e);
         }
     }
+
+    private void handleCached(RoutingContext ctx, SmallRyeHealthCache cache) {
+        SmallRyeHealthCache.Result result = cache.get(ctx.normalisedPath(), this::getHealth);
+        HttpServerResponse resp = ctx.response();
+        resp.headers().set(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8");
+        resp.headers().set(HttpHeaders.AGE, String.valueOf(result.getAge()));
+        if (result.isStale()) {
+            resp.setStatusCode(503);
+            resp.end(Buffer.buffer(SmallRyeHealthCache.DOWN_RESULT));
+            return;
+        }
+        if (result.down) {
+            resp.setStatusCode(503);
+        }
+        resp.end(Buffer.buffer(result.payload));
+    }
 }
@@ -3,6 +3,7 @@ package io.quarkus.smallrye.health.runtime;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.spi.HealthCheckResponseProvider;
 
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
@@ -28,4 +29,20 @@ public class SmallRyeHealthRecorder {
             return new SmallRyeHealthNotFoundHandler();
         }
     }
+
+    public void configureCache(SmallRyeHealthRuntimeConfig runtimeConfig, ShutdownContext shutdownContext) {
+        if (!runtimeConfig.cache.enabled) {
+            return;
+        }
+        SmallRyeHealthCache cache = new SmallRyeHealthCache(runtimeConfig.cache.refreshInterval,
+                runtimeConfig.cache.timeout);
+        SmallRyeHealthCache.setInstance(cache);
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                SmallRyeHealthCache.setInstance(null);
+                cache.shutdown();
+            }
+        });
+    }
 }
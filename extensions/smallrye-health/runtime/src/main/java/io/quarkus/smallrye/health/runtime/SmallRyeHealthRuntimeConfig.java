@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.health.runtime;
 
+import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -12,4 +13,11 @@ public class SmallRyeHealthRuntimeConfig {
      */
     @ConfigItem(name = "ui.enable", defaultValue = "true")
     boolean enable;
+
+    /**
+     * Caching of the health check results
+     */
+    @ConfigItem
+    @ConfigDocSection
+    SmallRyeHealthCacheConfig cache;
 }
@@ -26,11 +26,17 @@ import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.security.deployment.JCAProviderBuildItem;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRecorder;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRuntimeConfig;
 import io.quarkus.smallrye.jwt.runtime.auth.JWTAuthMechanism;
 import io.quarkus.smallrye.jwt.runtime.auth.JwtPrincipalProducer;
 import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
@@ -92,6 +98,21 @@ class SmallRyeJwtProcessor {
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, true, JwtProviderImpl.class));
     }
 
+    /**
+     * Configure the cache of the verified tokens, the verification pool, and their metrics
+     */
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureTokenVerification(SmallRyeJwtRecorder recorder, SmallRyeJwtRuntimeConfig runtimeConfig,
+            ShutdownContextBuildItem shutdownContext,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.enabled) {
+            recorder.configureTokenCache(runtimeConfig);
+            recorder.configureVerificationPool(runtimeConfig, shutdownContext);
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
+
     /**
      * Register this extension as a MP-JWT feature
      *
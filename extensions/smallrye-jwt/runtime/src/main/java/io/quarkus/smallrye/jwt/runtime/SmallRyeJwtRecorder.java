@@ -0,0 +1,54 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.security.runtime.SecurityIdentityCache;
+import io.quarkus.smallrye.jwt.runtime.auth.JwtVerificationPool;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+
+@Recorder
+public class SmallRyeJwtRecorder {
+
+    /* RUNTIME_INIT */
+    public void configureTokenCache(SmallRyeJwtRuntimeConfig config) {
+        MpJwtValidator.setIdentityCache(SecurityIdentityCache.create(config.tokenCache));
+    }
+
+    /* RUNTIME_INIT */
+    public void configureVerificationPool(SmallRyeJwtRuntimeConfig config, ShutdownContext shutdownContext) {
+        if (!config.verificationPool.enabled) {
+            return;
+        }
+        JwtVerificationPool pool = new JwtVerificationPool(
+                config.verificationPool.size.orElse(Runtime.getRuntime().availableProcessors()),
+                config.verificationPool.queueSize);
+        MpJwtValidator.setVerificationPool(pool);
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                MpJwtValidator.setVerificationPool(null);
+                pool.shutdown();
+            }
+        });
+    }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                SecurityIdentityCache cache = MpJwtValidator.getIdentityCache();
+                if (cache != null) {
+                    cache.registerMetrics(metricsFactory, "smallrye-jwt");
+                }
+                JwtVerificationPool pool = MpJwtValidator.getVerificationPool();
+                if (pool != null) {
+                    pool.registerMetrics(metricsFactory);
+                }
+            }
+        };
+    }
+}
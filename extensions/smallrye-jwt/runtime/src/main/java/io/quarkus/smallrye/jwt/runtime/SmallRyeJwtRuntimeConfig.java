@@ -0,0 +1,52 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.security.runtime.TokenCacheConfig;
+
+@ConfigRoot(name = "smallrye-jwt", phase = ConfigPhase.RUN_TIME)
+public class SmallRyeJwtRuntimeConfig {
+
+    /**
+     * Cache of the verified tokens
+     */
+    @ConfigItem
+    @ConfigDocSection
+    public TokenCacheConfig tokenCache;
+
+    /**
+     * Verification of the tokens on a dedicated pool
+     */
+    @ConfigItem
+    @ConfigDocSection
+    public VerificationPoolConfig verificationPool;
+
+    @ConfigGroup
+    public static class VerificationPoolConfig {
+
+        /**
+         * If the tokens received on the IO threads should be verified on a dedicated pool, so that the signature checks
+         * do not block the IO threads. The request resumes on its IO thread once the token is verified.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The number of threads verifying the tokens.
+         */
+        @ConfigItem(defaultValueDocumentation = "the number of processors")
+        public OptionalInt size;
+
+        /**
+         * The maximum number of tokens waiting to be verified. Once it is reached, the tokens are verified on the IO
+         * threads.
+         */
+        @ConfigItem(defaultValue = "1000")
+        public int queueSize;
+    }
+}
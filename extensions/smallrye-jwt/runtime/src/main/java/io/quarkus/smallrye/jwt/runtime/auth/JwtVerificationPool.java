@@ -0,0 +1,73 @@
+package io.quarkus.smallrye.jwt.runtime.auth;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Bounded pool verifying the tokens, so that the signature checks, which are CPU bound, do not block the IO threads.
+ */
+public class JwtVerificationPool {
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    public JwtVerificationPool(int size, int queueSize) {
+        this.executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "quarkus-jwt-verification-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+
+    /**
+     * @return {@code false} if the queue is full, the task must then be run by the caller
+     */
+    boolean tryExecute(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return false;
+        }
+    }
+
+    /**
+     * @return the number of tokens verified by the caller because the queue was full
+     */
+    long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder("smallrye.jwt.verification.queue.size")
+                .description("Number of tokens waiting to be verified.")
+                .buildGauge(executor, e -> e.getQueue().size());
+        metricsFactory.builder("smallrye.jwt.verification.active")
+                .description("Number of tokens being verified.")
+                .buildGauge(executor, ThreadPoolExecutor::getActiveCount);
+        metricsFactory.builder("smallrye.jwt.verification.completed")
+                .description("Number of tokens verified by the pool.")
+                .buildCounter(executor, ThreadPoolExecutor::getCompletedTaskCount);
+        metricsFactory.builder("smallrye.jwt.verification.rejected")
+                .description("Number of tokens verified on the IO threads because the queue was full.")
+                .buildCounter(this, JwtVerificationPool::getRejectedCount);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
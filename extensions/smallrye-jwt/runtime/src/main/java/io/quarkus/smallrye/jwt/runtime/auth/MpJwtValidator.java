@@ -14,10 +14,13 @@ import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
 
 /**
  * Validates a bearer token according to the MP-JWT rules
@@ -27,6 +30,12 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     private static final Logger log = Logger.getLogger(MpJwtValidator.class);
 
+    // will be replaced at runtime init, if the token cache is enabled
+    private static volatile SecurityIdentityCache identityCache;
+
+    // will be replaced at runtime init, if the verification pool is enabled
+    private static volatile JwtVerificationPool verificationPool;
+
     final JWTParser parser;
 
     public MpJwtValidator() {
@@ -46,21 +55,75 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
     @Override
     public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
             AuthenticationRequestContext context) {
+        String token = request.getToken().getToken();
+        SecurityIdentityCache cache = identityCache;
+        if (cache != null) {
+            SecurityIdentity identity = cache.get(token);
+            if (identity != null) {
+                return Uni.createFrom().item(identity);
+            }
+        }
+        JwtVerificationPool pool = verificationPool;
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super SecurityIdentity>>() {
             @Override
             public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
+                if (pool != null && Context.isOnEventLoopThread()) {
+                    // verify off the IO thread, then resume on it
+                    Context vertxContext = Vertx.currentContext();
+                    boolean offloaded = pool.tryExecute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                SecurityIdentity identity = verify(token, cache);
+                                vertxContext.runOnContext(v -> uniEmitter.complete(identity));
+                            } catch (Throwable t) {
+                                vertxContext.runOnContext(v -> uniEmitter.fail(t));
+                            }
+                        }
+                    });
+                    if (offloaded) {
+                        return;
+                    }
+                }
                 try {
-                    JsonWebToken jwtPrincipal = parser.parse(request.getToken().getToken());
-                    uniEmitter.complete(QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
-                            .addRoles(jwtPrincipal.getGroups())
-                            .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal).build());
-
-                } catch (ParseException e) {
-                    log.debug("Authentication failed", e);
-                    uniEmitter.fail(new AuthenticationFailedException(e));
+                    uniEmitter.complete(verify(token, cache));
+                } catch (Throwable t) {
+                    uniEmitter.fail(t);
                 }
             }
         });
 
     }
+
+    private SecurityIdentity verify(String token, SecurityIdentityCache cache) {
+        try {
+            JsonWebToken jwtPrincipal = parser.parse(token);
+            SecurityIdentity identity = QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
+                    .addRoles(jwtPrincipal.getGroups())
+                    .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal).build();
+            if (cache != null) {
+                cache.put(token, identity, jwtPrincipal.getExpirationTime());
+            }
+            return identity;
+        } catch (ParseException e) {
+            log.debug("Authentication failed", e);
+            throw new AuthenticationFailedException(e);
+        }
+    }
+
+    public static SecurityIdentityCache getIdentityCache() {
+        return identityCache;
+    }
+
+    public static void setIdentityCache(SecurityIdentityCache cache) {
+        identityCache = cache;
+    }
+
+    public static JwtVerificationPool getVerificationPool() {
+        return verificationPool;
+    }
+
+    public static void setVerificationPool(JwtVerificationPool pool) {
+        verificationPool = pool;
+    }
 }
@@ -0,0 +1,191 @@
+package io.quarkus.smallrye.jwt.runtime.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.smallrye.jwt.auth.principal.JWTParser;
+import io.smallrye.jwt.auth.principal.ParseException;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class MpJwtValidatorTest {
+
+    private Vertx vertx;
+    private JwtVerificationPool pool;
+    // the thread that parsed the last token
+    private final AtomicReference<Thread> parsingThread = new AtomicReference<>();
+
+    @BeforeEach
+    public void init() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        MpJwtValidator.setVerificationPool(null);
+        if (pool != null) {
+            pool.shutdown();
+        }
+        vertx.close();
+    }
+
+    @Test
+    public void testVerifiedOffTheEventLoop() throws Exception {
+        pool = new JwtVerificationPool(1, 10);
+        MpJwtValidator.setVerificationPool(pool);
+        MpJwtValidator validator = new MpJwtValidator(parser(false));
+
+        Context context = vertx.getOrCreateContext();
+        Result result = authenticateOn(context, validator);
+        assertEquals("alice", result.identity.get(5, TimeUnit.SECONDS).getPrincipal().getName());
+        // verified on the pool, then resumed on the context of the request
+        assertNotSame(result.eventLoopThread, parsingThread.get());
+        assertTrue(parsingThread.get().getName().startsWith("quarkus-jwt-verification-"));
+        assertSame(context, result.resumedOn.get());
+        assertSame(result.eventLoopThread, result.resumedOnThread.get());
+    }
+
+    @Test
+    public void testVerifiedOnTheEventLoopWhenQueueIsFull() throws Exception {
+        pool = new JwtVerificationPool(1, 1);
+        MpJwtValidator.setVerificationPool(pool);
+        MpJwtValidator validator = new MpJwtValidator(parser(false));
+
+        // occupy the only thread of the pool and fill its queue
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        assertTrue(pool.tryExecute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(pool.tryExecute(() -> {
+        }));
+        try {
+            Context context = vertx.getOrCreateContext();
+            Result result = authenticateOn(context, validator);
+            assertEquals("alice", result.identity.get(5, TimeUnit.SECONDS).getPrincipal().getName());
+            // the token was verified in place rather than failing the request
+            assertSame(result.eventLoopThread, parsingThread.get());
+            assertSame(context, result.resumedOn.get());
+            assertEquals(1, pool.getRejectedCount());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testFailurePropagated() throws Exception {
+        pool = new JwtVerificationPool(1, 10);
+        MpJwtValidator.setVerificationPool(pool);
+        MpJwtValidator validator = new MpJwtValidator(parser(true));
+
+        Context context = vertx.getOrCreateContext();
+        Result result = authenticateOn(context, validator);
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.identity.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof AuthenticationFailedException, e.getCause().toString());
+        assertTrue(e.getCause().getCause() instanceof ParseException);
+        assertNotSame(result.eventLoopThread, parsingThread.get());
+        // the failure is delivered on the context of the request too
+        assertSame(context, result.resumedOn.get());
+        assertSame(result.eventLoopThread, result.resumedOnThread.get());
+    }
+
+    private Result authenticateOn(Context context, MpJwtValidator validator) throws Exception {
+        Result result = new Result();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        context.runOnContext(v -> {
+            result.eventLoopThread = Thread.currentThread();
+            validator.authenticate(new TokenAuthenticationRequest(new TokenCredential("token", "bearer")), null)
+                    .subscribe().with(identity -> {
+                        result.resumed();
+                        result.identity.complete(identity);
+                    }, failure -> {
+                        result.resumed();
+                        result.identity.completeExceptionally(failure);
+                    });
+            subscribed.countDown();
+        });
+        assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+        return result;
+    }
+
+    private JWTParser parser(boolean fail) {
+        return (JWTParser) Proxy.newProxyInstance(MpJwtValidatorTest.class.getClassLoader(),
+                new Class<?>[] { JWTParser.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("parse")) {
+                        parsingThread.set(Thread.currentThread());
+                        if (fail) {
+                            throw new ParseException("Invalid token");
+                        }
+                        return principal("alice");
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static JsonWebToken principal(String name) {
+        return (JsonWebToken) Proxy.newProxyInstance(MpJwtValidatorTest.class.getClassLoader(),
+                new Class<?>[] { JsonWebToken.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getName":
+                            return name;
+                        case "getGroups":
+                            return Collections.emptySet();
+                        case "getExpirationTime":
+                            return 0L;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "JsonWebToken[" + name + "]";
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class Result {
+
+        final CompletableFuture<SecurityIdentity> identity = new CompletableFuture<>();
+        final AtomicReference<Context> resumedOn = new AtomicReference<>();
+        final AtomicReference<Thread> resumedOnThread = new AtomicReference<>();
+        volatile Thread eventLoopThread;
+
+        void resumed() {
+            resumedOn.set(Vertx.currentContext());
+            resumedOnThread.set(Thread.currentThread());
+        }
+
+    }
+
+}
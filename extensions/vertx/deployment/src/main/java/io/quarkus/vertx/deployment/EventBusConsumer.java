@@ -9,6 +9,7 @@ import static io.quarkus.vertx.deployment.VertxConstants.RX_MESSAGE;
 import static io.quarkus.vertx.deployment.VertxConstants.UNI;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
@@ -40,6 +41,7 @@ import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.ConsumeEvent;
+import io.quarkus.vertx.runtime.EventBatchConsumerInvoker;
 import io.quarkus.vertx.runtime.EventConsumerInvoker;
 import io.smallrye.common.annotation.Blocking;
 import io.smallrye.mutiny.Uni;
@@ -118,16 +120,18 @@ class EventBusConsumer {
         String generatedName = targetPackage.replace('.', '/') + "/" + baseName + INVOKER_SUFFIX + "_" + method.name() + "_"
                 + HashUtil.sha1(sigBuilder.toString());
 
+        boolean batch = isBatch(consumeEvent);
         ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
-                .interfaces(EventConsumerInvoker.class).build();
+                .interfaces(batch ? EventBatchConsumerInvoker.class : EventConsumerInvoker.class).build();
 
         // The method descriptor is: void invokeBean(Object message)
         MethodCreator invoke = invokerCreator.getMethodCreator("invokeBean", void.class, Object.class);
         ResultHandle containerHandle = invoke.invokeStaticMethod(ARC_CONTAINER);
 
-        AnnotationValue blocking = consumeEvent.value("blocking");
-        boolean blockingAnnotation = method.hasAnnotation(BLOCKING);
-        if ((blocking != null && blocking.asBoolean()) || blockingAnnotation) {
+        if (batch) {
+            // The batch is dispatched to a worker thread by the recorder if needed
+            invokeBatch(bean, method, invoke.getMethodParam(0), invoke);
+        } else if (isBlocking(method, consumeEvent) && !isDispatched(consumeEvent)) {
             // Blocking operation must be performed on a worker thread
             ResultHandle vertxHandle = invoke
                     .invokeInterfaceMethod(INSTANCE_HANDLE_GET,
@@ -160,6 +164,15 @@ class EventBusConsumer {
 
             invoke.invokeInterfaceMethod(VERTX_EXECUTE_BLOCKING, vertxHandle, func.getInstance(), invoke.load(false),
                     invoke.loadNull());
+        } else if (isDispatched(consumeEvent)) {
+            // The dispatcher awaits the completion stage returned by invokeBeanAsync(Message message)
+            MethodCreator invokeAsync = invokerCreator.getMethodCreator("invokeBeanAsync", CompletionStage.class,
+                    Message.class);
+            ResultHandle stageHandle = invoke(bean, method, invokeAsync.getMethodParam(0), invokeAsync);
+            invokeAsync.returnValue(stageHandle != null ? stageHandle : invokeAsync.loadNull());
+            invoke.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(generatedName, "invokeBeanAsync", CompletionStage.class, Message.class),
+                    invoke.getThis(), invoke.checkCast(invoke.getMethodParam(0), Message.class));
         } else {
             invoke(bean, method, invoke.getMethodParam(0), invoke);
         }
@@ -168,6 +181,27 @@ class EventBusConsumer {
         return generatedName.replace('/', '.');
     }
 
+    static boolean isBlocking(MethodInfo method, AnnotationInstance consumeEvent) {
+        AnnotationValue blocking = consumeEvent.value("blocking");
+        return (blocking != null && blocking.asBoolean()) || method.hasAnnotation(BLOCKING);
+    }
+
+    static boolean isBatch(AnnotationInstance consumeEvent) {
+        AnnotationValue batchSize = consumeEvent.value("batchSize");
+        return batchSize != null && batchSize.asInt() > 0;
+    }
+
+    /**
+     * @return {@code true} if the messages are dispatched by the recorder, which limits the concurrency of the
+     *         invocations or uses a dedicated worker pool
+     */
+    static boolean isDispatched(AnnotationInstance consumeEvent) {
+        AnnotationValue maxConcurrency = consumeEvent.value("maxConcurrency");
+        AnnotationValue workerPool = consumeEvent.value("workerPool");
+        return isBatch(consumeEvent) || (maxConcurrency != null && maxConcurrency.asInt() > 0)
+                || (workerPool != null && !workerPool.asString().isEmpty());
+    }
+
     /**
      * This method generates the following code:
      * {@code
@@ -196,7 +230,11 @@ class EventBusConsumer {
         invoke.invokeVirtualMethod(warnMethod, logger, message);
     }
 
-    private static void invoke(BeanInfo bean, MethodInfo method, ResultHandle messageHandle, BytecodeCreator invoke) {
+    /**
+     * @return the stage that completes once the message has been replied, if the method returns a {@link CompletionStage}
+     *         or a {@link Uni}, or {@code null}
+     */
+    private static ResultHandle invoke(BeanInfo bean, MethodInfo method, ResultHandle messageHandle, BytecodeCreator invoke) {
         ResultHandle containerHandle = invoke.invokeStaticMethod(ARC_CONTAINER);
         ResultHandle beanHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_BEAN, containerHandle,
                 invoke.load(bean.getIdentifier()));
@@ -205,6 +243,7 @@ class EventBusConsumer {
         ResultHandle beanInstanceHandle = invoke
                 .invokeInterfaceMethod(INSTANCE_HANDLE_GET, instanceHandle);
 
+        ResultHandle stageHandle = null;
         Type paramType = method.parameters().get(0);
         if (paramType.name().equals(MESSAGE)) {
             // io.vertx.core.eventbus.Message
@@ -245,7 +284,7 @@ class EventBusConsumer {
             if (replyHandle != null) {
                 if (method.returnType().name().equals(COMPLETION_STAGE)) {
                     FunctionCreator handler = generateWhenCompleteHandler(messageHandle, invoke);
-                    invoke.invokeInterfaceMethod(
+                    stageHandle = invoke.invokeInterfaceMethod(
                             WHEN_COMPLETE,
                             replyHandle, handler.getInstance());
                 } else if (method.returnType().name().equals(UNI)) {
@@ -253,7 +292,7 @@ class EventBusConsumer {
                     FunctionCreator handler = generateWhenCompleteHandler(messageHandle, invoke);
                     ResultHandle subscribedCompletionStage = invoke.invokeInterfaceMethod(SUBSCRIBE_AS_COMPLETION_STAGE,
                             replyHandle);
-                    invoke.invokeInterfaceMethod(WHEN_COMPLETE,
+                    stageHandle = invoke.invokeInterfaceMethod(WHEN_COMPLETE,
                             subscribedCompletionStage, handler.getInstance());
                 } else {
                     // Message.reply(returnValue)
@@ -262,6 +301,25 @@ class EventBusConsumer {
             }
         }
 
+        // handle.destroy() - destroy dependent instance afterwards
+        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            invoke.invokeInterfaceMethod(INSTANCE_HANDLE_DESTROY, instanceHandle);
+        }
+        return stageHandle;
+    }
+
+    private static void invokeBatch(BeanInfo bean, MethodInfo method, ResultHandle batchHandle, BytecodeCreator invoke) {
+        ResultHandle containerHandle = invoke.invokeStaticMethod(ARC_CONTAINER);
+        ResultHandle beanHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_BEAN, containerHandle,
+                invoke.load(bean.getIdentifier()));
+        ResultHandle instanceHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_INSTANCE_FOR_BEAN, containerHandle,
+                beanHandle);
+        ResultHandle beanInstanceHandle = invoke
+                .invokeInterfaceMethod(INSTANCE_HANDLE_GET, instanceHandle);
+        invoke.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class, List.class),
+                beanInstanceHandle, invoke.checkCast(batchHandle, List.class));
+
         // handle.destroy() - destroy dependent instance afterwards
         if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
             invoke.invokeInterfaceMethod(INSTANCE_HANDLE_DESTROY, instanceHandle);
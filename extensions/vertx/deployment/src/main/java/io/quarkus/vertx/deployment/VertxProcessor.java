@@ -1,6 +1,7 @@
 package io.quarkus.vertx.deployment;
 
 import static io.quarkus.vertx.deployment.VertxConstants.CONSUME_EVENT;
+import static io.quarkus.vertx.deployment.VertxConstants.LIST;
 
 import java.util.HashMap;
 import java.util.List;
@@ -39,6 +40,7 @@ import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.recording.AnnotationProxyProvider.AnnotationProxyBuilder;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.vertx.ConsumeEvent;
@@ -74,10 +76,14 @@ class VertxProcessor {
         for (EventConsumerBusinessMethodItem businessMethod : messageConsumerBusinessMethods) {
             String invokerClass = EventBusConsumer.generateInvoker(businessMethod.getBean(), businessMethod.getMethod(),
                     businessMethod.getConsumeEvent(), classOutput);
-            messageConsumerConfigurations.put(invokerClass,
-                    annotationProxy.builder(businessMethod.getConsumeEvent(), ConsumeEvent.class)
-                            .withDefaultValue("value", businessMethod.getBean().getBeanClass().toString())
-                            .build(classOutput));
+            AnnotationProxyBuilder<ConsumeEvent> consumeEvent = annotationProxy
+                    .builder(businessMethod.getConsumeEvent(), ConsumeEvent.class)
+                    .withDefaultValue("value", businessMethod.getBean().getBeanClass().toString());
+            if (EventBusConsumer.isBlocking(businessMethod.getMethod(), businessMethod.getConsumeEvent())) {
+                // @Blocking is taken into account when the messages are dispatched by the recorder
+                consumeEvent.withValue("blocking", true);
+            }
+            messageConsumerConfigurations.put(invokerClass, consumeEvent.build(classOutput));
             reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, invokerClass));
         }
 
@@ -117,6 +123,20 @@ class VertxProcessor {
                                 "Event consumer business method must accept exactly one parameter: %s [method: %s, bean:%s",
                                 params, method, bean));
                     }
+                    if (EventBusConsumer.isBatch(consumeEvent) && (!params.get(0).name().equals(LIST)
+                            || method.returnType().kind() != Type.Kind.VOID)) {
+                        throw new IllegalStateException(String.format(
+                                "Batch event consumer business method must accept a java.util.List and return void: "
+                                        + "[method: %s, bean:%s",
+                                method, bean));
+                    }
+                    if (EventBusConsumer.isDispatched(consumeEvent) && !EventBusConsumer.isBatch(consumeEvent)
+                            && !EventBusConsumer.isBlocking(method, consumeEvent)) {
+                        throw new IllegalStateException(String.format(
+                                "Event consumer business method with a maximum concurrency or a worker pool must be "
+                                        + "blocking: [method: %s, bean:%s",
+                                method, bean));
+                    }
                     messageConsumerBusinessMethods
                             .produce(new EventConsumerBusinessMethodItem(bean, method, consumeEvent));
                     LOGGER.debugf("Found event consumer business method %s declared on %s", method, bean);
@@ -0,0 +1,187 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.eventbus.EventBus;
+
+public class MessageConsumerDispatchTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(Consumers.class));
+
+    @Inject
+    EventBus eventBus;
+
+    @Inject
+    Consumers consumers;
+
+    @Test
+    public void testBatches() throws InterruptedException {
+        consumers.reset(7);
+        for (int i = 0; i < 7; i++) {
+            eventBus.send("batch", "message-" + i);
+        }
+        assertTrue(consumers.latch.await(2, TimeUnit.SECONDS));
+        // a full batch, then the remaining messages once the timeout has elapsed
+        assertEquals(2, consumers.batches.size());
+        assertEquals(5, consumers.batches.get(0).size());
+        assertEquals(2, consumers.batches.get(1).size());
+        assertEquals("message-0", consumers.batches.get(0).get(0));
+    }
+
+    @Test
+    public void testMaxConcurrency() throws InterruptedException {
+        consumers.reset(20);
+        for (int i = 0; i < 20; i++) {
+            eventBus.send("bounded", "message-" + i);
+        }
+        assertTrue(consumers.latch.await(5, TimeUnit.SECONDS));
+        // the pool has 8 threads, the limit is enforced by the dispatcher
+        assertTrue(consumers.maxInFlight.get() <= 2, "Max in flight: " + consumers.maxInFlight.get());
+        for (String thread : consumers.threads) {
+            assertTrue(thread.startsWith("bounded-pool"), thread);
+        }
+    }
+
+    @Test
+    public void testNoMessageDiscardedOnceMaxConcurrencyReached() throws InterruptedException {
+        // more messages than the event bus buffers for a paused consumer, but less than the queue and the buffer together
+        int count = 1500;
+        consumers.reset(count);
+        for (int i = 0; i < count; i++) {
+            eventBus.send("burst", "message-" + i);
+        }
+        assertTrue(consumers.latch.await(10, TimeUnit.SECONDS), "Missing messages: " + consumers.latch.getCount());
+        assertTrue(consumers.maxInFlight.get() <= 8, "Max in flight: " + consumers.maxInFlight.get());
+    }
+
+    @Test
+    public void testAsyncInvocationInFlightUntilCompleted() throws InterruptedException {
+        consumers.reset(20);
+        for (int i = 0; i < 10; i++) {
+            eventBus.send("async", "message-" + i);
+            eventBus.send("async-blocking", "message-" + i);
+        }
+        assertTrue(consumers.latch.await(5, TimeUnit.SECONDS), "Missing messages: " + consumers.latch.getCount());
+        // each consumer has 2 invocations in flight at most, although the methods return before the results complete
+        assertTrue(consumers.maxInFlight.get() <= 4, "Max in flight: " + consumers.maxInFlight.get());
+    }
+
+    @Test
+    public void testQueueIsBounded() throws InterruptedException {
+        int count = 2500;
+        consumers.reset(count);
+        consumers.release = new CountDownLatch(1);
+        for (int i = 0; i < count; i++) {
+            eventBus.send("stalled", "message-" + i);
+        }
+        consumers.release.countDown();
+        // one message in flight, 1000 queued by the dispatcher and 1000 buffered by the paused consumer
+        consumers.latch.await(2, TimeUnit.SECONDS);
+        long processed = count - consumers.latch.getCount();
+        assertTrue(processed >= 2000 && processed < count, "Processed: " + processed);
+    }
+
+    @ApplicationScoped
+    static class Consumers {
+
+        private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        volatile CountDownLatch latch;
+        volatile CountDownLatch release;
+        final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        void reset(int count) {
+            latch = new CountDownLatch(count);
+            batches.clear();
+            threads.clear();
+            maxInFlight.set(0);
+        }
+
+        @ConsumeEvent(value = "batch", batchSize = 5, batchTimeout = 200)
+        void batch(List<String> messages) {
+            batches.add(Collections.unmodifiableList(new ArrayList<>(messages)));
+            for (int i = 0; i < messages.size(); i++) {
+                latch.countDown();
+            }
+        }
+
+        @ConsumeEvent(value = "bounded", blocking = true, maxConcurrency = 2, workerPool = "bounded-pool")
+        void bounded(String message) throws InterruptedException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            threads.add(Thread.currentThread().getName());
+            Thread.sleep(10);
+            inFlight.decrementAndGet();
+            latch.countDown();
+        }
+
+        @ConsumeEvent(value = "async", maxConcurrency = 2)
+        CompletionStage<String> async(String message) {
+            return completeLater(message);
+        }
+
+        @ConsumeEvent(value = "async-blocking", blocking = true, maxConcurrency = 2, workerPool = "async-pool")
+        Uni<String> asyncBlocking(String message) {
+            return Uni.createFrom().completionStage(completeLater(message));
+        }
+
+        @ConsumeEvent(value = "stalled", blocking = true, maxConcurrency = 1, workerPool = "stalled-pool")
+        void stalled(String message) throws InterruptedException {
+            release.await(5, TimeUnit.SECONDS);
+            latch.countDown();
+        }
+
+        @PreDestroy
+        void destroy() {
+            executor.shutdownNow();
+        }
+
+        private CompletionStage<String> completeLater(String message) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<String> result = new CompletableFuture<>();
+            executor.schedule(() -> {
+                inFlight.decrementAndGet();
+                latch.countDown();
+                result.complete(message);
+            }, 10, TimeUnit.MILLISECONDS);
+            return result;
+        }
+
+        // shares the pool with the bounded consumer, and sets its size
+        @ConsumeEvent(value = "burst", blocking = true, maxConcurrency = 8, workerPool = "bounded-pool")
+        void burst(String message) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            inFlight.decrementAndGet();
+            latch.countDown();
+        }
+    }
+}
@@ -36,6 +36,11 @@ import io.vertx.core.eventbus.MessageCodec;
  *     void echoMessageBlocking(Message<String> msg) {
  *         msg.reply(msg.body().toUpperCase());
  *     }
+ *
+ *     &#64;ConsumeEvent(value = "store", blocking = true, maxConcurrency = 4, batchSize = 100)
+ *     void store(List<String> msgs) {
+ *         // insert the messages at once
+ *     }
  * }
  * </pre>
  * 
@@ -91,4 +96,42 @@ public @interface ConsumeEvent {
     @SuppressWarnings("rawtypes")
     Class<? extends MessageCodec> codec() default LocalEventBusCodec.class;
 
+    /**
+     * The maximum number of messages, or batches of messages, processed concurrently by the consumer. A message is processed
+     * until the method returns or, if it returns a {@link java.util.concurrent.CompletionStage} or a
+     * {@link io.smallrye.mutiny.Uni}, until it completes. Once the limit is reached, the messages are queued in memory until
+     * an invocation completes. At most {@link io.vertx.core.eventbus.MessageConsumer#getMaxBufferedMessages()} messages are
+     * queued: the consumer is then paused and the event bus discards the messages beyond its own buffer.
+     *
+     * @return the maximum number of concurrent invocations, or a value lower than 1 for no limit
+     */
+    int maxConcurrency() default -1;
+
+    /**
+     * The name of a dedicated worker pool on which a blocking consumer is invoked, so that it does not starve the default
+     * worker pool. The pool is shared by the consumers that use the same name; its size is the largest maximum concurrency
+     * of them, if any is set.
+     *
+     * @return the name of the worker pool, or an empty string to use the default worker pool
+     * @see io.vertx.core.Vertx#createSharedWorkerExecutor(String, int)
+     */
+    String workerPool() default "";
+
+    /**
+     * The maximum number of messages delivered at once. If set, the method must accept a {@link java.util.List} of the
+     * message bodies and return {@code void}. A batch is delivered when it is full or when the {@link #batchTimeout()} has
+     * elapsed since its first message was received. The messages of a batch are replied with {@code null} once the method
+     * returns, or failed with {@link #FAILURE_CODE} if it throws an exception.
+     *
+     * @return the size of a batch, or a value lower than 1 to deliver the messages one by one
+     */
+    int batchSize() default -1;
+
+    /**
+     *
+     * @return the maximum time, in milliseconds, a message waits for its batch to be full
+     * @see #batchSize()
+     */
+    long batchTimeout() default 100;
+
 }
@@ -0,0 +1,15 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.List;
+
+import io.quarkus.arc.runtime.BeanInvoker;
+import io.quarkus.vertx.ConsumeEvent;
+
+/**
+ * Invokes a business method annotated with {@link ConsumeEvent} that receives the bodies of the messages in batches.
+ *
+ * @see ConsumeEvent#batchSize()
+ */
+public interface EventBatchConsumerInvoker extends BeanInvoker<List<Object>> {
+
+}
@@ -0,0 +1,244 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.arc.runtime.BeanInvoker;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+
+/**
+ * Dispatches the messages of a {@link ConsumeEvent} consumer that limits the number of invocations in flight, uses a
+ * dedicated worker pool, or receives the messages in batches.
+ * <p>
+ * All the messages, timers and completions of the invocations are handled on the context of the consumer, hence the state
+ * is not synchronized. An invocation is in flight until the business method returns or, if it returns a
+ * {@link CompletionStage} or a {@link io.smallrye.mutiny.Uni}, until the message has been replied. Once the maximum
+ * concurrency is reached, the messages are queued by the dispatcher until an invocation completes. The queue holds at most
+ * {@link MessageConsumer#getMaxBufferedMessages()} messages: once it is full, the consumer is paused, so that the event bus
+ * buffers the next messages and discards the messages beyond its own limit. The consumer is resumed once half of the queue
+ * has been dispatched.
+ */
+class EventConsumerDispatcher implements Handler<Message<Object>> {
+
+    private final Vertx vertx;
+    private final MessageConsumer<Object> consumer;
+    private final BeanInvoker<Object> invoker;
+    private final boolean blocking;
+    private final int maxConcurrency;
+    private final WorkerExecutor workerExecutor;
+    private final int batchSize;
+    private final long batchTimeout;
+
+    private final Deque<List<Message<Object>>> pending = new ArrayDeque<>();
+    // the number of messages in the pending batches
+    private int pendingMessages;
+    private boolean paused;
+    private List<Message<Object>> batch;
+    private long batchTimer = -1;
+    private int inFlight;
+    // notified once the invocations in flight and the queued messages have been processed
+    private Runnable onIdle;
+    // the context of the consumer, once it has received a message
+    private volatile Context context;
+
+    /**
+     * @param consumer the consumer, paused once the queue of the dispatcher is full
+     * @param invoker the invoker of the business method, an {@link EventConsumerInvoker} or, for a batch consumer, an
+     *        {@link EventBatchConsumerInvoker}
+     * @param workerExecutor the dedicated worker pool, or {@code null} to use the default one
+     */
+    @SuppressWarnings("unchecked")
+    EventConsumerDispatcher(Vertx vertx, MessageConsumer<Object> consumer, BeanInvoker<?> invoker, ConsumeEvent config,
+            WorkerExecutor workerExecutor) {
+        this.vertx = vertx;
+        this.consumer = consumer;
+        this.invoker = (BeanInvoker<Object>) invoker;
+        this.blocking = config.blocking();
+        this.maxConcurrency = config.maxConcurrency();
+        this.workerExecutor = workerExecutor;
+        this.batchSize = config.batchSize();
+        this.batchTimeout = config.batchTimeout();
+    }
+
+    @Override
+    public void handle(Message<Object> message) {
+        if (context == null) {
+            context = Vertx.currentContext();
+        }
+        if (batchSize <= 0) {
+            List<Message<Object>> single = new ArrayList<>(1);
+            single.add(message);
+            dispatch(single);
+            return;
+        }
+        if (batch == null) {
+            batch = new ArrayList<>(batchSize);
+            if (batchTimeout > 0) {
+                batchTimer = vertx.setTimer(batchTimeout, new Handler<Long>() {
+                    @Override
+                    public void handle(Long timerId) {
+                        batchTimer = -1;
+                        flush();
+                    }
+                });
+            }
+        }
+        batch.add(message);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Runs the given task on the context of the consumer, or directly if it has not received any message yet.
+     */
+    void runOnContext(Runnable task) {
+        Context current = context;
+        if (current == null) {
+            task.run();
+        } else {
+            current.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    task.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Delivers the current batch, e.g. once the consumer is unregistered.
+     */
+    void flush() {
+        if (batchTimer != -1) {
+            vertx.cancelTimer(batchTimer);
+            batchTimer = -1;
+        }
+        if (batch != null) {
+            List<Message<Object>> messages = batch;
+            batch = null;
+            dispatch(messages);
+        }
+    }
+
+    /**
+     * Runs the given task once the invocations in flight and the queued messages have been processed. It must be called on
+     * the context of the consumer, once the consumer is unregistered.
+     */
+    void whenIdle(Runnable task) {
+        if (inFlight == 0) {
+            task.run();
+        } else {
+            onIdle = task;
+        }
+    }
+
+    private void dispatch(List<Message<Object>> messages) {
+        if (maxConcurrency > 0 && inFlight >= maxConcurrency) {
+            enqueue(messages);
+            return;
+        }
+        inFlight++;
+        if (!blocking) {
+            CompletionStage<?> stage = invoke(messages);
+            if (stage == null) {
+                completed();
+            } else {
+                stage.whenComplete((result, failure) -> runOnContext(this::completed));
+            }
+            return;
+        }
+        Handler<Promise<Object>> blockingCode = new Handler<Promise<Object>>() {
+            @Override
+            public void handle(Promise<Object> promise) {
+                CompletionStage<?> stage = invoke(messages);
+                if (stage == null) {
+                    promise.complete();
+                } else {
+                    stage.whenComplete((result, failure) -> promise.complete());
+                }
+            }
+        };
+        Handler<AsyncResult<Object>> completion = new Handler<AsyncResult<Object>>() {
+            @Override
+            public void handle(AsyncResult<Object> ar) {
+                completed();
+            }
+        };
+        if (workerExecutor != null) {
+            workerExecutor.executeBlocking(blockingCode, false, completion);
+        } else {
+            vertx.executeBlocking(blockingCode, false, completion);
+        }
+    }
+
+    private void enqueue(List<Message<Object>> messages) {
+        pending.add(messages);
+        pendingMessages += messages.size();
+        if (!paused && pendingMessages >= consumer.getMaxBufferedMessages()) {
+            paused = true;
+            consumer.pause();
+        }
+    }
+
+    private void completed() {
+        inFlight--;
+        List<Message<Object>> next = pending.poll();
+        if (next != null) {
+            pendingMessages -= next.size();
+            if (paused && pendingMessages <= consumer.getMaxBufferedMessages() / 2) {
+                paused = false;
+                consumer.resume();
+            }
+            dispatch(next);
+        } else if (inFlight == 0 && onIdle != null) {
+            Runnable task = onIdle;
+            onIdle = null;
+            task.run();
+        }
+    }
+
+    /**
+     * @return the stage that completes once the message has been replied, or {@code null} if the messages have been
+     *         processed
+     */
+    private CompletionStage<?> invoke(List<Message<Object>> messages) {
+        if (batchSize <= 0) {
+            Message<Object> message = messages.get(0);
+            try {
+                return ((EventConsumerInvoker) invoker).invokeAsync(message);
+            } catch (Throwable e) {
+                message.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                return null;
+            }
+        }
+        List<Object> bodies = new ArrayList<>(messages.size());
+        for (Message<Object> message : messages) {
+            bodies.add(message.body());
+        }
+        try {
+            invoker.invoke(bodies);
+        } catch (Throwable e) {
+            for (Message<Object> message : messages) {
+                message.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+            }
+            return null;
+        }
+        for (Message<Object> message : messages) {
+            // acknowledge the messages sent with a reply handler
+            message.reply(null);
+        }
+        return null;
+    }
+}
@@ -1,5 +1,9 @@
 package io.quarkus.vertx.runtime;
 
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanInvoker;
 import io.quarkus.vertx.ConsumeEvent;
 import io.vertx.core.eventbus.Message;
@@ -9,4 +13,33 @@ import io.vertx.core.eventbus.Message;
  */
 public interface EventConsumerInvoker extends BeanInvoker<Message<Object>> {
 
+    /**
+     * Invokes the business method like {@link #invoke(Object)}.
+     *
+     * @return the stage that completes once the message has been replied, if the business method returns a
+     *         {@link CompletionStage} or a {@link io.smallrye.mutiny.Uni}, or {@code null} if the message has been processed
+     *         when this method returns
+     */
+    default CompletionStage<?> invokeAsync(Message<Object> message) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            return invokeBeanAsync(message);
+        } else {
+            try {
+                requestContext.activate();
+                return invokeBeanAsync(message);
+            } finally {
+                requestContext.terminate();
+            }
+        }
+    }
+
+    /**
+     * Implemented by the invokers of the consumers dispatched by an {@link EventConsumerDispatcher}.
+     */
+    default CompletionStage<?> invokeBeanAsync(Message<Object> message) {
+        invokeBean(message);
+        return null;
+    }
+
 }
@@ -2,6 +2,7 @@ package io.quarkus.vertx.runtime;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -10,6 +11,7 @@ import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.runtime.BeanInvoker;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
@@ -19,6 +21,7 @@ import io.quarkus.vertx.ConsumeEvent;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageCodec;
@@ -31,11 +34,15 @@ public class VertxRecorder {
 
     static volatile Vertx vertx;
     static volatile List<MessageConsumer<?>> messageConsumers;
+    static volatile List<EventConsumerDispatcher> dispatchers;
+    static volatile Map<String, WorkerExecutor> workerExecutors;
 
     public void configureVertx(Supplier<Vertx> vertx, Map<String, ConsumeEvent> messageConsumerConfigurations,
             LaunchMode launchMode, ShutdownContext shutdown, Map<Class<?>, Class<?>> codecByClass) {
         VertxRecorder.vertx = vertx.get();
         VertxRecorder.messageConsumers = new ArrayList<>();
+        VertxRecorder.dispatchers = new ArrayList<>();
+        VertxRecorder.workerExecutors = new HashMap<>();
 
         registerMessageConsumers(messageConsumerConfigurations);
         registerCodecs(codecByClass);
@@ -63,31 +70,43 @@ public class VertxRecorder {
 
     void destroy() {
         messageConsumers = null;
+        dispatchers = null;
+        closeWorkerExecutors();
+        workerExecutors = null;
     }
 
     void registerMessageConsumers(Map<String, ConsumeEvent> messageConsumerConfigurations) {
         if (!messageConsumerConfigurations.isEmpty()) {
             EventBus eventBus = vertx.eventBus();
             CountDownLatch latch = new CountDownLatch(messageConsumerConfigurations.size());
+            Map<String, Integer> workerPoolSizes = getWorkerPoolSizes(messageConsumerConfigurations);
             for (Entry<String, ConsumeEvent> entry : messageConsumerConfigurations.entrySet()) {
-                EventConsumerInvoker invoker = createInvoker(entry.getKey());
-                String address = entry.getValue().value();
+                ConsumeEvent config = entry.getValue();
+                String address = config.value();
                 MessageConsumer<Object> consumer;
-                if (entry.getValue().local()) {
+                if (config.local()) {
                     consumer = eventBus.localConsumer(address);
                 } else {
                     consumer = eventBus.consumer(address);
                 }
-                consumer.handler(new Handler<Message<Object>>() {
-                    @Override
-                    public void handle(Message<Object> m) {
-                        try {
-                            invoker.invoke(m);
-                        } catch (Throwable e) {
-                            m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                if (config.batchSize() > 0 || config.maxConcurrency() > 0 || !config.workerPool().isEmpty()) {
+                    EventConsumerDispatcher dispatcher = new EventConsumerDispatcher(vertx, consumer,
+                            createInvoker(entry.getKey()), config, getWorkerExecutor(config, workerPoolSizes));
+                    consumer.handler(dispatcher);
+                    dispatchers.add(dispatcher);
+                } else {
+                    EventConsumerInvoker invoker = createInvoker(entry.getKey());
+                    consumer.handler(new Handler<Message<Object>>() {
+                        @Override
+                        public void handle(Message<Object> m) {
+                            try {
+                                invoker.invoke(m);
+                            } catch (Throwable e) {
+                                m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                            }
                         }
-                    }
-                });
+                    });
+                }
                 consumer.completionHandler(new Handler<AsyncResult<Void>>() {
 
                     @Override
@@ -124,17 +143,80 @@ public class VertxRecorder {
             throw new IllegalStateException("Unable to unregister all message consumer methods", e);
         }
         messageConsumers.clear();
+        // the worker executors are closed once the messages already received have been processed
+        drainDispatchers();
+        dispatchers.clear();
+        closeWorkerExecutors();
+    }
+
+    /**
+     * @return the size of each worker pool, i.e. the largest maximum concurrency of the consumers using it
+     */
+    private static Map<String, Integer> getWorkerPoolSizes(Map<String, ConsumeEvent> messageConsumerConfigurations) {
+        Map<String, Integer> sizes = new HashMap<>();
+        for (ConsumeEvent config : messageConsumerConfigurations.values()) {
+            if (!config.workerPool().isEmpty() && config.maxConcurrency() > 0) {
+                sizes.merge(config.workerPool(), config.maxConcurrency(), Math::max);
+            }
+        }
+        return sizes;
+    }
+
+    private WorkerExecutor getWorkerExecutor(ConsumeEvent config, Map<String, Integer> workerPoolSizes) {
+        if (config.workerPool().isEmpty()) {
+            return null;
+        }
+        WorkerExecutor executor = workerExecutors.get(config.workerPool());
+        if (executor == null) {
+            Integer size = workerPoolSizes.get(config.workerPool());
+            if (size != null) {
+                executor = vertx.createSharedWorkerExecutor(config.workerPool(), size);
+            } else {
+                executor = vertx.createSharedWorkerExecutor(config.workerPool());
+            }
+            workerExecutors.put(config.workerPool(), executor);
+        }
+        return executor;
+    }
+
+    private void drainDispatchers() {
+        // deliver the pending batches on the context of their consumer, then wait for the invocations in flight
+        CountDownLatch latch = new CountDownLatch(dispatchers.size());
+        for (EventConsumerDispatcher dispatcher : dispatchers) {
+            dispatcher.runOnContext(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        dispatcher.flush();
+                    } finally {
+                        dispatcher.whenIdle(latch::countDown);
+                    }
+                }
+            });
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Unable to process the pending messages", e);
+        }
+    }
+
+    private void closeWorkerExecutors() {
+        for (WorkerExecutor executor : workerExecutors.values()) {
+            executor.close();
+        }
+        workerExecutors.clear();
     }
 
     @SuppressWarnings("unchecked")
-    private EventConsumerInvoker createInvoker(String invokerClassName) {
+    private <T extends BeanInvoker<?>> T createInvoker(String invokerClassName) {
         try {
             ClassLoader cl = Thread.currentThread().getContextClassLoader();
             if (cl == null) {
                 cl = VertxProducer.class.getClassLoader();
             }
-            Class<? extends EventConsumerInvoker> invokerClazz = (Class<? extends EventConsumerInvoker>) cl
-                    .loadClass(invokerClassName);
+            Class<? extends T> invokerClazz = (Class<? extends T>) cl.loadClass(invokerClassName);
             return invokerClazz.getDeclaredConstructor().newInstance();
         } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | NoSuchMethodException
                 | InvocationTargetException e) {
@@ -85,11 +85,21 @@ public class BeanGenerator extends AbstractGenerator {
     protected final Set<String> existingClasses;
     protected final Map<BeanInfo, String> beanToGeneratedName;
     protected final Predicate<DotName> injectionPointAnnotationsPredicate;
+    protected final Map<BeanInfo, Integer> requestContextIndexes;
 
     public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses,
             Map<BeanInfo, String> beanToGeneratedName, Predicate<DotName> injectionPointAnnotationsPredicate) {
+        this(annotationLiterals, applicationClassPredicate, privateMembers, generateSources, reflectionRegistration,
+                existingClasses, beanToGeneratedName, injectionPointAnnotationsPredicate, Collections.emptyMap());
+    }
+
+    public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
+            PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
+            Set<String> existingClasses,
+            Map<BeanInfo, String> beanToGeneratedName, Predicate<DotName> injectionPointAnnotationsPredicate,
+            Map<BeanInfo, Integer> requestContextIndexes) {
         super(generateSources);
         this.annotationLiterals = annotationLiterals;
         this.applicationClassPredicate = applicationClassPredicate;
@@ -98,6 +108,7 @@ public class BeanGenerator extends AbstractGenerator {
         this.existingClasses = existingClasses;
         this.beanToGeneratedName = beanToGeneratedName;
         this.injectionPointAnnotationsPredicate = injectionPointAnnotationsPredicate;
+        this.requestContextIndexes = requestContextIndexes;
     }
 
     /**
@@ -226,6 +237,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -314,6 +328,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -414,6 +431,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -501,6 +521,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -1610,6 +1633,21 @@ public class BeanGenerator extends AbstractGenerator {
         getScope.returnValue(getScope.load(bean.getIdentifier()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        Integer index = requestContextIndexes.get(bean);
+        if (index != null) {
+            MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                    .setModifiers(ACC_PUBLIC);
+            getRequestContextIndex.returnValue(getRequestContextIndex.load(index.intValue()));
+        }
+    }
+
     protected void implementEquals(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator equals = beanCreator.getMethodCreator("equals", boolean.class, Object.class).setModifiers(ACC_PUBLIC);
         // if (this == obj) {
@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -66,6 +67,7 @@ public class BeanProcessor {
     private final boolean generateSources;
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
+    private final boolean cacheRequestScopedDelegates;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
     // Note that we do create annotation literals for all annotations for an injection point that resolves to a @Dependent bean that injects the InjectionPoint metadata
@@ -82,6 +84,7 @@ public class BeanProcessor {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
+        this.cacheRequestScopedDelegates = builder.cacheRequestScopedDelegates;
 
         // Initialize all build processors
         buildContext = new BuildContextImpl();
@@ -140,6 +143,27 @@ public class BeanProcessor {
         BeanDeployment.processErrors(validationContext.getDeploymentProblems());
     }
 
+    /**
+     * Each {@link javax.enterprise.context.RequestScoped} bean is assigned a slot in the request context storage. The
+     * beans are sorted by identifier so that the assignment is stable across builds.
+     *
+     * @return the map of request context indexes
+     */
+    private Map<BeanInfo, Integer> initRequestContextIndexes() {
+        List<BeanInfo> requestScoped = new ArrayList<>();
+        for (BeanInfo bean : beanDeployment.getBeans()) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                requestScoped.add(bean);
+            }
+        }
+        requestScoped.sort(Comparator.comparing(BeanInfo::getIdentifier));
+        Map<BeanInfo, Integer> indexes = new HashMap<>();
+        for (BeanInfo bean : requestScoped) {
+            indexes.put(bean, indexes.size());
+        }
+        return indexes;
+    }
+
     public List<Resource> generateResources(ReflectionRegistration reflectionRegistration, Set<String> existingClasses,
             Consumer<BytecodeTransformer> bytecodeTransformerConsumer, boolean detectUnusedFalsePositives)
             throws IOException {
@@ -152,9 +176,9 @@ public class BeanProcessor {
 
         BeanGenerator beanGenerator = new BeanGenerator(annotationLiterals, applicationClassPredicate, privateMembers,
                 generateSources, reflectionRegistration, existingClasses, beanToGeneratedName,
-                injectionPointAnnotationsPredicate);
+                injectionPointAnnotationsPredicate, initRequestContextIndexes());
         ClientProxyGenerator clientProxyGenerator = new ClientProxyGenerator(applicationClassPredicate, generateSources,
-                allowMocking, reflectionRegistration, existingClasses);
+                allowMocking, cacheRequestScopedDelegates, reflectionRegistration, existingClasses);
         InterceptorGenerator interceptorGenerator = new InterceptorGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, reflectionRegistration, existingClasses, beanToGeneratedName,
                 injectionPointAnnotationsPredicate);
@@ -281,6 +305,7 @@ public class BeanProcessor {
         boolean jtaCapabilities = false;
         boolean transformUnproxyableClasses = false;
         boolean allowMocking = false;
+        boolean cacheRequestScopedDelegates = false;
 
         AlternativePriorities alternativePriorities;
         List<Predicate<ClassInfo>> excludeTypes = new ArrayList<>();
@@ -453,6 +478,18 @@ public class BeanProcessor {
             return this;
         }
 
+        /**
+         * If set to true the client proxies of {@link javax.enterprise.context.RequestScoped} beans cache the contextual
+         * instance for the current request context state.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setCacheRequestScopedDelegates(boolean value) {
+            this.cacheRequestScopedDelegates = value;
+            return this;
+        }
+
         /**
          * If set to true the will generate source files of all generated classes for debug purposes. The generated source is
          * not actually a source file but a textual representation of generated code.
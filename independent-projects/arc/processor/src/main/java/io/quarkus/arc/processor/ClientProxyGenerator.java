@@ -9,6 +9,7 @@ import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.impl.Mockable;
+import io.quarkus.arc.impl.RequestScopedDelegate;
 import io.quarkus.arc.processor.BeanGenerator.ProviderType;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.BytecodeCreator;
@@ -53,17 +54,20 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String DELEGATE_FIELD = "delegate";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
+    private final boolean cacheRequestScopedDelegates;
     private final ReflectionRegistration reflectionRegistration;
     private final Set<String> existingClasses;
 
     public ClientProxyGenerator(Predicate<DotName> applicationClassPredicate, boolean generateSources, boolean mockable,
-            ReflectionRegistration reflectionRegistration, Set<String> existingClasses) {
+            boolean cacheRequestScopedDelegates, ReflectionRegistration reflectionRegistration, Set<String> existingClasses) {
         super(generateSources);
         this.applicationClassPredicate = applicationClassPredicate;
         this.mockable = mockable;
+        this.cacheRequestScopedDelegates = cacheRequestScopedDelegates;
         this.reflectionRegistration = reflectionRegistration;
         this.existingClasses = existingClasses;
     }
@@ -126,10 +130,18 @@ public class ClientProxyGenerator extends AbstractGenerator {
             contextField = clientProxy.getFieldCreator(CONTEXT_FIELD, InjectableContext.class)
                     .setModifiers(ACC_PRIVATE | ACC_FINAL);
         }
+        FieldCreator delegateField = null;
+        if (cacheRequestScopedDelegates && BuiltinScope.REQUEST.is(bean.getScope())) {
+            // The contextual instance is cached for the current request context state
+            delegateField = clientProxy.getFieldCreator(DELEGATE_FIELD, RequestScopedDelegate.class)
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL);
+        }
 
         createConstructor(clientProxy, beanClassName, superClass, beanField.getFieldDescriptor(),
-                contextField != null ? contextField.getFieldDescriptor() : null);
-        implementDelegate(clientProxy, providerType, beanField.getFieldDescriptor(), bean);
+                contextField != null ? contextField.getFieldDescriptor() : null,
+                delegateField != null ? delegateField.getFieldDescriptor() : null);
+        implementDelegate(clientProxy, providerType, beanField.getFieldDescriptor(),
+                delegateField != null ? delegateField.getFieldDescriptor() : null, bean);
         implementGetContextualInstance(clientProxy, providerType);
         implementGetBean(clientProxy, beanField.getFieldDescriptor());
         if (mockable) {
@@ -247,7 +259,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     }
 
     void createConstructor(ClassCreator clientProxy, String beanClassName, String superClasName, FieldDescriptor beanField,
-            FieldDescriptor contextField) {
+            FieldDescriptor contextField, FieldDescriptor delegateField) {
         MethodCreator creator = clientProxy.getMethodCreator(Methods.INIT, void.class, beanClassName);
         creator.invokeSpecialMethod(MethodDescriptor.ofConstructor(superClasName), creator.getThis());
         ResultHandle beanHandle = creator.getMethodParam(0);
@@ -259,10 +271,15 @@ public class ClientProxyGenerator extends AbstractGenerator {
                             .invokeInterfaceMethod(MethodDescriptor.ofMethod(InjectableBean.class, "getScope", Class.class),
                                     beanHandle)));
         }
+        if (delegateField != null) {
+            creator.writeInstanceField(delegateField, creator.getThis(),
+                    creator.newInstance(MethodDescriptors.REQUEST_SCOPED_DELEGATE_CONSTRUCTOR, beanHandle));
+        }
         creator.returnValue(null);
     }
 
-    void implementDelegate(ClassCreator clientProxy, ProviderType providerType, FieldDescriptor beanField, BeanInfo bean) {
+    void implementDelegate(ClassCreator clientProxy, ProviderType providerType, FieldDescriptor beanField,
+            FieldDescriptor delegateField, BeanInfo bean) {
         MethodCreator creator = clientProxy.getMethodCreator(DELEGATE_METHOD_NAME, providerType.descriptorName())
                 .setModifiers(Modifier.PRIVATE);
         if (mockable) {
@@ -282,6 +299,10 @@ public class ClientProxyGenerator extends AbstractGenerator {
                             FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
                             creator.getThis()),
                     beanHandle));
+        } else if (delegateField != null) {
+            // Request context state is checked by the cached delegate
+            creator.returnValue(creator.invokeVirtualMethod(MethodDescriptors.REQUEST_SCOPED_DELEGATE_GET,
+                    creator.readInstanceField(delegateField, creator.getThis())));
         } else {
             creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE,
                     beanHandle));
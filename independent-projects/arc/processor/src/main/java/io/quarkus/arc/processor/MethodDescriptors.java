@@ -19,6 +19,7 @@ import io.quarkus.arc.impl.MapValueSupplier;
 import io.quarkus.arc.impl.Objects;
 import io.quarkus.arc.impl.Reflections;
 import io.quarkus.arc.impl.RemovedBeanImpl;
+import io.quarkus.arc.impl.RequestScopedDelegate;
 import io.quarkus.gizmo.MethodDescriptor;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -249,6 +250,12 @@ public final class MethodDescriptors {
     public static final MethodDescriptor CLIENT_PROXIES_GET_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getDelegate", Object.class, InjectableBean.class);
 
+    public static final MethodDescriptor REQUEST_SCOPED_DELEGATE_CONSTRUCTOR = MethodDescriptor
+            .ofConstructor(RequestScopedDelegate.class, InjectableBean.class);
+
+    public static final MethodDescriptor REQUEST_SCOPED_DELEGATE_GET = MethodDescriptor.ofMethod(RequestScopedDelegate.class,
+            "get", Object.class);
+
     private MethodDescriptors() {
     }
 
@@ -3,11 +3,11 @@ package io.quarkus.arc.processor;
 import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
 
 import io.quarkus.arc.ArcUndeclaredThrowableException;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.Subclass;
-import io.quarkus.arc.impl.InterceptedMethodMetadata;
 import io.quarkus.arc.processor.BeanInfo.InterceptionInfo;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.BytecodeCreator;
@@ -62,13 +62,11 @@ public class SubclassGenerator extends AbstractGenerator {
     static final String DESTROY_METHOD_NAME = "arc$destroy";
 
     protected static final String FIELD_NAME_PREDESTROYS = "preDestroys";
-    protected static final String FIELD_NAME_METADATA = "metadata";
-    protected static final FieldDescriptor FIELD_METADATA_METHOD = FieldDescriptor.of(InterceptedMethodMetadata.class, "method",
-            Method.class);
-    protected static final FieldDescriptor FIELD_METADATA_CHAIN = FieldDescriptor.of(InterceptedMethodMetadata.class, "chain",
-            List.class);
-    protected static final FieldDescriptor FIELD_METADATA_BINDINGS = FieldDescriptor.of(InterceptedMethodMetadata.class,
-            "bindings", Set.class);
+    protected static final String FIELD_NAME_METADATA_PREFIX = "arc$";
+    protected static final String METHOD_SUFFIX = "Method";
+    protected static final String FORWARD_SUFFIX = "Forward";
+    protected static final String FIELD_NAME_BINDINGS_PREFIX = "arc$bindings";
+    protected static final String FIELD_NAME_CHAIN_PREFIX = "arc$chain";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final ReflectionRegistration reflectionRegistration;
@@ -151,6 +149,8 @@ public class SubclassGenerator extends AbstractGenerator {
             parameterTypes.add(InjectableInterceptor.class.getName());
         }
         MethodCreator constructor = subclass.getMethodCreator(Methods.INIT, "V", parameterTypes.toArray(new String[0]));
+        // The metadata that does not depend on the interceptor instances is shared by all the instances of the subclass
+        MethodCreator staticInit = subclass.getMethodCreator(Methods.CLINIT, void.class).setModifiers(ACC_STATIC);
 
         ResultHandle creationalContextHandle = constructor.getMethodParam(superParamsSize);
         ResultHandle[] superParams = new ResultHandle[superParamsSize];
@@ -206,20 +206,7 @@ public class SubclassGenerator extends AbstractGenerator {
         }
 
         // Init intercepted methods and interceptor chains
-        // private final Map<String,SubclassMethodMetadata> metadata
-        // metadata = new HashMap<>()
-        int metadataMapCapacity = bean.getInterceptedMethods().size();
-        if (metadataMapCapacity < 3) {
-            metadataMapCapacity++;
-        } else {
-            metadataMapCapacity = (int) ((float) metadataMapCapacity / 0.75F + 1.0F);
-        }
-        FieldCreator metadataField = subclass.getFieldCreator(FIELD_NAME_METADATA, Map.class.getName())
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
-        ResultHandle metadataHandle = constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class, int.class),
-                constructor.load(metadataMapCapacity));
-        constructor.writeInstanceField(metadataField.getFieldDescriptor(), constructor.getThis(),
-                metadataHandle);
+        // Each intercepted method reads its metadata from static fields and its interceptor chain from an instance field
 
         // Shared interceptor bindings literals
         Map<BindingKey, ResultHandle> bindingsLiterals = new HashMap<>();
@@ -229,31 +216,38 @@ public class SubclassGenerator extends AbstractGenerator {
                 // Create annotation literal if needed
                 ClassInfo bindingClass = bean.getDeployment()
                         .getInterceptorBinding(key.annotation.name());
-                return annotationLiterals.process(constructor, classOutput, bindingClass, key.annotation,
+                return annotationLiterals.process(staticInit, classOutput, bindingClass, key.annotation,
                         Types.getPackageName(subclass.getClassName()));
             }
         };
-        // Shared lists of interceptor bindings literals
-        Map<List<BindingKey>, ResultHandle> bindings = new HashMap<>();
-        Function<List<BindingKey>, ResultHandle> bindingsFun = new Function<List<BindingKey>, ResultHandle>() {
+        // Shared sets of interceptor bindings literals
+        // private static final Set<Annotation> arc$bindings1
+        Map<List<BindingKey>, FieldDescriptor> bindings = new HashMap<>();
+        Function<List<BindingKey>, FieldDescriptor> bindingsFun = new Function<List<BindingKey>, FieldDescriptor>() {
             @Override
-            public ResultHandle apply(List<BindingKey> keys) {
+            public FieldDescriptor apply(List<BindingKey> keys) {
+                ResultHandle bindingsHandle;
                 if (keys.size() == 1) {
-                    return constructor.invokeStaticMethod(MethodDescriptors.COLLECTIONS_SINGLETON,
+                    bindingsHandle = staticInit.invokeStaticMethod(MethodDescriptors.COLLECTIONS_SINGLETON,
                             bindingsLiterals.computeIfAbsent(keys.iterator().next(), bindingsLiteralFun));
                 } else {
-                    ResultHandle bindingsHandle = constructor.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
+                    bindingsHandle = staticInit.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
                     for (BindingKey binding : keys) {
-                        constructor.invokeInterfaceMethod(MethodDescriptors.SET_ADD, bindingsHandle,
+                        staticInit.invokeInterfaceMethod(MethodDescriptors.SET_ADD, bindingsHandle,
                                 bindingsLiterals.computeIfAbsent(binding, bindingsLiteralFun));
                     }
-                    return bindingsHandle;
                 }
+                FieldDescriptor bindingsField = subclass
+                        .getFieldCreator(FIELD_NAME_BINDINGS_PREFIX + (bindings.size() + 1), Set.class.getName())
+                        .setModifiers(ACC_PRIVATE | ACC_STATIC | ACC_FINAL).getFieldDescriptor();
+                staticInit.writeStaticField(bindingsField, bindingsHandle);
+                return bindingsField;
             }
         };
-        // Shared interceptor chains
-        Map<List<InterceptorInfo>, ResultHandle> interceptorChains = new HashMap<>();
-        Function<List<InterceptorInfo>, ResultHandle> interceptorChainsFun = new Function<List<InterceptorInfo>, ResultHandle>() {
+        // Shared interceptor chains, they hold the interceptor instances of this instance
+        // private final List<InvocationContextImpl.InterceptorInvocation> arc$chain1
+        Map<List<InterceptorInfo>, FieldDescriptor> interceptorChains = new HashMap<>();
+        Function<List<InterceptorInfo>, ResultHandle> interceptorChainFun = new Function<List<InterceptorInfo>, ResultHandle>() {
             @Override
             public ResultHandle apply(List<InterceptorInfo> interceptors) {
                 if (interceptors.size() == 1) {
@@ -280,77 +274,110 @@ public class SubclassGenerator extends AbstractGenerator {
                 }
             }
         };
+        Function<List<InterceptorInfo>, FieldDescriptor> interceptorChainsFun = new Function<List<InterceptorInfo>, FieldDescriptor>() {
+            @Override
+            public FieldDescriptor apply(List<InterceptorInfo> interceptors) {
+                FieldDescriptor chainField = subclass
+                        .getFieldCreator(FIELD_NAME_CHAIN_PREFIX + (interceptorChains.size() + 1), List.class.getName())
+                        .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+                constructor.writeInstanceField(chainField, constructor.getThis(), interceptorChainFun.apply(interceptors));
+                return chainField;
+            }
+        };
 
         int methodIdx = 1;
         for (Entry<MethodInfo, InterceptionInfo> entry : bean.getInterceptedMethods().entrySet()) {
             String methodId = "m" + methodIdx++;
             MethodInfo method = entry.getKey();
-            ResultHandle methodIdHandle = constructor.load(methodId);
             InterceptionInfo interceptedMethod = entry.getValue();
 
             // 1. Interceptor chain
-            ResultHandle chainHandle = interceptorChains.computeIfAbsent(interceptedMethod.interceptors, interceptorChainsFun);
+            FieldDescriptor chainField = interceptorChains.computeIfAbsent(interceptedMethod.interceptors,
+                    interceptorChainsFun);
 
-            // 2. Method method = Reflections.findMethod(org.jboss.weld.arc.test.interceptors.SimpleBean.class,"foo",java.lang.String.class)
+            // 2. private static final Method arc$m1Method = Reflections.findMethod(org.jboss.weld.arc.test.interceptors.SimpleBean.class,"foo",java.lang.String.class)
             ResultHandle[] paramsHandles = new ResultHandle[3];
-            paramsHandles[0] = constructor.loadClass(providerTypeName);
-            paramsHandles[1] = constructor.load(method.name());
+            paramsHandles[0] = staticInit.loadClass(providerTypeName);
+            paramsHandles[1] = staticInit.load(method.name());
             if (!method.parameters().isEmpty()) {
-                ResultHandle paramsArray = constructor.newArray(Class.class, constructor.load(method.parameters().size()));
+                ResultHandle paramsArray = staticInit.newArray(Class.class, staticInit.load(method.parameters().size()));
                 for (ListIterator<Type> iterator = method.parameters().listIterator(); iterator.hasNext();) {
-                    constructor.writeArrayValue(paramsArray, iterator.nextIndex(),
-                            constructor.loadClass(iterator.next().name().toString()));
+                    staticInit.writeArrayValue(paramsArray, iterator.nextIndex(),
+                            staticInit.loadClass(iterator.next().name().toString()));
                 }
                 paramsHandles[2] = paramsArray;
             } else {
-                paramsHandles[2] = constructor.readStaticField(FieldDescriptors.ANNOTATION_LITERALS_EMPTY_CLASS_ARRAY);
+                paramsHandles[2] = staticInit.readStaticField(FieldDescriptors.ANNOTATION_LITERALS_EMPTY_CLASS_ARRAY);
             }
-            ResultHandle methodHandle = constructor.invokeStaticMethod(MethodDescriptors.REFLECTIONS_FIND_METHOD,
-                    paramsHandles);
+            FieldDescriptor methodField = subclass
+                    .getFieldCreator(FIELD_NAME_METADATA_PREFIX + methodId + METHOD_SUFFIX, Method.class.getName())
+                    .setModifiers(ACC_PRIVATE | ACC_STATIC | ACC_FINAL).getFieldDescriptor();
+            staticInit.writeStaticField(methodField,
+                    staticInit.invokeStaticMethod(MethodDescriptors.REFLECTIONS_FIND_METHOD, paramsHandles));
 
             // 3. Interceptor bindings
-            // Note that we use a shared list if possible
-            ResultHandle bindingsHandle = bindings.computeIfAbsent(
+            // Note that we use a shared set if possible
+            FieldDescriptor bindingsField = bindings.computeIfAbsent(
                     interceptedMethod.bindings.stream().map(BindingKey::new).collect(Collectors.toList()), bindingsFun);
 
-            // Now create metadata for the given intercepted method
-            ResultHandle methodMetadataHandle = constructor.newInstance(
-                    MethodDescriptors.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
-                    chainHandle, methodHandle, bindingsHandle);
-            // metadata.put("m1", new SubclassMethodMetadata(...))
-            constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, metadataHandle, methodIdHandle, methodMetadataHandle);
+            // 4. The forwarding function
+            // private static final Function<InvocationContext, Object> arc$m1Forward
+            FieldDescriptor forwardField = subclass
+                    .getFieldCreator(FIELD_NAME_METADATA_PREFIX + methodId + FORWARD_SUFFIX, Function.class.getName())
+                    .setModifiers(ACC_PRIVATE | ACC_STATIC | ACC_FINAL).getFieldDescriptor();
+            staticInit.writeStaticField(forwardField,
+                    createForwardingFunction(staticInit, subclass, method, providerTypeName));
 
             // Needed when running on native image
             reflectionRegistration.registerMethod(method);
 
             // Finally create the forwarding method
             createForwardingMethod(classOutput, bean, method, methodId, subclass, providerTypeName,
-                    metadataField.getFieldDescriptor(),
-                    interceptedMethod);
+                    chainField, methodField, forwardField, bindingsField, interceptedMethod);
         }
 
+        staticInit.returnValue(null);
         constructor.returnValue(null);
         return preDestroysField != null ? preDestroysField.getFieldDescriptor() : null;
     }
 
+    private ResultHandle createForwardingFunction(MethodCreator staticInit, ClassCreator subclass, MethodInfo method,
+            String providerTypeName) {
+        // Function<InvocationContext, Object> forward = ctx -> ((Foo_Subclass)ctx.getTarget()).super.foo((java.lang.String)ctx.getParameters()[0])
+        FunctionCreator func = staticInit.createFunction(Function.class);
+        BytecodeCreator funcBytecode = func.getBytecode();
+        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
+        ResultHandle targetHandle = funcBytecode.checkCast(funcBytecode.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(InvocationContext.class, "getTarget", Object.class), ctxHandle),
+                subclass.getClassName());
+        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
+        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
+                ctxHandle);
+        // autoboxing is handled inside Gizmo
+        for (int i = 0; i < superParamHandles.length; i++) {
+            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
+        }
+        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
+                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
+                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
+                                .toArray(new String[0])),
+                targetHandle, superParamHandles);
+        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+        return func.getInstance();
+    }
+
     private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, String methodId,
             ClassCreator subclass,
-            String providerTypeName, FieldDescriptor metadataField,
-            InterceptionInfo interceptedMethod) {
+            String providerTypeName, FieldDescriptor chainField, FieldDescriptor methodField, FieldDescriptor forwardField,
+            FieldDescriptor bindingsField, InterceptionInfo interceptedMethod) {
 
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator forwardMethod = subclass.getMethodCreator(originalMethodDescriptor);
 
-        // Params
-        // Object[] params = new Object[] {p1}
-        ResultHandle paramsHandle = forwardMethod.newArray(Object.class, forwardMethod.load(method.parameters().size()));
-        for (int i = 0; i < method.parameters().size(); i++) {
-            forwardMethod.writeArrayValue(paramsHandle, i, forwardMethod.getMethodParam(i));
-        }
-
-        // if(!this.bean == null) return super.foo()
-        BytecodeCreator notConstructed = forwardMethod
-                .ifNull(forwardMethod.readInstanceField(metadataField, forwardMethod.getThis())).trueBranch();
+        // if(this.arc$chain1 == null) return super.foo()
+        ResultHandle chainHandle = forwardMethod.readInstanceField(chainField, forwardMethod.getThis());
+        BytecodeCreator notConstructed = forwardMethod.ifNull(chainHandle).trueBranch();
         ResultHandle[] params = new ResultHandle[method.parameters().size()];
         for (int i = 0; i < method.parameters().size(); ++i) {
             params[i] = notConstructed.getMethodParam(i);
@@ -365,25 +392,13 @@ public class SubclassGenerator extends AbstractGenerator {
                     notConstructed.invokeSpecialMethod(superDescriptor, notConstructed.getThis(), params));
         }
 
-        // Forwarding function
-        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = forwardMethod.createFunction(Function.class);
-        BytecodeCreator funcBytecode = func.getBytecode();
-        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
-        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
-        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
-                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
-                ctxHandle);
-        // autoboxing is handled inside Gizmo
-        for (int i = 0; i < superParamHandles.length; i++) {
-            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
+        // Params
+        // Object[] params = new Object[] {p1}
+        ResultHandle paramsHandle = forwardMethod.newArray(Object.class, forwardMethod.load(method.parameters().size()));
+        for (int i = 0; i < method.parameters().size(); i++) {
+            forwardMethod.writeArrayValue(paramsHandle, i, forwardMethod.getMethodParam(i));
         }
-        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
-                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
-                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
-                                .toArray(new String[0])),
-                forwardMethod.getThis(), superParamHandles);
-        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+
         for (Type declaredException : method.exceptions()) {
             forwardMethod.addException(declaredException.name().toString());
         }
@@ -418,15 +433,13 @@ public class SubclassGenerator extends AbstractGenerator {
                     catchOtherExceptions.getCaughtException());
         }
         // InvocationContexts.performAroundInvoke(...)
-        ResultHandle methodIdHandle = tryCatch.load(methodId);
-        ResultHandle methodMetadataHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
-                tryCatch.readInstanceField(metadataField, tryCatch.getThis()), methodIdHandle);
         ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
-                tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
-                tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
-        tryCatch.returnValue(superResult != null ? ret : null);
+                tryCatch.readStaticField(methodField),
+                tryCatch.readStaticField(forwardField), paramsHandle,
+                chainHandle,
+                tryCatch.readStaticField(bindingsField));
+        tryCatch.returnValue(method.returnType().kind() != Type.Kind.VOID ? ret : null);
     }
 
     /**
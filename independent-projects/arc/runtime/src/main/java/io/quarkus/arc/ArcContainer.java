@@ -106,6 +106,20 @@ public interface ArcContainer {
      */
     <T> InstanceHandle<T> instance(InjectableBean<T> bean);
 
+    /**
+     * Resolves the bean that matches the required type and qualifiers. Unlike {@link #instance(Class, Annotation...)}, the
+     * result can be kept, e.g. in a field, so that the instances are then obtained with {@link #instance(InjectableBean)}
+     * without any lookup.
+     * <p>
+     * If no qualifier is passed, the <tt>@Default</tt> qualifier is assumed.
+     *
+     * @param type
+     * @param qualifiers
+     * @return the matching bean, or {@code null} if no bean matches/multiple beans match
+     * @throws IllegalArgumentException if an instance of an annotation that is not a qualifier type is given
+     */
+    <T> InjectableBean<T> resolveBean(Type type, Annotation... qualifiers);
+
     /**
      * Instances of dependent scoped beans obtained with the returned injectable instance must be explicitly destroyed, either
      * via the {@link Instance#destroy(Object)} method invoked upon the same injectable instance or with
@@ -6,6 +6,7 @@ import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Set;
 import javax.enterprise.context.Dependent;
+import javax.enterprise.context.RequestScoped;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.InjectionPoint;
@@ -114,6 +115,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The index is assigned by the container at build time and is only used for {@link RequestScoped} beans. It
+     * identifies the slot in the request context storage.
+     *
+     * @return the index of the slot in the request context storage, or {@code -1} if no slot is assigned
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
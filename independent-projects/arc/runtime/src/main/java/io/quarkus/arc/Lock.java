@@ -16,7 +16,8 @@ import javax.interceptor.InterceptorBinding;
  * Defines a concurrency lock for a bean.
  * <p>
  * The container provides a built-in interceptor for this interceptor binding. Each interceptor instance associated with a
- * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy.
+ * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy. Therefore,
+ * the locks of different beans, and of different contextual instances of the same bean, never interfere.
  */
 @InterceptorBinding
 @Inherited
@@ -47,6 +48,21 @@ public @interface Lock {
     @Nonbinding
     TimeUnit unit() default TimeUnit.MILLISECONDS;
 
+    /**
+     * If set to {@code true} and the type of the lock is {@link Type#READ} then the business method is first invoked without
+     * acquiring the read lock. If a write lock was held during the invocation then the result is discarded and the business
+     * method is invoked again with the read lock acquired.
+     * <p>
+     * This avoids the cost of the read lock for read-mostly beans. However, the business method may be invoked more than
+     * once and may observe an inconsistent state during the discarded invocation. Therefore, it must not have side effects
+     * and must tolerate concurrent modifications, e.g. it should only read from fields or thread-safe data structures.
+     *
+     * @see java.util.concurrent.locks.StampedLock#tryOptimisticRead()
+     * @return {@code true} if optimistic reads should be used
+     */
+    @Nonbinding
+    boolean optimistic() default false;
+
     public enum Type {
         /**
          * Acquires the read lock before the business method is invoked.
@@ -85,6 +85,8 @@ public class ArcContainerImpl implements ArcContainer {
     private final InjectableContext singletonContext;
 
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    // beans resolved for a required type and the @Default qualifier, keyed by the type so that a lookup allocates nothing
+    private final ComputingCache<Type, Set<InjectableBean<?>>> resolvedDefault;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
@@ -103,13 +105,7 @@ public class ArcContainerImpl implements ArcContainer {
         observers = new ArrayList<>();
         transitiveInterceptorBindings = new HashMap<>();
 
-        applicationContext = new ApplicationContext();
-        singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
-        contexts = new HashMap<>();
-        putContext(requestContext);
-        putContext(applicationContext);
-        putContext(singletonContext);
+        List<InjectableContext> customContexts = new ArrayList<>();
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -132,7 +128,7 @@ public class ArcContainerImpl implements ArcContainer {
                     throw new IllegalStateException(
                             "Failed to register a context - built-in singleton context is always active: " + context);
                 }
-                putContext(context);
+                customContexts.add(context);
             }
             for (Entry<Class<? extends Annotation>, Set<Annotation>> entry : components.getTransitiveInterceptorBindings()
                     .entrySet()) {
@@ -142,9 +138,21 @@ public class ArcContainerImpl implements ArcContainer {
         // register built-in beans
         addBuiltInBeans();
 
+        applicationContext = new ApplicationContext();
+        singletonContext = new SingletonContext();
+        requestContext = new RequestContext(getRequestContextCapacity());
+        contexts = new HashMap<>();
+        putContext(requestContext);
+        putContext(applicationContext);
+        putContext(singletonContext);
+        for (InjectableContext context : customContexts) {
+            putContext(context);
+        }
+
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
+        resolvedDefault = new ComputingCache<>(this::resolveDefault);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
@@ -166,6 +174,14 @@ public class ArcContainerImpl implements ArcContainer {
         }
     }
 
+    private int getRequestContextCapacity() {
+        int capacity = 0;
+        for (InjectableBean<?> bean : beans) {
+            capacity = Math.max(capacity, bean.getRequestContextIndex() + 1);
+        }
+        return capacity;
+    }
+
     private void addBuiltInBeans() {
         // BeanManager, Event<?>, Instance<?>
         beans.add(new BeanManagerBean());
@@ -273,6 +289,12 @@ public class ArcContainerImpl implements ArcContainer {
         };
     }
 
+    @Override
+    public <T> InjectableBean<T> resolveBean(Type type, Annotation... qualifiers) {
+        requireRunning();
+        return getBean(type, qualifiers);
+    }
+
     @Override
     public <T> InstanceHandle<T> instance(InjectableBean<T> bean) {
         Objects.requireNonNull(bean);
@@ -380,6 +402,7 @@ public class ArcContainerImpl implements ArcContainer {
             beans.clear();
             removedBeans.clear();
             resolved.clear();
+            resolvedDefault.clear();
             observers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
@@ -450,12 +473,13 @@ public class ArcContainerImpl implements ArcContainer {
 
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
+        Set<InjectableBean<?>> resolvedBeans;
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            resolvedBeans = resolvedDefault.getValue(requiredType);
         } else {
             Qualifiers.verify(qualifiers);
+            resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
         }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
         return resolvedBeans.isEmpty() || resolvedBeans.size() > 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
     }
 
@@ -504,6 +528,10 @@ public class ArcContainerImpl implements ArcContainer {
         return false;
     }
 
+    private Set<InjectableBean<?>> resolveDefault(Type requiredType) {
+        return resolved.getValue(new Resolvable(requiredType, new Annotation[] { Default.Literal.INSTANCE }));
+    }
+
     private Set<InjectableBean<?>> resolve(Resolvable resolvable) {
         return resolve(getMatchingBeans(resolvable));
     }
@@ -17,6 +17,10 @@ import javax.interceptor.InvocationContext;
  * "cut off" the chain (interceptors executed before dispatch return immediately) and execute all remaining interceptors
  * asynchronously, possibly on a different thread.
  * <p>
+ * The context data is held by the context passed to the first interceptor and shared with the contexts of the next
+ * interceptors. The map is only created if an interceptor asks for it. The method parameters are not shared: the parameters
+ * set by an interceptor are passed to the next ones, but the previous ones keep their own.
+ * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredicatble behavior may occur.
  */
@@ -24,13 +28,22 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     private final int position;
     private final Function<InvocationContext, Object> aroundInvokeForward;
+    // the context passed to the first interceptor, or null if this is the one
+    private final AroundInvokeInvocationContext first;
 
-    AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            LazyValue<Map<String, Object>> contextData, Set<Annotation> interceptorBindings, int position,
+    AroundInvokeInvocationContext(Object target, Method method, Object[] parameters, Set<Annotation> interceptorBindings,
             List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
-        super(target, method, null, parameters, contextData, interceptorBindings, chain);
-        this.position = position;
+        super(target, method, null, parameters, interceptorBindings, chain);
+        this.position = 1;
         this.aroundInvokeForward = aroundInvokeForward;
+        this.first = null;
+    }
+
+    private AroundInvokeInvocationContext(AroundInvokeInvocationContext first, Object[] parameters, int position) {
+        super(first.target, first.method, null, parameters, first.interceptorBindings, first.chain);
+        this.position = position;
+        this.aroundInvokeForward = first.aroundInvokeForward;
+        this.first = first;
     }
 
     static Object perform(Object target, Method method,
@@ -39,7 +52,7 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
             Set<Annotation> interceptorBindings) throws Exception {
 
         return chain.get(0).invoke(new AroundInvokeInvocationContext(target, method,
-                parameters, null, interceptorBindings, 1, chain, aroundInvokeForward));
+                parameters, interceptorBindings, chain, aroundInvokeForward));
     }
 
     @Override
@@ -47,8 +60,8 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         try {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
-                return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                return chain.get(position).invoke(new AroundInvokeInvocationContext(first != null ? first : this,
+                        parameters, position + 1));
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
@@ -65,4 +78,9 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         }
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        return first != null ? first.getContextData() : super.getContextData();
+    }
+
 }
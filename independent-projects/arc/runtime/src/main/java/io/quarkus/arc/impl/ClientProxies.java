@@ -42,7 +42,7 @@ public final class ClientProxies {
         return result;
     }
 
-    private static <T> CreationalContextImpl<T> newCreationalContext(Contextual<T> contextual) {
+    static <T> CreationalContextImpl<T> newCreationalContext(Contextual<T> contextual) {
         return new CreationalContextImpl<>(contextual);
     }
 
@@ -7,8 +7,8 @@ import io.quarkus.arc.Lock;
 import io.quarkus.arc.LockException;
 import java.lang.annotation.Annotation;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
@@ -19,7 +19,10 @@ import javax.interceptor.InvocationContext;
 @Priority(PLATFORM_BEFORE)
 public class LockInterceptor {
 
-    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+    // Only used to validate optimistic reads; the write lock is held while the outermost write lock is held
+    private final StampedLock writeStamp = new StampedLock();
 
     @AroundInvoke
     Object lock(InvocationContext ctx) throws Exception {
@@ -28,7 +31,7 @@ public class LockInterceptor {
             case WRITE:
                 return writeLock(lock, ctx);
             case READ:
-                return readLock(lock, ctx);
+                return lock.optimistic() ? optimisticRead(lock, ctx) : readLock(lock, ctx);
             case NONE:
                 return ctx.proceed();
         }
@@ -37,6 +40,7 @@ public class LockInterceptor {
 
     private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
         boolean locked = false;
+        long stamp = 0;
         long time = lock.time();
         try {
             if (time > 0) {
@@ -48,14 +52,43 @@ public class LockInterceptor {
                 readWriteLock.writeLock().lock();
                 locked = true;
             }
+            if (readWriteLock.getWriteHoldCount() == 1) {
+                // Outermost write lock - invalidate all optimistic reads
+                // No contention here because the writers are already serialized
+                stamp = writeStamp.writeLock();
+            }
             return ctx.proceed();
         } finally {
+            if (stamp != 0) {
+                writeStamp.unlockWrite(stamp);
+            }
             if (locked) {
                 readWriteLock.writeLock().unlock();
             }
         }
     }
 
+    private Object optimisticRead(Lock lock, InvocationContext ctx) throws Exception {
+        long stamp = writeStamp.tryOptimisticRead();
+        if (stamp != 0) {
+            Object result;
+            try {
+                result = ctx.proceed();
+            } catch (Exception e) {
+                if (writeStamp.validate(stamp)) {
+                    throw e;
+                }
+                // The failure might be caused by a concurrent write - retry with the read lock
+                return readLock(lock, ctx);
+            }
+            if (writeStamp.validate(stamp)) {
+                return result;
+            }
+        }
+        // A write is in progress or the state was modified during the invocation
+        return readLock(lock, ctx);
+    }
+
     private Object readLock(Lock lock, InvocationContext ctx) throws Exception {
         boolean locked = false;
         long time = lock.time();
@@ -7,13 +7,16 @@ import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -34,13 +37,29 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
+
+    // The number of slots assigned to @RequestScoped beans at build time
+    private final int capacity;
+
+    // Destroyed states that are no longer active on any thread are reset and reused for subsequent activations
+    private final AtomicReferenceArray<RequestContextState> pool;
+    private final int poolMask;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
     public RequestContext() {
+        this(0);
+    }
+
+    public RequestContext(int capacity) {
+        this.capacity = capacity;
+        // The pool size is a power of two so that a thread can pick its starting slot with a simple mask
+        int poolSize = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.pool = new AtomicReferenceArray<>(poolSize);
+        this.poolMask = poolSize - 1;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -56,7 +75,7 @@ class RequestContext implements ManagedContext {
     public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
         Objects.requireNonNull(creationalContextFun, "CreationalContext supplier must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             return null;
@@ -67,7 +86,12 @@ class RequestContext implements ManagedContext {
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+            ContextInstanceHandle<T> existing = (ContextInstanceHandle<T>) ctx.putIfAbsent(contextual, instance);
+            if (existing != null) {
+                // Another thread sharing the same state was faster
+                instance.destroy();
+                instance = existing;
+            }
         }
         return instance.get();
     }
@@ -87,7 +111,7 @@ class RequestContext implements ManagedContext {
     @Override
     public <T> T get(Contextual<T> contextual) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -101,9 +125,16 @@ class RequestContext implements ManagedContext {
         return currentContext.get() != null;
     }
 
+    /**
+     * @return the state associated with the current thread or {@code null} if the context is not active
+     */
+    RequestContextState getCurrentState() {
+        return currentContext.get();
+    }
+
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -117,12 +148,20 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(acquireState());
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
-            if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+            if (initialState instanceof CapturedState) {
+                CapturedState captured = (CapturedState) initialState;
+                if (activate(captured)) {
+                    currentContext.set(captured.state);
+                } else {
+                    // The request the state was captured from is over and the state was reused since then
+                    RequestContextState state = acquireState();
+                    state.destroyed = true;
+                    currentContext.set(state);
+                }
             } else {
                 throw new IllegalArgumentException("Invalid inital state: " + initialState.getClass().getName());
             }
@@ -131,17 +170,22 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        // The state may be propagated to another thread and reused once it is destroyed, the handle detects a reuse
+        return new CapturedState(ctx, ctx.getGeneration());
     }
 
     @Override
     public void deactivate() {
+        RequestContextState ctx = currentContext.get();
         currentContext.remove();
+        if (ctx != null) {
+            deactivated(ctx);
+        }
     }
 
     @Override
@@ -151,14 +195,22 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(ContextState state) {
-        if (state instanceof RequestContextState) {
-            destroy(((RequestContextState) state).value);
+        if (state instanceof CapturedState) {
+            CapturedState captured = (CapturedState) state;
+            // A state that was reused since it was captured is already destroyed
+            if (activate(captured)) {
+                try {
+                    destroy(captured.state);
+                } finally {
+                    deactivated(captured.state);
+                }
+            }
         } else {
             throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
         }
     }
 
-    private void destroy(Map<Contextual<?>, ContextInstanceHandle<?>> currentContext) {
+    private void destroy(RequestContextState currentContext) {
         if (currentContext != null) {
             synchronized (currentContext) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -167,13 +219,7 @@ class RequestContext implements ManagedContext {
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                for (InstanceHandle<?> instance : currentContext.values()) {
-                    try {
-                        instance.destroy();
-                    } catch (Exception e) {
-                        throw new IllegalStateException("Unable to destroy instance" + instance.get(), e);
-                    }
-                }
+                currentContext.destroyInstances();
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 try {
                     fireIfNotEmpty(destroyedNotifier);
@@ -181,8 +227,59 @@ class RequestContext implements ManagedContext {
                     LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
                 }
                 currentContext.clear();
+                currentContext.destroyed = true;
+            }
+        }
+    }
+
+    private RequestContextState acquireState() {
+        int start = probe();
+        for (int i = 0; i <= poolMask; i++) {
+            int idx = (start + i) & poolMask;
+            RequestContextState state = pool.get(idx);
+            if (state != null && pool.compareAndSet(idx, state, null)) {
+                state.activations = 1;
+                return state;
+            }
+        }
+        RequestContextState state = new RequestContextState(capacity);
+        state.activations = 1;
+        return state;
+    }
+
+    private boolean activate(CapturedState captured) {
+        if (!captured.state.activate()) {
+            // Released to the pool
+            return false;
+        }
+        if (captured.state.getGeneration() != captured.generation) {
+            // Reused by another request in the meantime
+            deactivated(captured.state);
+            return false;
+        }
+        return true;
+    }
+
+    private void deactivated(RequestContextState state) {
+        // The last thread the destroyed state was active on returns it to the pool
+        if (state.deactivate() == 0 && state.destroyed && state.markReleased()) {
+            releaseState(state);
+        }
+    }
+
+    private void releaseState(RequestContextState state) {
+        state.reset();
+        int start = probe();
+        for (int i = 0; i <= poolMask; i++) {
+            if (pool.compareAndSet((start + i) & poolMask, null, state)) {
+                return;
             }
         }
+        // Pool is full - just drop the state
+    }
+
+    private int probe() {
+        return (int) Thread.currentThread().getId() & poolMask;
     }
 
     private void fireIfNotEmpty(LazyValue<Notifier<Object>> value) {
@@ -210,18 +307,227 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance());
     }
 
+    /**
+     * The state returned by {@link #getState()}. It may outlive the request it was captured from, e.g. if it is
+     * propagated to a task that runs later, so it is bound to the generation of the state it refers to.
+     */
+    static final class CapturedState implements ContextState {
+
+        final RequestContextState state;
+        final int generation;
+
+        CapturedState(RequestContextState state, int generation) {
+            this.state = state;
+            this.generation = generation;
+        }
+
+        @Override
+        public Map<InjectableBean<?>, Object> getContextualInstances() {
+            if (state.getGeneration() != generation) {
+                return Collections.emptyMap();
+            }
+            return state.getContextualInstances();
+        }
+
+    }
+
+    /**
+     * Contextual instances of beans with a slot assigned at build time are stored in an array. All other contextual
+     * instances are stored in a map that is only created if needed.
+     * <p>
+     * The state counts the threads it is active on. Once it is destroyed and no longer active, it is reset and its
+     * generation is incremented so that the handles captured for the previous request cannot activate it anymore.
+     *
+     * @see InjectableBean#getRequestContextIndex()
+     */
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private static final AtomicIntegerFieldUpdater<RequestContextState> VERSION_UPDATER = AtomicIntegerFieldUpdater
+                .newUpdater(RequestContextState.class, "version");
+
+        private static final AtomicIntegerFieldUpdater<RequestContextState> ACTIVATIONS_UPDATER = AtomicIntegerFieldUpdater
+                .newUpdater(RequestContextState.class, "activations");
+
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> slots;
+
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        volatile boolean destroyed;
+
+        // The number of threads the state is active on, -1 once the state is released to the pool
+        volatile int activations;
+
+        // Incremented whenever the state is reset
+        private volatile int generation;
+
+        // Incremented whenever a contextual instance is removed, so that cached instances can be invalidated
+        private volatile int version;
+
+        RequestContextState(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * @return {@code true} if the state was activated, {@code false} if it was released to the pool
+         */
+        boolean activate() {
+            for (;;) {
+                int current = activations;
+                if (current < 0) {
+                    return false;
+                }
+                if (ACTIVATIONS_UPDATER.compareAndSet(this, current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * @return the number of threads the state is still active on
+         */
+        int deactivate() {
+            return ACTIVATIONS_UPDATER.decrementAndGet(this);
+        }
+
+        /**
+         * @return {@code true} if the state was not active on any thread and may be released to the pool
+         */
+        boolean markReleased() {
+            return ACTIVATIONS_UPDATER.compareAndSet(this, 0, -1);
+        }
+
+        int getGeneration() {
+            return generation;
+        }
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int index = slotIndex(contextual);
+            if (index != -1) {
+                ContextInstanceHandle<?> instance = slots.get(index);
+                if (instance != null && instance.getBean() == contextual) {
+                    return instance;
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others != null ? others.get(contextual) : null;
+        }
+
+        ContextInstanceHandle<?> putIfAbsent(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int index = slotIndex(contextual);
+            if (index != -1) {
+                if (slots.compareAndSet(index, null, instance)) {
+                    return null;
+                }
+                ContextInstanceHandle<?> existing = slots.get(index);
+                if (existing != null && existing.getBean() == contextual) {
+                    return existing;
+                }
+                // The slot is occupied by a bean from a different deployment
+            }
+            return others().putIfAbsent(contextual, instance);
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = slotIndex(contextual);
+            if (index != -1) {
+                ContextInstanceHandle<?> instance = slots.get(index);
+                if (instance != null && instance.getBean() == contextual && slots.compareAndSet(index, instance, null)) {
+                    VERSION_UPDATER.incrementAndGet(this);
+                    return instance;
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            ContextInstanceHandle<?> removed = others != null ? others.remove(contextual) : null;
+            if (removed != null) {
+                VERSION_UPDATER.incrementAndGet(this);
+            }
+            return removed;
+        }
+
+        int getVersion() {
+            return version;
+        }
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        void destroyInstances() {
+            for (int i = 0; i < slots.length(); i++) {
+                ContextInstanceHandle<?> instance = slots.get(i);
+                if (instance != null) {
+                    destroyInstance(instance);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                for (InstanceHandle<?> instance : others.values()) {
+                    destroyInstance(instance);
+                }
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                others.clear();
+            }
+            VERSION_UPDATER.incrementAndGet(this);
+        }
+
+        void reset() {
+            clear();
+            destroyed = false;
+            generation++;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> instances = new HashMap<>();
+            for (int i = 0; i < slots.length(); i++) {
+                ContextInstanceHandle<?> instance = slots.get(i);
+                if (instance != null) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                for (ContextInstanceHandle<?> instance : others.values()) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            return instances;
+        }
+
+        private int slotIndex(Contextual<?> contextual) {
+            if (contextual instanceof InjectableBean) {
+                int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+                if (index >= 0 && index < slots.length()) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others == null) {
+                synchronized (this) {
+                    others = this.others;
+                    if (others == null) {
+                        others = new ConcurrentHashMap<>();
+                        this.others = others;
+                    }
+                }
+            }
+            return others;
+        }
+
+        private static void destroyInstance(InstanceHandle<?> instance) {
+            try {
+                instance.destroy();
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to destroy instance" + instance.get(), e);
+            }
         }
 
     }
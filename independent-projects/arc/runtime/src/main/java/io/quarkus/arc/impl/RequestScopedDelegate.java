@@ -0,0 +1,73 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.RequestContext.RequestContextState;
+import java.util.Collection;
+import javax.enterprise.context.ContextNotActiveException;
+
+/**
+ * Holds the contextual instance of a {@link javax.enterprise.context.RequestScoped} bean for a client proxy.
+ * <p>
+ * The instance is cached together with the request context state it was obtained from. It is reused as long as the same
+ * state is active on the current thread and no contextual instance was removed from the state in the meantime, i.e. the
+ * cached instance is invalidated once the state is destroyed, reset or switched. Note that a proxy shared by concurrent
+ * requests only holds the instance of the last request that obtained it.
+ */
+public final class RequestScopedDelegate<T> {
+
+    private final InjectableBean<T> bean;
+
+    // null if a custom context is registered for the scope of the bean
+    private final RequestContext requestContext;
+
+    // The holder is immutable so that it can be safely shared between threads without synchronization
+    private Cached<T> cached;
+
+    public RequestScopedDelegate(InjectableBean<T> bean) {
+        this.bean = bean;
+        Collection<InjectableContext> contexts = Arc.container().getContexts(bean.getScope());
+        if (contexts.size() == 1 && contexts.iterator().next() instanceof RequestContext) {
+            this.requestContext = (RequestContext) contexts.iterator().next();
+        } else {
+            this.requestContext = null;
+        }
+    }
+
+    public T get() {
+        if (requestContext == null) {
+            return ClientProxies.getDelegate(bean);
+        }
+        RequestContextState state = requestContext.getCurrentState();
+        if (state == null) {
+            throw new ContextNotActiveException();
+        }
+        Cached<T> cached = this.cached;
+        int version = state.getVersion();
+        if (cached != null && cached.state == state && cached.version == version) {
+            return cached.instance;
+        }
+        T instance = requestContext.getIfActive(bean, ClientProxies::newCreationalContext);
+        if (instance == null) {
+            throw new ContextNotActiveException();
+        }
+        this.cached = new Cached<>(state, version, instance);
+        return instance;
+    }
+
+    private static final class Cached<T> {
+
+        final RequestContextState state;
+        final int version;
+        final T instance;
+
+        Cached(RequestContextState state, int version, T instance) {
+            this.state = state;
+            this.version = version;
+            this.instance = instance;
+        }
+
+    }
+
+}
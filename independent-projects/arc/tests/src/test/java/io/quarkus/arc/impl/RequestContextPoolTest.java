@@ -0,0 +1,163 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.impl.RequestContext.RequestContextState;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.RequestScoped;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RequestContextPoolTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Basket.class);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPropagatedStateIsReused() throws Exception {
+        RequestContext requestContext = (RequestContext) Arc.container().requestContext();
+        InjectableBean<Basket> basketBean = Arc.container().instance(Basket.class).getBean();
+
+        requestContext.activate();
+        RequestContextState state = requestContext.getCurrentState();
+        String basketId = Arc.container().instance(Basket.class).get().getId();
+        // e.g. captured by the context propagation and activated on another thread
+        ContextState captured = requestContext.getState();
+        executor.submit(() -> {
+            requestContext.activate(captured);
+            try {
+                assertSame(state, requestContext.getCurrentState());
+                assertEquals(basketId, Arc.container().instance(Basket.class).get().getId());
+            } finally {
+                requestContext.deactivate();
+            }
+        }).get(5, TimeUnit.SECONDS);
+        requestContext.terminate();
+        assertTrue(captured.getContextualInstances().isEmpty());
+
+        // the state was returned to the pool although it was captured
+        requestContext.activate();
+        try {
+            assertSame(state, requestContext.getCurrentState());
+            assertNull(requestContext.get(basketBean));
+            String nextId = Arc.container().instance(Basket.class).get().getId();
+            assertNotEquals(basketId, nextId);
+            assertTrue(captured.getContextualInstances().isEmpty());
+
+            // a task that runs after the request is over does not see the next request
+            Basket.DESTROYED.set(false);
+            executor.submit(() -> {
+                requestContext.activate(captured);
+                try {
+                    assertNotSame(state, requestContext.getCurrentState());
+                    assertNull(requestContext.get(basketBean));
+                    assertNotEquals(nextId, Arc.container().instance(Basket.class).get().getId());
+                } finally {
+                    requestContext.terminate();
+                }
+            }).get(5, TimeUnit.SECONDS);
+            assertTrue(Basket.DESTROYED.get());
+            Basket.DESTROYED.set(false);
+            requestContext.destroy(captured);
+            assertEquals(nextId, Arc.container().instance(Basket.class).get().getId());
+            assertFalse(Basket.DESTROYED.get());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Test
+    public void testStateActiveOnAnotherThreadIsNotReused() throws Exception {
+        RequestContext requestContext = (RequestContext) Arc.container().requestContext();
+
+        requestContext.activate();
+        RequestContextState state = requestContext.getCurrentState();
+        ContextState captured = requestContext.getState();
+        CountDownLatch activated = new CountDownLatch(1);
+        CountDownLatch requestOver = new CountDownLatch(1);
+        Future<?> task = executor.submit(() -> {
+            requestContext.activate(captured);
+            try {
+                activated.countDown();
+                assertTrue(requestOver.await(5, TimeUnit.SECONDS));
+            } finally {
+                requestContext.deactivate();
+            }
+            return null;
+        });
+        assertTrue(activated.await(5, TimeUnit.SECONDS));
+        requestContext.terminate();
+
+        // still active on the other thread
+        requestContext.activate();
+        assertNotSame(state, requestContext.getCurrentState());
+        // not destroyed, so that the state is not returned to the pool
+        requestContext.deactivate();
+        requestOver.countDown();
+        task.get(5, TimeUnit.SECONDS);
+
+        // the last thread the state was active on returned it to the pool
+        requestContext.activate();
+        try {
+            assertSame(state, requestContext.getCurrentState());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @RequestScoped
+    static class Basket {
+
+        static final AtomicBoolean DESTROYED = new AtomicBoolean();
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.set(true);
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
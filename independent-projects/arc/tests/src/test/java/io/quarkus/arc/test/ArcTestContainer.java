@@ -77,6 +77,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         private final List<BeanDeploymentValidator> beanDeploymentValidators;
         private boolean shouldFail = false;
         private boolean removeUnusedBeans = false;
+        private boolean cacheRequestScopedDelegates = false;
         private final List<Predicate<BeanInfo>> exclusions;
         private AlternativePriorities alternativePriorities;
 
@@ -167,6 +168,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder cacheRequestScopedDelegates(boolean value) {
+            this.cacheRequestScopedDelegates = value;
+            return this;
+        }
+
         public Builder shouldFail() {
             this.shouldFail = true;
             return this;
@@ -212,6 +218,8 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
     private final boolean removeUnusedBeans;
     private final List<Predicate<BeanInfo>> exclusions;
 
+    private final boolean cacheRequestScopedDelegates;
+
     private final AlternativePriorities alternativePriorities;
 
     public ArcTestContainer(Class<?>... beanClasses) {
@@ -231,6 +239,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.shouldFail = false;
         this.removeUnusedBeans = false;
         this.exclusions = Collections.emptyList();
+        this.cacheRequestScopedDelegates = false;
         this.alternativePriorities = null;
     }
 
@@ -250,6 +259,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.buildFailure = new AtomicReference<Throwable>(null);
         this.shouldFail = builder.shouldFail;
         this.removeUnusedBeans = builder.removeUnusedBeans;
+        this.cacheRequestScopedDelegates = builder.cacheRequestScopedDelegates;
         this.exclusions = builder.exclusions;
         this.alternativePriorities = builder.alternativePriorities;
     }
@@ -392,6 +402,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
                 }
             });
             builder.setRemoveUnusedBeans(removeUnusedBeans);
+            builder.setCacheRequestScopedDelegates(cacheRequestScopedDelegates);
             for (Predicate<BeanInfo> exclusion : exclusions) {
                 builder.addRemovalExclusion(exclusion);
             }
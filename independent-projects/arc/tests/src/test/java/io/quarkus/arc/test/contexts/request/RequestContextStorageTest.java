@@ -0,0 +1,186 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.CreationalContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RequestContextStorageTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Controller.class, Panel.class);
+
+    @Test
+    public void testSlotAssigned() {
+        InjectableBean<Panel> panelBean = Arc.container().instance(Panel.class).getBean();
+        assertTrue(panelBean.getRequestContextIndex() >= 0);
+    }
+
+    @Test
+    public void testStateIsResetBetweenActivations() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        String previousId = null;
+        for (int i = 0; i < 5; i++) {
+            Controller.DESTROYED.set(false);
+            requestContext.activate();
+            try {
+                assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+                String id = arc.instance(Controller.class).get().getId();
+                assertEquals(id, arc.instance(Controller.class).get().getId());
+                assertNotEquals(previousId, id);
+                previousId = id;
+            } finally {
+                requestContext.terminate();
+            }
+            assertTrue(Controller.DESTROYED.get());
+        }
+    }
+
+    @Test
+    public void testDestroySingleInstance() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        Controller.DESTROYED.set(false);
+        requestContext.activate();
+        try {
+            String controllerId = arc.instance(Controller.class).get().getId();
+            String panelId = arc.instance(Panel.class).get().getId();
+
+            ContextState state = requestContext.getState();
+            assertEquals(2, state.getContextualInstances().size());
+
+            requestContext.destroy(arc.instance(Controller.class).getBean());
+            assertTrue(Controller.DESTROYED.get());
+            assertEquals(1, state.getContextualInstances().size());
+
+            assertNotEquals(controllerId, arc.instance(Controller.class).get().getId());
+            assertEquals(panelId, arc.instance(Panel.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+        assertFalse(requestContext.isActive());
+    }
+
+    @Test
+    public void testPooledStateIsCleared() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+        // a bean without a slot is stored in the map of the state
+        InjectableBean<String> otherBean = new OtherBean();
+
+        // the state is never exposed and is returned to the pool on deactivation
+        requestContext.activate();
+        String controllerId = arc.instance(Controller.class).get().getId();
+        String otherValue = requestContext.get(otherBean, new CreationalContextImpl<>(otherBean));
+        assertNotNull(otherValue);
+        requestContext.terminate();
+
+        // the next activation on the same thread picks the state from the pool
+        requestContext.activate();
+        try {
+            assertNull(requestContext.get(controllerBean));
+            assertNull(requestContext.get(otherBean));
+            assertNotEquals(controllerId, arc.instance(Controller.class).get().getId());
+            assertNotEquals(otherValue, requestContext.get(otherBean, new CreationalContextImpl<>(otherBean)));
+        } finally {
+            requestContext.terminate();
+        }
+
+        // a state exposed via getState() is reused as well, the exposed handle is stale then
+        requestContext.activate();
+        ContextState exposed;
+        try {
+            arc.instance(Controller.class).get().getId();
+            exposed = requestContext.getState();
+        } finally {
+            requestContext.terminate();
+        }
+        assertTrue(exposed.getContextualInstances().isEmpty());
+        requestContext.activate();
+        try {
+            String currentId = arc.instance(Controller.class).get().getId();
+            assertTrue(exposed.getContextualInstances().isEmpty());
+            Controller.DESTROYED.set(false);
+            requestContext.destroy(exposed);
+            assertFalse(Controller.DESTROYED.get());
+            assertEquals(currentId, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @RequestScoped
+    static class Panel {
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+    static class OtherBean implements InjectableBean<String> {
+
+        @Override
+        public String getIdentifier() {
+            return "other";
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Collections.singleton(String.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return RequestContextStorageTest.class;
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return UUID.randomUUID().toString();
+        }
+
+        @Override
+        public String get(CreationalContext<String> creationalContext) {
+            return create(creationalContext);
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.ContextNotActiveException;
+import javax.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RequestScopedDelegateCacheTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Controller.class, Client.class)
+            .cacheRequestScopedDelegates(true)
+            .build();
+
+    @Test
+    public void testCachedDelegate() {
+        ManagedContext requestContext = Arc.container().requestContext();
+        Client client = Arc.container().instance(Client.class).get();
+
+        assertThrows(ContextNotActiveException.class, client::getControllerId);
+
+        requestContext.activate();
+        String id1 = client.getControllerId();
+        assertEquals(id1, client.getControllerId());
+        // The instance is destroyed explicitly
+        requestContext.destroy(Arc.container().instance(Controller.class).getBean());
+        String id2 = client.getControllerId();
+        assertNotEquals(id1, id2);
+        assertEquals(id2, client.getControllerId());
+
+        // Switch to a different state
+        ContextState state = requestContext.getState();
+        requestContext.deactivate();
+        requestContext.activate();
+        String id3 = client.getControllerId();
+        assertNotEquals(id2, id3);
+        ContextState otherState = requestContext.getState();
+        requestContext.deactivate();
+        requestContext.activate(state);
+        assertEquals(id2, client.getControllerId());
+        requestContext.terminate();
+        requestContext.activate(otherState);
+        assertEquals(id3, client.getControllerId());
+        requestContext.terminate();
+
+        assertThrows(ContextNotActiveException.class, client::getControllerId);
+
+        // Destroyed states may be reused
+        for (int i = 0; i < 3; i++) {
+            requestContext.activate();
+            String id = client.getControllerId();
+            assertNotEquals(id3, id);
+            id3 = id;
+            requestContext.terminate();
+        }
+    }
+
+    @ApplicationScoped
+    static class Client {
+
+        @Inject
+        Controller controller;
+
+        String getControllerId() {
+            return controller.getId();
+        }
+
+    }
+
+}
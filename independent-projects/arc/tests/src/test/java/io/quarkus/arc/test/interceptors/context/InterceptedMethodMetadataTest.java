@@ -0,0 +1,85 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Subclass;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Priority;
+import javax.enterprise.context.Dependent;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class InterceptedMethodMetadataTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, Counter.class, CountingInterceptor.class);
+
+    @Test
+    public void testMetadataSharedByInstances() {
+        Counter first = Arc.container().instance(Counter.class).get();
+        Counter second = Arc.container().instance(Counter.class).get();
+        // the shared forwarding functions invoke the target of the invocation
+        assertEquals(1, first.increment());
+        assertEquals(2, first.increment());
+        assertEquals(1, second.increment());
+        assertEquals(2, first.get());
+        assertEquals(1, second.get());
+        assertEquals(2, first.interceptions);
+        assertEquals(1, second.interceptions);
+
+        Class<?> subclass = first.getClass();
+        assertTrue(Subclass.class.isAssignableFrom(subclass));
+        List<String> instanceFields = new ArrayList<>();
+        for (Field field : subclass.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                instanceFields.add(field.getName());
+            }
+        }
+        // only the interceptor chain, shared by both methods, is held by each instance
+        assertEquals(1, instanceFields.size(), instanceFields.toString());
+    }
+
+    @Simple
+    @Dependent
+    static class Counter {
+
+        private int count;
+
+        int interceptions;
+
+        int increment() {
+            return ++count;
+        }
+
+        int get() {
+            return count;
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class CountingInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            Counter counter = (Counter) ctx.getTarget();
+            if (ctx.getMethod().getName().equals("increment")) {
+                counter.interceptions++;
+            }
+            return ctx.proceed();
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ParametersTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, SimpleBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class);
+
+    @Test
+    public void testParameters() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("alpha:bravo:foo-bravo:foo", bean.foo("foo"));
+        // the forwarding function is reused
+        assertEquals("alpha:bravo:bar-bravo:bar", bean.foo("bar"));
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        String foo(String name) {
+            return name;
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            Object ret = "alpha:" + ctx.proceed();
+            // parameters set by the next interceptor are not visible
+            return ret + ":" + ctx.getParameters()[0];
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            ctx.setParameters(new Object[] { ctx.getParameters()[0] + "-bravo" });
+            return "bravo:" + ctx.proceed();
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package io.quarkus.arc.test.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Type;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.enterprise.context.ApplicationScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class OptimisticReadLockTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class);
+
+    @Test
+    public void testOptimisticRead() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Counter counter = Arc.container().instance(Counter.class).get();
+            Counter.reset();
+
+            // No writer - the method is only invoked once
+            assertEquals(0, counter.get());
+            assertEquals(1, Counter.READS.get());
+
+            // The write completes while the optimistic read is in progress
+            Counter.reset();
+            Counter.READ_BLOCKED = true;
+            Future<Integer> read = executor.submit(counter::get);
+            assertTrue(Counter.READ_INSIDE_LATCH.await(5, TimeUnit.SECONDS));
+            // The writer is not blocked by the optimistic reader
+            executor.submit(() -> {
+                counter.increment();
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+            Counter.READ_MAY_COMPLETE_LATCH.countDown();
+            // The first result is discarded and the method is invoked again with the read lock
+            assertEquals(1, read.get(5, TimeUnit.SECONDS));
+            assertEquals(2, Counter.READS.get());
+
+            // A writer is active - the reader must wait for the read lock
+            Counter.reset();
+            Counter.WRITE_BLOCKED = true;
+            Future<?> write = executor.submit(() -> {
+                counter.increment();
+                return null;
+            });
+            assertTrue(Counter.WRITE_INSIDE_LATCH.await(5, TimeUnit.SECONDS));
+            AtomicReference<Thread> reader = new AtomicReference<>();
+            read = executor.submit(() -> {
+                reader.set(Thread.currentThread());
+                return counter.get();
+            });
+            // Wait until the reader is parked on the read lock
+            awaitWaiting(reader);
+            assertFalse(read.isDone());
+            assertEquals(0, Counter.READS.get());
+            Counter.WRITE_MAY_COMPLETE_LATCH.countDown();
+            write.get(5, TimeUnit.SECONDS);
+            assertEquals(2, read.get(5, TimeUnit.SECONDS));
+            assertEquals(1, Counter.READS.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitWaiting(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.get() == null || thread.get().getState() != Thread.State.WAITING) {
+            if (System.nanoTime() > deadline) {
+                fail("The thread is not waiting: " + thread.get());
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger READS = new AtomicInteger();
+
+        static volatile boolean READ_BLOCKED;
+        static CountDownLatch READ_INSIDE_LATCH;
+        static CountDownLatch READ_MAY_COMPLETE_LATCH;
+
+        static volatile boolean WRITE_BLOCKED;
+        static CountDownLatch WRITE_INSIDE_LATCH;
+        static CountDownLatch WRITE_MAY_COMPLETE_LATCH;
+
+        static void reset() {
+            READS.set(0);
+            READ_BLOCKED = false;
+            READ_INSIDE_LATCH = new CountDownLatch(1);
+            READ_MAY_COMPLETE_LATCH = new CountDownLatch(1);
+            WRITE_BLOCKED = false;
+            WRITE_INSIDE_LATCH = new CountDownLatch(1);
+            WRITE_MAY_COMPLETE_LATCH = new CountDownLatch(1);
+        }
+
+        private volatile int value;
+
+        @Lock(value = Type.READ, optimistic = true)
+        int get() throws InterruptedException {
+            READS.incrementAndGet();
+            int result = value;
+            if (READ_BLOCKED) {
+                READ_BLOCKED = false;
+                READ_INSIDE_LATCH.countDown();
+                assertTrue(READ_MAY_COMPLETE_LATCH.await(5, TimeUnit.SECONDS));
+            }
+            return result;
+        }
+
+        @Lock(Type.WRITE)
+        void increment() throws InterruptedException {
+            if (WRITE_BLOCKED) {
+                WRITE_INSIDE_LATCH.countDown();
+                assertTrue(WRITE_MAY_COMPLETE_LATCH.await(5, TimeUnit.SECONDS));
+            }
+            value++;
+        }
+
+    }
+
+}
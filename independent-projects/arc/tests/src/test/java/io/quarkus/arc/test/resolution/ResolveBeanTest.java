@@ -0,0 +1,88 @@
+package io.quarkus.arc.test.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+import java.lang.annotation.Annotation;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ResolveBeanTest {
+
+    @SuppressWarnings("serial")
+    static final Annotation MY_QUALIFIER = new AnnotationLiteral<MyQualifier>() {
+    };
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, MyQualifier.class,
+            QualifiedBravo.class);
+
+    @Test
+    public void testResolveBean() {
+        ArcContainer arc = Arc.container();
+        InjectableBean<Alpha> alpha = arc.resolveBean(Alpha.class);
+        assertNotNull(alpha);
+        assertEquals(Alpha.class, alpha.getBeanClass());
+        assertSame(alpha, arc.resolveBean(Alpha.class));
+        assertEquals("alpha", arc.instance(alpha).get().ping());
+
+        // @Default is assumed
+        InjectableBean<Bravo> bravo = arc.resolveBean(Bravo.class);
+        assertNotNull(bravo);
+        assertEquals(Bravo.class, bravo.getBeanClass());
+        assertEquals(QualifiedBravo.class,
+                arc.resolveBean(Bravo.class, MY_QUALIFIER).getBeanClass());
+
+        assertNull(arc.resolveBean(String.class));
+    }
+
+    @Test
+    public void testRepeatedUnqualifiedLookup() {
+        ArcContainer arc = Arc.container();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("alpha", arc.instance(Alpha.class).get().ping());
+            assertEquals("bravo", arc.instance(Bravo.class).get().ping());
+            assertEquals("qualified", arc.instance(Bravo.class, MY_QUALIFIER).get().ping());
+        }
+    }
+
+    @ApplicationScoped
+    static class Alpha {
+
+        String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @Singleton
+    static class Bravo {
+
+        String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @MyQualifier
+    @Singleton
+    static class QualifiedBravo extends Bravo {
+
+        @Override
+        String ping() {
+            return "qualified";
+        }
+
+    }
+
+}
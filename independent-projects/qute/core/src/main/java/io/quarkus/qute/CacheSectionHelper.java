@@ -0,0 +1,353 @@
+package io.quarkus.qute;
+
+import io.quarkus.qute.Results.Result;
+import io.quarkus.qute.TemplateNode.Origin;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the rendered content of the main block, e.g. {@code {#cached 'footer' ttl=60000}...{/cached}}.
+ * <p>
+ * The content is cached per section, i.e. the cache key consists of the template id, the position of the section in the
+ * template and the value of the {@code key} expression. The value can be used to invalidate the content explicitly, see
+ * {@link Cache#invalidate(String)}. The optional {@code ttl} parameter is either the number of milliseconds or an ISO-8601
+ * duration, e.g. {@code PT1M}. If the key resolves to {@code null} the content is not cached.
+ */
+public class CacheSectionHelper implements SectionHelper {
+
+    public static final String CACHED = "cached";
+
+    private static final String KEY = "key";
+    private static final String TTL = "ttl";
+    private static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final Cache cache;
+    private final String sectionId;
+    private final Expression key;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    CacheSectionHelper(Cache cache, String sectionId, Expression key, long ttlNanos, LongSupplier nanoTime) {
+        this.cache = cache;
+        this.sectionId = sectionId;
+        this.key = key;
+        this.ttlNanos = ttlNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
+        return context.resolutionContext().evaluate(key).thenCompose(k -> {
+            if (k == null || Result.NOT_FOUND.equals(k)) {
+                return context.execute();
+            }
+            return getValue(new Key(sectionId, k.toString()), context, true);
+        });
+    }
+
+    private CompletionStage<ResultNode> getValue(Key cacheKey, SectionResolutionContext context, boolean reload) {
+        return cache.getValue(cacheKey, k -> render(context)).thenCompose(cached -> {
+            if (cached.isExpired(nanoTime.getAsLong())) {
+                // Only remove the expired result, a concurrent caller may have replaced it already
+                cache.invalidate(cacheKey, cached);
+                if (reload) {
+                    return getValue(cacheKey, context, false);
+                }
+            }
+            return CompletableFuture.completedFuture(cached);
+        });
+    }
+
+    private CompletionStage<CachedResult> render(SectionResolutionContext context) {
+        return context.execute().thenApply(resultNode -> {
+            StringBuilder builder = new StringBuilder();
+            resultNode.process(builder::append);
+            return new CachedResult(builder.toString(), ttlNanos > 0, nanoTime.getAsLong() + ttlNanos);
+        });
+    }
+
+    /**
+     * Stores the rendered content. The implementation must not cache the value if the computation fails.
+     */
+    public interface Cache {
+
+        /**
+         *
+         * @param key
+         * @param loader
+         * @return the cached result, computed by the loader if needed
+         */
+        CompletionStage<CachedResult> getValue(Key key, Function<Key, CompletionStage<CachedResult>> loader);
+
+        /**
+         *
+         * @param key
+         */
+        void invalidate(Key key);
+
+        /**
+         * Invalidates the content cached under the given key only if it is still the given result.
+         *
+         * @param key
+         * @param result
+         */
+        void invalidate(Key key, CachedResult result);
+
+        /**
+         * Invalidates the content cached under the given value of the {@code key} expression in all sections.
+         *
+         * @param value
+         */
+        void invalidate(String value);
+
+        void invalidateAll();
+
+    }
+
+    /**
+     * The key of the cached content.
+     */
+    public static final class Key {
+
+        private final String sectionId;
+        private final String value;
+
+        Key(String sectionId, String value) {
+            this.sectionId = sectionId;
+            this.value = value;
+        }
+
+        /**
+         *
+         * @return the template id and the position of the section in the template
+         */
+        public String getSectionId() {
+            return sectionId;
+        }
+
+        /**
+         *
+         * @return the value of the {@code key} expression
+         */
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sectionId, value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return sectionId.equals(other.sectionId) && value.equals(other.value);
+        }
+
+        @Override
+        public String toString() {
+            return sectionId + ":" + value;
+        }
+
+    }
+
+    /**
+     * The rendered content of a {@code cached} section.
+     */
+    public static final class CachedResult implements ResultNode {
+
+        private final String value;
+        private final boolean expiring;
+        private final long expiresAt;
+
+        CachedResult(String value, boolean expiring, long expiresAt) {
+            this.value = value;
+            this.expiring = expiring;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        boolean isExpired(long nanoTime) {
+            return expiring && nanoTime - expiresAt >= 0;
+        }
+
+        @Override
+        public void process(Consumer<String> resultConsumer) {
+            resultConsumer.accept(value);
+        }
+
+    }
+
+    /**
+     * A simple in-memory cache that evicts the least recently used entries once the maximum size is reached.
+     */
+    public static class DefaultCache implements Cache {
+
+        private final Map<Key, CompletableFuture<CachedResult>> entries;
+
+        public DefaultCache(int maxSize) {
+            this.entries = new LinkedHashMap<Key, CompletableFuture<CachedResult>>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<CachedResult>> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        @Override
+        public CompletionStage<CachedResult> getValue(Key key, Function<Key, CompletionStage<CachedResult>> loader) {
+            CompletableFuture<CachedResult> value;
+            CompletableFuture<CachedResult> computed = null;
+            synchronized (entries) {
+                value = entries.get(key);
+                if (value == null) {
+                    computed = new CompletableFuture<>();
+                    entries.put(key, computed);
+                    value = computed;
+                }
+            }
+            if (computed != null) {
+                CompletableFuture<CachedResult> result = computed;
+                CompletionStage<CachedResult> loaded;
+                try {
+                    loaded = loader.apply(key);
+                } catch (Throwable e) {
+                    loaded = Futures.failure(e);
+                }
+                loaded.whenComplete((r, t) -> {
+                    if (t != null) {
+                        // Failed computations are not cached
+                        synchronized (entries) {
+                            entries.remove(key, result);
+                        }
+                        result.completeExceptionally(t);
+                    } else {
+                        result.complete(r);
+                    }
+                });
+            }
+            return value;
+        }
+
+        @Override
+        public void invalidate(Key key) {
+            synchronized (entries) {
+                entries.remove(key);
+            }
+        }
+
+        @Override
+        public void invalidate(Key key, CachedResult result) {
+            synchronized (entries) {
+                CompletableFuture<CachedResult> value = entries.get(key);
+                if (value != null && value.isDone() && !value.isCompletedExceptionally() && value.join() == result) {
+                    entries.remove(key);
+                }
+            }
+        }
+
+        @Override
+        public void invalidate(String value) {
+            synchronized (entries) {
+                entries.keySet().removeIf(key -> key.value.equals(value));
+            }
+        }
+
+        @Override
+        public void invalidateAll() {
+            synchronized (entries) {
+                entries.clear();
+            }
+        }
+
+    }
+
+    public static class Factory implements SectionHelperFactory<CacheSectionHelper> {
+
+        private final Cache cache;
+        private final LongSupplier nanoTime;
+
+        public Factory() {
+            this(new DefaultCache(DEFAULT_MAX_SIZE));
+        }
+
+        public Factory(Cache cache) {
+            this(cache, System::nanoTime);
+        }
+
+        Factory(Cache cache, LongSupplier nanoTime) {
+            this.cache = cache;
+            this.nanoTime = nanoTime;
+        }
+
+        /**
+         *
+         * @return the cache used to store the rendered content
+         */
+        public Cache getCache() {
+            return cache;
+        }
+
+        @Override
+        public List<String> getDefaultAliases() {
+            return ImmutableList.of(CACHED);
+        }
+
+        @Override
+        public ParametersInfo getParameters() {
+            return ParametersInfo.builder().addParameter(KEY).addParameter(TTL, "0").build();
+        }
+
+        @Override
+        public CacheSectionHelper initialize(SectionInitContext context) {
+            Origin origin = context.getBlocks().get(0).origin;
+            String sectionId = origin.getTemplateId() + ":" + origin.getLine() + ":" + origin.getLineCharacterStart();
+            return new CacheSectionHelper(cache, sectionId, context.getExpression(KEY),
+                    parseTtl(context, context.getParameter(TTL)), nanoTime);
+        }
+
+        @Override
+        public Scope initializeBlock(Scope previousScope, BlockInfo block) {
+            if (block.getLabel().equals(MAIN_BLOCK_NAME)) {
+                block.addExpression(KEY, block.getParameter(KEY));
+            }
+            return previousScope;
+        }
+
+        private long parseTtl(SectionInitContext context, String value) {
+            try {
+                return TimeUnit.MILLISECONDS.toNanos(Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                try {
+                    return Duration.parse(value).toNanos();
+                } catch (DateTimeParseException e2) {
+                    throw context.createParserError("invalid ttl value: " + value);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.quarkus.qute;
+
+/**
+ * A template compiled to bytecode, usually generated at build time.
+ * <p>
+ * A compiled template renders the template tree directly, i.e. expressions are evaluated via direct method calls and no
+ * value resolvers or section helpers are used. If a compiled template cannot render the given data then the template is
+ * rendered as usual.
+ *
+ * @see EngineBuilder#addCompiledTemplate(String, CompiledTemplate)
+ */
+@FunctionalInterface
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @param data
+     * @param output
+     * @return {@code true} if the template was rendered, {@code false} if the template must be rendered by the engine
+     */
+    boolean render(Object data, Output output);
+
+    /**
+     * The output of a compiled template. The expression nodes of a template are identified by the index in the depth-first
+     * traversal of the template tree, i.e. the first expression node of the first block of a section comes right after all
+     * expression nodes that precede the section.
+     *
+     * @see TemplateTree.Value#getIndex()
+     */
+    interface Output {
+
+        /**
+         *
+         * @param text
+         */
+        void append(String text);
+
+        /**
+         * The value is mapped to the string value in the same way as a value of an expression rendered by the engine.
+         *
+         * @param expressionIndex
+         * @param value
+         * @return {@code false} if the value cannot be rendered synchronously, e.g. it's an incomplete
+         *         {@link java.util.concurrent.CompletionStage}
+         */
+        boolean append(int expressionIndex, Object value);
+
+    }
+
+}
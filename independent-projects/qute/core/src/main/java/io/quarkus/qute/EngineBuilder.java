@@ -20,6 +20,7 @@ public final class EngineBuilder {
     final List<ResultMapper> resultMappers;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
+    final Map<String, CompiledTemplate> compiledTemplates;
     boolean removeStandaloneLines;
 
     EngineBuilder() {
@@ -29,6 +30,7 @@ public final class EngineBuilder {
         this.locators = new ArrayList<>();
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
     }
 
     public EngineBuilder addSectionHelper(SectionHelperFactory<?> factory) {
@@ -127,6 +129,20 @@ public final class EngineBuilder {
         return this;
     }
 
+    /**
+     * The compiled template is used to render the template with the given id if possible. Note that the compiled template
+     * must match the content of the template.
+     * 
+     * @param templateId
+     * @param compiledTemplate
+     * @return self
+     * @see Engine#getTemplate(String)
+     */
+    public EngineBuilder addCompiledTemplate(String templateId, CompiledTemplate compiledTemplate) {
+        this.compiledTemplates.put(templateId, compiledTemplate);
+        return this;
+    }
+
     public EngineBuilder computeSectionHelper(Function<String, SectionHelperFactory<?>> func) {
         this.sectionHelperFunc = func;
         return this;
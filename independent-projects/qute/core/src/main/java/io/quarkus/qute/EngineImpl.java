@@ -36,6 +36,7 @@ class EngineImpl implements Engine {
     private final List<ResultMapper> resultMappers;
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
+    private final Map<String, CompiledTemplate> compiledTemplates;
     final boolean removeStandaloneLines;
 
     EngineImpl(EngineBuilder builder) {
@@ -48,6 +49,7 @@ class EngineImpl implements Engine {
         this.resultMappers = sort(builder.resultMappers);
         this.sectionHelperFunc = builder.sectionHelperFunc;
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
+        this.compiledTemplates = Collections.unmodifiableMap(new HashMap<>(builder.compiledTemplates));
         this.removeStandaloneLines = builder.removeStandaloneLines;
     }
 
@@ -94,6 +96,10 @@ class EngineImpl implements Engine {
         return resultMappers;
     }
 
+    CompiledTemplate getCompiledTemplate(String id) {
+        return id != null ? compiledTemplates.get(id) : null;
+    }
+
     public Template putTemplate(String id, Template template) {
         return templates.put(id, template);
     }
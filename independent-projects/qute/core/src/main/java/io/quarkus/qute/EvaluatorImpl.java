@@ -6,7 +6,6 @@ import io.quarkus.qute.Results.Result;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.jboss.logging.Logger;
 
@@ -35,13 +34,15 @@ class EvaluatorImpl implements Evaluator {
             }
             EvalContext context = new EvalContextImpl(false, null, parts.next(), resolutionContext);
             LOGGER.debugf("Found '%s' namespace resolver: %s", expression.getNamespace(), resolver.getClass());
-            return resolver.resolve(context).thenCompose(r -> {
-                if (parts.hasNext()) {
-                    return resolveReference(false, r, parts, resolutionContext);
-                } else {
-                    return CompletableFuture.completedFuture(r);
-                }
-            });
+            CompletionStage<Object> result = resolver.resolve(context);
+            if (!parts.hasNext()) {
+                return result;
+            }
+            if (Futures.isCompletedNormally(result)) {
+                // Sync fast path - no need to compose
+                return resolveReference(false, Futures.getCompleted(result), parts, resolutionContext);
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
         } else {
             if (expression.isLiteral()) {
                 return expression.getLiteralValue();
@@ -68,19 +69,26 @@ class EvaluatorImpl implements Evaluator {
 
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<Part> parts,
             ResolutionContext resolutionContext) {
-        Part part = parts.next();
-        EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
-        if (!parts.hasNext()) {
-            // The last part - no need to compose
-            return resolve(evalContext, resolvers.iterator(), true);
-        } else {
+        // Iterate as long as the parts are resolved synchronously
+        while (true) {
+            Part part = parts.next();
+            EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
+            CompletionStage<Object> result = resolve(evalContext, resolvers.iterator(), true);
+            if (!parts.hasNext()) {
+                // The last part - no need to compose
+                return result;
+            }
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, resolvers.iterator(), true)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
+            tryParent = false;
+            if (Futures.isCompletedNormally(result)) {
+                // Sync fast path - no need to compose
+                ref = Futures.getCompleted(result);
+            } else {
+                return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
+            }
         }
     }
 
-    @SuppressWarnings("unchecked")
     private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers,
             boolean tryCachedResolver) {
 
@@ -88,52 +96,81 @@ class EvaluatorImpl implements Evaluator {
             // Try the cached resolver first
             ValueResolver cachedResolver = ((PartImpl) evalContext.part).cachedResolver;
             if (cachedResolver != null && cachedResolver.appliesTo(evalContext)) {
-                return cachedResolver.resolve(evalContext).thenCompose(r -> {
-                    if (Result.NOT_FOUND.equals(r)) {
-                        return resolve(evalContext, resolvers, false);
-                    } else {
-                        if (r instanceof CompletionStage) {
-                            // If the result is a completion stage return it as is
-                            return (CompletionStage<Object>) r;
-                        }
-                        return CompletableFuture.completedFuture(r);
+                CompletionStage<Object> result = cachedResolver.resolve(evalContext);
+                if (Futures.isCompletedNormally(result)) {
+                    // Sync fast path - no need to compose
+                    Object r = Futures.getCompleted(result);
+                    if (!Result.NOT_FOUND.equals(r)) {
+                        return toResult(result, r);
                     }
-                });
+                } else {
+                    return result.thenCompose(r -> {
+                        if (Result.NOT_FOUND.equals(r)) {
+                            return resolve(evalContext, resolvers, false);
+                        } else {
+                            return toResult(result, r);
+                        }
+                    });
+                }
             }
         }
 
-        if (!resolvers.hasNext()) {
-            ResolutionContext parent = evalContext.resolutionContext.getParent();
-            if (evalContext.tryParent && parent != null) {
-                // Continue with parent context
-                return resolve(
-                        new EvalContextImpl(true, parent.getData(), evalContext.name, evalContext.params, parent,
-                                evalContext.part),
-                        this.resolvers.iterator(), false);
+        while (resolvers.hasNext()) {
+            ValueResolver resolver = resolvers.next();
+            if (!resolver.appliesTo(evalContext)) {
+                // Try the next resolver
+                continue;
             }
-            LOGGER.tracef("Unable to resolve %s", evalContext);
-            return Results.NOT_FOUND;
-        }
-        ValueResolver resolver = resolvers.next();
-        if (resolver.appliesTo(evalContext)) {
-            return resolver.resolve(evalContext).thenCompose(r -> {
+            CompletionStage<Object> result = resolver.resolve(evalContext);
+            if (Futures.isCompletedNormally(result)) {
+                // Sync fast path - no need to compose
+                Object r = Futures.getCompleted(result);
+                if (Result.NOT_FOUND.equals(r)) {
+                    // Result not found - try the next resolver
+                    continue;
+                }
+                // Cache the first resolver where a result is found
+                ((PartImpl) evalContext.part).setCachedResolver(resolver);
+                return toResult(result, r);
+            }
+            return result.thenCompose(r -> {
                 if (Result.NOT_FOUND.equals(r)) {
                     // Result not found - try the next resolver
                     return resolve(evalContext, resolvers, false);
                 } else {
                     // Cache the first resolver where a result is found
                     ((PartImpl) evalContext.part).setCachedResolver(resolver);
-                    if (r instanceof CompletionStage) {
-                        // If the result is a completion stage return it as is
-                        return (CompletionStage<Object>) r;
-                    }
-                    return CompletableFuture.completedFuture(r);
+                    return toResult(result, r);
                 }
             });
-        } else {
-            // Try the next resolver
-            return resolve(evalContext, resolvers, false);
         }
+
+        ResolutionContext parent = evalContext.resolutionContext.getParent();
+        if (evalContext.tryParent && parent != null) {
+            // Continue with parent context
+            return resolve(
+                    new EvalContextImpl(true, parent.getData(), evalContext.name, evalContext.params, parent,
+                            evalContext.part),
+                    this.resolvers.iterator(), false);
+        }
+        LOGGER.tracef("Unable to resolve %s", evalContext);
+        return Results.NOT_FOUND;
+    }
+
+    /**
+     * 
+     * @param result the completed stage returned by a resolver
+     * @param value the value the stage was completed with
+     * @return the value if it's a completion stage, the resolver's stage otherwise
+     */
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<Object> toResult(CompletionStage<Object> result, Object value) {
+        if (value instanceof CompletionStage) {
+            // If the result is a completion stage return it as is
+            return (CompletionStage<Object>) value;
+        }
+        // The stage is already completed with the value - no need to allocate a new one
+        return result;
     }
 
     static class EvalContextImpl implements EvalContext {
@@ -23,7 +23,12 @@ class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<R
 
     @Override
     public CompletionStage<ResultNode> resolve(ResolutionContext context) {
-        return context.evaluate(expression).thenCompose(this);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (Futures.isCompletedNormally(result)) {
+            // Sync fast path - no need to compose
+            return apply(Futures.getCompleted(result));
+        }
+        return result.thenCompose(this);
     }
 
     @Override
@@ -31,7 +36,11 @@ class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<R
         if (result instanceof ResultNode) {
             return CompletableFuture.completedFuture((ResultNode) result);
         } else if (result instanceof CompletionStage) {
-            return ((CompletionStage<?>) result).thenCompose(this);
+            CompletionStage<?> stage = (CompletionStage<?>) result;
+            if (Futures.isCompletedNormally(stage)) {
+                return apply(Futures.getCompleted(stage));
+            }
+            return stage.thenCompose(this);
         } else {
             return CompletableFuture.completedFuture(new SingleResultNode(result, this));
         }
@@ -20,15 +20,53 @@ public final class Futures {
         return failure;
     }
 
+    /**
+     * 
+     * @param stage
+     * @return {@code true} if the given stage is a {@link CompletableFuture} that has already completed normally
+     */
+    static boolean isCompletedNormally(CompletionStage<?> stage) {
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<?> future = (CompletableFuture<?>) stage;
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+        return false;
+    }
+
+    /**
+     * The stage must be completed normally.
+     * 
+     * @param stage
+     * @return the result of the given stage
+     * @see #isCompletedNormally(CompletionStage)
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T getCompleted(CompletionStage<? extends T> stage) {
+        return ((CompletableFuture<T>) stage).join();
+    }
+
     @SuppressWarnings("unchecked")
     static CompletionStage<Map<String, Object>> evaluateParams(Map<String, Expression> parameters,
             ResolutionContext resolutionContext) {
-        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
         CompletableFuture<Object>[] results = new CompletableFuture[parameters.size()];
         int idx = 0;
+        boolean allCompleted = true;
         for (Entry<String, Expression> entry : parameters.entrySet()) {
-            results[idx++] = resolutionContext.evaluate(entry.getValue()).toCompletableFuture();
+            CompletableFuture<Object> paramResult = resolutionContext.evaluate(entry.getValue()).toCompletableFuture();
+            results[idx++] = paramResult;
+            allCompleted &= isCompletedNormally(paramResult);
         }
+        if (allCompleted) {
+            // Sync fast path - all params are already evaluated
+            // IMPL NOTE: Keep the map mutable - it can be modified in UserTagSectionHelper
+            Map<String, Object> paramValues = new HashMap<>();
+            int j = 0;
+            for (Entry<String, Expression> entry : parameters.entrySet()) {
+                paramValues.put(entry.getKey(), results[j++].join());
+            }
+            return CompletableFuture.completedFuture(paramValues);
+        }
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
         CompletableFuture.allOf(results).whenComplete((v, t1) -> {
             if (t1 != null) {
                 result.completeExceptionally(t1);
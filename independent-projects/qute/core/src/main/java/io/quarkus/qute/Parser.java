@@ -135,7 +135,8 @@ class Parser implements Function<String, Expression>, ParserHelper {
                 throw parserError("no root section part found");
             }
             root.addBlock(part.build());
-            TemplateImpl template = new TemplateImpl(engine, root.build(), generatedId, variant);
+            TemplateImpl template = new TemplateImpl(engine, root.build(), generatedId, variant,
+                    engine.getCompiledTemplate(id));
 
             Set<TemplateNode> nodesToRemove;
             if (engine.removeStandaloneLines) {
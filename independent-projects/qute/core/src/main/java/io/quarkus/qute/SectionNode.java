@@ -3,7 +3,6 @@ package io.quarkus.qute;
 import io.quarkus.qute.SectionHelper.SectionResolutionContext;
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -20,7 +19,7 @@ class SectionNode implements TemplateNode {
 
     final String name;
     final List<SectionBlock> blocks;
-    private final SectionHelper helper;
+    final SectionHelper helper;
     private final Origin origin;
 
     SectionNode(String name, List<SectionBlock> blocks, SectionHelper helper, Origin origin) {
@@ -125,36 +124,39 @@ class SectionNode implements TemplateNode {
             if (block.nodes.size() == 1) {
                 return block.nodes.get(0).resolve(context);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
             @SuppressWarnings("unchecked")
             CompletableFuture<ResultNode>[] allResults = new CompletableFuture[block.nodes.size()];
-            List<CompletableFuture<ResultNode>> asyncResults = new LinkedList<>();
+            List<CompletableFuture<ResultNode>> asyncResults = null;
             int idx = 0;
             for (TemplateNode node : block.nodes) {
                 CompletableFuture<ResultNode> nodeResult = node.resolve(context).toCompletableFuture();
                 allResults[idx++] = nodeResult;
-                if (!node.isConstant()) {
+                if (!node.isConstant() && !Futures.isCompletedNormally(nodeResult)) {
+                    if (asyncResults == null) {
+                        asyncResults = new ArrayList<>();
+                    }
                     asyncResults.add(nodeResult);
                 }
             }
-            if (asyncResults.isEmpty()) {
-                result.complete(new MultiResultNode(allResults));
+            if (asyncResults == null) {
+                // Sync fast path - all nodes are already resolved
+                return CompletableFuture.completedFuture(new MultiResultNode(allResults));
+            }
+            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
+            CompletionStage<?> cs;
+            if (asyncResults.size() == 1) {
+                cs = asyncResults.get(0);
             } else {
-                CompletionStage<?> cs;
-                if (asyncResults.size() == 1) {
-                    cs = asyncResults.get(0);
+                cs = CompletableFuture
+                        .allOf(asyncResults.toArray(Futures.EMPTY_RESULTS));
+            }
+            cs.whenComplete((v, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
                 } else {
-                    cs = CompletableFuture
-                            .allOf(asyncResults.toArray(Futures.EMPTY_RESULTS));
+                    result.complete(new MultiResultNode(allResults));
                 }
-                cs.whenComplete((v, t) -> {
-                    if (t != null) {
-                        result.completeExceptionally(t);
-                    } else {
-                        result.complete(new MultiResultNode(allResults));
-                    }
-                });
-            }
+            });
             return result;
         }
 
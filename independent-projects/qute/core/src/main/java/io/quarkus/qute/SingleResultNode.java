@@ -22,20 +22,24 @@ public class SingleResultNode implements ResultNode {
     @Override
     public void process(Consumer<String> consumer) {
         if (value != null) {
-            String result = null;
-            if (mappers != null) {
-                for (ResultMapper mapper : mappers) {
-                    if (mapper.appliesTo(expression.getOrigin(), value)) {
-                        result = mapper.map(value, expression);
-                        break;
-                    }
+            consumer.accept(map(value, expression, mappers));
+        }
+    }
+
+    static String map(Object value, Expression expression, List<ResultMapper> mappers) {
+        String result = null;
+        if (mappers != null) {
+            for (ResultMapper mapper : mappers) {
+                if (mapper.appliesTo(expression.getOrigin(), value)) {
+                    result = mapper.map(value, expression);
+                    break;
                 }
             }
-            if (result == null) {
-                result = value.toString();
-            }
-            consumer.accept(result);
         }
+        if (result == null) {
+            result = value.toString();
+        }
+        return result;
     }
 
 }
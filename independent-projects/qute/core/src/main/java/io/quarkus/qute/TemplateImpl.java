@@ -17,12 +17,17 @@ class TemplateImpl implements Template {
     private final EngineImpl engine;
     private final Optional<Variant> variant;
     final SectionNode root;
+    private final CompiledTemplate compiledTemplate;
+    // Initialized lazily because the nodes may be removed after the template is created
+    private volatile TemplateTree tree;
 
-    TemplateImpl(EngineImpl engine, SectionNode root, String generatedId, Optional<Variant> variant) {
+    TemplateImpl(EngineImpl engine, SectionNode root, String generatedId, Optional<Variant> variant,
+            CompiledTemplate compiledTemplate) {
         this.engine = engine;
         this.root = root;
         this.generatedId = generatedId;
         this.variant = variant;
+        this.compiledTemplate = compiledTemplate;
     }
 
     @Override
@@ -49,10 +54,17 @@ class TemplateImpl implements Template {
 
         @Override
         public String render() {
+            StringBuilder builder = new StringBuilder();
+            CompletionStage<Void> result = renderData(data(), builder::append);
+            if (Futures.isCompletedNormally(result)) {
+                // Sync fast path - no need to wait for the result
+                return builder.toString();
+            }
             try {
                 Object timeoutAttr = getAttribute(TIMEOUT);
                 long timeout = timeoutAttr != null ? Long.parseLong(timeoutAttr.toString()) : 10000;
-                return renderAsync().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                result.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return builder.toString();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -91,15 +103,37 @@ class TemplateImpl implements Template {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
+            if (compiledTemplate != null) {
+                CompiledOutput output = new CompiledOutput(getTree().expressionNodes, engine.getResultMappers());
+                try {
+                    if (compiledTemplate.render(data, output)) {
+                        consumer.accept(output.builder.toString());
+                        return CompletableFuture.completedFuture(null);
+                    }
+                } catch (Throwable e) {
+                    return Futures.failure(e);
+                }
+                // The compiled template cannot render the data - discard the output
+            }
             DataNamespaceResolver dataResolver = new DataNamespaceResolver();
             List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
                     .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
             ResolutionContext rootContext = new ResolutionContextImpl(null, data, namespaceResolvers,
                     engine.getEvaluator(), null, this);
             dataResolver.rootContext = rootContext;
+            CompletionStage<ResultNode> resolved = root.resolve(rootContext);
+            if (Futures.isCompletedNormally(resolved)) {
+                // Sync fast path - all the expressions were resolved synchronously
+                try {
+                    Futures.getCompleted(resolved).process(consumer);
+                    return CompletableFuture.completedFuture(null);
+                } catch (Throwable e) {
+                    return Futures.failure(e);
+                }
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
@@ -117,6 +151,51 @@ class TemplateImpl implements Template {
 
     }
 
+    TemplateTree getTree() {
+        TemplateTree value = tree;
+        if (value == null) {
+            value = new TemplateTree(root.blocks.get(0).nodes);
+            tree = value;
+        }
+        return value;
+    }
+
+    static class CompiledOutput implements CompiledTemplate.Output {
+
+        final StringBuilder builder;
+        private final ExpressionNode[] expressionNodes;
+        private final List<ResultMapper> mappers;
+
+        CompiledOutput(ExpressionNode[] expressionNodes, List<ResultMapper> mappers) {
+            this.builder = new StringBuilder();
+            this.expressionNodes = expressionNodes;
+            this.mappers = mappers.isEmpty() ? null : mappers;
+        }
+
+        @Override
+        public void append(String text) {
+            builder.append(text);
+        }
+
+        @Override
+        public boolean append(int expressionIndex, Object value) {
+            if (value instanceof CompletionStage) {
+                CompletionStage<?> stage = (CompletionStage<?>) value;
+                if (!Futures.isCompletedNormally(stage)) {
+                    return false;
+                }
+                return append(expressionIndex, Futures.getCompleted(stage));
+            }
+            if (value instanceof ResultNode) {
+                ((ResultNode) value).process(builder::append);
+            } else if (value != null) {
+                builder.append(SingleResultNode.map(value, expressionNodes[expressionIndex].expression, mappers));
+            }
+            return true;
+        }
+
+    }
+
     static class DataNamespaceResolver implements NamespaceResolver {
 
         ResolutionContext rootContext;
@@ -0,0 +1,213 @@
+package io.quarkus.qute;
+
+import io.quarkus.qute.TemplateNode.Origin;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A read-only view of the nodes of a template, intended for template compilers.
+ * <p>
+ * The expression nodes are numbered in the depth-first traversal of the tree, including all blocks of all sections. The
+ * number identifies the expression in {@link CompiledTemplate.Output#append(int, Object)}.
+ * <p>
+ * This is not a stable API and may change in future versions.
+ *
+ * @see CompiledTemplate
+ */
+public final class TemplateTree {
+
+    /**
+     *
+     * @param template
+     * @return the tree of the given template
+     * @throws IllegalArgumentException if the template was not created by an {@link Engine}
+     */
+    public static TemplateTree of(Template template) {
+        if (template instanceof TemplateImpl) {
+            return ((TemplateImpl) template).getTree();
+        }
+        throw new IllegalArgumentException("Template not created by an engine: " + template);
+    }
+
+    private final List<Node> nodes;
+    final ExpressionNode[] expressionNodes;
+
+    TemplateTree(List<TemplateNode> templateNodes) {
+        List<ExpressionNode> found = new ArrayList<>();
+        this.nodes = build(templateNodes, found);
+        this.expressionNodes = found.toArray(new ExpressionNode[0]);
+    }
+
+    /**
+     *
+     * @return an immutable list of nodes, i.e. the content of the template
+     */
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    /**
+     *
+     * @return the number of expression nodes
+     */
+    public int getExpressionCount() {
+        return expressionNodes.length;
+    }
+
+    private static List<Node> build(List<TemplateNode> templateNodes, List<ExpressionNode> expressionNodes) {
+        ImmutableList.Builder<Node> nodes = ImmutableList.builder();
+        for (TemplateNode node : templateNodes) {
+            if (node instanceof TextNode) {
+                TextNode text = (TextNode) node;
+                nodes.add(new Text(text.getValue(), text.getOrigin()));
+            } else if (node instanceof ExpressionNode) {
+                ExpressionNode expression = (ExpressionNode) node;
+                nodes.add(new Value(expressionNodes.size(), expression.expression, expression.getOrigin()));
+                expressionNodes.add(expression);
+            } else if (node instanceof SectionNode) {
+                SectionNode section = (SectionNode) node;
+                ImmutableList.Builder<Block> blocks = ImmutableList.builder();
+                for (SectionBlock block : section.blocks) {
+                    blocks.add(new Block(block, build(block.nodes, expressionNodes)));
+                }
+                nodes.add(new Section(section.name, section.helper, blocks.build(), section.getOrigin()));
+            } else {
+                nodes.add(new Node(node.getOrigin()));
+            }
+        }
+        return nodes.build();
+    }
+
+    /**
+     * A node of the tree. Nodes that are not text, expressions or sections are represented by an instance of this class.
+     */
+    public static class Node {
+
+        private final Origin origin;
+
+        Node(Origin origin) {
+            this.origin = origin;
+        }
+
+        public Origin getOrigin() {
+            return origin;
+        }
+
+    }
+
+    /**
+     * Static text.
+     */
+    public static final class Text extends Node {
+
+        private final String value;
+
+        Text(String value, Origin origin) {
+            super(origin);
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+    }
+
+    /**
+     * An expression whose value is rendered, e.g. {@code foo.bar}.
+     */
+    public static final class Value extends Node {
+
+        private final int index;
+        private final Expression expression;
+
+        Value(int index, Expression expression, Origin origin) {
+            super(origin);
+            this.index = index;
+            this.expression = expression;
+        }
+
+        /**
+         *
+         * @return the index of the expression node in the depth-first traversal of the tree
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public Expression getExpression() {
+            return expression;
+        }
+
+    }
+
+    /**
+     * A section, e.g. <code>{#if}</code>.
+     */
+    public static final class Section extends Node {
+
+        private final String name;
+        private final SectionHelper helper;
+        private final List<Block> blocks;
+
+        Section(String name, SectionHelper helper, List<Block> blocks, Origin origin) {
+            super(origin);
+            this.name = name;
+            this.helper = helper;
+            this.blocks = blocks;
+        }
+
+        /**
+         *
+         * @return the name of the section, e.g. {@code for}
+         */
+        public String getName() {
+            return name;
+        }
+
+        public SectionHelper getHelper() {
+            return helper;
+        }
+
+        /**
+         *
+         * @return the blocks of the section, the main block is always first
+         */
+        public List<Block> getBlocks() {
+            return blocks;
+        }
+
+    }
+
+    /**
+     * A block of a section.
+     */
+    public static final class Block {
+
+        private final SectionBlock block;
+        private final List<Node> nodes;
+
+        Block(SectionBlock block, List<Node> nodes) {
+            this.block = block;
+            this.nodes = nodes;
+        }
+
+        /**
+         *
+         * @return the label, parameters and expressions of the block
+         */
+        public SectionBlock getSectionBlock() {
+            return block;
+        }
+
+        /**
+         *
+         * @return the content of the block
+         */
+        public List<Node> getNodes() {
+            return nodes;
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class CacheSectionTest {
+
+    @Test
+    public void testCached() {
+        CacheSectionHelper.Factory factory = new CacheSectionHelper.Factory();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).addSectionHelper(factory)
+                .build();
+        AtomicInteger counter = new AtomicInteger();
+        Template template = engine.parse("{#cached 'footer'}{counter.incrementAndGet}{/cached}:{counter.get}");
+        assertEquals("1:1", template.data("counter", counter).render());
+        assertEquals("1:1", template.data("counter", counter).render());
+        factory.getCache().invalidate("footer");
+        assertEquals("2:2", template.data("counter", counter).render());
+        factory.getCache().invalidateAll();
+        assertEquals("3:3", template.data("counter", counter).render());
+
+        // The key is an expression
+        Template tiles = engine.parse("{#for item in items}{#cached item}[{item}:{counter.incrementAndGet}]{/cached}{/for}");
+        assertEquals("[a:4][b:5][a:4]", tiles.data("items", new String[] { "a", "b", "a" }, "counter", counter).render());
+        // Null key - not cached
+        Template nullKey = engine.parse("{#cached key}{counter.incrementAndGet}{/cached}");
+        assertEquals("6", nullKey.data("counter", counter).render());
+        assertEquals("7", nullKey.data("counter", counter).render());
+    }
+
+    @Test
+    public void testSectionsDoNotShareContent() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addSectionHelper(new CacheSectionHelper.Factory()).build();
+        Template foo = engine.parse("{#cached 'key'}foo{/cached}|{#cached 'key'}{#cached 'key'}bar{/cached}{/cached}");
+        Template baz = engine.parse("{#cached 'key'}baz{/cached}");
+        assertEquals("foo|bar", foo.render());
+        assertEquals("baz", baz.render());
+        assertEquals("foo|bar", foo.render());
+    }
+
+    @Test
+    public void testTtl() {
+        AtomicLong nanoTime = new AtomicLong();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addSectionHelper(new CacheSectionHelper.Factory(new CacheSectionHelper.DefaultCache(10), nanoTime::get))
+                .build();
+        AtomicInteger counter = new AtomicInteger();
+        Template template = engine.parse("{#cached 'foo' ttl=50}{counter.incrementAndGet}{/cached}");
+        assertEquals("1", template.data("counter", counter).render());
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(49));
+        assertEquals("1", template.data("counter", counter).render());
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals("2", template.data("counter", counter).render());
+        Template duration = engine.parse("{#cached 'bar' ttl=PT1H}{counter.incrementAndGet}{/cached}");
+        assertEquals("3", duration.data("counter", counter).render());
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(59));
+        assertEquals("3", duration.data("counter", counter).render());
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertEquals("4", duration.data("counter", counter).render());
+
+        TemplateException expected = assertThrows(TemplateException.class,
+                () -> engine.parse("{#cached 'baz' ttl=foo}{/cached}"));
+        assertTrue(expected.getMessage().contains("invalid ttl value: foo"), expected.getMessage());
+    }
+
+    @Test
+    public void testOnlyExpiredResultInvalidated() throws Exception {
+        CacheSectionHelper.DefaultCache cache = new CacheSectionHelper.DefaultCache(10);
+        CacheSectionHelper.Key key = new CacheSectionHelper.Key("foo:1:1", "key");
+        CacheSectionHelper.CachedResult expired = new CacheSectionHelper.CachedResult("expired", true, 0);
+        CacheSectionHelper.CachedResult fresh = new CacheSectionHelper.CachedResult("fresh", true, 100);
+        assertSame(expired, cache.getValue(key, k -> CompletableFuture.completedFuture(expired)).toCompletableFuture().get());
+        assertTrue(expired.isExpired(50));
+        assertFalse(fresh.isExpired(50));
+
+        // Another caller found the expired result first and recomputed it
+        cache.invalidate(key, expired);
+        assertSame(fresh, cache.getValue(key, k -> CompletableFuture.completedFuture(fresh)).toCompletableFuture().get());
+        cache.invalidate(key, expired);
+        assertSame(fresh, cache.getValue(key, k -> CompletableFuture.completedFuture(expired)).toCompletableFuture().get());
+    }
+
+    @Test
+    public void testFailureNotCached() {
+        CacheSectionHelper.Factory factory = new CacheSectionHelper.Factory();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).addSectionHelper(factory)
+                .build();
+        Template template = engine.parse("{#cached 'foo'}{#for i in items}{i}{/for}{/cached}");
+        assertThrows(TemplateException.class, () -> template.data("items", null).render());
+        assertEquals("12", template.data("items", new Integer[] { 1, 2 }).render());
+    }
+
+}
@@ -0,0 +1,152 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.qute.SectionHelper.SectionResolutionContext;
+import io.quarkus.qute.SectionHelperFactory.SectionInitContext;
+import io.quarkus.qute.TemplateLocator.TemplateLocation;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class CompiledTemplateTest {
+
+    @Test
+    public void testCompiledTemplate() {
+        AtomicInteger renders = new AtomicInteger();
+        Engine engine = Engine.builder().addDefaults()
+                .addLocator(id -> id.equals("hello") ? Optional.of(location("Hello {name}!{#if admin} {role}{/if}"))
+                        : Optional.empty())
+                .addResultMapper(new ResultMapper() {
+
+                    @Override
+                    public boolean appliesTo(TemplateNode.Origin origin, Object result) {
+                        return result instanceof String;
+                    }
+
+                    @Override
+                    public String map(Object result, Expression expression) {
+                        return result.toString().toUpperCase();
+                    }
+                })
+                .addCompiledTemplate("hello", (data, output) -> {
+                    renders.incrementAndGet();
+                    if (!(data instanceof Map)) {
+                        return false;
+                    }
+                    Map<?, ?> map = (Map<?, ?>) data;
+                    output.append("Hello ");
+                    if (!output.append(0, map.get("name"))) {
+                        return false;
+                    }
+                    output.append("!");
+                    if (Boolean.TRUE.equals(map.get("admin"))) {
+                        output.append(" ");
+                        return output.append(1, map.get("role"));
+                    }
+                    return true;
+                })
+                .build();
+
+        Template hello = engine.getTemplate("hello");
+        List<TemplateTree.Node> nodes = TemplateTree.of(hello).getNodes();
+        assertEquals(4, nodes.size());
+        assertTrue(nodes.get(1) instanceof TemplateTree.Value);
+        assertEquals("name", ((TemplateTree.Value) nodes.get(1)).getExpression().toOriginalString());
+        assertTrue(nodes.get(3) instanceof TemplateTree.Section);
+        assertEquals("if", ((TemplateTree.Section) nodes.get(3)).getName());
+
+        // Result mappers are applied
+        assertEquals("Hello FOO! ADMIN", hello.data("name", "foo", "admin", true, "role", "admin").render());
+        assertEquals(1, renders.get());
+        // Completed stages are rendered
+        assertEquals("Hello FOO!", hello.data("name", CompletableFuture.completedFuture("foo")).render());
+        assertEquals(2, renders.get());
+        // The compiled template cannot render the data - the partial output is discarded
+        assertEquals("Hello FOO! ADMIN", hello.data("name", "foo", "admin", true, "role", new CompletableFuture<>()
+                .completeAsync(() -> "admin")).render());
+        assertEquals(3, renders.get());
+        assertEquals("Hello NOT_FOUND!", hello.render(new Object()));
+        assertEquals(4, renders.get());
+        // Templates with a different id are not affected
+        assertEquals("Hello FOO!", engine.parse("Hello {name}!").data("name", "foo").render());
+        assertEquals(4, renders.get());
+    }
+
+    @Test
+    public void testExpressionIndexes() {
+        Engine engine = Engine.builder().addDefaults()
+                .addLocator(id -> id.equals("indexes")
+                        ? Optional.of(location("{a}{#for i in items}{i.b}{#if c}{d}{#else if e}{f}{#else}{g}{#else}{h}{/if}"
+                                + "{/for}{#custom}{j}{#alt}{k}{/custom}{l}"))
+                        : Optional.empty())
+                .addSectionHelper(new SectionHelperFactory<SectionHelper>() {
+
+                    @Override
+                    public List<String> getDefaultAliases() {
+                        return ImmutableList.of("custom");
+                    }
+
+                    @Override
+                    public List<String> getBlockLabels() {
+                        return ImmutableList.of("alt");
+                    }
+
+                    @Override
+                    public SectionHelper initialize(SectionInitContext context) {
+                        return SectionResolutionContext::execute;
+                    }
+                })
+                .addResultMapper((result, expression) -> expression.toOriginalString() + "=" + result)
+                // Renders the expression in the block that is never rendered by the engine
+                .addCompiledTemplate("indexes", (data, output) -> output.append(6, "foo"))
+                .build();
+        Template template = engine.getTemplate("indexes");
+        List<TemplateTree.Value> values = new ArrayList<>();
+        collectValues(TemplateTree.of(template).getNodes(), values);
+        StringBuilder builder = new StringBuilder();
+        for (TemplateTree.Value value : values) {
+            builder.append(value.getIndex()).append(":").append(value.getExpression().toOriginalString()).append(",");
+        }
+        // All blocks are counted
+        assertEquals("0:a,1:i.b,2:d,3:f,4:g,5:h,6:j,7:k,8:l,", builder.toString());
+        assertEquals(9, TemplateTree.of(template).getExpressionCount());
+        // The output uses the same indexes
+        assertEquals("j=foo", template.render());
+    }
+
+    private static TemplateLocation location(String content) {
+        return new TemplateLocation() {
+
+            @Override
+            public Reader read() {
+                return new StringReader(content);
+            }
+
+            @Override
+            public Optional<Variant> getVariant() {
+                return Optional.empty();
+            }
+        };
+    }
+
+    private static void collectValues(List<TemplateTree.Node> nodes, List<TemplateTree.Value> values) {
+        for (TemplateTree.Node node : nodes) {
+            if (node instanceof TemplateTree.Value) {
+                values.add((TemplateTree.Value) node);
+            } else if (node instanceof TemplateTree.Section) {
+                for (TemplateTree.Block block : ((TemplateTree.Section) node).getBlocks()) {
+                    collectValues(block.getNodes(), values);
+                }
+            }
+        }
+    }
+
+}
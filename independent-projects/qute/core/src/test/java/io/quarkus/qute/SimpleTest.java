@@ -1,6 +1,8 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.qute.Results.Result;
@@ -218,4 +220,28 @@ public class SimpleTest {
         assertEquals("1:2:3:4:5",
                 engine.parse("{d1}:{d2}:{d3}:{d4}:{d5}").data("d1", 1, "d2", 2, "d3", 3, "d4", 4, "d5", 5).render());
     }
+
+    @Test
+    public void testSyncAndAsyncResolution() {
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(ValueResolver.builder().applyToName("pending").resolveAsync(ec -> pending).build())
+                .build();
+        Map<String, Object> item = new HashMap<>();
+        item.put("name", "Lu");
+
+        // All the values are available - the result is completed immediately
+        Template template = engine.parse("{#for item in list}{item.name}:{count}{/}");
+        CompletionStage<String> result = template.data("list", ImmutableList.of(item, item)).renderAsync();
+        assertTrue(result.toCompletableFuture().isDone());
+        assertEquals("Lu:1Lu:2", result.toCompletableFuture().join());
+
+        // One of the values is not available yet
+        template = engine.parse("{item.name}:{item.pending.name}");
+        result = template.data("item", item).renderAsync();
+        assertFalse(result.toCompletableFuture().isDone());
+        pending.complete(item);
+        assertEquals("Lu:Lu", result.toCompletableFuture().join());
+    }
+
 }
@@ -8,8 +8,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -32,10 +34,12 @@ import org.hibernate.jpa.QueryHints;
 import org.junit.jupiter.api.Assertions;
 
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.impl.CountCache;
 
 /**
  * Various tests covering Panache functionality. All tests should work in both standard JVM and in native mode.
@@ -229,6 +233,10 @@ public class TestEndpoint {
         testRange(Person.findAll());
         testRange(Person.find("ORDER BY name"));
 
+        // keyset
+        testKeyset(Person.findAll(), Person.find("name <> ?1", "stef0"), Person.find("ORDER BY name"));
+        testCacheCount(() -> Person.find("status", Status.LIVING));
+
         try {
             Person.findAll().singleResult();
             Assertions.fail("singleResult should have thrown");
@@ -696,6 +704,10 @@ public class TestEndpoint {
         testRange(personDao.findAll());
         testRange(personDao.find("ORDER BY name"));
 
+        // keyset
+        testKeyset(personDao.findAll(), personDao.find("name <> ?1", "stef0"), personDao.find("ORDER BY name"));
+        testCacheCount(() -> personDao.find("status", Status.LIVING));
+
         try {
             personDao.findAll().singleResult();
             Assertions.fail("singleResult should have thrown");
@@ -985,6 +997,97 @@ public class TestEndpoint {
         Assertions.assertEquals("stef2", persons.get(2).name);
     }
 
+    private void testKeyset(PanacheQuery<Person> query, PanacheQuery<Person> filteredQuery,
+            PanacheQuery<Person> orderedQuery) {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.keyset(),
+                "UnsupportedOperationException should have thrown");
+
+        Keyset keyset = Keyset.of(Sort.by("name").and("id"), 3);
+        List<Person> persons = query.keyset(keyset).list();
+        Assertions.assertSame(keyset, query.keyset());
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef0", persons.get(0).name);
+        Assertions.assertEquals("stef1", persons.get(1).name);
+        Assertions.assertEquals("stef2", persons.get(2).name);
+
+        Person last = persons.get(2);
+        persons = query.keyset(keyset.after(last.name, last.id)).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef3", persons.get(0).name);
+        Assertions.assertEquals("stef4", persons.get(1).name);
+        Assertions.assertEquals("stef5", persons.get(2).name);
+
+        last = persons.get(2);
+        persons = query.keyset(keyset.after(last.name, last.id)).list();
+        Assertions.assertEquals(1, persons.size());
+        Assertions.assertEquals("stef6", persons.get(0).name);
+
+        last = persons.get(0);
+        persons = query.keyset(keyset.after(last.name, last.id)).list();
+        Assertions.assertEquals(0, persons.size());
+
+        // descending
+        keyset = Keyset.of(Sort.by("name", Sort.Direction.Descending).and("id"), 4);
+        persons = query.keyset(keyset).list();
+        Assertions.assertEquals(4, persons.size());
+        Assertions.assertEquals("stef6", persons.get(0).name);
+        Assertions.assertEquals("stef3", persons.get(3).name);
+        last = persons.get(3);
+        persons = query.keyset(keyset.after(last.name, last.id)).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef2", persons.get(0).name);
+        Assertions.assertEquals("stef0", persons.get(2).name);
+
+        // the keyset predicate is combined with the query parameters
+        keyset = Keyset.of(Sort.by("name").and("id"), 3);
+        persons = filteredQuery.keyset(keyset).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef1", persons.get(0).name);
+        last = persons.get(2);
+        persons = filteredQuery.keyset(keyset.after(last.name, last.id)).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef4", persons.get(0).name);
+        Assertions.assertEquals("stef6", persons.get(2).name);
+        // the count ignores the keyset
+        Assertions.assertEquals(6, filteredQuery.count());
+
+        // switch from keyset to page
+        persons = query.keyset(keyset).page(1, 3).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals(1, query.page().index);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.keyset(),
+                "UnsupportedOperationException should have thrown");
+
+        // the keyset defines the order
+        Assertions.assertThrows(PanacheQueryException.class, () -> orderedQuery.keyset(Keyset.of(Sort.by("id"), 3)).list(),
+                "PanacheQueryException should have thrown");
+    }
+
+    private void testCacheCount(Supplier<PanacheQuery<Person>> query) {
+        // the cache is shared by all the tests
+        CountCache.clear();
+        Assertions.assertEquals(7, query.get().cacheCount(Duration.ofHours(1)).count());
+
+        Person person = new Person();
+        person.name = "stef7";
+        person.status = Status.LIVING;
+        person.persist();
+
+        // a new query with the same count query and parameters reuses the count
+        Assertions.assertEquals(7, query.get().cacheCount(Duration.ofHours(1)).count());
+        Assertions.assertEquals(3, query.get().cacheCount(Duration.ofHours(1)).page(0, 3).pageCount());
+        // without cacheCount, the count is read from the database
+        Assertions.assertEquals(8, query.get().count());
+        // different parameters have a different count
+        Assertions.assertEquals(0, Person.find("status", Status.DECEASED).cacheCount(Duration.ofHours(1)).count());
+
+        CountCache.clear();
+        Assertions.assertEquals(8, query.get().cacheCount(Duration.ofHours(1)).count());
+
+        person.delete();
+        CountCache.clear();
+    }
+
     @GET
     @Path("accessors")
     public String testAccessors() throws NoSuchMethodException, SecurityException {
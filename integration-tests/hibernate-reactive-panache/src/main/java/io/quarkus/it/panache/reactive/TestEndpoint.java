@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
@@ -30,10 +31,12 @@ import org.junit.jupiter.api.Assertions;
 
 import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.hibernate.reactive.panache.PanacheQuery;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.impl.CountCache;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -341,6 +344,9 @@ public class TestEndpoint {
                 // range
                 .flatMap(v -> testRange(Person.findAll()))
                 .flatMap(v -> testRange(Person.find("ORDER BY name")))
+                // keyset
+                .flatMap(v -> testKeyset(Person.findAll(), Person.find("name <> ?1", "stef0"), Person.find("ORDER BY name")))
+                .flatMap(v -> testCacheCount(() -> Person.find("status", Status.LIVING)))
                 .flatMap(v -> assertThrows(NonUniqueResultException.class,
                         () -> Person.findAll().singleResult(),
                         "singleResult should have thrown"))
@@ -1060,6 +1066,10 @@ public class TestEndpoint {
                 // range
                 .flatMap(v -> testRange(personDao.findAll()))
                 .flatMap(v -> testRange(personDao.find("ORDER BY name")))
+                // keyset
+                .flatMap(v -> testKeyset(personDao.findAll(), personDao.find("name <> ?1", "stef0"),
+                        personDao.find("ORDER BY name")))
+                .flatMap(v -> testCacheCount(() -> personDao.find("status", Status.LIVING)))
                 .flatMap(v -> assertThrows(NonUniqueResultException.class,
                         () -> personDao.findAll().singleResult(),
                         "singleResult should have thrown"))
@@ -1295,6 +1305,99 @@ public class TestEndpoint {
                 });
     }
 
+    private Uni<Void> testKeyset(PanacheQuery<Person> query, PanacheQuery<Person> filteredQuery,
+            PanacheQuery<Person> orderedQuery) {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.keyset());
+
+        Keyset keyset = Keyset.of(Sort.by("name").and("id"), 3);
+        return query.keyset(keyset).list()
+                .flatMap(persons -> {
+                    Assertions.assertSame(keyset, query.keyset());
+                    Assertions.assertEquals(3, persons.size());
+                    Assertions.assertEquals("stef0", persons.get(0).name);
+                    Assertions.assertEquals("stef1", persons.get(1).name);
+                    Assertions.assertEquals("stef2", persons.get(2).name);
+
+                    Person last = persons.get(2);
+                    return query.keyset(keyset.after(last.name, last.id)).list();
+                }).flatMap(persons -> {
+                    Assertions.assertEquals(3, persons.size());
+                    Assertions.assertEquals("stef3", persons.get(0).name);
+                    Assertions.assertEquals("stef4", persons.get(1).name);
+                    Assertions.assertEquals("stef5", persons.get(2).name);
+
+                    Person last = persons.get(2);
+                    return query.keyset(keyset.after(last.name, last.id)).list();
+                }).flatMap(persons -> {
+                    Assertions.assertEquals(1, persons.size());
+                    Assertions.assertEquals("stef6", persons.get(0).name);
+
+                    // descending
+                    return query.keyset(Keyset.of(Sort.by("name", Sort.Direction.Descending).and("id"), 4)).list();
+                }).flatMap(persons -> {
+                    Assertions.assertEquals(4, persons.size());
+                    Assertions.assertEquals("stef6", persons.get(0).name);
+                    Assertions.assertEquals("stef3", persons.get(3).name);
+
+                    Person last = persons.get(3);
+                    return query.keyset(query.keyset().after(last.name, last.id)).list();
+                }).flatMap(persons -> {
+                    Assertions.assertEquals(3, persons.size());
+                    Assertions.assertEquals("stef2", persons.get(0).name);
+                    Assertions.assertEquals("stef0", persons.get(2).name);
+
+                    // the keyset predicate is combined with the query parameters
+                    return filteredQuery.keyset(keyset).list();
+                }).flatMap(persons -> {
+                    Assertions.assertEquals(3, persons.size());
+                    Assertions.assertEquals("stef1", persons.get(0).name);
+
+                    Person last = persons.get(2);
+                    return filteredQuery.keyset(keyset.after(last.name, last.id)).list();
+                }).flatMap(persons -> {
+                    Assertions.assertEquals(3, persons.size());
+                    Assertions.assertEquals("stef4", persons.get(0).name);
+                    Assertions.assertEquals("stef6", persons.get(2).name);
+
+                    // the keyset defines the order
+                    return assertThrows(PanacheQueryException.class,
+                            () -> orderedQuery.keyset(Keyset.of(Sort.by("id"), 3)).list(),
+                            "PanacheQueryException should have thrown");
+                });
+    }
+
+    private Uni<Void> testCacheCount(Supplier<PanacheQuery<Person>> query) {
+        // the cache is shared by all the tests
+        CountCache.clear();
+        Person person = new Person();
+        person.name = "stef7";
+        person.status = Status.LIVING;
+        return query.get().cacheCount(Duration.ofHours(1)).count()
+                .flatMap(count -> {
+                    Assertions.assertEquals(7, count);
+
+                    return person.persistAndFlush();
+                }).flatMap(v -> {
+                    // a new query with the same count query and parameters reuses the count
+                    return query.get().cacheCount(Duration.ofHours(1)).count();
+                }).flatMap(count -> {
+                    Assertions.assertEquals(7, count);
+
+                    // without cacheCount, the count is read from the database
+                    return query.get().count();
+                }).flatMap(count -> {
+                    Assertions.assertEquals(8, count);
+
+                    CountCache.clear();
+                    return query.get().cacheCount(Duration.ofHours(1)).count();
+                }).flatMap(count -> {
+                    Assertions.assertEquals(8, count);
+
+                    return person.delete();
+                }).flatMap(v -> person.flush())
+                .invoke(v -> CountCache.clear());
+    }
+
     @GET
     @Path("accessors")
     public String testAccessors() throws NoSuchMethodException, SecurityException {
@@ -1,7 +1,9 @@
 package io.quarkus.it.mongodb.panache.test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.ws.rs.GET;
@@ -16,9 +18,11 @@ import com.mongodb.client.model.CollationStrength;
 
 import io.quarkus.mongodb.panache.PanacheQuery;
 import io.quarkus.mongodb.panache.reactive.ReactivePanacheQuery;
+import io.quarkus.panache.common.Keyset;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.impl.CountCache;
 
 @Path("/test")
 public class TestResource {
@@ -63,6 +67,10 @@ public class TestResource {
         // range
         testImperativeRange(TestImperativeEntity.findAll());
 
+        // keyset
+        testImperativeKeyset(TestImperativeEntity.findAll(), TestImperativeEntity.find("category", "category0"));
+        testImperativeCacheCount(() -> TestImperativeEntity.find("category", "category0"));
+
         // query
         Assertions.assertEquals(5, TestImperativeEntity.list("category", "category0").size());
         Assertions.assertEquals(5, TestImperativeEntity.list("category = ?1", "category0").size());
@@ -204,6 +212,10 @@ public class TestResource {
         // range
         testImperativeRange(testImperativeRepository.findAll());
 
+        // keyset
+        testImperativeKeyset(testImperativeRepository.findAll(), testImperativeRepository.find("category", "category0"));
+        testImperativeCacheCount(() -> testImperativeRepository.find("category", "category0"));
+
         // query
         Assertions.assertEquals(5, testImperativeRepository.list("category", "category0").size());
         Assertions.assertEquals(5, testImperativeRepository.list("category = ?1", "category0").size());
@@ -382,6 +394,73 @@ public class TestResource {
         Assertions.assertEquals(3, range.size());
     }
 
+    private void testImperativeKeyset(PanacheQuery<TestImperativeEntity> query,
+            PanacheQuery<TestImperativeEntity> filteredQuery) {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.keyset());
+
+        Keyset keyset = Keyset.of(Sort.by("title").and("_id"), 4);
+        List<TestImperativeEntity> page = query.keyset(keyset).list();
+        Assertions.assertSame(keyset, query.keyset());
+        Assertions.assertEquals(4, page.size());
+        Assertions.assertEquals("title0", page.get(0).title);
+        TestImperativeEntity last = page.get(3);
+        page = query.keyset(keyset.after(last.title, last.id)).list();
+        Assertions.assertEquals(4, page.size());
+        Assertions.assertEquals("title4", page.get(0).title);
+        last = page.get(3);
+        page = query.keyset(keyset.after(last.title, last.id)).list();
+        Assertions.assertEquals(2, page.size());
+        Assertions.assertEquals("title8", page.get(0).title);
+        last = page.get(1);
+        page = query.keyset(keyset.after(last.title, last.id)).list();
+        Assertions.assertEquals(0, page.size());
+
+        // descending
+        page = query.keyset(Keyset.of(Sort.by("title", Sort.Direction.Descending).and("_id"), 4)).list();
+        Assertions.assertEquals(4, page.size());
+        Assertions.assertEquals("title9", page.get(0).title);
+        last = page.get(3);
+        page = query.keyset(query.keyset().after(last.title, last.id)).list();
+        Assertions.assertEquals(4, page.size());
+        Assertions.assertEquals("title5", page.get(0).title);
+
+        // the keyset filter is combined with the query
+        page = filteredQuery.keyset(keyset).list();
+        Assertions.assertEquals(4, page.size());
+        Assertions.assertEquals("title6", page.get(3).title);
+        last = page.get(3);
+        page = filteredQuery.keyset(keyset.after(last.title, last.id)).list();
+        Assertions.assertEquals(1, page.size());
+        Assertions.assertEquals("title8", page.get(0).title);
+        // the count ignores the keyset
+        Assertions.assertEquals(5, filteredQuery.count());
+
+        // switch from keyset to page
+        page = query.keyset(keyset).page(0, 3).list();
+        Assertions.assertEquals(3, page.size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.keyset());
+    }
+
+    private void testImperativeCacheCount(Supplier<PanacheQuery<TestImperativeEntity>> query) {
+        // the cache is shared by all the tests
+        CountCache.clear();
+        Assertions.assertEquals(5, query.get().cacheCount(Duration.ofHours(1)).count());
+        TestImperativeEntity entity = new TestImperativeEntity("title10", "category0", "description10");
+        entity.persist();
+
+        // a new query with the same filter reuses the count
+        Assertions.assertEquals(5, query.get().cacheCount(Duration.ofHours(1)).count());
+        // without cacheCount, the count is read from the database
+        Assertions.assertEquals(6, query.get().count());
+        // another filter has its own count
+        Assertions.assertEquals(5, TestImperativeEntity.find("category", "category1").cacheCount(Duration.ofHours(1)).count());
+
+        CountCache.clear();
+        Assertions.assertEquals(6, query.get().cacheCount(Duration.ofHours(1)).count());
+        entity.delete();
+        CountCache.clear();
+    }
+
     @GET
     @Path("reactive/entity")
     public Response testReactiveEntity() {
@@ -417,6 +496,10 @@ public class TestResource {
         // range
         testReactiveRange(TestReactiveEntity.findAll());
 
+        // keyset
+        testReactiveKeyset(TestReactiveEntity.findAll(), TestReactiveEntity.find("category", "category0"));
+        testReactiveCacheCount(() -> TestReactiveEntity.find("category", "category0"));
+
         // query
         Assertions.assertEquals(5,
                 TestReactiveEntity.list("category", "category0").await().indefinitely().size());
@@ -570,6 +653,10 @@ public class TestResource {
         // range
         testReactiveRange(testReactiveRepository.findAll());
 
+        // keyset
+        testReactiveKeyset(testReactiveRepository.findAll(), testReactiveRepository.find("category", "category0"));
+        testReactiveCacheCount(() -> testReactiveRepository.find("category", "category0"));
+
         // query
         Assertions.assertEquals(5,
                 testReactiveRepository.list("category", "category0").await().indefinitely().size());
@@ -760,4 +847,64 @@ public class TestResource {
         range = query.range(0, 2).page(0, 3).list().await().indefinitely();
         Assertions.assertEquals(3, range.size());
     }
+
+    private void testReactiveKeyset(ReactivePanacheQuery<TestReactiveEntity> query,
+            ReactivePanacheQuery<TestReactiveEntity> filteredQuery) {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.keyset());
+
+        Keyset keyset = Keyset.of(Sort.by("title").and("_id"), 4);
+        List<TestReactiveEntity> page = query.keyset(keyset).list().await().indefinitely();
+        Assertions.assertSame(keyset, query.keyset());
+        Assertions.assertEquals(4, page.size());
+        Assertions.assertEquals("title0", page.get(0).title);
+        TestReactiveEntity last = page.get(3);
+        page = query.keyset(keyset.after(last.title, last.id)).list().await().indefinitely();
+        Assertions.assertEquals(4, page.size());
+        Assertions.assertEquals("title4", page.get(0).title);
+        last = page.get(3);
+        page = query.keyset(keyset.after(last.title, last.id)).list().await().indefinitely();
+        Assertions.assertEquals(2, page.size());
+        Assertions.assertEquals("title8", page.get(0).title);
+        last = page.get(1);
+        page = query.keyset(keyset.after(last.title, last.id)).list().await().indefinitely();
+        Assertions.assertEquals(0, page.size());
+
+        // descending
+        page = query.keyset(Keyset.of(Sort.by("title", Sort.Direction.Descending).and("_id"), 4)).list().await()
+                .indefinitely();
+        Assertions.assertEquals(4, page.size());
+        Assertions.assertEquals("title9", page.get(0).title);
+
+        // the keyset filter is combined with the query
+        page = filteredQuery.keyset(keyset).list().await().indefinitely();
+        Assertions.assertEquals(4, page.size());
+        Assertions.assertEquals("title6", page.get(3).title);
+        last = page.get(3);
+        page = filteredQuery.keyset(keyset.after(last.title, last.id)).list().await().indefinitely();
+        Assertions.assertEquals(1, page.size());
+        Assertions.assertEquals("title8", page.get(0).title);
+
+        // switch from keyset to page
+        page = query.keyset(keyset).page(0, 3).list().await().indefinitely();
+        Assertions.assertEquals(3, page.size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.keyset());
+    }
+
+    private void testReactiveCacheCount(Supplier<ReactivePanacheQuery<TestReactiveEntity>> query) {
+        // the cache is shared by all the tests
+        CountCache.clear();
+        Assertions.assertEquals(5, query.get().cacheCount(Duration.ofHours(1)).count().await().indefinitely());
+        TestReactiveEntity entity = new TestReactiveEntity("title10", "category0", "description10");
+        entity.persist().await().indefinitely();
+
+        // a new query with the same filter reuses the count
+        Assertions.assertEquals(5, query.get().cacheCount(Duration.ofHours(1)).count().await().indefinitely());
+        // without cacheCount, the count is read from the database
+        Assertions.assertEquals(6, query.get().count().await().indefinitely());
+
+        CountCache.clear();
+        Assertions.assertEquals(6, query.get().cacheCount(Duration.ofHours(1)).count().await().indefinitely());
+        entity.delete().await().indefinitely();
+        CountCache.clear();
+    }
 }